@@ -0,0 +1,42 @@
+package com.tsyba.core.collections;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures average running time of operations after warming them up.
+ * <p>
+ * Results of measured operations are written to a shared sink, so that the JIT cannot
+ * tell them unused and eliminate the work, which produces them.
+ */
+class Benchmark {
+	private static volatile Object sink;
+
+	private final int warmupRounds;
+	private final int measuredRounds;
+
+	/**
+	 * Creates a benchmark, which runs each operation the specified number of rounds to
+	 * warm it up, and then the specified number of rounds to measure it.
+	 */
+	Benchmark(int warmupRounds, int measuredRounds) {
+		this.warmupRounds = warmupRounds;
+		this.measuredRounds = measuredRounds;
+	}
+
+	/**
+	 * Returns average time in milliseconds to run the specified operation.
+	 */
+	<R> double measure(Supplier<R> operation) {
+		for (var round = 0; round < warmupRounds; ++round) {
+			sink = operation.get();
+		}
+
+		final var start = System.nanoTime();
+		for (var round = 0; round < measuredRounds; ++round) {
+			sink = operation.get();
+		}
+
+		final var time = System.nanoTime() - start;
+		return time / 1e6 / measuredRounds;
+	}
+}
@@ -0,0 +1,45 @@
+package com.tsyba.core.collections;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Compares exact distinct counting through {@link Collection#getDistinct()} with
+ * approximate one through {@link Collection#countDistinctApproximately(int)} on large
+ * lists.
+ * <p>
+ * Compile with {@code mvn -P benchmark test-compile}, and run with {@code java -cp
+ * target/classes:target/test-classes com.tsyba.core.collections.CountDistinctBenchmark}.
+ */
+class CountDistinctBenchmark {
+	private static final Benchmark benchmark = new Benchmark(3, 5);
+
+	public static void main(String[] arguments) {
+		final var random = new Random(42);
+		for (var count : new int[]{100_000, 1_000_000, 5_000_000}) {
+			// about half of items are repeated
+			final var items = new MutableList<Integer>();
+			for (var index = 0; index < count; ++index) {
+				items.append(random.nextInt(count));
+			}
+
+			final var list = new List<>(items);
+			final var exactTime = benchmark.measure(() -> list.getDistinct()
+				.getCount());
+
+			System.out.println(format("%,d items, getDistinct().getCount(): %.1f ms",
+				count, exactTime));
+
+			for (var precision : new int[]{10, 14, 18}) {
+				final var approximateTime = benchmark.measure(() -> list.countDistinctApproximately(precision));
+				final var exact = list.getDistinct()
+					.getCount();
+				final var approximate = list.countDistinctApproximately(precision);
+
+				System.out.println(format("%,d items, countDistinctApproximately(%d): %.1f ms, error %.3f%%",
+					count, precision, approximateTime, 100.0 * (approximate - exact) / exact));
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.tsyba.core.collections;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Compares sorting records by a {@code long} key through
+ * {@link List#sortByLong(java.util.function.ToLongFunction)} with sorting them through
+ * {@link List#sort(Comparator)} with {@link Comparator#comparingLong}.
+ * <p>
+ * Compile with {@code mvn -P benchmark test-compile}, and run with {@code java -Xmx16g
+ * -cp target/classes:target/test-classes com.tsyba.core.collections.SortByKeyBenchmark
+ * [largest item count]}; the largest item count defaults to 10,000,000, and should be
+ * raised to 100,000,000 with enough memory.
+ */
+class SortByKeyBenchmark {
+	private static final Benchmark benchmark = new Benchmark(2, 3);
+
+	public static void main(String[] arguments) {
+		final var maxCount = arguments.length > 0
+			? Integer.parseInt(arguments[0])
+			: 10_000_000;
+
+		final var random = new Random(42);
+		for (var count = 1_000_000; count <= maxCount; count *= 10) {
+			final var items = new MutableList<Record>();
+			for (var index = 0; index < count; ++index) {
+				items.append(new Record(random.nextLong(), index));
+			}
+
+			final var list = new List<>(items);
+			final var comparatorTime = benchmark.measure(() -> list.sort(
+				Comparator.comparingLong(Record::getTimestamp)));
+			final var radixTime = benchmark.measure(() -> list.sortByLong(Record::getTimestamp));
+
+			System.out.println(format("%,d items, sort(comparingLong(...)): %.1f ms",
+				count, comparatorTime));
+			System.out.println(format("%,d items, sortByLong(...): %.1f ms",
+				count, radixTime));
+		}
+	}
+
+	private static class Record {
+		private final long timestamp;
+		private final int id;
+
+		private Record(long timestamp, int id) {
+			this.timestamp = timestamp;
+			this.id = id;
+		}
+
+		private long getTimestamp() {
+			return timestamp;
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A {@link MutableSequence}, which keeps its items in a {@link SequenceStore}, and
+ * implements all of its methods over the store.
+ * <p>
+ * Subclasses pick the store, which makes the edits they are meant for efficient, and
+ * return themselves, or new sequences of their own type, from all methods of this class.
+ */
+abstract class AbstractMutableSequence<T, S extends AbstractMutableSequence<T, S>>
+	implements MutableSequence<T>, RandomAccess {
+
+	SequenceStore store;
+
+	AbstractMutableSequence(SequenceStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Returns a new sequence of the same type as this one, which keeps its items in the
+	 * specified store.
+	 */
+	abstract S create(SequenceStore store);
+
+	@SuppressWarnings("unchecked")
+	private S self() {
+		return (S) this;
+	}
+
+	@Override
+	public int getCount() {
+		return store.getCount();
+	}
+
+	@Override
+	public T get(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		@SuppressWarnings("unchecked")
+		final var item = (T) store.get(index);
+		return item;
+	}
+
+	@Override
+	public S getPrefix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		return create(
+			store.copy(0, index));
+	}
+
+	@Override
+	public S getSuffix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		return create(
+			store.copy(index, store.getCount()));
+	}
+
+	@Override
+	public S get(IndexRange indexRange) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		return create(
+			store.copy(indexRange.start, indexRange.end));
+	}
+
+	@Override
+	public S set(int index, T item) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		if (item != null) {
+			store.set(index, item);
+		}
+
+		return self();
+	}
+
+	@Override
+	public S prepend(T item) {
+		if (item != null) {
+			store.prepend(item);
+		}
+
+		return self();
+	}
+
+	@Override
+	public S append(T item) {
+		if (item != null) {
+			store.append(item);
+		}
+
+		return self();
+	}
+
+	@Override
+	public S insert(int index, T item) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		if (item != null) {
+			store.insert(index, item);
+		}
+
+		return self();
+	}
+
+	@Override
+	public S removeFirst() {
+		if (store.getCount() > 0) {
+			store.removeFirst();
+		}
+
+		return self();
+	}
+
+	@Override
+	public S removeLast() {
+		if (store.getCount() > 0) {
+			store.removeLast();
+		}
+
+		return self();
+	}
+
+	@Override
+	public S remove(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.remove(index);
+		return self();
+	}
+
+	@Override
+	public S remove(IndexRange range) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.remove(range.start, range.end);
+		return self();
+	}
+
+	@Override
+	public S clear() {
+		store.removeAll();
+		return self();
+	}
+
+	@Override
+	public S matchAll(Predicate<T> condition) {
+		final var matches = create(
+			store.create(0));
+
+		for (var item : this) {
+			if (condition.test(item)) {
+				matches.append(item);
+			}
+		}
+
+		return matches;
+	}
+
+	@Override
+	public Optional<Integer> findFirst(T item) {
+		final var index = store.find(item);
+		return index < 0
+			? Optional.empty()
+			: Optional.of(index);
+	}
+
+	@Override
+	public IndexList findAll(T item) {
+		final var count = getCount();
+		final var indexes = new IndexList.Builder(count);
+
+		for (var index = 0; index < count; ++index) {
+			if (store.get(index).equals(item)) {
+				indexes.add(index);
+			}
+		}
+
+		return indexes.build();
+	}
+
+	@Override
+	public IndexList findAll(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		return search.findAll(iterator());
+	}
+
+	@Override
+	public S getDistinct() {
+		final var distinct = new MutableSet<T>();
+		final var items = create(
+			store.create(0));
+
+		for (var item : this) {
+			if (!distinct.contains(item)) {
+				distinct.add(item);
+				items.append(item);
+			}
+		}
+
+		return items;
+	}
+
+	@Override
+	public S reverse() {
+		final var count = store.getCount();
+		final var reversed = store.create(count);
+
+		for (var index = count - 1; index >= 0; index -= 1) {
+			reversed.append(store.get(index));
+		}
+
+		return create(reversed);
+	}
+
+	@Override
+	public S iterate(Consumer<T> operation) {
+		MutableSequence.super.iterate(operation);
+		return self();
+	}
+
+	@Override
+	public S enumerate(BiConsumer<Integer, T> operation) {
+		MutableSequence.super.enumerate(operation);
+		return self();
+	}
+
+	@Override
+	public List<T> toImmutable() {
+		final var items = toArray();
+		final var store = new ContiguousArrayStore(items, items.length);
+
+		return new List<>(store);
+	}
+
+	@Override
+	public Object[] toArray() {
+		final var count = store.getCount();
+		return store.copyItems(0, count, count);
+	}
+
+	@Override
+	public T[] toArray(Class<? extends T[]> klass) {
+		final var items = toArray();
+		return Arrays.copyOf(items, items.length, klass);
+	}
+
+	@Override
+	public Iterator<T> iterator(int start) {
+		final var range = getIndexRange();
+		if (start != store.getCount() && !range.contains(start)) {
+			throw new IndexNotInRangeException(start, range);
+		}
+
+		return new Iterator<>() {
+			private int index = start;
+
+			@Override
+			public boolean hasNext() {
+				return index < store.getCount();
+			}
+
+			@Override
+			public T next() {
+				@SuppressWarnings("unchecked")
+				final var item = (T) store.get(index);
+				index += 1;
+
+				return item;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(0);
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 1;
+		for (var item : this) {
+			hashCode = 31 * hashCode + item.hashCode();
+		}
+
+		return hashCode;
+	}
+
+	/**
+	 * Returns {@code true} when the specified object is a sequence of the same type as
+	 * this one, with equal items in the same order; returns {@code false} otherwise.
+	 */
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (object == null || object.getClass() != getClass()) {
+			return false;
+		}
+
+		final var sequence = (AbstractMutableSequence<?, ?>) object;
+		final var count = store.getCount();
+		if (count != sequence.store.getCount()) {
+			return false;
+		}
+
+		for (var index = 0; index < count; index += 1) {
+			if (!store.get(index).equals(sequence.store.get(index))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + join(", ") + "]";
+	}
+}
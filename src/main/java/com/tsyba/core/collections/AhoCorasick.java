@@ -0,0 +1,200 @@
+package com.tsyba.core.collections;
+
+import java.util.Optional;
+
+/**
+ * An Aho-Corasick automaton, which finds occurrences of many patterns in a sequence of
+ * items in a single pass over it.
+ * <p>
+ * The automaton is a trie of its patterns, where each node links to the node of its
+ * longest proper suffix, which is also a prefix of some pattern. When the next item does
+ * not continue a partial match, the search follows these links instead of going back in
+ * the searched items. Thus, a search takes time linear in the number of searched items,
+ * plus the number of reported occurrences, regardless of the number of patterns.
+ *
+ * <pre>
+ * Sources:
+ * 1. A. Aho, M. Corasick. "Efficient string matching: an aid to bibliographic search".
+ *    Communications of the ACM, vol. 18, 1975, pp. 333–340.
+ * </pre>
+ */
+public class AhoCorasick<T> {
+	private final List<Sequence<T>> patterns;
+	private final Node<T> root;
+
+	/**
+	 * Creates an automaton, which searches for the specified patterns.
+	 * <p>
+	 * Ignores any {@code null} values among the specified patterns; empty patterns never
+	 * occur. When some patterns are equal, their occurrences are reported for the first
+	 * one of them.
+	 */
+	@SafeVarargs
+	public AhoCorasick(Sequence<T>... patterns) {
+		this.patterns = new List<>(patterns);
+		this.root = new Node<>(0);
+
+		this.patterns.enumerate(this::insert);
+		link();
+	}
+
+	/**
+	 * Inserts the specified pattern with the specified index into the trie of this
+	 * automaton.
+	 */
+	private void insert(int index, Sequence<T> pattern) {
+		var node = root;
+		for (var item : pattern) {
+			var child = node.getChild(item);
+			if (child == null) {
+				child = new Node<>(node.depth + 1);
+				node.children.set(item, child);
+			}
+
+			node = child;
+		}
+
+		if (node != root && node.pattern < 0) {
+			node.pattern = index;
+		}
+	}
+
+	/**
+	 * Links each node of the trie of this automaton to the node of its longest proper
+	 * suffix, and to the node of its longest suffix, which completes a pattern, visiting
+	 * nodes in breadth-first order.
+	 */
+	private void link() {
+		final var queue = new MutableDeque<Node<T>>(root);
+		while (!queue.isEmpty()) {
+			final var node = queue.get(0);
+			queue.removeFirst();
+
+			node.children.iterate((item, child) -> {
+				// note: the suffix of the child is the longest suffix of the node,
+				// which continues with the item
+				var suffix = node.suffix;
+				while (suffix != null && suffix.getChild(item) == null) {
+					suffix = suffix.suffix;
+				}
+
+				child.suffix = suffix == null
+					? root
+					: suffix.getChild(item);
+				child.output = child.suffix.pattern >= 0
+					? child.suffix
+					: child.suffix.output;
+
+				queue.append(child);
+			});
+		}
+	}
+
+	/**
+	 * Returns patterns of this automaton.
+	 */
+	public List<Sequence<T>> getPatterns() {
+		return patterns;
+	}
+
+	/**
+	 * Returns the first occurrence of any pattern of this automaton in the specified
+	 * items, as a {@link Pair} of the index of the occurrence in the items and the index
+	 * of the pattern in {@link #getPatterns()}.
+	 * <p>
+	 * Occurrences are ordered by the index of their last item; among occurrences, which
+	 * end at the same item, the longest one comes first. When no pattern occurs in the
+	 * specified items, returns an empty {@link Optional}.
+	 */
+	public Optional<Pair<Integer, Integer>> findFirst(Iterable<T> items) {
+		var node = root;
+		var index = 0;
+
+		for (var item : items) {
+			node = advance(node, item);
+			final var match = node.pattern >= 0
+				? node
+				: node.output;
+
+			if (match != null) {
+				return Optional.of(
+					new Pair<>(index - match.depth + 1, match.pattern));
+			}
+
+			++index;
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns all occurrences of patterns of this automaton in the specified items, as
+	 * {@link Pair}s of the index of an occurrence in the items and the index of its
+	 * pattern in {@link #getPatterns()}, including overlapping ones.
+	 * <p>
+	 * Occurrences are ordered by the index of their last item; among occurrences, which
+	 * end at the same item, longer ones come first. When no pattern occurs in the
+	 * specified items, returns an empty list.
+	 */
+	public List<Pair<Integer, Integer>> findAll(Iterable<T> items) {
+		final var matches = new MutableList<Pair<Integer, Integer>>();
+		var node = root;
+		var index = 0;
+
+		for (var item : items) {
+			node = advance(node, item);
+
+			var match = node.pattern >= 0
+				? node
+				: node.output;
+
+			while (match != null) {
+				matches.append(
+					new Pair<>(index - match.depth + 1, match.pattern));
+				match = match.output;
+			}
+
+			++index;
+		}
+
+		return matches.toImmutable();
+	}
+
+	/**
+	 * Returns the node, which the search moves to from the specified node after the
+	 * specified item.
+	 */
+	private Node<T> advance(Node<T> node, T item) {
+		while (node != root && node.getChild(item) == null) {
+			node = node.suffix;
+		}
+
+		final var child = node.getChild(item);
+		return child == null
+			? root
+			: child;
+	}
+
+	private static class Node<T> {
+		private final MutableMap<T, Node<T>> children;
+		private final int depth;
+		private int pattern;
+		private Node<T> suffix;
+		private Node<T> output;
+
+		private Node(int depth) {
+			this.children = new MutableMap<>();
+			this.depth = depth;
+			this.pattern = -1;
+		}
+
+		private Node<T> getChild(T item) {
+			// note: looking up the store directly avoids wrapping every
+			// visited child into an Optional
+			final var index = children.store.find(item);
+			return index < 0
+				? null
+				: children.store.get(index).value;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.tsyba.core.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event, which records an operation on storage of a {@link List},
+ * which moved more items than a threshold.
+ * <p>
+ * Disabled by default; enable {@code com.tsyba.core.collections.ArrayCopy} in recording
+ * settings to record it. The threshold is read from system property
+ * {@code com.tsyba.core.collections.arrayCopyThreshold}, and defaults to 65536.
+ */
+@Name("com.tsyba.core.collections.ArrayCopy")
+@Label("Array Copy")
+@Description("An operation on storage of a list moved more items than a threshold.")
+@Category("Core Collections")
+@Enabled(false)
+class ArrayCopyEvent extends Event {
+	static final int threshold = Integer.getInteger(
+		"com.tsyba.core.collections.arrayCopyThreshold", 65536);
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Moved Item Count")
+	int movedItemCount;
+
+	@Label("Capacity")
+	int capacity;
+
+	@Label("Resized Capacity")
+	int resizedCapacity;
+
+	/**
+	 * Ends this event and records it, when the specified number of moved items exceeds
+	 * the threshold.
+	 */
+	void commit(String operation, int movedItemCount, int capacity, int resizedCapacity) {
+		end();
+		if (movedItemCount > threshold && shouldCommit()) {
+			this.operation = operation;
+			this.movedItemCount = movedItemCount;
+			this.capacity = capacity;
+			this.resizedCapacity = resizedCapacity;
+			commit();
+		}
+	}
+}
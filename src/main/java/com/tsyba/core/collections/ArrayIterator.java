@@ -4,21 +4,26 @@ import java.util.Iterator;
 
 class ArrayIterator<T> implements Iterator<T> {
 	private final T[] items;
+	private final int end;
 	private int index;
 
-	ArrayIterator(T[] items, int start) {
+	ArrayIterator(T[] items, int start, int end) {
 		this.items = items;
+		this.end = end;
 		this.index = start;
 	}
 
+	ArrayIterator(T[] items, int start) {
+		this(items, start, items.length);
+	}
+
 	ArrayIterator(T[] items) {
-		this.items = items;
-		this.index = 0;
+		this(items, 0, items.length);
 	}
 
 	@Override
 	public boolean hasNext() {
-		return index < items.length;
+		return index < end;
 	}
 
 	@Override
@@ -0,0 +1,508 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, compressed set of {@code int} values, ordered ascending.
+ * <p>
+ * A bitmap set splits its values into chunks of 2^16 values, which share the upper 16
+ * bits, and stores each chunk in the most compact container: a sorted array, a bitmap
+ * or a list of runs. Set operations between bitmap sets combine whole containers,
+ * processing 64 values at a time for bitmaps, which makes them much faster and smaller
+ * than their counterparts on a {@link Set} of {@link Integer}s.
+ */
+public class BitmapIntSet implements Collection<Integer> {
+	private static final BitmapIntSet empty = new BitmapIntSet(new char[0],
+		new RoaringContainer[0], 0);
+
+	// note: keys are upper 16 bits of values with flipped sign bit, so that
+	// ascending order of keys matches ascending order of signed values
+	final char[] keys;
+	final RoaringContainer[] containers;
+	private final int count;
+
+	// note: starts are the numbers of values in all containers before each one,
+	// so that rank and select find a container with a binary search
+	private final int[] starts;
+
+	BitmapIntSet(char[] keys, RoaringContainer[] containers, int count) {
+		this.keys = keys;
+		this.containers = containers;
+		this.count = count;
+
+		this.starts = new int[containers.length];
+		for (var index = 1; index < containers.length; ++index) {
+			starts[index] = starts[index - 1] + containers[index - 1].getCount();
+		}
+	}
+
+	/**
+	 * Creates a set with the specified values.
+	 */
+	public BitmapIntSet(int... values) {
+		this(of(values.clone(), values.length));
+	}
+
+	/**
+	 * Creates a set with items of the specified {@link Collection}.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	public BitmapIntSet(Collection<Integer> items) {
+		this(of(items));
+	}
+
+	private BitmapIntSet(BitmapIntSet set) {
+		this(set.keys, set.containers, set.count);
+	}
+
+	private static BitmapIntSet of(Collection<Integer> items) {
+		if (items instanceof BitmapIntSet) {
+			return (BitmapIntSet) items;
+		}
+
+		final var values = new int[items.getCount()];
+		var count = 0;
+
+		for (var item : items) {
+			if (item != null) {
+				values[count] = item;
+				++count;
+			}
+		}
+
+		return of(values, count);
+	}
+
+	/**
+	 * Returns a set with the specified values. Sorts the specified values in place.
+	 */
+	private static BitmapIntSet of(int[] values, int count) {
+		Arrays.sort(values, 0, count);
+
+		final var builder = new Builder();
+		for (var index = 0; index < count; ++index) {
+			builder.add(values[index]);
+		}
+
+		return builder.build();
+	}
+
+	private static char getKey(int value) {
+		return (char) ((value >>> 16) ^ 0x8000);
+	}
+
+	private static int getValue(char key, int low) {
+		return ((key ^ 0x8000) << 16) | low;
+	}
+
+	@Override
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Returns {@code true} when this set contains the specified value; returns
+	 * {@code false} otherwise.
+	 */
+	public boolean contains(int value) {
+		final var index = Arrays.binarySearch(keys, getKey(value));
+		return index > -1
+			&& containers[index].contains(value & 0xFFFF);
+	}
+
+	@Override
+	public boolean contains(Integer item) {
+		return item != null
+			&& contains(item.intValue());
+	}
+
+	@Override
+	public Optional<Integer> getMin() {
+		return isEmpty()
+			? Optional.empty()
+			: Optional.of(select(0));
+	}
+
+	@Override
+	public Optional<Integer> getMax() {
+		return isEmpty()
+			? Optional.empty()
+			: Optional.of(select(count - 1));
+	}
+
+	/**
+	 * Returns the number of values in this set, which are smaller than the specified
+	 * value.
+	 */
+	public int rank(int value) {
+		final var index = Arrays.binarySearch(keys, getKey(value));
+		if (index > -1) {
+			return starts[index] + containers[index].rank(value & 0xFFFF);
+		}
+
+		// note: all values in containers before the insertion point are smaller
+		final var insertionIndex = -index - 1;
+		return insertionIndex < starts.length
+			? starts[insertionIndex]
+			: count;
+	}
+
+	/**
+	 * Returns value at the specified index in ascending order of values in this set.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of range of
+	 * values in this set
+	 */
+	public int select(int index) {
+		if (index < 0 || index >= count) {
+			throw new IndexNotInRangeException(index,
+				new IndexRange(0, count));
+		}
+
+		// note: containers are never empty, so starts are distinct, and the
+		// container with the value is the last one, which starts at or before it
+		final var position = Arrays.binarySearch(starts, index);
+		final var index2 = position > -1
+			? position
+			: -position - 2;
+
+		final var low = containers[index2].select(index - starts[index2]);
+		return getValue(keys[index2], low);
+	}
+
+	/**
+	 * Returns {@code true} when this set is disjoint from the specified one; returns
+	 * {@code false} otherwise.
+	 * <p>
+	 * Two sets are disjoint when they don't contain any common values.
+	 */
+	public boolean isDisjoint(BitmapIntSet set) {
+		return !intersects(set);
+	}
+
+	/**
+	 * Returns {@code true} when this set intersects the specified one; returns
+	 * {@code false} otherwise.
+	 * <p>
+	 * A set intersects another set when they have at least one common value.
+	 */
+	public boolean intersects(BitmapIntSet set) {
+		var index1 = 0;
+		var index2 = 0;
+
+		while (index1 < keys.length && index2 < set.keys.length) {
+			final var key1 = keys[index1];
+			final var key2 = set.keys[index2];
+
+			if (key1 < key2) {
+				++index1;
+			} else if (key1 > key2) {
+				++index2;
+			} else {
+				if (containers[index1].intersects(set.containers[index2])) {
+					return true;
+				}
+
+				++index1;
+				++index2;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns union (A∪B) of this set and the specified one.
+	 */
+	public BitmapIntSet unite(BitmapIntSet set) {
+		return combine(set, RoaringContainer::or, true, true);
+	}
+
+	/**
+	 * Returns intersection (A∩B) of this set and the specified one.
+	 */
+	public BitmapIntSet intersect(BitmapIntSet set) {
+		return combine(set, RoaringContainer::and, false, false);
+	}
+
+	/**
+	 * Returns difference (A\B) of this set from the specified one.
+	 */
+	public BitmapIntSet subtract(BitmapIntSet set) {
+		return combine(set, RoaringContainer::andNot, true, false);
+	}
+
+	/**
+	 * Returns symmetric difference (AΔB = (A\B)∪(B\A)) between this set and the specified
+	 * one.
+	 */
+	public BitmapIntSet symmetricSubtract(BitmapIntSet set) {
+		return combine(set, RoaringContainer::xor, true, true);
+	}
+
+	/**
+	 * Combines containers of this and the specified set with matching keys using the
+	 * specified operation, and keeps containers of either set, which have no match,
+	 * depending on the specified flags.
+	 */
+	private BitmapIntSet combine(BitmapIntSet set,
+		BinaryOperator<RoaringContainer> operation,
+		boolean keep1, boolean keep2) {
+
+		final var builder = new Builder();
+		var index1 = 0;
+		var index2 = 0;
+
+		while (index1 < keys.length && index2 < set.keys.length) {
+			final var key1 = keys[index1];
+			final var key2 = set.keys[index2];
+
+			if (key1 < key2) {
+				if (keep1) {
+					builder.add(key1, containers[index1]);
+				}
+				++index1;
+			} else if (key1 > key2) {
+				if (keep2) {
+					builder.add(key2, set.containers[index2]);
+				}
+				++index2;
+			} else {
+				final var container = operation.apply(containers[index1],
+					set.containers[index2]);
+				builder.add(key1, container);
+
+				++index1;
+				++index2;
+			}
+		}
+		for (; keep1 && index1 < keys.length; ++index1) {
+			builder.add(keys[index1], containers[index1]);
+		}
+		for (; keep2 && index2 < set.keys.length; ++index2) {
+			builder.add(set.keys[index2], set.containers[index2]);
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public BitmapIntSet matchAll(Predicate<Integer> condition) {
+		final var builder = new Builder();
+		final var iterator = intIterator();
+
+		while (iterator.hasNext()) {
+			final var value = iterator.nextInt();
+			if (condition.test(value)) {
+				builder.add(value);
+			}
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public BitmapIntSet getDistinct() {
+		return this;
+	}
+
+	@Override
+	public BitmapIntSet iterate(Consumer<Integer> operation) {
+		return (BitmapIntSet) Collection.super.iterate(operation);
+	}
+
+	@Override
+	public <R> Set<R> convert(Function<Integer, R> converter) {
+		final var store = new RobinHoodHashStore<R>(count);
+		for (var item : this) {
+			final var item2 = converter.apply(item);
+			if (item2 != null) {
+				store.insert(item2);
+			}
+		}
+
+		return new Set<>(store);
+	}
+
+	/**
+	 * Returns values of this set in an ascending array.
+	 */
+	public int[] toIntArray() {
+		final var values = new int[count];
+		final var iterator = intIterator();
+
+		for (var index = 0; index < count; ++index) {
+			values[index] = iterator.nextInt();
+		}
+
+		return values;
+	}
+
+	/**
+	 * Returns an iterator over values of this set in ascending order, which does not box
+	 * values.
+	 */
+	public PrimitiveIterator.OfInt intIterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int index = 0;
+			private PrimitiveIterator.OfInt iterator = containers.length > 0
+				? containers[0].iterator()
+				: null;
+
+			@Override
+			public boolean hasNext() {
+				while (iterator != null && !iterator.hasNext()) {
+					++index;
+					iterator = index < containers.length
+						? containers[index].iterator()
+						: null;
+				}
+
+				return iterator != null;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				final var low = iterator.nextInt();
+				return getValue(keys[index], low);
+			}
+		};
+	}
+
+	@Override
+	public Iterator<Integer> iterator() {
+		return intIterator();
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 0;
+		final var iterator = intIterator();
+
+		while (iterator.hasNext()) {
+			hashCode += iterator.nextInt();
+		}
+
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof BitmapIntSet)) {
+			return false;
+		}
+
+		final var set = (BitmapIntSet) object;
+		return count == set.count
+			&& Arrays.equals(keys, set.keys)
+			&& Arrays.equals(containers, set.containers);
+	}
+
+	@Override
+	public String toString() {
+		return "{" + join(", ") + "}";
+	}
+
+	/**
+	 * Collects containers of a bitmap set in ascending order of their keys.
+	 */
+	private static class Builder {
+		private char[] keys = new char[4];
+		private RoaringContainer[] containers = new RoaringContainer[4];
+		private int containerCount = 0;
+		private int count = 0;
+
+		// values of the chunk, which is being collected; grows up to the size
+		// of a chunk as values are added
+		private char[] values = new char[16];
+		private int valueCount = 0;
+		private int key = -1;
+
+		/**
+		 * Adds the specified value, which must not be smaller than any value added
+		 * before.
+		 */
+		void add(int value) {
+			final var key = getKey(value);
+			if (key != this.key) {
+				flush();
+				this.key = key;
+			}
+
+			final var low = (char) value;
+			if (valueCount == 0 || values[valueCount - 1] != low) {
+				if (valueCount == values.length) {
+					values = Arrays.copyOf(values, Math.min(2 * valueCount, 1 << 16));
+				}
+
+				values[valueCount] = low;
+				++valueCount;
+			}
+		}
+
+		/**
+		 * Adds the specified container with the specified key, which must be larger
+		 * than any key added before.
+		 */
+		void add(char key, RoaringContainer container) {
+			flush();
+			if (container.getCount() == 0) {
+				return;
+			}
+
+			if (containerCount == keys.length) {
+				keys = Arrays.copyOf(keys, 2 * containerCount);
+				containers = Arrays.copyOf(containers, 2 * containerCount);
+			}
+
+			keys[containerCount] = key;
+			containers[containerCount] = container;
+			++containerCount;
+			count += container.getCount();
+		}
+
+		private void flush() {
+			if (valueCount > 0) {
+				final var container = RoaringContainer.of(values, valueCount);
+				final var key = (char) this.key;
+
+				valueCount = 0;
+				this.key = -1;
+				add(key, container);
+			}
+		}
+
+		BitmapIntSet build() {
+			flush();
+			if (count == 0) {
+				return empty;
+			}
+
+			return new BitmapIntSet(
+				Arrays.copyOf(keys, containerCount),
+				Arrays.copyOf(containers, containerCount),
+				count);
+		}
+	}
+}
@@ -0,0 +1,182 @@
+package com.tsyba.core.collections;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A blocked bloom filter, which guards lookups in a hash based {@link Set} or
+ * {@link Map}.
+ * <p>
+ * A bloom filter answers whether an item is definitely absent from a collection, or may
+ * be present in it. This filter confines all bits of an item to a single 512-bit block,
+ * the size of a typical cache line, so that each query touches only one block.
+ * <p>
+ * Keeps counts of lookups it has answered, which allow to evaluate its effectiveness.
+ * Counts are updated safely by concurrent lookups in a set or a map shared between
+ * threads.
+ *
+ * <pre>
+ * Sources:
+ * 1. B. Bloom. "Space/time trade-offs in hash coding with allowable errors".
+ *    Communications of the ACM, vol. 13, July 1970, pp. 422–426.
+ * 2. F. Putze, P. Sanders, J. Singler. "Cache-, hash- and space-efficient bloom
+ *    filters". Workshop on Experimental Algorithms, 2007, pp. 108–121.
+ * </pre>
+ */
+public class BloomFilter {
+	private static final int blockLength = 8;
+	private static final int blockBitMask = 64 * blockLength - 1;
+
+	private long[] blocks;
+	private int blockCount;
+	private final int hashCount;
+	final double falsePositiveRate;
+
+	int capacity;
+	int insertionCount;
+
+	private final LongAdder lookupCount = new LongAdder();
+	private final LongAdder rejectionCount = new LongAdder();
+	private final LongAdder falsePositiveCount = new LongAdder();
+
+	/**
+	 * Creates a bloom filter for the specified number of items with the specified
+	 * false positive rate.
+	 *
+	 * @throws IllegalArgumentException when the specified false positive rate is not
+	 * in range (0.0, 1.0)
+	 */
+	BloomFilter(int capacity, double falsePositiveRate) {
+		if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+			throw new IllegalArgumentException("Cannot create bloom filter with false positive rate "
+				+ falsePositiveRate + ": value must be in range (0.0, 1.0).");
+		}
+
+		final var ln2 = Math.log(2.0);
+		final var bitsPerItem = -Math.log(falsePositiveRate) / (ln2 * ln2);
+		final var hashCount = (int) Math.round(bitsPerItem * ln2);
+
+		this.hashCount = Math.max(1, Math.min(hashCount, 16));
+		this.falsePositiveRate = falsePositiveRate;
+		reset(capacity);
+	}
+
+	/**
+	 * Returns the number of lookups this filter has answered.
+	 */
+	public long getLookupCount() {
+		return lookupCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups this filter has answered negatively, without
+	 * accessing the guarded collection.
+	 */
+	public long getRejectionCount() {
+		return rejectionCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups this filter has passed to the guarded collection,
+	 * which did not find a looked up item.
+	 */
+	public long getFalsePositiveCount() {
+		return falsePositiveCount.sum();
+	}
+
+	/**
+	 * Clears this filter and resizes it for the specified number of items. Preserves
+	 * lookup counts.
+	 */
+	void reset(int capacity) {
+		final var ln2 = Math.log(2.0);
+		final var bitsPerItem = -Math.log(falsePositiveRate) / (ln2 * ln2);
+		final var bitCount = Math.ceil(capacity * bitsPerItem);
+
+		this.blockCount = (int) Math.max(1, Math.ceil(bitCount / (64 * blockLength)));
+		this.blocks = new long[blockCount * blockLength];
+		this.capacity = capacity;
+		this.insertionCount = 0;
+	}
+
+	/**
+	 * Adds an item with the specified hash code to this filter.
+	 */
+	void add(int hashCode) {
+		final var hash = mix(hashCode);
+		final var blockOffset = getBlockOffset(hash);
+
+		final var hash1 = (int) hash;
+		final var hash2 = (int) (hash >>> 32) | 1;
+
+		for (var index = 0; index < hashCount; ++index) {
+			final var bit = (hash1 + index * hash2) & blockBitMask;
+			blocks[blockOffset + (bit >>> 6)] |= 1L << bit;
+		}
+
+		insertionCount += 1;
+	}
+
+	/**
+	 * Returns {@code false} when an item with the specified hash code is definitely
+	 * absent; returns {@code true} when it may be present.
+	 */
+	boolean mayContain(int hashCode) {
+		final var hash = mix(hashCode);
+		final var blockOffset = getBlockOffset(hash);
+
+		final var hash1 = (int) hash;
+		final var hash2 = (int) (hash >>> 32) | 1;
+
+		lookupCount.increment();
+		for (var index = 0; index < hashCount; ++index) {
+			final var bit = (hash1 + index * hash2) & blockBitMask;
+			if ((blocks[blockOffset + (bit >>> 6)] & (1L << bit)) == 0) {
+				rejectionCount.increment();
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Records a lookup, which passed this filter, but did not find an item.
+	 */
+	void countFalsePositive() {
+		falsePositiveCount.increment();
+	}
+
+	private int getBlockOffset(long hash) {
+		// select a block from the upper bits of the hash, which are not used
+		// for selecting bits within the block, by multiply-shift range reduction
+		final var mixed = mix(hash);
+		final var block = ((mixed >>> 32) * blockCount) >>> 32;
+
+		return (int) block * blockLength;
+	}
+
+	/**
+	 * <pre>
+	 * Implements finalization mix of MurmurHash3.
+	 *
+	 * Sources:
+	 * 1. A. Appleby. "MurmurHash3". 2011.
+	 * </pre>
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "BloomFilter(lookups: " + getLookupCount()
+			+ ", rejections: " + getRejectionCount()
+			+ ", false positives: " + getFalsePositiveCount() + ")";
+	}
+}
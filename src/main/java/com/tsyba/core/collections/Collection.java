@@ -8,6 +8,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * A container, which provides non-destructive iterations over its items.
@@ -235,6 +236,44 @@ public interface Collection<T> extends Iterable<T> {
 	 */
 	Collection<T> getDistinct();
 
+	/**
+	 * Returns the estimated number of distinct items in this collection, using a
+	 * {@link HyperLogLog} sketch with the specified precision.
+	 * <p>
+	 * Unlike counting items of {@link #getDistinct()}, takes a small, fixed amount of
+	 * memory, but may be off by about {@code 1.04 / sqrt(2^precision)} of the count,
+	 * e.g. about 0.8% for precision 14.
+	 *
+	 * @throws IllegalArgumentException when the specified precision is not in range
+	 * [4, 18]
+	 */
+	default int countDistinctApproximately(int precision) {
+		final var sketch = new HyperLogLog<T>(precision);
+		for (var item : this) {
+			sketch.add(item);
+		}
+
+		final var estimate = sketch.estimate();
+		return (int) Math.min(estimate, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns estimated counts of the most frequent items in this collection, using a
+	 * {@link SpaceSaving} sketch with the specified capacity, in descending order of
+	 * their counts.
+	 * <p>
+	 * Unlike counting every distinct item, takes memory proportional to the specified
+	 * capacity only. An estimated count exceeds the actual one by at most
+	 * {@code N / capacity}, where {@code N} is the number of items in this collection.
+	 *
+	 * @throws IllegalArgumentException when the specified capacity is not positive
+	 */
+	default List<SpaceSaving.Estimate<T>> getMostFrequentApproximately(int capacity) {
+		return new SpaceSaving<T>(capacity)
+			.add(this)
+			.getMostFrequent();
+	}
+
 	/**
 	 * Returns items of this collection, ordered according to the specified
 	 * {@link Comparator}.
@@ -282,6 +321,198 @@ public interface Collection<T> extends Iterable<T> {
 		return shuffle(random);
 	}
 
+	/**
+	 * Returns the specified number of items of this collection, chosen randomly without
+	 * replacement, based on the specified {@link Random}, in random order. When this
+	 * collection has fewer items, returns all of them in random order.
+	 * <p>
+	 * Unlike taking a prefix of {@link #shuffle(Random)}, does not copy or shuffle all
+	 * items: a {@link RandomAccess} collection takes time proportional to the specified
+	 * number of items, while any other collection takes a single pass over its items,
+	 * keeping the specified number of them only.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 */
+	default Sequence<T> sample(int count, Random random) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Cannot sample " + count
+				+ " items: value must not be negative.");
+		}
+
+		final var items = this instanceof Sequence && this instanceof RandomAccess
+			? Sampling.sample((Sequence<T>) this, count, random)
+			: Sampling.sample(iterator(), count, random);
+
+		final var store = new ContiguousArrayStore(items, items.length);
+		return new List<>(store);
+	}
+
+	/**
+	 * Returns the specified number of items of this collection, chosen randomly without
+	 * replacement with probabilities proportional to their weights, which the specified
+	 * {@link ToDoubleFunction} returns, based on the specified {@link Random}.
+	 * <p>
+	 * Items are returned in the order they were drawn, i.e. each next item is chosen
+	 * among the remaining ones with probability proportional to its weight. Items with
+	 * weights, which are not positive, are never chosen; when fewer items have positive
+	 * weights, returns all of them. Takes a single pass over items of this collection,
+	 * keeping the specified number of them only.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 */
+	default Sequence<T> sample(int count, ToDoubleFunction<T> weight, Random random) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Cannot sample " + count
+				+ " items: value must not be negative.");
+		}
+
+		final var items = Sampling.sample(iterator(), count, weight, random);
+		final var store = new ContiguousArrayStore(items, items.length);
+
+		return new List<>(store);
+	}
+
+	/**
+	 * Returns the specified number of the smallest items of this collection, according
+	 * to the specified {@link Comparator}, in ascending order. When this collection has
+	 * fewer items, returns all of them sorted.
+	 * <p>
+	 * Unlike taking a prefix of {@link #sort(Comparator)}, keeps only the specified
+	 * number of items in a bounded heap during a single pass, and takes
+	 * {@code O(n log k)} time.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 */
+	default Sequence<T> getSmallest(int count, Comparator<T> comparator) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Cannot get " + count
+				+ " smallest items: value must not be negative.");
+		}
+
+		final var store = ContiguousArrayStore.getSmallest(iterator(), count, comparator);
+		return new List<>(store);
+	}
+
+	/**
+	 * Returns the specified number of the smallest items of this collection, according
+	 * to their natural order, in ascending order.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 * @throws RuntimeException when items of this collection are not {@link Comparable}
+	 */
+	default Sequence<T> getSmallest(int count) {
+		@SuppressWarnings("unchecked")
+		final var comparator = (Comparator<T>) Comparator.naturalOrder();
+		return getSmallest(count, comparator);
+	}
+
+	/**
+	 * Returns the specified number of the largest items of this collection, according
+	 * to the specified {@link Comparator}, in descending order. When this collection has
+	 * fewer items, returns all of them sorted.
+	 * <p>
+	 * Unlike taking a prefix of {@link #sort(Comparator)}, keeps only the specified
+	 * number of items in a bounded heap during a single pass, and takes
+	 * {@code O(n log k)} time.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 */
+	default Sequence<T> getLargest(int count, Comparator<T> comparator) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Cannot get " + count
+				+ " largest items: value must not be negative.");
+		}
+
+		final var store = ContiguousArrayStore.getSmallest(iterator(), count,
+			comparator.reversed());
+
+		return new List<>(store);
+	}
+
+	/**
+	 * Returns the specified number of the largest items of this collection, according
+	 * to their natural order, in descending order.
+	 *
+	 * @throws IllegalArgumentException when the specified number of items is negative
+	 * @throws RuntimeException when items of this collection are not {@link Comparable}
+	 */
+	default Sequence<T> getLargest(int count) {
+		@SuppressWarnings("unchecked")
+		final var comparator = (Comparator<T>) Comparator.naturalOrder();
+		return getLargest(count, comparator);
+	}
+
+	/**
+	 * Returns the item, which would be at the specified index, if items of this
+	 * collection were sorted according to the specified {@link Comparator}.
+	 * <p>
+	 * Unlike sorting items, selects the item from a copy of them with introselect, and
+	 * takes {@code O(n)} time on average.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of range
+	 * [0, count)
+	 */
+	default T getNth(int index, Comparator<T> comparator) {
+		final var items = toArray();
+		if (index < 0 || index >= items.length) {
+			final var range = new IndexRange(0, items.length);
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		final var store = new ContiguousArrayStore(items, items.length);
+		@SuppressWarnings("unchecked")
+		final var item = (T) store.select(index, comparator);
+
+		return item;
+	}
+
+	/**
+	 * Returns the item, which would be at the specified index, if items of this
+	 * collection were sorted according to their natural order.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of range
+	 * [0, count)
+	 * @throws RuntimeException when items of this collection are not {@link Comparable}
+	 */
+	default T getNth(int index) {
+		@SuppressWarnings("unchecked")
+		final var comparator = (Comparator<T>) Comparator.naturalOrder();
+		return getNth(index, comparator);
+	}
+
+	/**
+	 * Returns the median item of this collection, according to the specified
+	 * {@link Comparator}. When this collection has an even number of items, returns the
+	 * lower of two middle items.
+	 * <p>
+	 * When this collection is empty, returns an empty {@link Optional}.
+	 */
+	default Optional<T> getMedian(Comparator<T> comparator) {
+		final var items = toArray();
+		if (items.length == 0) {
+			return Optional.empty();
+		}
+
+		final var store = new ContiguousArrayStore(items, items.length);
+		@SuppressWarnings("unchecked")
+		final var item = (T) store.select((items.length - 1) / 2, comparator);
+
+		return Optional.of(item);
+	}
+
+	/**
+	 * Returns the median item of this collection, according to the natural order of the
+	 * items. When this collection has an even number of items, returns the lower of two
+	 * middle items.
+	 *
+	 * @throws RuntimeException when items of this collection are not {@link Comparable}
+	 */
+	default Optional<T> getMedian() {
+		@SuppressWarnings("unchecked")
+		final var comparator = (Comparator<T>) Comparator.naturalOrder();
+		return getMedian(comparator);
+	}
+
 	/**
 	 * Shuffles the specified items randomly, based on the specified {@link Random}.
 	 *
@@ -372,6 +603,16 @@ public interface Collection<T> extends Iterable<T> {
 	default Object[] toArray() {
 		final var count = getCount();
 		final var items = new Object[count];
+
+		if (this instanceof Sequence && this instanceof RandomAccess) {
+			final var sequence = (Sequence<T>) this;
+			for (var index = 0; index < count; ++index) {
+				items[index] = sequence.get(index);
+			}
+
+			return items;
+		}
+
 		var index = 0;
 
 		for (var item : this) {
@@ -389,6 +630,15 @@ public interface Collection<T> extends Iterable<T> {
 		final var count = getCount();
 		final var items = Arrays.copyOf(new Object[0], count, klass);
 
+		if (this instanceof Sequence && this instanceof RandomAccess) {
+			final var sequence = (Sequence<T>) this;
+			for (var index = 0; index < count; ++index) {
+				items[index] = sequence.get(index);
+			}
+
+			return items;
+		}
+
 		var index = 0;
 		for (var item : this) {
 			items[index] = item;
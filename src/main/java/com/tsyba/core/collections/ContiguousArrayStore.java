@@ -1,26 +1,58 @@
 package com.tsyba.core.collections;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
 
 import static java.lang.System.arraycopy;
 import static java.util.Arrays.fill;
 
 class ContiguousArrayStore {
+	/**
+	 * An empty array shared by all stores without capacity, so that empty stores do not
+	 * allocate any.
+	 */
+	static final Object[] emptyItems = new Object[0];
+
+	/**
+	 * The smallest number of items, which are sorted and shuffled in parallel.
+	 */
+	static final int parallelThreshold = 1 << 16;
+
+	/**
+	 * The largest number of items, which are sorted rather than partitioned further,
+	 * when selecting an item.
+	 */
+	private static final int selectionSortThreshold = 16;
+
 	Object[] items;
 	int itemCount;
 
+	/**
+	 * Returns a new store with non-null items of the specified array, and without excess
+	 * capacity.
+	 */
 	static ContiguousArrayStore compact(Object[] items) {
-		final var store = new ContiguousArrayStore(items.length);
 		var count = 0;
-
 		for (var item : items) {
 			if (item != null) {
-				store.items[count] = item;
 				++count;
 			}
 		}
 
-		store.itemCount = count;
+		final var store = new ContiguousArrayStore(count);
+		for (var item : items) {
+			if (item != null) {
+				store.items[store.itemCount] = item;
+				++store.itemCount;
+			}
+		}
+
 		return store;
 	}
 
@@ -42,7 +74,9 @@ class ContiguousArrayStore {
 	 * @throws IllegalArgumentException when the specified store capacity is negative
 	 */
 	ContiguousArrayStore(int capacity) {
-		this.items = new Object[capacity];
+		this.items = capacity == 0
+			? emptyItems
+			: new Object[capacity];
 		this.itemCount = 0;
 	}
 
@@ -77,14 +111,12 @@ class ContiguousArrayStore {
 				: itemCount - 1;
 		}
 
-		final var startIndex = Math.min(index, itemCount - store.itemCount);
-		for (var index1 = startIndex; index1 > -1; --index1) {
-			if (contains(index1, store)) {
-				return index1;
-			}
-		}
+		// note: an occurrence, which starts at or before the index, ends
+		// before the index offset by occurrence length
+		final var endIndex = Math.min(index + store.itemCount, itemCount);
+		final var search = new SubsequenceSearch(store.getItems());
 
-		return -1;
+		return search.findBefore(items, 0, endIndex);
 	}
 
 	/**
@@ -101,14 +133,8 @@ class ContiguousArrayStore {
 				: -1;
 		}
 
-		final var endIndex = itemCount - store.itemCount;
-		for (var index1 = index; index1 <= endIndex; ++index1) {
-			if (contains(index1, store)) {
-				return index1;
-			}
-		}
-
-		return -1;
+		final var search = new SubsequenceSearch(store.getItems());
+		return search.findAfter(items, index, itemCount);
 	}
 
 	/**
@@ -116,16 +142,17 @@ class ContiguousArrayStore {
 	 * specified index; returns {@code false} otherwise.
 	 */
 	boolean contains(int index, ContiguousArrayStore store) {
-		for (var index2 = 0; index2 < store.itemCount; ++index2) {
-			final var item1 = items[index + index2];
-			final var item2 = store.items[index2];
-
-			if (!item1.equals(item2)) {
-				return false;
-			}
-		}
+		return Arrays.equals(items, index, index + store.itemCount,
+			store.items, 0, store.itemCount);
+	}
 
-		return true;
+	/**
+	 * Returns items of this store in an array without excess capacity.
+	 */
+	Object[] getItems() {
+		return items.length == itemCount
+			? items
+			: Arrays.copyOf(items, itemCount);
 	}
 
 	/**
@@ -223,6 +250,82 @@ class ContiguousArrayStore {
 		itemCount -= count;
 	}
 
+	/**
+	 * Removes items of this store, which satisfy the specified {@link Predicate}, and
+	 * returns the number of removed items.
+	 * <p>
+	 * Tests each item exactly once, and moves each kept item at most once, in a single
+	 * pass, keeping their relative order.
+	 */
+	<T> int removeAll(Predicate<T> condition) {
+		@SuppressWarnings("unchecked")
+		final var items = (T[]) this.items;
+
+		// note: items before the first removed one stay in place
+		var index = 0;
+		while (index < itemCount && !condition.test(items[index])) {
+			++index;
+		}
+
+		var count = index;
+		for (++index; index < itemCount; ++index) {
+			final var item = items[index];
+			if (!condition.test(item)) {
+				items[count] = item;
+				++count;
+			}
+		}
+
+		return truncate(count);
+	}
+
+	/**
+	 * Removes items at the specified index ranges from this store, and returns the
+	 * number of removed items.
+	 * <p>
+	 * The specified ranges may come in any order and may overlap. Moves each kept item
+	 * at most once, in a single pass, keeping their relative order.
+	 */
+	int remove(IndexRange[] ranges) {
+		final var sorted = ranges.clone();
+		Arrays.sort(sorted, Comparator.comparingInt((range) -> range.start));
+
+		var count = 0;
+		var index = 0;
+
+		for (var range : sorted) {
+			if (range.start > index) {
+				final var kept = range.start - index;
+				if (count < index) {
+					arraycopy(items, index, items, count, kept);
+				}
+
+				count += kept;
+			}
+
+			index = Math.max(index, range.end);
+		}
+
+		if (count < index) {
+			arraycopy(items, index, items, count, itemCount - index);
+		}
+
+		count += itemCount - index;
+		return truncate(count);
+	}
+
+	/**
+	 * Removes items of this store after the specified count, clearing their slots, and
+	 * returns the number of removed items.
+	 */
+	private int truncate(int count) {
+		final var removedCount = itemCount - count;
+		fill(items, count, itemCount, null);
+		itemCount = count;
+
+		return removedCount;
+	}
+
 	/**
 	 * Returns items of this store in reverse order.
 	 */
@@ -235,18 +338,459 @@ class ContiguousArrayStore {
 		return new ContiguousArrayStore(reversed, itemCount);
 	}
 
+	/**
+	 * Sorts items of this store according to the specified {@link Comparator}, in place.
+	 * <p>
+	 * Stores with at least {@link #parallelThreshold} items are sorted in parallel.
+	 */
+	<T> void sort(Comparator<T> comparator) {
+		@SuppressWarnings("unchecked")
+		final var items = (T[]) this.items;
+
+		if (itemCount < parallelThreshold) {
+			Arrays.sort(items, 0, itemCount, comparator);
+		} else {
+			Arrays.parallelSort(items, 0, itemCount, comparator);
+		}
+	}
+
+	/**
+	 * Moves items of this store at the specified indexes to the positions of these
+	 * indexes, in place.
+	 * <p>
+	 * Follows each cycle of the permutation, moving each item once, and marks indexes,
+	 * which are already moved, by inverting their bits; the specified indexes are thus
+	 * overwritten.
+	 */
+	void permute(int[] indexes) {
+		for (var start = 0; start < indexes.length; ++start) {
+			if (indexes[start] < 0) {
+				continue;
+			}
+
+			final var item = items[start];
+			var index = start;
+
+			while (indexes[index] != start) {
+				final var next = indexes[index];
+				items[index] = items[next];
+				indexes[index] = ~next;
+				index = next;
+			}
+
+			items[index] = item;
+			indexes[index] = ~start;
+		}
+	}
+
+	/**
+	 * Shuffles items of this store randomly, based on the specified {@link Random}, in
+	 * place.
+	 * <p>
+	 * Stores with at least {@link #parallelThreshold} items are shuffled in parallel, by
+	 * shuffling both halves independently and merging them randomly.
+	 *
+	 * <pre>
+	 * Sources:
+	 * 1. A. Bacher, O. Bodini, A. Hollender, J. Lumbroso. "MergeShuffle: a very fast,
+	 *    parallel random permutation algorithm". GASCom, 2018.
+	 * </pre>
+	 */
+	void shuffle(Random random) {
+		final var seed = new SplittableRandom(random.nextLong());
+		if (itemCount < parallelThreshold) {
+			shuffle(items, 0, itemCount, seed);
+		} else {
+			ForkJoinPool.commonPool()
+				.invoke(new MergeShuffle(items, 0, itemCount, seed));
+		}
+	}
+
+	/**
+	 * Shuffles items of the specified array between the specified start and end indexes
+	 * with the Fisher-Yates algorithm.
+	 */
+	private static void shuffle(Object[] items, int start, int end,
+		SplittableRandom random) {
+
+		for (var index = end - 1; index > start; --index) {
+			final var randomIndex = start + random.nextInt(index - start + 1);
+
+			final var item = items[index];
+			items[index] = items[randomIndex];
+			items[randomIndex] = item;
+		}
+	}
+
+	private static class MergeShuffle extends RecursiveAction {
+		private final Object[] items;
+		private final int start;
+		private final int end;
+		private final SplittableRandom random;
+
+		private MergeShuffle(Object[] items, int start, int end, SplittableRandom random) {
+			this.items = items;
+			this.start = start;
+			this.end = end;
+			this.random = random;
+		}
+
+		@Override
+		protected void compute() {
+			if (end - start < parallelThreshold) {
+				shuffle(items, start, end, random);
+				return;
+			}
+
+			// note: splitting random generators before forking keeps shuffles
+			// reproducible for the same seed
+			final var middle = (start + end) >>> 1;
+			invokeAll(
+				new MergeShuffle(items, start, middle, random.split()),
+				new MergeShuffle(items, middle, end, random.split()));
+
+			merge(middle);
+		}
+
+		/**
+		 * Merges randomly shuffled items before and after the specified index into a
+		 * random permutation of all items.
+		 */
+		private void merge(int middle) {
+			var index1 = start;
+			var index2 = middle;
+
+			// note: each step takes the next item from either half with equal
+			// probability, until one of them runs out
+			while (true) {
+				if (random.nextBoolean()) {
+					if (index2 == end) {
+						break;
+					}
+
+					final var item = items[index1];
+					items[index1] = items[index2];
+					items[index2] = item;
+					++index2;
+				} else if (index1 == index2) {
+					break;
+				}
+
+				++index1;
+			}
+
+			// note: items left after either half runs out are inserted at random
+			// positions among the merged ones
+			for (; index1 < end; ++index1) {
+				final var randomIndex = start + random.nextInt(index1 - start + 1);
+
+				final var item = items[index1];
+				items[index1] = items[randomIndex];
+				items[randomIndex] = item;
+			}
+		}
+	}
+
+	/**
+	 * Moves items of this store, which satisfy the specified {@link Predicate}, before
+	 * items, which do not, in place, and returns the number of items, which do.
+	 * <p>
+	 * Tests each item exactly once, and swaps items towards each other from both ends
+	 * of this store, so that relative order of items is not kept.
+	 */
+	<T> int partition(Predicate<T> condition) {
+		@SuppressWarnings("unchecked")
+		final var items = (T[]) this.items;
+		var low = 0;
+		var high = itemCount;
+
+		while (true) {
+			while (low < high && condition.test(items[low])) {
+				++low;
+			}
+			while (low < high && !condition.test(items[high - 1])) {
+				--high;
+			}
+			if (low == high) {
+				return low;
+			}
+
+			// note: both swapped items are tested already, and so are skipped
+			swap(items, low, high - 1);
+			++low;
+			--high;
+		}
+	}
+
+	/**
+	 * Returns the item, which would be at the specified index, if items of this store
+	 * were sorted according to the specified {@link Comparator}.
+	 * <p>
+	 * Reorders items of this store in place with quickselect, so that items before the
+	 * returned one are not greater, and items after it are not smaller than it. Picks
+	 * each pivot as the median of three items, and keeps items equal to the pivot
+	 * together, so that repeated items do not slow selection down. When partitioning
+	 * takes more steps than expected, sorts the remaining items instead, which keeps
+	 * selection in {@code O(n log n)} time in the worst case, and in {@code O(n)} time
+	 * on average.
+	 *
+	 * <pre>
+	 * Sources:
+	 * 1. D. Musser. "Introspective sorting and selection algorithms".
+	 *    Software: Practice and Experience, vol. 27, 1997, pp. 983–993.
+	 * </pre>
+	 */
+	<T> Object select(int index, Comparator<T> comparator) {
+		@SuppressWarnings("unchecked")
+		final var items = (T[]) this.items;
+		var start = 0;
+		var end = itemCount;
+		var depthLimit = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(itemCount));
+
+		while (end - start > selectionSortThreshold && depthLimit > 0) {
+			final var pivot = getMedian(items, start, (start + end) >>> 1, end - 1,
+				comparator);
+
+			// note: items before the lower index are smaller than the pivot, items
+			// after the upper index are greater, and items between are equal to it
+			var lower = start;
+			var upper = end;
+			for (var index2 = start; index2 < upper; ) {
+				final var order = comparator.compare(items[index2], pivot);
+				if (order < 0) {
+					swap(items, lower, index2);
+					++lower;
+					++index2;
+				} else if (order > 0) {
+					--upper;
+					swap(items, index2, upper);
+				} else {
+					++index2;
+				}
+			}
+
+			if (index < lower) {
+				end = lower;
+			} else if (index >= upper) {
+				start = upper;
+			} else {
+				return items[index];
+			}
+
+			--depthLimit;
+		}
+
+		Arrays.sort(items, start, end, comparator);
+		return items[index];
+	}
+
+	private static <T> T getMedian(T[] items, int index1, int index2, int index3,
+		Comparator<T> comparator) {
+
+		final var item1 = items[index1];
+		final var item2 = items[index2];
+		final var item3 = items[index3];
+
+		if (comparator.compare(item1, item2) < 0) {
+			if (comparator.compare(item2, item3) < 0) {
+				return item2;
+			}
+
+			return comparator.compare(item1, item3) < 0
+				? item3
+				: item1;
+		}
+		if (comparator.compare(item1, item3) < 0) {
+			return item1;
+		}
+
+		return comparator.compare(item2, item3) < 0
+			? item3
+			: item2;
+	}
+
+	/**
+	 * Returns a store with the specified number of the smallest items of the specified
+	 * {@link Iterator}, according to the specified {@link Comparator}, in ascending
+	 * order.
+	 * <p>
+	 * Keeps the smallest items seen so far in a max-heap, bounded by the specified
+	 * number, so that it takes {@code O(n log k)} time and {@code O(k)} memory, where
+	 * {@code n} is the number of items, and {@code k} is the number of the smallest ones.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> ContiguousArrayStore getSmallest(Iterator<T> items, int count,
+		Comparator<T> comparator) {
+
+		final var store = new ContiguousArrayStore(Math.min(count, 16));
+		while (items.hasNext()) {
+			final var item = items.next();
+			if (store.itemCount < count) {
+				store.ensureExcessCapacity(1);
+				store.items[store.itemCount] = item;
+				++store.itemCount;
+
+				siftUp(store.items, store.itemCount - 1, comparator);
+			} else if (count > 0 && comparator.compare(item, (T) store.items[0]) < 0) {
+				store.items[0] = item;
+				siftDown(store.items, 0, store.itemCount, comparator);
+			}
+		}
+
+		// note: moving the largest item of the heap past its end, one by one, leaves
+		// the heap items in ascending order
+		for (var end = store.itemCount - 1; end > 0; --end) {
+			swap(store.items, 0, end);
+			siftDown(store.items, 0, end, comparator);
+		}
+
+		return store;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void siftUp(Object[] items, int index, Comparator<T> comparator) {
+		while (index > 0) {
+			final var parent = (index - 1) >>> 1;
+			if (comparator.compare((T) items[parent], (T) items[index]) >= 0) {
+				break;
+			}
+
+			swap(items, index, parent);
+			index = parent;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void siftDown(Object[] items, int index, int count,
+		Comparator<T> comparator) {
+
+		while (true) {
+			final var left = 2 * index + 1;
+			if (left >= count) {
+				break;
+			}
+
+			final var right = left + 1;
+			final var child = right < count
+				&& comparator.compare((T) items[right], (T) items[left]) > 0
+				? right
+				: left;
+
+			if (comparator.compare((T) items[index], (T) items[child]) >= 0) {
+				break;
+			}
+
+			swap(items, index, child);
+			index = child;
+		}
+	}
+
+	private static void swap(Object[] items, int index1, int index2) {
+		final var item = items[index1];
+		items[index1] = items[index2];
+		items[index2] = item;
+	}
+
+	/**
+	 * Returns index of the first item of this store, which is not smaller than the
+	 * specified item, according to the specified {@link Comparator}, assuming items of
+	 * this store are sorted by it.
+	 * <p>
+	 * When all items of this store are smaller, returns the item count.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> int findLowerBound(T item, Comparator<T> comparator) {
+		var low = 0;
+		var high = itemCount;
+
+		while (low < high) {
+			final var middle = (low + high) >>> 1;
+			if (comparator.compare((T) items[middle], item) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Returns index of the first item of this store, which is greater than the specified
+	 * item, according to the specified {@link Comparator}, assuming items of this store
+	 * are sorted by it.
+	 * <p>
+	 * When no item of this store is greater, returns the item count.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> int findUpperBound(T item, Comparator<T> comparator) {
+		var low = 0;
+		var high = itemCount;
+
+		while (low < high) {
+			final var middle = (low + high) >>> 1;
+			if (comparator.compare((T) items[middle], item) <= 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Merges items of the specified store into this store, assuming items of both are
+	 * sorted according to the specified {@link Comparator}, so that items of this store
+	 * stay sorted.
+	 * <p>
+	 * Merges items from the end of both stores into excess capacity of this store, so
+	 * that it takes linear time, and allocates nothing, when this store has enough
+	 * capacity. Items of this store come before equal items of the specified store.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> void merge(ContiguousArrayStore store, Comparator<T> comparator) {
+		ensureExcessCapacity(store.itemCount);
+
+		var index1 = itemCount - 1;
+		var index2 = store.itemCount - 1;
+		var index = itemCount + store.itemCount - 1;
+
+		while (index2 >= 0) {
+			if (index1 >= 0 && comparator.compare((T) items[index1],
+				(T) store.items[index2]) > 0) {
+
+				items[index] = items[index1];
+				--index1;
+			} else {
+				items[index] = store.items[index2];
+				--index2;
+			}
+
+			--index;
+		}
+
+		itemCount += store.itemCount;
+	}
+
 	void ensureExcessCapacity(int extra) {
 		if (itemCount + extra > items.length) {
+			final var event = new ArrayCopyEvent();
+			event.begin();
+
 			final var capacity = 2 * (itemCount + extra);
 			final var expanded = new Object[capacity];
 			arraycopy(items, 0, expanded, 0, itemCount);
 
+			event.commit("ensureExcessCapacity", itemCount, items.length, capacity);
 			items = expanded;
 		}
 	}
 
 	void removeExcessCapacity() {
-		if (itemCount < items.length) {
+		if (itemCount == 0) {
+			items = emptyItems;
+		} else if (itemCount < items.length) {
 			final var items = new Object[itemCount];
 			arraycopy(this.items, 0, items, 0, itemCount);
 			this.items = items;
@@ -254,6 +798,9 @@ class ContiguousArrayStore {
 	}
 
 	private void shiftItems(int index, int positions) {
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
 		if (itemCount + positions > items.length) {
 			final var capacity = 2 * (itemCount + positions);
 			final var expanded = new Object[capacity];
@@ -264,6 +811,7 @@ class ContiguousArrayStore {
 			arraycopy(items, index, expanded, index + positions,
 				itemCount - index);
 
+			event.commit("shiftItems", itemCount, items.length, capacity);
 			items = expanded;
 		} else {
 			arraycopy(items, index, items, index + positions,
@@ -273,6 +821,8 @@ class ContiguousArrayStore {
 				// clear items after the shifted range
 				fill(items, itemCount + positions, itemCount, null);
 			}
+
+			event.commit("shiftItems", itemCount - index, items.length, items.length);
 		}
 	}
 
@@ -0,0 +1,170 @@
+package com.tsyba.core.collections;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * A contiguous array store of {@code double} values, which keeps them unboxed.
+ * <p>
+ * Mirrors {@link ContiguousArrayStore}, except that removed values are not cleared,
+ * since they do not reference any objects.
+ */
+class DoubleArrayStore {
+	static final double[] emptyItems = new double[0];
+
+	double[] items;
+	int itemCount;
+
+	/**
+	 * Creates a new array store with the specified capacity.
+	 *
+	 * @throws NegativeArraySizeException when the specified store capacity is negative
+	 */
+	DoubleArrayStore(int capacity) {
+		this.items = capacity == 0
+			? emptyItems
+			: new double[capacity];
+		this.itemCount = 0;
+	}
+
+	DoubleArrayStore(double[] items, int itemCount) {
+		this.items = items;
+		this.itemCount = itemCount;
+	}
+
+	/**
+	 * Returns a new store with a copy of values between the specified start and end
+	 * indexes.
+	 */
+	DoubleArrayStore get(int capacity, int start, int end) {
+		final var copy = new double[capacity];
+		final var itemCount = end - start;
+		arraycopy(items, start, copy, 0, itemCount);
+
+		return new DoubleArrayStore(copy, itemCount);
+	}
+
+	void prepend(double item) {
+		shiftItems(0, 1);
+
+		items[0] = item;
+		++itemCount;
+	}
+
+	void prepend(DoubleArrayStore store) {
+		shiftItems(0, store.itemCount);
+
+		arraycopy(store.items, 0, items, 0, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	void append(double item) {
+		ensureExcessCapacity(1);
+
+		items[itemCount] = item;
+		++itemCount;
+	}
+
+	void append(DoubleArrayStore store) {
+		ensureExcessCapacity(store.itemCount);
+
+		arraycopy(store.items, 0, items, itemCount, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	/**
+	 * Inserts the specified value into this store at the specified index.
+	 * <p>
+	 * Produces undefined result when the specified index is after the current item
+	 * count.
+	 */
+	void insert(int index, double item) {
+		shiftItems(index, 1);
+
+		items[index] = item;
+		++itemCount;
+	}
+
+	/**
+	 * Inserts values from the specified store into this store at the specified index.
+	 * <p>
+	 * Produces undefined result when the specified index is after the current item
+	 * count.
+	 */
+	void insert(int index, DoubleArrayStore store) {
+		shiftItems(index, store.itemCount);
+
+		arraycopy(store.items, 0, items, index, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this store with the values from
+	 * the specified store.
+	 */
+	void replace(IndexRange range, DoubleArrayStore store) {
+		final var count = range.getCount();
+		shiftItems(range.end, store.itemCount - count);
+
+		arraycopy(store.items, 0, items, range.start, store.itemCount);
+		itemCount += store.itemCount - count;
+	}
+
+	void remove(int index) {
+		shiftItems(index + 1, -1);
+		itemCount -= 1;
+	}
+
+	void remove(IndexRange indexRange) {
+		final var count = indexRange.getCount();
+		shiftItems(indexRange.end, -count);
+		itemCount -= count;
+	}
+
+	void ensureExcessCapacity(int extra) {
+		if (itemCount + extra > items.length) {
+			final var event = new ArrayCopyEvent();
+			event.begin();
+
+			final var capacity = 2 * (itemCount + extra);
+			final var expanded = new double[capacity];
+			arraycopy(items, 0, expanded, 0, itemCount);
+
+			event.commit("ensureExcessCapacity", itemCount, items.length, capacity);
+			items = expanded;
+		}
+	}
+
+	void removeExcessCapacity() {
+		if (itemCount == 0) {
+			items = emptyItems;
+		} else if (itemCount < items.length) {
+			final var items = new double[itemCount];
+			arraycopy(this.items, 0, items, 0, itemCount);
+			this.items = items;
+		}
+	}
+
+	private void shiftItems(int index, int positions) {
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
+		if (itemCount + positions > items.length) {
+			final var capacity = 2 * (itemCount + positions);
+			final var expanded = new double[capacity];
+
+			if (index > 0) {
+				arraycopy(items, 0, expanded, 0, index);
+			}
+			arraycopy(items, index, expanded, index + positions,
+				itemCount - index);
+
+			event.commit("shiftItems", itemCount, items.length, capacity);
+			items = expanded;
+		} else {
+			arraycopy(items, index, items, index + positions,
+				itemCount - index);
+
+			event.commit("shiftItems", itemCount - index, items.length, items.length);
+		}
+	}
+}
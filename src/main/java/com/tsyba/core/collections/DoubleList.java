@@ -0,0 +1,343 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+
+/**
+ * An immutable list of {@code double} values, which keeps them unboxed in a contiguous
+ * array.
+ * <p>
+ * Unlike a {@link List} of {@link Double}s, which references a separate object for each
+ * value, takes memory for the values only, and reads them without following
+ * references. Use {@link #toList()} and {@link #DoubleList(Collection)} to convert between
+ * the two.
+ */
+public class DoubleList {
+	DoubleArrayStore store;
+
+	DoubleList(DoubleArrayStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Creates a list with the specified values.
+	 */
+	public DoubleList(double... values) {
+		this(new DoubleArrayStore(
+			Arrays.copyOf(values, values.length), values.length));
+	}
+
+	/**
+	 * Creates a list with values of the specified {@link Collection}.
+	 */
+	public DoubleList(Collection<Double> items) {
+		this(new DoubleArrayStore(items.getCount()));
+		for (var item : items) {
+			store.append(item);
+		}
+	}
+
+	/**
+	 * Returns the number of values in this list.
+	 */
+	public int getCount() {
+		return store.itemCount;
+	}
+
+	/**
+	 * Returns {@code true} when this list is empty; returns {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return store.itemCount == 0;
+	}
+
+	/**
+	 * Returns valid index range of this list.
+	 */
+	public IndexRange getIndexRange() {
+		return new IndexRange(0, store.itemCount);
+	}
+
+	/**
+	 * Returns the first value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalDouble}.
+	 */
+	public OptionalDouble getFirst() {
+		return store.itemCount == 0
+			? OptionalDouble.empty()
+			: OptionalDouble.of(store.items[0]);
+	}
+
+	/**
+	 * Returns the last value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalDouble}.
+	 */
+	public OptionalDouble getLast() {
+		return store.itemCount == 0
+			? OptionalDouble.empty()
+			: OptionalDouble.of(store.items[store.itemCount - 1]);
+	}
+
+	/**
+	 * Returns value at the specified index in this list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public double get(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		return store.items[index];
+	}
+
+	/**
+	 * Returns values from the first up to, but excluding, the one at the specified
+	 * index in this list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public DoubleList getPrefix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var prefix = store.get(index, 0, index);
+		return new DoubleList(prefix);
+	}
+
+	/**
+	 * Returns values from the one at the specified index up to the last one in this
+	 * list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public DoubleList getSuffix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var capacity = store.itemCount - index;
+		final var suffix = store.get(capacity, index, store.itemCount);
+		return new DoubleList(suffix);
+	}
+
+	/**
+	 * Returns values within the specified index range in this list.
+	 *
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public DoubleList get(IndexRange indexRange) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		final var count = indexRange.getCount();
+		final var sub = store.get(count, indexRange.start, indexRange.end);
+		return new DoubleList(sub);
+	}
+
+	/**
+	 * Returns the smallest value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalDouble}.
+	 */
+	public OptionalDouble getMin() {
+		if (store.itemCount == 0) {
+			return OptionalDouble.empty();
+		}
+
+		var min = store.items[0];
+		for (var index = 1; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (Double.compare(item, min) < 0) {
+				min = item;
+			}
+		}
+
+		return OptionalDouble.of(min);
+	}
+
+	/**
+	 * Returns the largest value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalDouble}.
+	 */
+	public OptionalDouble getMax() {
+		if (store.itemCount == 0) {
+			return OptionalDouble.empty();
+		}
+
+		var max = store.items[0];
+		for (var index = 1; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (Double.compare(item, max) > 0) {
+				max = item;
+			}
+		}
+
+		return OptionalDouble.of(max);
+	}
+
+	/**
+	 * Returns {@code true} when this list contains the specified value; returns
+	 * {@code false} otherwise.
+	 */
+	public boolean contains(double value) {
+		return findFirst(value)
+			.isPresent();
+	}
+
+	/**
+	 * Returns all values of this list, which satisfy the specified
+	 * {@link DoublePredicate}.
+	 */
+	public DoubleList matchAll(DoublePredicate condition) {
+		final var matches = new DoubleArrayStore(0);
+		for (var index = 0; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (condition.test(item)) {
+				matches.append(item);
+			}
+		}
+
+		matches.removeExcessCapacity();
+		return new DoubleList(matches);
+	}
+
+	/**
+	 * Returns index of the first occurrence of the specified value in this list. When
+	 * the value does not occur in this list, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt findFirst(double value) {
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (Double.compare(store.items[index], value) == 0) {
+				return OptionalInt.of(index);
+			}
+		}
+
+		return OptionalInt.empty();
+	}
+
+	/**
+	 * Returns index of the first value, which satisfies the specified
+	 * {@link DoublePredicate} in this list. When no value satisfies it, returns an empty
+	 * {@link OptionalInt}.
+	 */
+	public OptionalInt findFirst(DoublePredicate condition) {
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (condition.test(store.items[index])) {
+				return OptionalInt.of(index);
+			}
+		}
+
+		return OptionalInt.empty();
+	}
+
+	/**
+	 * Returns values of this list in ascending order.
+	 */
+	public DoubleList sort() {
+		final var items = toArray();
+		Arrays.sort(items);
+
+		return new DoubleList(
+			new DoubleArrayStore(items, items.length));
+	}
+
+	/**
+	 * Returns values of this list as a {@link List} of {@link Double}s.
+	 */
+	public List<Double> toList() {
+		final var items = new Object[store.itemCount];
+		for (var index = 0; index < store.itemCount; ++index) {
+			items[index] = store.items[index];
+		}
+
+		return new List<>(
+			new ContiguousArrayStore(items, items.length));
+	}
+
+	/**
+	 * Returns values of this list in an array.
+	 */
+	public double[] toArray() {
+		return Arrays.copyOf(store.items, store.itemCount);
+	}
+
+	/**
+	 * Returns an iterator over values of this list, which does not box them.
+	 */
+	public PrimitiveIterator.OfDouble iterator() {
+		return new PrimitiveIterator.OfDouble() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < store.itemCount;
+			}
+
+			@Override
+			public double nextDouble() {
+				if (index >= store.itemCount) {
+					throw new NoSuchElementException();
+				}
+
+				return store.items[index++];
+			}
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 1;
+		for (var index = 0; index < store.itemCount; ++index) {
+			hashCode = 31 * hashCode + Double.hashCode(store.items[index]);
+		}
+
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof DoubleList)) {
+			return false;
+		}
+
+		final var list = (DoubleList) object;
+		return Arrays.equals(store.items, 0, store.itemCount,
+			list.store.items, 0, list.store.itemCount);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder("[");
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+
+			builder.append(store.items[index]);
+		}
+
+		return builder.append("]")
+			.toString();
+	}
+}
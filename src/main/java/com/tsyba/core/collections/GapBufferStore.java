@@ -0,0 +1,209 @@
+package com.tsyba.core.collections;
+
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.fill;
+
+/**
+ * An array store, which keeps its free capacity as a gap at the position of the last
+ * edit, rather than at the end of the array.
+ * <p>
+ * Items before the gap are stored at their index, while items after it are offset by the
+ * gap length. Inserting or removing items at the gap takes constant time; editing
+ * elsewhere first moves the gap, which moves only the items between the old and the new
+ * edit position.
+ */
+class GapBufferStore extends SequenceStore {
+	Object[] items;
+	int gapStart;
+	int gapEnd;
+
+	/**
+	 * Creates a new gap buffer store with the specified capacity.
+	 */
+	GapBufferStore(int capacity) {
+		this.items = new Object[capacity];
+		this.gapStart = 0;
+		this.gapEnd = capacity;
+	}
+
+	/**
+	 * Creates a new gap buffer store with the specified items, followed by the gap.
+	 */
+	GapBufferStore(Object[] items, int itemCount) {
+		this.items = items;
+		this.gapStart = itemCount;
+		this.gapEnd = items.length;
+	}
+
+	@Override
+	int getCount() {
+		return items.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * Returns position in storage array of item at the specified index.
+	 */
+	private int locate(int index) {
+		return index < gapStart
+			? index
+			: index + (gapEnd - gapStart);
+	}
+
+	@Override
+	Object get(int index) {
+		return items[locate(index)];
+	}
+
+	@Override
+	void set(int index, Object item) {
+		items[locate(index)] = item;
+	}
+
+	@Override
+	void insert(int index, Object item) {
+		ensureGap(1);
+		moveGap(index);
+
+		items[gapStart] = item;
+		gapStart += 1;
+	}
+
+	@Override
+	void remove(int index) {
+		remove(index, index + 1);
+	}
+
+	/**
+	 * Removes items between the specified start and end indexes by widening the gap
+	 * over them.
+	 */
+	@Override
+	void remove(int startIndex, int endIndex) {
+		moveGap(startIndex);
+
+		final var count = endIndex - startIndex;
+		fill(items, gapEnd, gapEnd + count, null);
+		gapEnd += count;
+	}
+
+	@Override
+	void removeAll() {
+		fill(items, 0, gapStart, null);
+		fill(items, gapEnd, items.length, null);
+
+		gapStart = 0;
+		gapEnd = items.length;
+	}
+
+	/**
+	 * Returns index of the first item equal to the specified one, scanning items before
+	 * and after the gap directly.
+	 * <p>
+	 * When there is no such item, returns -1.
+	 */
+	@Override
+	int find(Object item) {
+		for (var index = 0; index < gapStart; index += 1) {
+			if (items[index].equals(item)) {
+				return index;
+			}
+		}
+		for (var index = gapEnd; index < items.length; index += 1) {
+			if (items[index].equals(item)) {
+				return index - (gapEnd - gapStart);
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Moves the gap to start at the specified index, moving items between the current
+	 * and the specified gap start across the gap.
+	 */
+	private void moveGap(int index) {
+		if (index == gapStart) {
+			return;
+		}
+
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
+		final var gapLength = gapEnd - gapStart;
+		final var count = Math.abs(index - gapStart);
+
+		if (index < gapStart) {
+			// move items between the index and the gap after the gap
+			arraycopy(items, index, items, index + gapLength, count);
+			fill(items, index, Math.min(gapStart, index + gapLength), null);
+		} else {
+			// move items between the gap and the index before the gap
+			arraycopy(items, gapEnd, items, gapStart, count);
+			fill(items, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+		}
+
+		gapStart = index;
+		gapEnd = index + gapLength;
+
+		event.commit("moveGap", count, items.length, items.length);
+	}
+
+	/**
+	 * Expands storage when the gap is shorter than the specified length, keeping the gap
+	 * at its position.
+	 */
+	private void ensureGap(int length) {
+		if (gapEnd - gapStart < length) {
+			final var event = new ArrayCopyEvent();
+			event.begin();
+
+			final var itemCount = getCount();
+			final var capacity = 2 * (itemCount + length);
+			final var expanded = new Object[capacity];
+			final var tailCount = items.length - gapEnd;
+
+			arraycopy(items, 0, expanded, 0, gapStart);
+			arraycopy(items, gapEnd, expanded, capacity - tailCount, tailCount);
+
+			event.commit("ensureGap", itemCount, items.length, capacity);
+			items = expanded;
+			gapEnd = capacity - tailCount;
+		}
+	}
+
+	/**
+	 * Returns an array of the specified length with items between the specified start
+	 * and end indexes of this store, in their order.
+	 */
+	@Override
+	Object[] copyItems(int startIndex, int endIndex, int length) {
+		final var copy = new Object[length];
+		final var headEnd = Math.min(endIndex, gapStart);
+
+		var copyIndex = 0;
+		if (startIndex < headEnd) {
+			arraycopy(items, startIndex, copy, 0, headEnd - startIndex);
+			copyIndex = headEnd - startIndex;
+		}
+
+		final var tailStart = Math.max(startIndex, gapStart);
+		if (tailStart < endIndex) {
+			arraycopy(items, locate(tailStart), copy, copyIndex, endIndex - tailStart);
+		}
+
+		return copy;
+	}
+
+	@Override
+	GapBufferStore copy(int startIndex, int endIndex) {
+		final var count = endIndex - startIndex;
+		final var items = copyItems(startIndex, endIndex, count);
+
+		return new GapBufferStore(items, count);
+	}
+
+	@Override
+	GapBufferStore create(int capacity) {
+		return new GapBufferStore(capacity);
+	}
+}
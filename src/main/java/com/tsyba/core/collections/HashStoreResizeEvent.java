@@ -0,0 +1,31 @@
+package com.tsyba.core.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event, which records a resize of storage of a hash based
+ * {@link Set} or {@link Map}.
+ * <p>
+ * Disabled by default; enable {@code com.tsyba.core.collections.HashStoreResize} in
+ * recording settings to record it.
+ */
+@Name("com.tsyba.core.collections.HashStoreResize")
+@Label("Hash Store Resize")
+@Description("Storage of a hash based set or map was resized.")
+@Category("Core Collections")
+@Enabled(false)
+class HashStoreResizeEvent extends Event {
+	@Label("Capacity")
+	int capacity;
+
+	@Label("Resized Capacity")
+	int resizedCapacity;
+
+	@Label("Entry Count")
+	int entryCount;
+}
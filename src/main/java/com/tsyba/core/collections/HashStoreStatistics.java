@@ -0,0 +1,212 @@
+package com.tsyba.core.collections;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a hash based {@link Set} or {@link Map}, which help to tell apart
+ * causes of slow lookups: poorly distributed hash codes, long probe sequences or
+ * frequent storage resizes.
+ * <p>
+ * Statistics are collected only after they are attached to a set or a map; otherwise,
+ * lookups and insertions do not pay for collecting them. Counters are cumulative since
+ * statistics were attached, while storage statistics reflect the current state of
+ * storage. Lookup counters are updated safely by concurrent lookups in a set or a map
+ * shared between threads.
+ * <p>
+ * Statistics can be exported to any metrics sink through a {@link Listener}.
+ */
+public class HashStoreStatistics {
+	RobinHoodHashStore<?> store;
+	private Listener listener;
+
+	private final LongAdder lookupCount = new LongAdder();
+	private final LongAdder equalsCallCount = new LongAdder();
+	private long resizeCount;
+	private long resizeTime;
+
+	HashStoreStatistics() {
+	}
+
+	/**
+	 * Returns the number of buckets in storage; when entries are packed, returns the
+	 * number of slots in storage instead.
+	 */
+	public int getCapacity() {
+		return store.getCapacity();
+	}
+
+	/**
+	 * Returns the number of entries in storage.
+	 */
+	public int getEntryCount() {
+		return store.entryCount;
+	}
+
+	/**
+	 * Returns the ratio of entry count to capacity of storage.
+	 */
+	public double getLoadFactor() {
+		final var capacity = store.getCapacity();
+		return capacity == 0
+			? 0.0
+			: (double) store.entryCount / capacity;
+	}
+
+	/**
+	 * Returns the number of stored entries by their probe distance, i.e. the distance
+	 * between their bucket and the slot they are stored in.
+	 * <p>
+	 * The returned array is indexed by probe distance, and ends with the largest probe
+	 * distance of stored entries.
+	 */
+	public int[] getProbeDistanceHistogram() {
+		return store.countProbeDistances();
+	}
+
+	/**
+	 * Returns the largest probe distance of stored entries.
+	 */
+	public int getMaxProbeDistance() {
+		final var histogram = store.countProbeDistances();
+		return Math.max(0, histogram.length - 1);
+	}
+
+	/**
+	 * Returns the number of entries, which did not fit into storage because too many
+	 * entries share their hash code, and are kept in a sorted overflow bin instead.
+	 */
+	public int getOverflowCount() {
+		return store.getOverflowCount();
+	}
+
+	/**
+	 * Returns the number of times storage was resized.
+	 */
+	public long getResizeCount() {
+		return resizeCount;
+	}
+
+	/**
+	 * Returns the total time, in nanoseconds, spent on resizing storage.
+	 */
+	public long getResizeTime() {
+		return resizeTime;
+	}
+
+	/**
+	 * Returns the number of lookups in storage.
+	 */
+	public long getLookupCount() {
+		return lookupCount.sum();
+	}
+
+	/**
+	 * Returns the number of {@link Object#equals(Object)} calls on stored items during
+	 * lookups in storage.
+	 */
+	public long getEqualsCallCount() {
+		return equalsCallCount.sum();
+	}
+
+	/**
+	 * Returns the average number of {@link Object#equals(Object)} calls on stored items
+	 * per lookup in storage.
+	 * <p>
+	 * When no lookups were made, returns 0.
+	 */
+	public double getEqualsCallsPerLookup() {
+		final var lookupCount = getLookupCount();
+		return lookupCount == 0
+			? 0.0
+			: (double) getEqualsCallCount() / lookupCount;
+	}
+
+	/**
+	 * Sets the specified {@link Listener} to be notified of storage resizes. Replaces
+	 * any previously set listener; removes it when the specified one is {@code null}.
+	 *
+	 * @return itself
+	 */
+	public HashStoreStatistics setListener(Listener listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * Reports every statistic to the specified {@link Listener} by its name.
+	 *
+	 * @return itself
+	 * @see Listener#onStatistic(String, double)
+	 */
+	public HashStoreStatistics report(Listener listener) {
+		listener.onStatistic("capacity", getCapacity());
+		listener.onStatistic("entryCount", getEntryCount());
+		listener.onStatistic("loadFactor", getLoadFactor());
+
+		final var histogram = getProbeDistanceHistogram();
+		for (var distance = 0; distance < histogram.length; ++distance) {
+			listener.onStatistic("probeDistance." + distance, histogram[distance]);
+		}
+
+		listener.onStatistic("maxProbeDistance", Math.max(0, histogram.length - 1));
+		listener.onStatistic("overflowCount", getOverflowCount());
+		listener.onStatistic("resizeCount", resizeCount);
+		listener.onStatistic("resizeTime", resizeTime);
+		listener.onStatistic("lookupCount", getLookupCount());
+		listener.onStatistic("equalsCallCount", getEqualsCallCount());
+		listener.onStatistic("equalsCallsPerLookup", getEqualsCallsPerLookup());
+
+		return this;
+	}
+
+	/**
+	 * Records a lookup, which made the specified number of equality checks.
+	 */
+	void countLookup(int equalsCallCount) {
+		this.lookupCount.increment();
+		this.equalsCallCount.add(equalsCallCount);
+	}
+
+	/**
+	 * Records a storage resize from the specified capacity to the specified one, which
+	 * took the specified time in nanoseconds.
+	 */
+	void countResize(int capacity, int resizedCapacity, long time) {
+		resizeCount += 1;
+		resizeTime += time;
+
+		if (listener != null) {
+			listener.onResize(capacity, resizedCapacity, time);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "HashStoreStatistics(capacity: " + getCapacity()
+			+ ", entries: " + getEntryCount()
+			+ ", max probe distance: " + getMaxProbeDistance()
+			+ ", resizes: " + resizeCount
+			+ ", equals calls per lookup: " + getEqualsCallsPerLookup() + ")";
+	}
+
+	/**
+	 * A listener of hash store statistics, which exports them to a metrics sink.
+	 */
+	public interface Listener {
+		/**
+		 * Called after storage was resized from the specified capacity to the specified
+		 * one, which took the specified time in nanoseconds.
+		 */
+		default void onResize(int capacity, int resizedCapacity, long time) {
+		}
+
+		/**
+		 * Called for each statistic with its name and current value, when statistics
+		 * are reported.
+		 *
+		 * @see HashStoreStatistics#report(Listener)
+		 */
+		default void onStatistic(String name, double value) {
+		}
+	}
+}
@@ -0,0 +1,551 @@
+package com.tsyba.core.collections;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct items added to it in a
+ * small, fixed amount of memory.
+ * <p>
+ * A sketch with precision {@code p} uses {@code 2^p} registers and estimates the
+ * number of distinct items with a standard error of about {@code 1.04 / sqrt(2^p)},
+ * i.e. about 0.8% for the default precision of 14, which takes 16KB. While few items
+ * are added, a sketch keeps them in a sparse representation with precision 25, which
+ * takes less memory and estimates small counts nearly exactly.
+ * <p>
+ * Sketches with the same precision can be merged, which allows to estimate the number
+ * of distinct items across partitions of data, and converted to a compact byte form
+ * for storage or transfer.
+ * <p>
+ * A sketch identifies items by their hash codes. Therefore, distinct items with equal
+ * hash codes are counted once.
+ *
+ * <pre>
+ * Implements HyperLogLog++ with 64-bit hashes and sparse representation, but estimates
+ * cardinality with the improved estimator of Ertl, which does not require empirical
+ * bias correction.
+ *
+ * Sources:
+ * 1. P. Flajolet, É. Fusy, O. Gandouet, F. Meunier. "HyperLogLog: the analysis of a
+ *    near-optimal cardinality estimation algorithm". Conference on Analysis of
+ *    Algorithms, 2007, pp. 137–156.
+ * 2. S. Heule, M. Nunkesser, A. Hall. "HyperLogLog in practice: algorithmic engineering
+ *    of a state of the art cardinality estimation algorithm". International Conference
+ *    on Extending Database Technology, 2013, pp. 683–692.
+ * 3. O. Ertl. "New cardinality estimation algorithms for HyperLogLog sketches".
+ *    arXiv:1702.01284, 2017.
+ * </pre>
+ */
+public class HyperLogLog<T> {
+	/**
+	 * Precision of sketches, created without an explicitly specified one.
+	 */
+	public static final int defaultPrecision = 14;
+	static final int minPrecision = 4;
+	static final int maxPrecision = 18;
+
+	private static final int sparsePrecision = 25;
+	private static final byte sparseFormat = 1;
+	private static final byte denseFormat = 2;
+
+	private final int precision;
+
+	// note: sparse entries encode register index at sparse precision in upper
+	// bits and register value in lower 6 bits; sorted entries contain a single
+	// entry with the largest value for each index
+	private int[] sparseEntries;
+	private int sparseEntryCount;
+	private int[] bufferedEntries;
+	private int bufferedEntryCount;
+
+	private byte[] registers;
+
+	/**
+	 * Creates an empty sketch with the default precision.
+	 */
+	public HyperLogLog() {
+		this(defaultPrecision);
+	}
+
+	/**
+	 * Creates an empty sketch with the specified precision.
+	 *
+	 * @throws IllegalArgumentException when the specified precision is not in range
+	 * [4, 18]
+	 */
+	public HyperLogLog(int precision) {
+		if (precision < minPrecision || precision > maxPrecision) {
+			throw new IllegalArgumentException("Cannot create HyperLogLog sketch with precision "
+				+ precision + ": value must be in range [" + minPrecision + ", " + maxPrecision + "].");
+		}
+
+		this.precision = precision;
+		this.sparseEntries = new int[0];
+		this.bufferedEntries = new int[Math.max(16, (1 << precision) >>> 6)];
+	}
+
+	/**
+	 * Returns precision of this sketch.
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Adds the specified item to this sketch. Ignores {@code null} items.
+	 *
+	 * @return itself
+	 */
+	public HyperLogLog<T> add(T item) {
+		if (item != null) {
+			addHash(item.hashCode());
+		}
+
+		return this;
+	}
+
+	private void addHash(int hashCode) {
+		final var hash = mix(hashCode + 0x9e3779b97f4a7c15L);
+		if (registers != null) {
+			final var index = (int) (hash >>> (64 - precision));
+			final var value = getRegisterValue(hash << precision, 64 - precision);
+
+			if (registers[index] < value) {
+				registers[index] = value;
+			}
+		} else {
+			final var index = (int) (hash >>> (64 - sparsePrecision));
+			final var value = getRegisterValue(hash << sparsePrecision, 64 - sparsePrecision);
+
+			if (bufferedEntryCount == bufferedEntries.length) {
+				flushBufferedEntries();
+			}
+
+			// sparse representation may have been converted into dense one
+			// after flushing buffered entries
+			if (registers != null) {
+				addHash(hashCode);
+			} else {
+				bufferedEntries[bufferedEntryCount] = (index << 6) | value;
+				++bufferedEntryCount;
+			}
+		}
+	}
+
+	/**
+	 * Returns value of a register for the specified hash bits, which remain after
+	 * register index bits are shifted out, where the specified bit count is the number
+	 * of these bits.
+	 */
+	private static byte getRegisterValue(long bits, int bitCount) {
+		final var zeroCount = Math.min(Long.numberOfLeadingZeros(bits), bitCount);
+		return (byte) (zeroCount + 1);
+	}
+
+	/**
+	 * Merges the specified sketch into this one. After merging, this sketch estimates
+	 * the number of distinct items added to either of the sketches.
+	 *
+	 * @return itself
+	 * @throws IllegalArgumentException when precision of the specified sketch is not
+	 * equal to precision of this one
+	 */
+	public HyperLogLog<T> merge(HyperLogLog<T> sketch) {
+		if (sketch.precision != precision) {
+			throw new IllegalArgumentException("Cannot merge HyperLogLog sketch with precision "
+				+ sketch.precision + " into sketch with precision " + precision
+				+ ": precisions must be equal.");
+		}
+
+		sketch.flushBufferedEntries();
+		if (sketch.registers != null) {
+			convertToDense();
+			for (var index = 0; index < registers.length; ++index) {
+				if (registers[index] < sketch.registers[index]) {
+					registers[index] = sketch.registers[index];
+				}
+			}
+		} else if (registers != null) {
+			for (var index = 0; index < sketch.sparseEntryCount; ++index) {
+				addDenseEntry(sketch.sparseEntries[index]);
+			}
+		} else {
+			flushBufferedEntries();
+			mergeSparseEntries(sketch.sparseEntries, sketch.sparseEntryCount);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the estimated number of distinct items added to this sketch.
+	 */
+	public long estimate() {
+		flushBufferedEntries();
+		if (registers != null) {
+			final var maxValue = 64 - precision + 1;
+			final var histogram = new int[maxValue + 1];
+
+			for (var value : registers) {
+				++histogram[value];
+			}
+
+			return estimate(histogram, 1 << precision);
+		} else {
+			final var maxValue = 64 - sparsePrecision + 1;
+			final var histogram = new int[maxValue + 1];
+
+			histogram[0] = (1 << sparsePrecision) - sparseEntryCount;
+			for (var index = 0; index < sparseEntryCount; ++index) {
+				++histogram[sparseEntries[index] & 0x3f];
+			}
+
+			return estimate(histogram, 1 << sparsePrecision);
+		}
+	}
+
+	/**
+	 * Returns the estimated number of distinct items from the specified histogram of
+	 * register values of a sketch with the specified number of registers.
+	 *
+	 * <pre>
+	 * Implements the improved raw estimator of Ertl (algorithm 6 of the source).
+	 * </pre>
+	 */
+	private static long estimate(int[] histogram, int registerCount) {
+		final var maxValue = histogram.length - 1;
+		final double count = registerCount;
+
+		var z = count * tau(1.0 - histogram[maxValue] / count);
+		for (var value = maxValue - 1; value > 0; --value) {
+			z = 0.5 * (z + histogram[value]);
+		}
+
+		z += count * sigma(histogram[0] / count);
+		if (Double.isInfinite(z)) {
+			return 0;
+		}
+
+		final var alpha = 0.5 / Math.log(2.0);
+		return Math.round(alpha * count * count / z);
+	}
+
+	private static double sigma(double x) {
+		if (x == 1.0) {
+			return Double.POSITIVE_INFINITY;
+		}
+
+		var y = 1.0;
+		var z = x;
+		var zPrevious = 0.0;
+
+		while (z != zPrevious) {
+			x *= x;
+			zPrevious = z;
+			z += x * y;
+			y += y;
+		}
+
+		return z;
+	}
+
+	private static double tau(double x) {
+		if (x == 0.0 || x == 1.0) {
+			return 0.0;
+		}
+
+		var y = 1.0;
+		var z = 1.0 - x;
+		var zPrevious = 0.0;
+
+		while (z != zPrevious) {
+			x = Math.sqrt(x);
+			zPrevious = z;
+			y *= 0.5;
+			z -= Math.pow(1.0 - x, 2) * y;
+		}
+
+		return z / 3.0;
+	}
+
+	/**
+	 * Sorts buffered sparse entries and merges them into sorted ones. Converts this
+	 * sketch into dense representation, when sparse one grows too large.
+	 */
+	private void flushBufferedEntries() {
+		if (bufferedEntryCount > 0) {
+			final var entryCount = bufferedEntryCount;
+			bufferedEntryCount = 0;
+
+			Arrays.sort(bufferedEntries, 0, entryCount);
+			mergeSparseEntries(bufferedEntries, entryCount);
+		}
+	}
+
+	/**
+	 * Merges the specified sorted sparse entries into sorted ones of this sketch.
+	 */
+	private void mergeSparseEntries(int[] entries, int entryCount) {
+		final var merged = new int[sparseEntryCount + entryCount];
+		var mergedCount = 0;
+		var index1 = 0;
+		var index2 = 0;
+
+		while (index1 < sparseEntryCount || index2 < entryCount) {
+			final int entry;
+			if (index2 == entryCount
+				|| index1 < sparseEntryCount && sparseEntries[index1] < entries[index2]) {
+				entry = sparseEntries[index1];
+				++index1;
+			} else {
+				entry = entries[index2];
+				++index2;
+			}
+
+			// since entries are sorted, an entry with the same index as the
+			// previous one has a larger value and replaces it
+			if (mergedCount > 0 && merged[mergedCount - 1] >>> 6 == entry >>> 6) {
+				merged[mergedCount - 1] = entry;
+			} else {
+				merged[mergedCount] = entry;
+				++mergedCount;
+			}
+		}
+
+		sparseEntries = merged;
+		sparseEntryCount = mergedCount;
+
+		// note: a sparse entry takes 4 bytes and a dense register takes 1 byte
+		if (sparseEntryCount > (1 << precision) / 4) {
+			convertToDense();
+		}
+	}
+
+	private void convertToDense() {
+		if (registers == null) {
+			flushBufferedEntries();
+		}
+		if (registers == null) {
+			registers = new byte[1 << precision];
+			for (var index = 0; index < sparseEntryCount; ++index) {
+				addDenseEntry(sparseEntries[index]);
+			}
+
+			sparseEntries = null;
+			sparseEntryCount = 0;
+			bufferedEntries = null;
+		}
+	}
+
+	/**
+	 * Adds the specified sparse entry to registers of this sketch.
+	 */
+	private void addDenseEntry(int entry) {
+		// index bits at sparse precision, which are beyond this sketch precision,
+		// precede hash bits, which determine entry value
+		final var excessBitCount = sparsePrecision - precision;
+		final var sparseIndex = entry >>> 6;
+		final var excessBits = sparseIndex & ((1 << excessBitCount) - 1);
+
+		final var index = sparseIndex >>> excessBitCount;
+		final var value = excessBits != 0
+			? (byte) (Integer.numberOfLeadingZeros(excessBits) - (32 - excessBitCount) + 1)
+			: (byte) (excessBitCount + (entry & 0x3f));
+
+		if (registers[index] < value) {
+			registers[index] = value;
+		}
+	}
+
+	/**
+	 * Returns this sketch in a compact byte form.
+	 *
+	 * @see #fromBytes(byte[])
+	 */
+	public byte[] toBytes() {
+		flushBufferedEntries();
+
+		final var stream = new ByteArrayOutputStream();
+		if (registers != null) {
+			stream.write(denseFormat);
+			stream.write(precision);
+
+			// register values never exceed 6 bits; pack them tightly
+			var bits = 0L;
+			var bitCount = 0;
+
+			for (var value : registers) {
+				bits = (bits << 6) | value;
+				bitCount += 6;
+
+				while (bitCount >= 8) {
+					bitCount -= 8;
+					stream.write((int) (bits >>> bitCount));
+				}
+			}
+			if (bitCount > 0) {
+				stream.write((int) (bits << (8 - bitCount)));
+			}
+		} else {
+			stream.write(sparseFormat);
+			stream.write(precision);
+			writeVariableInt(stream, sparseEntryCount);
+
+			// entries are sorted; store differences between adjacent ones
+			var previousEntry = 0;
+			for (var index = 0; index < sparseEntryCount; ++index) {
+				writeVariableInt(stream, sparseEntries[index] - previousEntry);
+				previousEntry = sparseEntries[index];
+			}
+		}
+
+		return stream.toByteArray();
+	}
+
+	/**
+	 * Returns a sketch from the specified compact byte form.
+	 *
+	 * @throws IllegalArgumentException when the specified bytes are not a valid compact
+	 * byte form of a sketch
+	 * @see #toBytes()
+	 */
+	public static <T> HyperLogLog<T> fromBytes(byte[] bytes) {
+		if (bytes.length < 2) {
+			throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+				+ "byte form is truncated.");
+		}
+
+		final var format = bytes[0];
+		final var precision = bytes[1];
+		if (precision < minPrecision || precision > maxPrecision) {
+			throw new IllegalArgumentException("Cannot read HyperLogLog sketch: precision "
+				+ precision + " must be in range [" + minPrecision + ", " + maxPrecision + "].");
+		}
+
+		final var sketch = new HyperLogLog<T>(precision);
+		if (format == denseFormat) {
+			final var registerCount = 1 << precision;
+			if (bytes.length != 2 + (registerCount * 6 + 7) / 8) {
+				throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+					+ "byte form length does not match precision " + precision + ".");
+			}
+
+			sketch.convertToDense();
+			var bits = 0L;
+			var bitCount = 0;
+			var offset = 2;
+
+			for (var index = 0; index < registerCount; ++index) {
+				if (bitCount < 6) {
+					bits = (bits << 8) | (bytes[offset] & 0xff);
+					bitCount += 8;
+					++offset;
+				}
+
+				bitCount -= 6;
+				final var value = (byte) ((bits >>> bitCount) & 0x3f);
+				if (value > 64 - precision + 1) {
+					throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+						+ "register value " + value + " is out of range.");
+				}
+
+				sketch.registers[index] = value;
+			}
+		} else if (format == sparseFormat) {
+			final var offset = new int[]{2};
+			final var entryCount = readVariableInt(bytes, offset);
+			if (entryCount > (1 << precision) / 4) {
+				throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+					+ "sparse entry count " + entryCount + " is out of range.");
+			}
+
+			final var entries = new int[entryCount];
+			var entry = 0;
+
+			for (var index = 0; index < entryCount; ++index) {
+				final var previousEntry = entry;
+				entry += readVariableInt(bytes, offset);
+
+				// entries must have increasing indices and valid values
+				final var value = entry & 0x3f;
+				if (entry < 0 || index > 0 && entry >>> 6 <= previousEntry >>> 6
+					|| value == 0 || value > 64 - sparsePrecision + 1) {
+					throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+						+ "sparse entry " + index + " is malformed.");
+				}
+
+				entries[index] = entry;
+			}
+			if (offset[0] != bytes.length) {
+				throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+					+ "byte form has trailing bytes.");
+			}
+
+			sketch.sparseEntries = entries;
+			sketch.sparseEntryCount = entryCount;
+		} else {
+			throw new IllegalArgumentException("Cannot read HyperLogLog sketch: format "
+				+ format + " is not supported.");
+		}
+
+		return sketch;
+	}
+
+	private static void writeVariableInt(ByteArrayOutputStream stream, int value) {
+		while ((value & ~0x7f) != 0) {
+			stream.write((value & 0x7f) | 0x80);
+			value >>>= 7;
+		}
+
+		stream.write(value);
+	}
+
+	/**
+	 * Reads a variable length int from the specified bytes at the offset, stored as the
+	 * first item of the specified array, and advances the offset past it.
+	 */
+	private static int readVariableInt(byte[] bytes, int[] offset) {
+		var value = 0;
+		for (var shift = 0; shift < 35; shift += 7) {
+			if (offset[0] >= bytes.length) {
+				throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+					+ "byte form is truncated.");
+			}
+
+			final var b = bytes[offset[0]];
+			++offset[0];
+
+			value |= (b & 0x7f) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+
+		throw new IllegalArgumentException("Cannot read HyperLogLog sketch: "
+			+ "variable length value is malformed.");
+	}
+
+	/**
+	 * <pre>
+	 * Implements finalization mix of MurmurHash3.
+	 *
+	 * Sources:
+	 * 1. A. Appleby. "MurmurHash3". 2011.
+	 * </pre>
+	 */
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "HyperLogLog(precision: " + precision
+			+ ", estimate: " + estimate() + ")";
+	}
+}
@@ -0,0 +1,423 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable {@link List} of distinct indexes in ascending order, which keeps them
+ * unboxed.
+ * <p>
+ * Index lists are returned when finding all occurrences of items in sequences. Sparse
+ * indexes are kept in an {@code int} array. Dense indexes, which take more than 3 in
+ * 64 positions of their range, are kept in a bitmap of the range instead, which takes
+ * 1.5 bits per position, counting ranks of its words. Either way, an index is boxed only
+ * when it is read as an {@link Integer}; use {@link #toIntList()} to read indexes
+ * without boxing.
+ */
+public class IndexList extends List<Integer> {
+	static final IndexList empty = new IndexList(new int[0]);
+
+	private final int count;
+	private final int[] indexes;
+	private final int offset;
+	private final long[] words;
+	private final int[] ranks;
+
+	/**
+	 * Creates a new index list with the specified indexes, which must be distinct and
+	 * in ascending order.
+	 */
+	private IndexList(int[] indexes) {
+		super(new ContiguousArrayStore(0));
+
+		this.count = indexes.length;
+		this.indexes = indexes;
+		this.offset = 0;
+		this.words = null;
+		this.ranks = null;
+	}
+
+	/**
+	 * Creates a new index list with indexes, which are set bits of the specified words
+	 * offset by the specified offset.
+	 */
+	private IndexList(int offset, long[] words, int count) {
+		super(new ContiguousArrayStore(0));
+
+		this.count = count;
+		this.indexes = null;
+		this.offset = offset;
+		this.words = words;
+		this.ranks = new int[words.length];
+
+		for (var index = 1; index < words.length; ++index) {
+			ranks[index] = ranks[index - 1] + Long.bitCount(words[index - 1]);
+		}
+	}
+
+	@Override
+	public int getCount() {
+		return count;
+	}
+
+	@Override
+	Object getItem(int index) {
+		return indexes == null
+			? select(index)
+			: indexes[index];
+	}
+
+	/**
+	 * Returns index at the specified position in the bitmap of this list.
+	 */
+	private int select(int position) {
+		// note: the word with the position is the last one, whose rank does not
+		// exceed the position
+		var low = 0;
+		var high = words.length - 1;
+
+		while (low < high) {
+			final var middle = (low + high + 1) >>> 1;
+			if (ranks[middle] <= position) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+
+		var word = words[low];
+		for (var skip = position - ranks[low]; skip > 0; --skip) {
+			word &= word - 1;
+		}
+
+		return offset + (low << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	@Override
+	List<Integer> view(int start, int end) {
+		final var builder = new Builder();
+		final var iterator = iterator(start);
+
+		for (var index = start; index < end; ++index) {
+			builder.add(iterator.nextInt());
+		}
+
+		return builder.build();
+	}
+
+	@Override
+	public boolean contains(Integer item) {
+		return findFirst(item)
+			.isPresent();
+	}
+
+	@Override
+	public Optional<Integer> matchFirst(Predicate<Integer> condition) {
+		final var iterator = iterator();
+		while (iterator.hasNext()) {
+			final var index = iterator.nextInt();
+			if (condition.test(index)) {
+				return Optional.of(index);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	@Override
+	public Optional<Integer> findFirst(Integer item) {
+		if (item == null) {
+			return Optional.empty();
+		}
+		if (indexes != null) {
+			final var position = Arrays.binarySearch(indexes, item);
+			return position < 0
+				? Optional.empty()
+				: Optional.of(position);
+		}
+
+		final var bit = (long) item - offset;
+		if (bit < 0 || bit >= (long) words.length << 6) {
+			return Optional.empty();
+		}
+
+		final var word = words[(int) (bit >>> 6)];
+		final var mask = 1L << bit;
+		if ((word & mask) == 0) {
+			return Optional.empty();
+		}
+
+		final var position = ranks[(int) (bit >>> 6)] + Long.bitCount(word & (mask - 1));
+		return Optional.of(position);
+	}
+
+	@Override
+	public Optional<Integer> findFirst(Predicate<Integer> condition) {
+		final var iterator = iterator();
+		for (var position = 0; iterator.hasNext(); ++position) {
+			if (condition.test(iterator.nextInt())) {
+				return Optional.of(position);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	@Override
+	public IndexList findAll(Integer item) {
+		return findFirst(item)
+			.map((position) -> new IndexList(new int[]{position}))
+			.orElse(empty);
+	}
+
+	@Override
+	public Optional<Integer> findFirst(Sequence<Integer> items) {
+		final var search = new SubsequenceSearch(items);
+		final var index = search.findFirst(iterator());
+
+		return index < 0
+			? Optional.empty()
+			: Optional.of(index);
+	}
+
+	@Override
+	public IndexList findAll(Sequence<Integer> items) {
+		final var search = new SubsequenceSearch(items);
+		return search.findAll(iterator());
+	}
+
+	@Override
+	public List<Integer> reverse() {
+		final var items = toArray();
+		for (var index = 0; index < count / 2; ++index) {
+			final var item = items[index];
+			items[index] = items[count - 1 - index];
+			items[count - 1 - index] = item;
+		}
+
+		return new List<>(
+			new ContiguousArrayStore(items, count));
+	}
+
+	@Override
+	public IndexList enumerate(BiConsumer<Integer, Integer> operation) {
+		final var iterator = iterator();
+		for (var position = 0; iterator.hasNext(); ++position) {
+			operation.accept(position, iterator.nextInt());
+		}
+
+		return this;
+	}
+
+	@Override
+	ContiguousArrayStore getStore() {
+		final var items = toArray();
+		return new ContiguousArrayStore(items, count);
+	}
+
+	@Override
+	public java.util.List<Integer> bridge() {
+		final var items = toArray(Integer[].class);
+		return Arrays.asList(items);
+	}
+
+	/**
+	 * Returns indexes of this list as an {@link IntList}.
+	 */
+	public IntList toIntList() {
+		final var items = toIntArray();
+		return new IntList(
+			new IntArrayStore(items, items.length));
+	}
+
+	/**
+	 * Returns indexes of this list in an {@code int} array.
+	 */
+	public int[] toIntArray() {
+		if (indexes != null) {
+			return indexes.clone();
+		}
+
+		final var items = new int[count];
+		final var iterator = iterator();
+
+		for (var index = 0; index < count; ++index) {
+			items[index] = iterator.nextInt();
+		}
+
+		return items;
+	}
+
+	@Override
+	public Object[] toArray() {
+		final var items = new Object[count];
+		final var iterator = iterator();
+
+		for (var index = 0; index < count; ++index) {
+			items[index] = iterator.nextInt();
+		}
+
+		return items;
+	}
+
+	@Override
+	public Integer[] toArray(Class<? extends Integer[]> klass) {
+		final var items = toArray();
+		return Arrays.copyOf(items, count, klass);
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator(int start) {
+		if (indexes != null) {
+			return new PrimitiveIterator.OfInt() {
+				private int position = start;
+
+				@Override
+				public boolean hasNext() {
+					return position < count;
+				}
+
+				@Override
+				public int nextInt() {
+					if (position >= count) {
+						throw new NoSuchElementException();
+					}
+
+					return indexes[position++];
+				}
+			};
+		}
+
+		return new PrimitiveIterator.OfInt() {
+			private int remaining = count - start;
+			private int wordIndex;
+			private long word;
+
+			{
+				if (remaining > 0) {
+					final var bit = select(start) - offset;
+					wordIndex = bit >>> 6;
+					word = words[wordIndex] & (-1L << bit);
+				}
+			}
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public int nextInt() {
+				if (remaining <= 0) {
+					throw new NoSuchElementException();
+				}
+
+				while (word == 0) {
+					word = words[++wordIndex];
+				}
+
+				final var bit = Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				--remaining;
+
+				return offset + (wordIndex << 6) + bit;
+			}
+		};
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return iterator(0);
+	}
+
+	@Override
+	public int hashCode() {
+		final var iterator = iterator();
+		var hashCode = 1;
+
+		while (iterator.hasNext()) {
+			hashCode = 31 * hashCode + iterator.nextInt();
+		}
+
+		return hashCode;
+	}
+
+	/**
+	 * A builder of an {@link IndexList}, which takes indexes in ascending order.
+	 * <p>
+	 * Sets indexes in a bitmap, which starts at the first index, and chooses an array
+	 * or the bitmap for the built list, depending on how dense the indexes are.
+	 */
+	static class Builder {
+		private int offset;
+		private long[] words;
+		private int count;
+
+		/**
+		 * Creates a new builder of a list of indexes, which are likely within the
+		 * specified number of positions.
+		 */
+		Builder(int capacity) {
+			this.words = new long[(capacity + 63) >>> 6];
+		}
+
+		Builder() {
+			this(64);
+		}
+
+		/**
+		 * Adds the specified index, which must be greater than all indexes added before.
+		 */
+		void add(int index) {
+			if (count == 0) {
+				offset = index;
+			}
+
+			final var bit = index - offset;
+			final var wordIndex = bit >>> 6;
+			if (wordIndex >= words.length) {
+				final var length = Math.max(wordIndex + 1, 2 * words.length);
+				words = Arrays.copyOf(words, length);
+			}
+
+			words[wordIndex] |= 1L << bit;
+			++count;
+		}
+
+		IndexList build() {
+			if (count == 0) {
+				return empty;
+			}
+
+			var wordCount = words.length;
+			while (words[wordCount - 1] == 0) {
+				--wordCount;
+			}
+
+			// note: an array takes 32 bits per index, while a bitmap takes 64 bits
+			// per word, and 32 bits more for its rank
+			if (count > 3L * wordCount) {
+				return new IndexList(offset,
+					Arrays.copyOf(words, wordCount), count);
+			}
+
+			final var indexes = new int[count];
+			var position = 0;
+
+			for (var wordIndex = 0; wordIndex < wordCount; ++wordIndex) {
+				for (var word = words[wordIndex]; word != 0; word &= word - 1) {
+					final var bit = Long.numberOfTrailingZeros(word);
+					indexes[position] = offset + (wordIndex << 6) + bit;
+					++position;
+				}
+			}
+
+			return new IndexList(indexes);
+		}
+	}
+}
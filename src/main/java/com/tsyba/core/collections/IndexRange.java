@@ -9,7 +9,7 @@ import java.util.function.Predicate;
 /**
  * A semi-open, contiguous range of indexes in a {@link Sequence}.
  */
-public class IndexRange implements Sequence<Integer> {
+public class IndexRange implements Sequence<Integer>, RandomAccess {
 	/**
 	 * Start index of this range.
 	 */
@@ -131,16 +131,15 @@ public class IndexRange implements Sequence<Integer> {
 	}
 
 	@Override
-	public Sequence<Integer> matchAll(Predicate<Integer> condition) {
-		final var store = new ContiguousArrayStore(end - start);
-		for (var index : this) {
+	public IndexList matchAll(Predicate<Integer> condition) {
+		final var matches = new IndexList.Builder(end - start);
+		for (var index = start; index < end; ++index) {
 			if (condition.test(index)) {
-				store.append(index);
+				matches.add(index);
 			}
 		}
 
-		store.removeExcessCapacity();
-		return new List<>(store);
+		return matches.build();
 	}
 
 	@Override
@@ -151,45 +150,44 @@ public class IndexRange implements Sequence<Integer> {
 	}
 
 	@Override
-	public Sequence<Integer> findAll(Integer item) {
-		return contains(item)
-			? new List<>(item - start)
-			: new List<>();
+	public IndexList findAll(Integer item) {
+		final var indexes = new IndexList.Builder(1);
+		if (contains(item)) {
+			indexes.add(item - start);
+		}
+
+		return indexes.build();
 	}
 
 	@Override
-	public Sequence<Integer> findAll(Sequence<Integer> items) {
-		final var indexes = new MutableList<Integer>();
-		final var range = getIndexRange();
-
-		for (var index : range) {
-			if (contains(items, index)) {
-				indexes.append(index);
+	public IndexList findAll(Sequence<Integer> items) {
+		final var count = items.getCount();
+		if (count == 0) {
+			final var indexes = new IndexList.Builder(end - start);
+			for (var index = 0; index < end - start; ++index) {
+				indexes.add(index);
 			}
-		}
-
-		return indexes.toImmutable();
-	}
 
-	/**
-	 * Returns {@code true} when the specified {@link Sequence} occurs at the specified
-	 * index in this list; returns {@code false} otherwise.
-	 */
-	private boolean contains(Sequence<Integer> items, int index) {
-		final var iterator1 = iterator(index);
-		final var iterator2 = items.iterator();
+			return indexes.build();
+		}
 
-		while (iterator1.hasNext() && iterator2.hasNext()) {
-			final var item1 = iterator1.next();
-			final var item2 = iterator2.next();
+		// note: items of this range are consecutive, so the specified items occur
+		// in it at most once, only when they are consecutive as well
+		final var first = items.get(0);
+		if (!contains(first) || count > end - first) {
+			return IndexList.empty;
+		}
 
-			if (!item1.equals(item2)) {
-				return false;
+		int next = first;
+		for (var item : items) {
+			if (item != next) {
+				return IndexList.empty;
 			}
+
+			++next;
 		}
 
-		// verify all items in the argument sequence have been compared
-		return !iterator2.hasNext();
+		return findAll(first);
 	}
 
 	@Override
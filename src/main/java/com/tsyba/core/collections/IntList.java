@@ -0,0 +1,342 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable list of {@code int} values, which keeps them unboxed in a contiguous
+ * array.
+ * <p>
+ * Unlike a {@link List} of {@link Integer}s, which references a separate object for each
+ * value, takes memory for the values only, and reads them without following
+ * references. Use {@link #toList()} and {@link #IntList(Collection)} to convert between
+ * the two.
+ */
+public class IntList {
+	IntArrayStore store;
+
+	IntList(IntArrayStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Creates a list with the specified values.
+	 */
+	public IntList(int... values) {
+		this(new IntArrayStore(
+			Arrays.copyOf(values, values.length), values.length));
+	}
+
+	/**
+	 * Creates a list with values of the specified {@link Collection}.
+	 */
+	public IntList(Collection<Integer> items) {
+		this(new IntArrayStore(items.getCount()));
+		for (var item : items) {
+			store.append(item);
+		}
+	}
+
+	/**
+	 * Returns the number of values in this list.
+	 */
+	public int getCount() {
+		return store.itemCount;
+	}
+
+	/**
+	 * Returns {@code true} when this list is empty; returns {@code false} otherwise.
+	 */
+	public boolean isEmpty() {
+		return store.itemCount == 0;
+	}
+
+	/**
+	 * Returns valid index range of this list.
+	 */
+	public IndexRange getIndexRange() {
+		return new IndexRange(0, store.itemCount);
+	}
+
+	/**
+	 * Returns the first value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt getFirst() {
+		return store.itemCount == 0
+			? OptionalInt.empty()
+			: OptionalInt.of(store.items[0]);
+	}
+
+	/**
+	 * Returns the last value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt getLast() {
+		return store.itemCount == 0
+			? OptionalInt.empty()
+			: OptionalInt.of(store.items[store.itemCount - 1]);
+	}
+
+	/**
+	 * Returns value at the specified index in this list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public int get(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		return store.items[index];
+	}
+
+	/**
+	 * Returns values from the first up to, but excluding, the one at the specified
+	 * index in this list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public IntList getPrefix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var prefix = store.get(index, 0, index);
+		return new IntList(prefix);
+	}
+
+	/**
+	 * Returns values from the one at the specified index up to the last one in this
+	 * list.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public IntList getSuffix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var capacity = store.itemCount - index;
+		final var suffix = store.get(capacity, index, store.itemCount);
+		return new IntList(suffix);
+	}
+
+	/**
+	 * Returns values within the specified index range in this list.
+	 *
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public IntList get(IndexRange indexRange) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		final var count = indexRange.getCount();
+		final var sub = store.get(count, indexRange.start, indexRange.end);
+		return new IntList(sub);
+	}
+
+	/**
+	 * Returns the smallest value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt getMin() {
+		if (store.itemCount == 0) {
+			return OptionalInt.empty();
+		}
+
+		var min = store.items[0];
+		for (var index = 1; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (Integer.compare(item, min) < 0) {
+				min = item;
+			}
+		}
+
+		return OptionalInt.of(min);
+	}
+
+	/**
+	 * Returns the largest value in this list.
+	 * <p>
+	 * When this list is empty, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt getMax() {
+		if (store.itemCount == 0) {
+			return OptionalInt.empty();
+		}
+
+		var max = store.items[0];
+		for (var index = 1; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (Integer.compare(item, max) > 0) {
+				max = item;
+			}
+		}
+
+		return OptionalInt.of(max);
+	}
+
+	/**
+	 * Returns {@code true} when this list contains the specified value; returns
+	 * {@code false} otherwise.
+	 */
+	public boolean contains(int value) {
+		return findFirst(value)
+			.isPresent();
+	}
+
+	/**
+	 * Returns all values of this list, which satisfy the specified
+	 * {@link IntPredicate}.
+	 */
+	public IntList matchAll(IntPredicate condition) {
+		final var matches = new IntArrayStore(0);
+		for (var index = 0; index < store.itemCount; ++index) {
+			final var item = store.items[index];
+			if (condition.test(item)) {
+				matches.append(item);
+			}
+		}
+
+		matches.removeExcessCapacity();
+		return new IntList(matches);
+	}
+
+	/**
+	 * Returns index of the first occurrence of the specified value in this list. When
+	 * the value does not occur in this list, returns an empty {@link OptionalInt}.
+	 */
+	public OptionalInt findFirst(int value) {
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (Integer.compare(store.items[index], value) == 0) {
+				return OptionalInt.of(index);
+			}
+		}
+
+		return OptionalInt.empty();
+	}
+
+	/**
+	 * Returns index of the first value, which satisfies the specified
+	 * {@link IntPredicate} in this list. When no value satisfies it, returns an empty
+	 * {@link OptionalInt}.
+	 */
+	public OptionalInt findFirst(IntPredicate condition) {
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (condition.test(store.items[index])) {
+				return OptionalInt.of(index);
+			}
+		}
+
+		return OptionalInt.empty();
+	}
+
+	/**
+	 * Returns values of this list in ascending order.
+	 */
+	public IntList sort() {
+		final var items = toArray();
+		Arrays.sort(items);
+
+		return new IntList(
+			new IntArrayStore(items, items.length));
+	}
+
+	/**
+	 * Returns values of this list as a {@link List} of {@link Integer}s.
+	 */
+	public List<Integer> toList() {
+		final var items = new Object[store.itemCount];
+		for (var index = 0; index < store.itemCount; ++index) {
+			items[index] = store.items[index];
+		}
+
+		return new List<>(
+			new ContiguousArrayStore(items, items.length));
+	}
+
+	/**
+	 * Returns values of this list in an array.
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(store.items, store.itemCount);
+	}
+
+	/**
+	 * Returns an iterator over values of this list, which does not box them.
+	 */
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return index < store.itemCount;
+			}
+
+			@Override
+			public int nextInt() {
+				if (index >= store.itemCount) {
+					throw new NoSuchElementException();
+				}
+
+				return store.items[index++];
+			}
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 1;
+		for (var index = 0; index < store.itemCount; ++index) {
+			hashCode = 31 * hashCode + Integer.hashCode(store.items[index]);
+		}
+
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof IntList)) {
+			return false;
+		}
+
+		final var list = (IntList) object;
+		return Arrays.equals(store.items, 0, store.itemCount,
+			list.store.items, 0, list.store.itemCount);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder("[");
+		for (var index = 0; index < store.itemCount; ++index) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+
+			builder.append(store.items[index]);
+		}
+
+		return builder.append("]")
+			.toString();
+	}
+}
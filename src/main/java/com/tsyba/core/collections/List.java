@@ -2,15 +2,22 @@ package com.tsyba.core.collections;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * An immutable {@link Sequence}, which provides efficient, random-access to its items.
+ * <p>
+ * Prefixes, suffixes, sub-lists and reversed lists share items with the list they are
+ * taken from, rather than copy them. Use {@link #compact()} to copy items of such list,
+ * when the list it was taken from is no longer needed.
  */
-public class List<T> implements Sequence<T> {
+public class List<T> implements Sequence<T>, RandomAccess {
 	ContiguousArrayStore store;
 
 	List(ContiguousArrayStore store) {
@@ -56,10 +63,17 @@ public class List<T> implements Sequence<T> {
 		}
 
 		@SuppressWarnings("unchecked")
-		final var item = (T) store.items[index];
+		final var item = (T) getItem(index);
 		return item;
 	}
 
+	/**
+	 * Returns item at the specified index in this list, without checking the index.
+	 */
+	Object getItem(int index) {
+		return store.items[index];
+	}
+
 	@Override
 	public List<T> getPrefix(int index) {
 		final var validRange = getIndexRange();
@@ -67,8 +81,7 @@ public class List<T> implements Sequence<T> {
 			throw new IndexNotInRangeException(index, validRange);
 		}
 
-		final var prefix = store.get(index, 0, index);
-		return new List<>(prefix);
+		return view(0, index);
 	}
 
 	@Override
@@ -78,9 +91,7 @@ public class List<T> implements Sequence<T> {
 			throw new IndexNotInRangeException(index, validRange);
 		}
 
-		final var capacity = store.itemCount - index;
-		final var suffix = store.get(capacity, index, store.itemCount);
-		return new List<>(suffix);
+		return view(index, getCount());
 	}
 
 	@Override
@@ -90,9 +101,15 @@ public class List<T> implements Sequence<T> {
 			throw new IndexRangeNotInRangeException(indexRange, validRange);
 		}
 
-		final var count = indexRange.getCount();
-		final var sub = store.get(count, indexRange.start, indexRange.end);
-		return new List<>(sub);
+		return view(indexRange.start, indexRange.end);
+	}
+
+	/**
+	 * Returns a list, which shares items of this list between the specified start and
+	 * end indexes.
+	 */
+	List<T> view(int start, int end) {
+		return new ListView<>(store, start, end - start, false);
 	}
 
 	@Override
@@ -108,50 +125,33 @@ public class List<T> implements Sequence<T> {
 	}
 
 	@Override
-	public List<Integer> findAll(T item) {
-		final var indexes = new MutableList<Integer>();
-		enumerate((index, item2) -> {
-			if (item2.equals(item)) {
-				indexes.append(index);
-			}
-		});
+	public IndexList findAll(T item) {
+		final var count = getCount();
+		final var indexes = new IndexList.Builder(count);
 
-		return indexes.toImmutable();
-	}
-
-	@Override
-	public Sequence<Integer> findAll(Sequence<T> items) {
-		final var indexes = new MutableList<Integer>();
-		final var range = getIndexRange();
-
-		for (var index : range) {
-			if (contains(items, index)) {
-				indexes.append(index);
+		for (var index = 0; index < count; ++index) {
+			if (getItem(index).equals(item)) {
+				indexes.add(index);
 			}
 		}
 
-		return indexes.toImmutable();
+		return indexes.build();
 	}
 
-	/**
-	 * Returns {@code true} when the specified {@link Sequence} occurs at the specified
-	 * index in this list; returns {@code false} otherwise.
-	 */
-	private boolean contains(Sequence<T> items, int index) {
-		final var iterator1 = iterator(index);
-		final var iterator2 = items.iterator();
-
-		while (iterator1.hasNext() && iterator2.hasNext()) {
-			final var item1 = iterator1.next();
-			final var item2 = iterator2.next();
+	@Override
+	public Optional<Integer> findFirst(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		final var index = search.findAfter(store.items, 0, store.itemCount);
 
-			if (!item1.equals(item2)) {
-				return false;
-			}
-		}
+		return index < 0
+			? Optional.empty()
+			: Optional.of(index);
+	}
 
-		// verify all items in the argument sequence have been compared
-		return !iterator2.hasNext();
+	@Override
+	public IndexList findAll(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		return search.findAll(store.items, 0, store.itemCount);
 	}
 
 	@Override
@@ -162,8 +162,73 @@ public class List<T> implements Sequence<T> {
 
 	@Override
 	public List<T> reverse() {
-		final var reversed = store.reverse();
-		return new List<>(reversed);
+		return new ListView<>(store, 0, store.itemCount, true);
+	}
+
+	/**
+	 * Returns items of this list, ordered by {@code int} keys, which the specified
+	 * {@link ToIntFunction} extracts from them.
+	 * <p>
+	 * Extracts each key once, and sorts keys with a stable radix sort, without calling
+	 * any {@link java.util.Comparator}. Items with equal keys keep their relative order.
+	 */
+	public List<T> sortByInt(ToIntFunction<T> key) {
+		final var order = orderByInt(key);
+		return new List<>(permute(order));
+	}
+
+	/**
+	 * Returns indexes of items of this list in ascending order of {@code int} keys, which
+	 * the specified {@link ToIntFunction} extracts from them.
+	 */
+	int[] orderByInt(ToIntFunction<T> key) {
+		final var keys = new int[getCount()];
+		for (var index = 0; index < keys.length; ++index) {
+			@SuppressWarnings("unchecked")
+			final var item = (T) getItem(index);
+			keys[index] = key.applyAsInt(item);
+		}
+
+		return RadixSort.sort(keys);
+	}
+
+	/**
+	 * Returns items of this list, ordered by {@code long} keys, which the specified
+	 * {@link ToLongFunction} extracts from them.
+	 * <p>
+	 * Extracts each key once, and sorts keys with a stable radix sort, without calling
+	 * any {@link java.util.Comparator}. Items with equal keys keep their relative order.
+	 */
+	public List<T> sortByLong(ToLongFunction<T> key) {
+		final var order = orderByLong(key);
+		return new List<>(permute(order));
+	}
+
+	/**
+	 * Returns indexes of items of this list in ascending order of {@code long} keys, which
+	 * the specified {@link ToLongFunction} extracts from them.
+	 */
+	int[] orderByLong(ToLongFunction<T> key) {
+		final var keys = new long[getCount()];
+		for (var index = 0; index < keys.length; ++index) {
+			@SuppressWarnings("unchecked")
+			final var item = (T) getItem(index);
+			keys[index] = key.applyAsLong(item);
+		}
+
+		return RadixSort.sort(keys);
+	}
+
+	/**
+	 * Returns a store with items of this list at the specified indexes, in their order.
+	 */
+	ContiguousArrayStore permute(int[] indexes) {
+		final var items = new Object[indexes.length];
+		for (var index = 0; index < indexes.length; ++index) {
+			items[index] = getItem(indexes[index]);
+		}
+
+		return new ContiguousArrayStore(items, items.length);
 	}
 
 	@Override
@@ -187,6 +252,24 @@ public class List<T> implements Sequence<T> {
 		return converted.toImmutable();
 	}
 
+	/**
+	 * Returns a list with the same items as this list, which does not share them with
+	 * any other list.
+	 * <p>
+	 * When this list was taken as a prefix, a suffix, a sub-list or a reverse of another
+	 * list, returns a copy of its items; otherwise, returns itself.
+	 */
+	public List<T> compact() {
+		return this;
+	}
+
+	/**
+	 * Returns a store with items of this list, starting at index 0.
+	 */
+	ContiguousArrayStore getStore() {
+		return store;
+	}
+
 	/**
 	 * Returns items of this list as a {@link java.util.List}.
 	 */
@@ -210,7 +293,7 @@ public class List<T> implements Sequence<T> {
 	public Iterator<T> iterator(int start) {
 		@SuppressWarnings("unchecked")
 		final var items = (T[]) store.items;
-		return new ArrayIterator<>(items, start);
+		return new ArrayIterator<>(items, start, store.itemCount);
 	}
 
 	@Override
@@ -232,9 +315,19 @@ public class List<T> implements Sequence<T> {
 			return false;
 		}
 
-		@SuppressWarnings("unchecked")
-		final var items = (List<T>) object;
-		return store.equals(items.store);
+		final var list = (List<?>) object;
+		final var count = getCount();
+		if (count != list.getCount()) {
+			return false;
+		}
+
+		for (var index = 0; index < count; ++index) {
+			if (!getItem(index).equals(list.getItem(index))) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	@Override
@@ -0,0 +1,150 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * An immutable {@link List}, which shares a contiguous part of items of another list,
+ * in their order or in reverse.
+ * <p>
+ * Views are returned when slicing and reversing lists, so that these operations do not
+ * copy any items. A view keeps all items of its original list from being garbage
+ * collected; {@link #compact()} copies items of the view into a list of their own.
+ */
+class ListView<T> extends List<T> {
+	private final int offset;
+	private final int itemCount;
+	private final boolean reversed;
+
+	/**
+	 * Creates a new view of the specified number of items of the specified store,
+	 * starting at the specified offset.
+	 */
+	ListView(ContiguousArrayStore store, int offset, int itemCount, boolean reversed) {
+		super(store);
+
+		this.offset = offset;
+		this.itemCount = itemCount;
+		this.reversed = reversed;
+	}
+
+	@Override
+	public int getCount() {
+		return itemCount;
+	}
+
+	@Override
+	Object getItem(int index) {
+		return reversed
+			? store.items[offset + itemCount - 1 - index]
+			: store.items[offset + index];
+	}
+
+	@Override
+	List<T> view(int start, int end) {
+		return reversed
+			? new ListView<>(store, offset + itemCount - end, end - start, true)
+			: new ListView<>(store, offset + start, end - start, false);
+	}
+
+	@Override
+	public Optional<Integer> findFirst(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		final var index = reversed
+			? search.findFirst(iterator())
+			: search.findAfter(store.items, offset, offset + itemCount) - offset;
+
+		return index < 0
+			? Optional.empty()
+			: Optional.of(index);
+	}
+
+	@Override
+	public IndexList findAll(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		return reversed
+			? search.findAll(iterator())
+			: search.findAll(store.items, offset, offset + itemCount);
+	}
+
+	@Override
+	public List<T> reverse() {
+		return new ListView<>(store, offset, itemCount, !reversed);
+	}
+
+	@Override
+	public List<T> compact() {
+		return new List<>(getStore());
+	}
+
+	@Override
+	ContiguousArrayStore getStore() {
+		final var items = toArray();
+		return new ContiguousArrayStore(items, items.length);
+	}
+
+	@Override
+	public java.util.List<T> bridge() {
+		@SuppressWarnings("unchecked")
+		final var items = (T[]) toArray();
+		return Arrays.asList(items);
+	}
+
+	@Override
+	public Object[] toArray() {
+		if (!reversed) {
+			return Arrays.copyOfRange(store.items, offset, offset + itemCount);
+		}
+
+		final var items = new Object[itemCount];
+		for (var index = 0; index < itemCount; ++index) {
+			items[index] = getItem(index);
+		}
+
+		return items;
+	}
+
+	@Override
+	public T[] toArray(Class<? extends T[]> klass) {
+		final var items = toArray();
+		return Arrays.copyOf(items, itemCount, klass);
+	}
+
+	@Override
+	public Iterator<T> iterator(int start) {
+		if (!reversed) {
+			@SuppressWarnings("unchecked")
+			final var items = (T[]) store.items;
+			return new ArrayIterator<>(items, offset + start, offset + itemCount);
+		}
+
+		return new Iterator<>() {
+			private int index = start;
+
+			@Override
+			public boolean hasNext() {
+				return index < itemCount;
+			}
+
+			@Override
+			public T next() {
+				@SuppressWarnings("unchecked")
+				final var item = (T) getItem(index);
+				++index;
+
+				return item;
+			}
+		};
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 1;
+		for (var index = 0; index < itemCount; ++index) {
+			hashCode = 31 * hashCode + getItem(index).hashCode();
+		}
+
+		return hashCode;
+	}
+}
@@ -0,0 +1,170 @@
+package com.tsyba.core.collections;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * A contiguous array store of {@code long} values, which keeps them unboxed.
+ * <p>
+ * Mirrors {@link ContiguousArrayStore}, except that removed values are not cleared,
+ * since they do not reference any objects.
+ */
+class LongArrayStore {
+	static final long[] emptyItems = new long[0];
+
+	long[] items;
+	int itemCount;
+
+	/**
+	 * Creates a new array store with the specified capacity.
+	 *
+	 * @throws NegativeArraySizeException when the specified store capacity is negative
+	 */
+	LongArrayStore(int capacity) {
+		this.items = capacity == 0
+			? emptyItems
+			: new long[capacity];
+		this.itemCount = 0;
+	}
+
+	LongArrayStore(long[] items, int itemCount) {
+		this.items = items;
+		this.itemCount = itemCount;
+	}
+
+	/**
+	 * Returns a new store with a copy of values between the specified start and end
+	 * indexes.
+	 */
+	LongArrayStore get(int capacity, int start, int end) {
+		final var copy = new long[capacity];
+		final var itemCount = end - start;
+		arraycopy(items, start, copy, 0, itemCount);
+
+		return new LongArrayStore(copy, itemCount);
+	}
+
+	void prepend(long item) {
+		shiftItems(0, 1);
+
+		items[0] = item;
+		++itemCount;
+	}
+
+	void prepend(LongArrayStore store) {
+		shiftItems(0, store.itemCount);
+
+		arraycopy(store.items, 0, items, 0, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	void append(long item) {
+		ensureExcessCapacity(1);
+
+		items[itemCount] = item;
+		++itemCount;
+	}
+
+	void append(LongArrayStore store) {
+		ensureExcessCapacity(store.itemCount);
+
+		arraycopy(store.items, 0, items, itemCount, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	/**
+	 * Inserts the specified value into this store at the specified index.
+	 * <p>
+	 * Produces undefined result when the specified index is after the current item
+	 * count.
+	 */
+	void insert(int index, long item) {
+		shiftItems(index, 1);
+
+		items[index] = item;
+		++itemCount;
+	}
+
+	/**
+	 * Inserts values from the specified store into this store at the specified index.
+	 * <p>
+	 * Produces undefined result when the specified index is after the current item
+	 * count.
+	 */
+	void insert(int index, LongArrayStore store) {
+		shiftItems(index, store.itemCount);
+
+		arraycopy(store.items, 0, items, index, store.itemCount);
+		itemCount += store.itemCount;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this store with the values from
+	 * the specified store.
+	 */
+	void replace(IndexRange range, LongArrayStore store) {
+		final var count = range.getCount();
+		shiftItems(range.end, store.itemCount - count);
+
+		arraycopy(store.items, 0, items, range.start, store.itemCount);
+		itemCount += store.itemCount - count;
+	}
+
+	void remove(int index) {
+		shiftItems(index + 1, -1);
+		itemCount -= 1;
+	}
+
+	void remove(IndexRange indexRange) {
+		final var count = indexRange.getCount();
+		shiftItems(indexRange.end, -count);
+		itemCount -= count;
+	}
+
+	void ensureExcessCapacity(int extra) {
+		if (itemCount + extra > items.length) {
+			final var event = new ArrayCopyEvent();
+			event.begin();
+
+			final var capacity = 2 * (itemCount + extra);
+			final var expanded = new long[capacity];
+			arraycopy(items, 0, expanded, 0, itemCount);
+
+			event.commit("ensureExcessCapacity", itemCount, items.length, capacity);
+			items = expanded;
+		}
+	}
+
+	void removeExcessCapacity() {
+		if (itemCount == 0) {
+			items = emptyItems;
+		} else if (itemCount < items.length) {
+			final var items = new long[itemCount];
+			arraycopy(this.items, 0, items, 0, itemCount);
+			this.items = items;
+		}
+	}
+
+	private void shiftItems(int index, int positions) {
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
+		if (itemCount + positions > items.length) {
+			final var capacity = 2 * (itemCount + positions);
+			final var expanded = new long[capacity];
+
+			if (index > 0) {
+				arraycopy(items, 0, expanded, 0, index);
+			}
+			arraycopy(items, index, expanded, index + positions,
+				itemCount - index);
+
+			event.commit("shiftItems", itemCount, items.length, capacity);
+			items = expanded;
+		} else {
+			arraycopy(items, index, items, index + positions,
+				itemCount - index);
+
+			event.commit("shiftItems", itemCount - index, items.length, items.length);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.tsyba.core.collections;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A flight recorder event, which records a lookup in storage of a hash based
+ * {@link Set} or {@link Map}, which probed more slots than a threshold.
+ * <p>
+ * Disabled by default; enable {@code com.tsyba.core.collections.LongProbe} in recording
+ * settings to record it. The threshold is read from system property
+ * {@code com.tsyba.core.collections.longProbeThreshold}, and defaults to 8.
+ */
+@Name("com.tsyba.core.collections.LongProbe")
+@Label("Long Probe")
+@Description("A lookup in a hash based set or map probed more slots than a threshold.")
+@Category("Core Collections")
+@Enabled(false)
+class LongProbeEvent extends Event {
+	static final int threshold = Integer.getInteger(
+		"com.tsyba.core.collections.longProbeThreshold", 8);
+
+	@Label("Probe Distance")
+	int probeDistance;
+
+	@Label("Capacity")
+	int capacity;
+
+	@Label("Entry Count")
+	int entryCount;
+
+	/**
+	 * Records a lookup with the specified probe distance in a store with the specified
+	 * capacity and entry count, when it exceeds the threshold.
+	 */
+	static void commit(int probeDistance, int capacity, int entryCount) {
+		if (probeDistance > threshold) {
+			final var event = new LongProbeEvent();
+			if (event.shouldCommit()) {
+				event.probeDistance = probeDistance;
+				event.capacity = capacity;
+				event.entryCount = entryCount;
+				event.commit();
+			}
+		}
+	}
+}
@@ -36,7 +36,7 @@ public class Map<K, V> implements Iterable<Map.Entry<K, V>> {
 		final var iterator1 = keys.iterator();
 		final var iterator2 = values.iterator();
 
-		final var store = new RobinHoodHashStore<Entry<K, V>>(64);
+		final var store = new RobinHoodHashStore<Entry<K, V>>(0);
 		while (iterator1.hasNext() && iterator2.hasNext()) {
 			store.insert(
 				new Entry<>(
@@ -76,7 +76,7 @@ public class Map<K, V> implements Iterable<Map.Entry<K, V>> {
 	 * entry ends up in the map.
 	 */
 	public Map(Iterable<Entry<K, V>> entries) {
-		final var store = new RobinHoodHashStore<Entry<K, V>>(64);
+		final var store = new RobinHoodHashStore<Entry<K, V>>(0);
 		for (var entry : entries) {
 			if (entry != null && entry.key != null && entry.value != null) {
 				store.insert(entry);
@@ -123,6 +123,58 @@ public class Map<K, V> implements Iterable<Map.Entry<K, V>> {
 		return store.entryCount;
 	}
 
+	/**
+	 * Returns a copy of this map, guarded by a bloom filter with the specified false
+	 * positive rate. This map stays unchanged.
+	 * <p>
+	 * A bloom filter answers most lookups of absent keys without hashing into storage of
+	 * the map or comparing any of its keys. This benefits maps, which are queried mostly
+	 * for absent keys, at the cost of slightly slower lookups of present keys.
+	 *
+	 * @throws IllegalArgumentException when the specified false positive rate is not in
+	 * range (0.0, 1.0)
+	 */
+	public Map<K, V> withBloomFilter(double falsePositiveRate) {
+		final var entries = new Map<>(store);
+		entries.store.attachFilter(falsePositiveRate);
+
+		return entries;
+	}
+
+	/**
+	 * Returns the bloom filter attached to this map.
+	 * <p>
+	 * When this map has no bloom filter attached, returns an empty {@link Optional}.
+	 */
+	public Optional<BloomFilter> getBloomFilter() {
+		return Optional.ofNullable(store.filter);
+	}
+
+	/**
+	 * Returns a copy of this map with statistics attached, which collect its lookups and
+	 * storage resizes. This map stays unchanged.
+	 * <p>
+	 * Until statistics are attached, lookups and insertions do not pay for collecting
+	 * them. When this map already has statistics attached, the copy starts with new ones.
+	 */
+	public Map<K, V> withStatistics() {
+		final var entries = new Map<>(store);
+		if (entries.store.statistics == null) {
+			entries.store.attachStatistics(new HashStoreStatistics());
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Returns statistics attached to this map.
+	 * <p>
+	 * When this map has no statistics attached, returns an empty {@link Optional}.
+	 */
+	public Optional<HashStoreStatistics> getStatistics() {
+		return Optional.ofNullable(store.statistics);
+	}
+
 	/**
 	 * Returns {@code true} when this map contains an entry with the specified key and
 	 * value; returns {@code false} otherwise.
@@ -137,7 +189,7 @@ public class Map<K, V> implements Iterable<Map.Entry<K, V>> {
 			return false;
 		}
 
-		final var entry = store.storage[index].item;
+		final var entry = store.get(index);
 		return entry.value.equals(value);
 	}
 
@@ -191,7 +243,7 @@ public class Map<K, V> implements Iterable<Map.Entry<K, V>> {
 			return Optional.empty();
 		}
 
-		final var entry = store.storage[index].item;
+		final var entry = store.get(index);
 		return Optional.of(entry.value);
 	}
 
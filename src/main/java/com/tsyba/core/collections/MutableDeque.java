@@ -0,0 +1,62 @@
+package com.tsyba.core.collections;
+
+import java.util.function.Function;
+
+/**
+ * A mutable {@link Sequence}, which provides efficient addition and removal of items at
+ * both its ends, as well as randomized access to its items.
+ * <p>
+ * Unlike {@link MutableList}, which moves all its items to prepend an item or to remove
+ * its first item, {@link MutableDeque} keeps its items in a circular buffer, and adds or
+ * removes items at either end in constant amortized time. Inserting or removing items
+ * elsewhere moves items on the shorter side of the index only. This makes it suitable
+ * for work queues and sliding windows.
+ */
+public class MutableDeque<T> extends AbstractMutableSequence<T, MutableDeque<T>> {
+	MutableDeque(SequenceStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a deque with the specified items.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public MutableDeque(T... items) {
+		this(new RingBufferStore(items.length));
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	/**
+	 * Creates a copy of the specified items.
+	 */
+	public MutableDeque(Collection<T> items) {
+		this(new RingBufferStore(items.getCount()));
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	@Override
+	MutableDeque<T> create(SequenceStore store) {
+		return new MutableDeque<>(store);
+	}
+
+	@Override
+	public <R> MutableDeque<R> convert(Function<T, R> converter) {
+		final var converted = new MutableDeque<R>(
+			store.create(store.getCount()));
+
+		for (var item : this) {
+			converted.append(
+				converter.apply(item));
+		}
+
+		return converted;
+	}
+}
@@ -0,0 +1,319 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.function.DoublePredicate;
+
+/**
+ * A mutable list of {@code double} values, which keeps them unboxed in a contiguous array.
+ */
+public class MutableDoubleList extends DoubleList {
+	MutableDoubleList(DoubleArrayStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a list with the specified values.
+	 */
+	public MutableDoubleList(double... values) {
+		super(values);
+	}
+
+	/**
+	 * Creates a list with values of the specified {@link Collection}.
+	 */
+	public MutableDoubleList(Collection<Double> items) {
+		super(items);
+	}
+
+	/**
+	 * Creates a copy of the specified list.
+	 */
+	public MutableDoubleList(DoubleList values) {
+		super(values.toArray());
+	}
+
+	@Override
+	public MutableDoubleList getPrefix(int index) {
+		final var prefix = super.getPrefix(index);
+		return new MutableDoubleList(prefix.store);
+	}
+
+	@Override
+	public MutableDoubleList getSuffix(int index) {
+		final var suffix = super.getSuffix(index);
+		return new MutableDoubleList(suffix.store);
+	}
+
+	@Override
+	public MutableDoubleList get(IndexRange indexRange) {
+		final var sub = super.get(indexRange);
+		return new MutableDoubleList(sub.store);
+	}
+
+	/**
+	 * Replaces value at the specified index in this list with the specified value.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableDoubleList set(int index, double value) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.items[index] = value;
+		return this;
+	}
+
+	/**
+	 * Prepends the specified value to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList prepend(double value) {
+		store.prepend(value);
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList prepend(double... values) {
+		store.prepend(
+			new DoubleArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList prepend(DoubleList values) {
+		store.prepend(values.store);
+		return this;
+	}
+
+	/**
+	 * Appends the specified value to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList append(double value) {
+		store.append(value);
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList append(double... values) {
+		store.append(
+			new DoubleArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList append(DoubleList values) {
+		store.append(values.store);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified value into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableDoubleList insert(int index, double value) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, value);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableDoubleList insert(int index, double... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index,
+			new DoubleArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableDoubleList insert(int index, DoubleList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, values.store);
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableDoubleList replace(IndexRange range, double... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range,
+			new DoubleArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableDoubleList replace(IndexRange range, DoubleList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range, values.store);
+		return this;
+	}
+
+	/**
+	 * Removes the first value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList removeFirst() {
+		if (store.itemCount > 0) {
+			store.remove(0);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes the last value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList removeLast() {
+		if (store.itemCount > 0) {
+			store.remove(store.itemCount - 1);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes value at the specified index in this list.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableDoubleList remove(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.remove(index);
+		return this;
+	}
+
+	/**
+	 * Removes values at the specified index range in this list.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableDoubleList remove(IndexRange range) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.remove(range);
+		return this;
+	}
+
+	/**
+	 * Removes all values from this list.
+	 *
+	 * @return itself
+	 */
+	public MutableDoubleList clear() {
+		store = new DoubleArrayStore(0);
+		return this;
+	}
+
+	@Override
+	public MutableDoubleList matchAll(DoublePredicate condition) {
+		final var matches = super.matchAll(condition);
+		return new MutableDoubleList(matches.store);
+	}
+
+	@Override
+	public MutableDoubleList sort() {
+		final var sorted = super.sort();
+		return new MutableDoubleList(sorted.store);
+	}
+
+	/**
+	 * Returns immutable copy of this list.
+	 */
+	public DoubleList toImmutable() {
+		final var items = Arrays.copyOf(store.items, store.itemCount);
+		return new DoubleList(
+			new DoubleArrayStore(items, items.length));
+	}
+}
@@ -0,0 +1,62 @@
+package com.tsyba.core.collections;
+
+import java.util.function.Function;
+
+/**
+ * A mutable {@link Sequence}, which provides efficient insertion and removal of items
+ * around the position of the last edit, as well as randomized access to its items.
+ * <p>
+ * Unlike {@link MutableList}, which moves all items after an edited index, its items
+ * are kept in a gap buffer, where free capacity is a gap at the last edited index.
+ * Inserting or removing items at the gap takes constant time, while editing at another
+ * index moves only the items between it and the gap. This makes it suitable for
+ * editing workloads, where edits are clustered around a moving cursor.
+ */
+public class MutableGapList<T> extends AbstractMutableSequence<T, MutableGapList<T>> {
+	MutableGapList(SequenceStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a list with the specified items.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public MutableGapList(T... items) {
+		this(new GapBufferStore(items.length));
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	/**
+	 * Creates a copy of the specified items.
+	 */
+	public MutableGapList(Collection<T> items) {
+		this(new GapBufferStore(items.getCount()));
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	@Override
+	MutableGapList<T> create(SequenceStore store) {
+		return new MutableGapList<>(store);
+	}
+
+	@Override
+	public <R> MutableGapList<R> convert(Function<T, R> converter) {
+		final var converted = new MutableGapList<R>(
+			store.create(store.getCount()));
+
+		for (var item : this) {
+			converted.append(
+				converter.apply(item));
+		}
+
+		return converted;
+	}
+}
@@ -0,0 +1,319 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A mutable list of {@code int} values, which keeps them unboxed in a contiguous array.
+ */
+public class MutableIntList extends IntList {
+	MutableIntList(IntArrayStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a list with the specified values.
+	 */
+	public MutableIntList(int... values) {
+		super(values);
+	}
+
+	/**
+	 * Creates a list with values of the specified {@link Collection}.
+	 */
+	public MutableIntList(Collection<Integer> items) {
+		super(items);
+	}
+
+	/**
+	 * Creates a copy of the specified list.
+	 */
+	public MutableIntList(IntList values) {
+		super(values.toArray());
+	}
+
+	@Override
+	public MutableIntList getPrefix(int index) {
+		final var prefix = super.getPrefix(index);
+		return new MutableIntList(prefix.store);
+	}
+
+	@Override
+	public MutableIntList getSuffix(int index) {
+		final var suffix = super.getSuffix(index);
+		return new MutableIntList(suffix.store);
+	}
+
+	@Override
+	public MutableIntList get(IndexRange indexRange) {
+		final var sub = super.get(indexRange);
+		return new MutableIntList(sub.store);
+	}
+
+	/**
+	 * Replaces value at the specified index in this list with the specified value.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableIntList set(int index, int value) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.items[index] = value;
+		return this;
+	}
+
+	/**
+	 * Prepends the specified value to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList prepend(int value) {
+		store.prepend(value);
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList prepend(int... values) {
+		store.prepend(
+			new IntArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList prepend(IntList values) {
+		store.prepend(values.store);
+		return this;
+	}
+
+	/**
+	 * Appends the specified value to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList append(int value) {
+		store.append(value);
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList append(int... values) {
+		store.append(
+			new IntArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList append(IntList values) {
+		store.append(values.store);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified value into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableIntList insert(int index, int value) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, value);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableIntList insert(int index, int... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index,
+			new IntArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableIntList insert(int index, IntList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, values.store);
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableIntList replace(IndexRange range, int... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range,
+			new IntArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableIntList replace(IndexRange range, IntList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range, values.store);
+		return this;
+	}
+
+	/**
+	 * Removes the first value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList removeFirst() {
+		if (store.itemCount > 0) {
+			store.remove(0);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes the last value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList removeLast() {
+		if (store.itemCount > 0) {
+			store.remove(store.itemCount - 1);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes value at the specified index in this list.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableIntList remove(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.remove(index);
+		return this;
+	}
+
+	/**
+	 * Removes values at the specified index range in this list.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableIntList remove(IndexRange range) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.remove(range);
+		return this;
+	}
+
+	/**
+	 * Removes all values from this list.
+	 *
+	 * @return itself
+	 */
+	public MutableIntList clear() {
+		store = new IntArrayStore(0);
+		return this;
+	}
+
+	@Override
+	public MutableIntList matchAll(IntPredicate condition) {
+		final var matches = super.matchAll(condition);
+		return new MutableIntList(matches.store);
+	}
+
+	@Override
+	public MutableIntList sort() {
+		final var sorted = super.sort();
+		return new MutableIntList(sorted.store);
+	}
+
+	/**
+	 * Returns immutable copy of this list.
+	 */
+	public IntList toImmutable() {
+		final var items = Arrays.copyOf(store.items, store.itemCount);
+		return new IntList(
+			new IntArrayStore(items, items.length));
+	}
+}
@@ -5,16 +5,14 @@ import java.util.Random;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-
-import static com.tsyba.core.collections.ContiguousArrayStore.compact;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A mutable, sequential {@link Collection}, which provides efficient, randomized access
  * to its items.
  */
-public class MutableList<T> extends List<T> {
-	static final int minimumCapacity = 64;
-
+public class MutableList<T> extends List<T> implements MutableSequence<T> {
 	MutableList(ContiguousArrayStore store) {
 		super(store);
 	}
@@ -26,10 +24,7 @@ public class MutableList<T> extends List<T> {
 	 */
 	@SafeVarargs
 	public MutableList(T... items) {
-		super(new ContiguousArrayStore(
-			Math.max(items.length, minimumCapacity)));
-
-		append(items);
+		super(ContiguousArrayStore.compact(items));
 	}
 
 	/**
@@ -37,26 +32,43 @@ public class MutableList<T> extends List<T> {
 	 */
 	public MutableList(Collection<T> items) {
 		this(new ContiguousArrayStore(
-			Math.max(items.getCount(), minimumCapacity)));
+			items.getCount()));
 
 		items.forEach(this::append);
 	}
 
 	@Override
 	public MutableList<T> getPrefix(int index) {
-		final var prefix = super.getPrefix(index);
-		return new MutableList<>(prefix.store);
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var prefix = store.get(index, 0, index);
+		return new MutableList<>(prefix);
 	}
 
 	@Override
 	public MutableList<T> getSuffix(int index) {
-		final var suffix = super.getSuffix(index);
-		return new MutableList<>(suffix.store);
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var capacity = store.itemCount - index;
+		final var suffix = store.get(capacity, index, store.itemCount);
+		return new MutableList<>(suffix);
 	}
 
 	@Override
 	public MutableList<T> get(IndexRange indexRange) {
-		final var sub = super.get(indexRange);
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		final var count = indexRange.getCount();
+		final var sub = store.get(count, indexRange.start, indexRange.end);
 		return new MutableList<>(sub);
 	}
 
@@ -103,7 +115,7 @@ public class MutableList<T> extends List<T> {
 	 */
 	@SafeVarargs
 	public final MutableList<T> prepend(T... items) {
-		final var compacted = compact(items);
+		final var compacted = ContiguousArrayStore.compact(items);
 		store.prepend(compacted);
 
 		return this;
@@ -115,7 +127,7 @@ public class MutableList<T> extends List<T> {
 	 * @return itself
 	 */
 	public MutableList<T> prepend(List<T> items) {
-		store.prepend(items.store);
+		store.prepend(items.getStore());
 		return this;
 	}
 
@@ -143,7 +155,7 @@ public class MutableList<T> extends List<T> {
 	 */
 	@SafeVarargs
 	public final MutableList<T> append(T... items) {
-		final var compacted = compact(items);
+		final var compacted = ContiguousArrayStore.compact(items);
 		store.append(compacted);
 
 		return this;
@@ -155,7 +167,7 @@ public class MutableList<T> extends List<T> {
 	 * @return itself
 	 */
 	public MutableList<T> append(List<T> items) {
-		store.append(items.store);
+		store.append(items.getStore());
 		return this;
 	}
 
@@ -197,7 +209,7 @@ public class MutableList<T> extends List<T> {
 			throw new IndexNotInRangeException(index, validRange);
 		}
 
-		final var compacted = compact(items);
+		final var compacted = ContiguousArrayStore.compact(items);
 		store.insert(index, compacted);
 
 		return this;
@@ -216,7 +228,7 @@ public class MutableList<T> extends List<T> {
 			throw new IndexNotInRangeException(index, validRange);
 		}
 
-		store.insert(index, items.store);
+		store.insert(index, items.getStore());
 		return this;
 	}
 
@@ -236,7 +248,7 @@ public class MutableList<T> extends List<T> {
 			throw new IndexRangeNotInRangeException(range, validRange);
 		}
 
-		final var compacted = compact(items);
+		final var compacted = ContiguousArrayStore.compact(items);
 		store.replace(range, compacted);
 
 		return this;
@@ -255,7 +267,7 @@ public class MutableList<T> extends List<T> {
 			throw new IndexRangeNotInRangeException(range, validRange);
 		}
 
-		store.replace(range, items.store);
+		store.replace(range, items.getStore());
 		return this;
 	}
 
@@ -321,13 +333,68 @@ public class MutableList<T> extends List<T> {
 		return this;
 	}
 
+	/**
+	 * Removes items at the specified index ranges in this list, and returns the number
+	 * of removed items.
+	 * <p>
+	 * The specified ranges may come in any order and may overlap. Unlike removing each
+	 * range separately, moves each remaining item at most once.
+	 *
+	 * @throws IndexRangeNotInRangeException when any of the specified index ranges is out
+	 * of valid index range of this list
+	 */
+	public int remove(IndexRange... ranges) {
+		final var validRange = getIndexRange();
+		for (var range : ranges) {
+			if (!validRange.contains(range)) {
+				throw new IndexRangeNotInRangeException(range, validRange);
+			}
+		}
+
+		return store.remove(ranges);
+	}
+
+	/**
+	 * Removes all items from this list, which satisfy the specified {@link Predicate},
+	 * and returns the number of removed items.
+	 * <p>
+	 * Tests each item exactly once, and moves each remaining item at most once, keeping
+	 * their order.
+	 */
+	public int removeAll(Predicate<T> condition) {
+		return store.removeAll(condition);
+	}
+
+	/**
+	 * Removes all items from this list, which occur in the specified {@link Collection},
+	 * and returns the number of removed items.
+	 * <p>
+	 * Checks each item with {@link Collection#contains}, so that removing items
+	 * of a {@link Set} takes linear time.
+	 */
+	public int removeAll(Collection<T> items) {
+		final Predicate<T> condition = items::contains;
+		return store.removeAll(condition);
+	}
+
+	/**
+	 * Removes all items from this list, which do not satisfy the specified
+	 * {@link Predicate}, and returns the number of removed items.
+	 * <p>
+	 * Tests each item exactly once, and moves each remaining item at most once, keeping
+	 * their order.
+	 */
+	public int retainAll(Predicate<T> condition) {
+		return store.removeAll(condition.negate());
+	}
+
 	/**
 	 * Removes all items from this list.
 	 *
 	 * @return itself
 	 */
 	public MutableList<T> clear() {
-		store = new ContiguousArrayStore(minimumCapacity);
+		store = new ContiguousArrayStore(0);
 		return this;
 	}
 
@@ -361,6 +428,18 @@ public class MutableList<T> extends List<T> {
 		return new MutableList<>(sorted.store);
 	}
 
+	@Override
+	public MutableList<T> sortByInt(ToIntFunction<T> key) {
+		final var sorted = super.sortByInt(key);
+		return new MutableList<>(sorted.store);
+	}
+
+	@Override
+	public MutableList<T> sortByLong(ToLongFunction<T> key) {
+		final var sorted = super.sortByLong(key);
+		return new MutableList<>(sorted.store);
+	}
+
 	@Override
 	public MutableList<T> shuffle(Random random) {
 		final var shuffled = (List<T>) super.shuffle(random);
@@ -373,6 +452,102 @@ public class MutableList<T> extends List<T> {
 		return new MutableList<>(shuffled.store);
 	}
 
+	/**
+	 * Sorts items of this list according to the specified {@link Comparator}, without
+	 * copying them.
+	 * <p>
+	 * Lists with many items are sorted in parallel.
+	 *
+	 * @return itself
+	 */
+	public MutableList<T> sortInPlace(Comparator<T> comparator) {
+		store.sort(comparator);
+		return this;
+	}
+
+	/**
+	 * Sorts items of this list according to their natural order, without copying them.
+	 * <p>
+	 * Lists with many items are sorted in parallel.
+	 *
+	 * @return itself
+	 * @throws RuntimeException when items of this list are not {@link Comparable}
+	 */
+	public MutableList<T> sortInPlace() {
+		@SuppressWarnings("unchecked")
+		final var comparator = (Comparator<T>) Comparator.naturalOrder();
+		return sortInPlace(comparator);
+	}
+
+	/**
+	 * Sorts items of this list by {@code int} keys, which the specified
+	 * {@link ToIntFunction} extracts from them, without copying them.
+	 * <p>
+	 * Extracts each key once, and sorts keys with a stable radix sort, without calling
+	 * any {@link Comparator}. Items with equal keys keep their relative order.
+	 *
+	 * @return itself
+	 */
+	public MutableList<T> sortByIntInPlace(ToIntFunction<T> key) {
+		final var order = orderByInt(key);
+		store.permute(order);
+
+		return this;
+	}
+
+	/**
+	 * Sorts items of this list by {@code long} keys, which the specified
+	 * {@link ToLongFunction} extracts from them, without copying them.
+	 * <p>
+	 * Extracts each key once, and sorts keys with a stable radix sort, without calling
+	 * any {@link Comparator}. Items with equal keys keep their relative order.
+	 *
+	 * @return itself
+	 */
+	public MutableList<T> sortByLongInPlace(ToLongFunction<T> key) {
+		final var order = orderByLong(key);
+		store.permute(order);
+
+		return this;
+	}
+
+	/**
+	 * Shuffles items of this list randomly, based on the specified {@link Random},
+	 * without copying them.
+	 * <p>
+	 * Lists with many items are shuffled in parallel.
+	 *
+	 * @return itself
+	 */
+	public MutableList<T> shuffleInPlace(Random random) {
+		store.shuffle(random);
+		return this;
+	}
+
+	/**
+	 * Shuffles items of this list randomly, where randomization is seeded from the
+	 * current system time, without copying them.
+	 *
+	 * @return itself
+	 */
+	public MutableList<T> shuffleInPlace() {
+		final var time = System.currentTimeMillis();
+		final var random = new Random(time);
+
+		return shuffleInPlace(random);
+	}
+
+	/**
+	 * Moves items of this list, which satisfy the specified {@link Predicate}, before
+	 * items, which do not, without copying them, and returns the number of items, which
+	 * do, i.e. index of the first item, which does not.
+	 * <p>
+	 * Tests each item exactly once, but does not keep relative order of items.
+	 */
+	public int partitionInPlace(Predicate<T> condition) {
+		return store.partition(condition);
+	}
+
 	@Override
 	public MutableList<T> iterate(Consumer<T> operation) {
 		super.iterate(operation);
@@ -0,0 +1,319 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * A mutable list of {@code long} values, which keeps them unboxed in a contiguous array.
+ */
+public class MutableLongList extends LongList {
+	MutableLongList(LongArrayStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a list with the specified values.
+	 */
+	public MutableLongList(long... values) {
+		super(values);
+	}
+
+	/**
+	 * Creates a list with values of the specified {@link Collection}.
+	 */
+	public MutableLongList(Collection<Long> items) {
+		super(items);
+	}
+
+	/**
+	 * Creates a copy of the specified list.
+	 */
+	public MutableLongList(LongList values) {
+		super(values.toArray());
+	}
+
+	@Override
+	public MutableLongList getPrefix(int index) {
+		final var prefix = super.getPrefix(index);
+		return new MutableLongList(prefix.store);
+	}
+
+	@Override
+	public MutableLongList getSuffix(int index) {
+		final var suffix = super.getSuffix(index);
+		return new MutableLongList(suffix.store);
+	}
+
+	@Override
+	public MutableLongList get(IndexRange indexRange) {
+		final var sub = super.get(indexRange);
+		return new MutableLongList(sub.store);
+	}
+
+	/**
+	 * Replaces value at the specified index in this list with the specified value.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableLongList set(int index, long value) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.items[index] = value;
+		return this;
+	}
+
+	/**
+	 * Prepends the specified value to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList prepend(long value) {
+		store.prepend(value);
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList prepend(long... values) {
+		store.prepend(
+			new LongArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Prepends the specified values to the beginning of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList prepend(LongList values) {
+		store.prepend(values.store);
+		return this;
+	}
+
+	/**
+	 * Appends the specified value to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList append(long value) {
+		store.append(value);
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList append(long... values) {
+		store.append(
+			new LongArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Appends the specified values to the end of this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList append(LongList values) {
+		store.append(values.store);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified value into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableLongList insert(int index, long value) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, value);
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableLongList insert(int index, long... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index,
+			new LongArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Inserts the specified values into this list at the specified index.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableLongList insert(int index, LongList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		store.insert(index, values.store);
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableLongList replace(IndexRange range, long... values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range,
+			new LongArrayStore(values, values.length));
+
+		return this;
+	}
+
+	/**
+	 * Replaces values at the specified index range in this list with the specified
+	 * values.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableLongList replace(IndexRange range, LongList values) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.replace(range, values.store);
+		return this;
+	}
+
+	/**
+	 * Removes the first value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList removeFirst() {
+		if (store.itemCount > 0) {
+			store.remove(0);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes the last value from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList removeLast() {
+		if (store.itemCount > 0) {
+			store.remove(store.itemCount - 1);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes value at the specified index in this list.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableLongList remove(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.remove(index);
+		return this;
+	}
+
+	/**
+	 * Removes values at the specified index range in this list.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableLongList remove(IndexRange range) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.remove(range);
+		return this;
+	}
+
+	/**
+	 * Removes all values from this list.
+	 *
+	 * @return itself
+	 */
+	public MutableLongList clear() {
+		store = new LongArrayStore(0);
+		return this;
+	}
+
+	@Override
+	public MutableLongList matchAll(LongPredicate condition) {
+		final var matches = super.matchAll(condition);
+		return new MutableLongList(matches.store);
+	}
+
+	@Override
+	public MutableLongList sort() {
+		final var sorted = super.sort();
+		return new MutableLongList(sorted.store);
+	}
+
+	/**
+	 * Returns immutable copy of this list.
+	 */
+	public LongList toImmutable() {
+		final var items = Arrays.copyOf(store.items, store.itemCount);
+		return new LongList(
+			new LongArrayStore(items, items.length));
+	}
+}
@@ -5,8 +5,6 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 
 public class MutableMap<K, V> extends Map<K, V> {
-	private static final int minimumCapacity = 64;
-
 	MutableMap(RobinHoodHashStore<Entry<K, V>> store) {
 		super(store);
 	}
@@ -50,6 +48,39 @@ public class MutableMap<K, V> extends Map<K, V> {
 		super(entries);
 	}
 
+	@Override
+	public MutableMap<K, V> withBloomFilter(double falsePositiveRate) {
+		final var entries = new MutableMap<>(store);
+		entries.store.attachFilter(falsePositiveRate);
+
+		return entries;
+	}
+
+	@Override
+	public MutableMap<K, V> withStatistics() {
+		final var entries = new MutableMap<>(store);
+		if (entries.store.statistics == null) {
+			entries.store.attachStatistics(new HashStoreStatistics());
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Attaches statistics to this map, which start collecting its lookups and storage
+	 * resizes. Returns itself.
+	 * <p>
+	 * Until statistics are attached, lookups and insertions do not pay for collecting
+	 * them. When this map already has statistics attached, does nothing.
+	 */
+	public MutableMap<K, V> attachStatistics() {
+		if (store.statistics == null) {
+			store.attachStatistics(new HashStoreStatistics());
+		}
+
+		return this;
+	}
+
 	/**
 	 * Returns value for the specified key in this map.
 	 * <p>
@@ -121,7 +152,7 @@ public class MutableMap<K, V> extends Map<K, V> {
 		for (var entry : entries) {
 			final var index = store.find(entry.key);
 			if (index > -1) {
-				var value = store.storage[index].item.value;
+				var value = store.get(index).value;
 				value = resolver.apply(entry.key, value, entry.value);
 
 				if (value != null) {
@@ -188,7 +219,10 @@ public class MutableMap<K, V> extends Map<K, V> {
 	 * @return itself
 	 */
 	public MutableMap<K, V> clear() {
-		this.store = new RobinHoodHashStore<>(minimumCapacity);
+		final var store = new RobinHoodHashStore<Entry<K, V>>(0);
+		store.adoptSettings(this.store);
+
+		this.store = store;
 		return this;
 	}
 
@@ -0,0 +1,64 @@
+package com.tsyba.core.collections;
+
+import java.util.function.Function;
+
+/**
+ * A mutable {@link Sequence}, which grows without copying its items, as well as
+ * provides randomized access to them.
+ * <p>
+ * Unlike {@link MutableList}, which keeps its items in a single array and copies them
+ * into a twice larger one to grow, its items are kept in fixed-size chunks, and growing
+ * it only allocates another chunk. This suits very large lists, where copying all items
+ * needs several times their memory, and produces large short-lived arrays. Inserting or
+ * removing an item moves items within its chunk, and a single item per following chunk.
+ */
+public class MutableSegmentedList<T>
+	extends AbstractMutableSequence<T, MutableSegmentedList<T>> {
+
+	MutableSegmentedList(SequenceStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates a list with the specified items.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public MutableSegmentedList(T... items) {
+		this(new SegmentedArrayStore());
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	/**
+	 * Creates a copy of the specified items.
+	 */
+	public MutableSegmentedList(Collection<T> items) {
+		this(new SegmentedArrayStore());
+
+		for (var item : items) {
+			append(item);
+		}
+	}
+
+	@Override
+	MutableSegmentedList<T> create(SequenceStore store) {
+		return new MutableSegmentedList<>(store);
+	}
+
+	@Override
+	public <R> MutableSegmentedList<R> convert(Function<T, R> converter) {
+		final var converted = new MutableSegmentedList<R>(
+			store.create(store.getCount()));
+
+		for (var item : this) {
+			converted.append(
+				converter.apply(item));
+		}
+
+		return converted;
+	}
+}
@@ -0,0 +1,100 @@
+package com.tsyba.core.collections;
+
+/**
+ * A {@link Sequence}, which can be edited in place: its items can be replaced, added and
+ * removed at any index.
+ * <p>
+ * Implementations differ in how they keep their items, and thus in which edits they
+ * make efficient: {@link MutableList} keeps its items in a single array, while
+ * {@link MutableDeque}, {@link MutableGapList} and {@link MutableSegmentedList} keep
+ * them in a circular buffer, a gap buffer and fixed-size chunks respectively.
+ */
+public interface MutableSequence<T> extends Sequence<T> {
+	/**
+	 * Replaces item at the specified index in this sequence with the specified item.
+	 * <p>
+	 * When the specified item is {@code null}, does nothing.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this sequence
+	 */
+	MutableSequence<T> set(int index, T item);
+
+	/**
+	 * Prepends the specified item to the beginning of this sequence.
+	 * <p>
+	 * When the specified item is {@code null}, does nothing.
+	 *
+	 * @return itself
+	 */
+	MutableSequence<T> prepend(T item);
+
+	/**
+	 * Appends the specified item to the end of this sequence.
+	 * <p>
+	 * When the specified item is {@code null}, does nothing.
+	 *
+	 * @return itself
+	 */
+	MutableSequence<T> append(T item);
+
+	/**
+	 * Inserts the specified item into this sequence at the specified index.
+	 * <p>
+	 * When the specified item is {@code null}, does nothing.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this sequence
+	 */
+	MutableSequence<T> insert(int index, T item);
+
+	/**
+	 * Removes the first item from this sequence.
+	 * <p>
+	 * When this sequence is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	MutableSequence<T> removeFirst();
+
+	/**
+	 * Removes the last item from this sequence.
+	 * <p>
+	 * When this sequence is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	MutableSequence<T> removeLast();
+
+	/**
+	 * Removes item at the specified index in this sequence.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this sequence
+	 */
+	MutableSequence<T> remove(int index);
+
+	/**
+	 * Removes items at the specified index range in this sequence.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this sequence
+	 */
+	MutableSequence<T> remove(IndexRange range);
+
+	/**
+	 * Removes all items from this sequence.
+	 *
+	 * @return itself
+	 */
+	MutableSequence<T> clear();
+
+	/**
+	 * Returns immutable copy of this sequence as a {@link List}.
+	 */
+	List<T> toImmutable();
+}
@@ -8,6 +8,10 @@ import java.util.function.Predicate;
  * A mutable, unordered {@link Collection} of unique items.
  */
 public class MutableSet<T> extends Set<T> {
+	MutableSet(RobinHoodHashStore<T> store) {
+		super(store);
+	}
+
 	@SafeVarargs
 	public MutableSet(T... items) {
 		super(items);
@@ -23,6 +27,7 @@ public class MutableSet<T> extends Set<T> {
 
 	@Override
 	public MutableSet<T> getDistinct() {
+		final var store = new RobinHoodHashStore<>(this.store);
 		return new MutableSet<>(store);
 	}
 
@@ -51,11 +56,32 @@ public class MutableSet<T> extends Set<T> {
 	}
 
 	@Override
-	public <R> MutableSet<Pair<T, R>> multiply(Set<R> set) {
-		final var items = super.multiply(set);
+	public MutableSet<T> withBloomFilter(double falsePositiveRate) {
+		final var items = super.withBloomFilter(falsePositiveRate);
+		return new MutableSet<>(items.store);
+	}
+
+	@Override
+	public MutableSet<T> withStatistics() {
+		final var items = super.withStatistics();
 		return new MutableSet<>(items.store);
 	}
 
+	/**
+	 * Attaches statistics to this set, which start collecting its lookups and storage
+	 * resizes. Returns itself.
+	 * <p>
+	 * Until statistics are attached, lookups and insertions do not pay for collecting
+	 * them. When this set already has statistics attached, does nothing.
+	 */
+	public MutableSet<T> attachStatistics() {
+		if (store.statistics == null) {
+			store.attachStatistics(new HashStoreStatistics());
+		}
+
+		return this;
+	}
+
 	/**
 	 * Adds the specified item to this set. Returns itself.
 	 * <p>
@@ -166,6 +192,63 @@ public class MutableSet<T> extends Set<T> {
 		return this;
 	}
 
+	/**
+	 * Adds all items of the specified set to this one. Returns itself.
+	 * <p>
+	 * When this set is smaller than the specified one, copies the specified set and adds
+	 * items of this set to the copy instead. Either way, keeps the bloom filter and
+	 * statistics of this set, and not those of the specified one.
+	 */
+	public MutableSet<T> addAll(Set<T> set) {
+		final var capacity = getCount() + set.getCount();
+		if (getCount() < set.getCount()) {
+			final var store = new RobinHoodHashStore<>(set.store);
+			store.ensureCapacity(capacity);
+
+			for (var item : this) {
+				store.insert(item);
+			}
+
+			store.adoptSettings(this.store);
+			this.store = store;
+		} else {
+			store.ensureCapacity(capacity);
+			for (var item : set) {
+				store.insert(item);
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes all items, which are not present in the specified set, from this set.
+	 * Returns itself.
+	 * <p>
+	 * Removes items absent from the specified set in a single sweep over storage of this
+	 * set, keeping instances of the remaining items.
+	 */
+	public MutableSet<T> retain(Set<T> set) {
+		store.deleteAll((item) -> !set.contains(item));
+		return this;
+	}
+
+	/**
+	 * Removes all items, which are present in the specified set, from this set. Returns
+	 * itself.
+	 * <p>
+	 * When the specified set is smaller than this one, removes its items one by one;
+	 * otherwise, removes common items in a single sweep over this set.
+	 */
+	public MutableSet<T> removeAll(Set<T> set) {
+		if (set.getCount() < getCount()) {
+			return remove(set);
+		}
+
+		store.deleteAll(set::contains);
+		return this;
+	}
+
 	/**
 	 * Removes all items from this set. Returns itself.
 	 */
@@ -0,0 +1,255 @@
+package com.tsyba.core.collections;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * A mutable {@link SortedList}, which keeps its items sorted according to a
+ * {@link Comparator} as they are added.
+ * <p>
+ * Unlike appending items to a {@link MutableList} and sorting it again, finds the index
+ * of each added item with a binary search, and merges many added items at once.
+ */
+public class MutableSortedList<T> extends SortedList<T> {
+	MutableSortedList(ContiguousArrayStore store, Comparator<T> comparator) {
+		super(store, comparator);
+	}
+
+	/**
+	 * Creates a list with the specified items, sorted according to the specified
+	 * {@link Comparator}.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public MutableSortedList(Comparator<T> comparator, T... items) {
+		super(comparator, items);
+	}
+
+	/**
+	 * Creates a list with items of the specified {@link Collection}, sorted according to
+	 * the specified {@link Comparator}.
+	 */
+	public MutableSortedList(Comparator<T> comparator, Collection<T> items) {
+		super(comparator, items);
+	}
+
+	@Override
+	public MutableSortedList<T> getPrefix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var prefix = store.get(index, 0, index);
+		return new MutableSortedList<>(prefix, comparator);
+	}
+
+	@Override
+	public MutableSortedList<T> getSuffix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		final var capacity = store.itemCount - index;
+		final var suffix = store.get(capacity, index, store.itemCount);
+		return new MutableSortedList<>(suffix, comparator);
+	}
+
+	@Override
+	public MutableSortedList<T> get(IndexRange indexRange) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		final var count = indexRange.getCount();
+		final var sub = store.get(count, indexRange.start, indexRange.end);
+		return new MutableSortedList<>(sub, comparator);
+	}
+
+	@Override
+	public MutableSortedList<T> getRange(T from, T to) {
+		final var range = super.getRange(from, to);
+		return new MutableSortedList<>(range.store, comparator);
+	}
+
+	/**
+	 * Inserts the specified item into this list at the index, which keeps it sorted,
+	 * after any equal items.
+	 * <p>
+	 * Finds the index with a binary search, and shifts items after it only. When the
+	 * specified item is {@code null}, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> add(T item) {
+		if (item != null) {
+			final var index = store.findUpperBound(item, comparator);
+			store.insert(index, item);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Inserts the specified items into this list, keeping it sorted.
+	 * <p>
+	 * Sorts the specified items, and merges them into this list in a single pass.
+	 * Ignores any {@code null} values among the specified items.
+	 *
+	 * @return itself
+	 */
+	@SafeVarargs
+	public final MutableSortedList<T> add(T... items) {
+		final var added = new SortedList<>(comparator, items);
+		store.merge(added.store, comparator);
+
+		return this;
+	}
+
+	/**
+	 * Inserts items of the specified {@link Collection} into this list, keeping it
+	 * sorted.
+	 * <p>
+	 * Sorts a copy of the specified items, and merges it into this list in a single
+	 * pass.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> add(Collection<T> items) {
+		final var added = new SortedList<>(comparator, items);
+		store.merge(added.store, comparator);
+
+		return this;
+	}
+
+	/**
+	 * Inserts items of the specified {@link SortedList} into this list, keeping it
+	 * sorted.
+	 * <p>
+	 * When the specified list is sorted by the same {@link Comparator}, merges its
+	 * items into this list in a single pass, without sorting them again, in linear
+	 * time; otherwise, sorts a copy of them first.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> addAll(SortedList<T> items) {
+		if (!comparator.equals(items.comparator)) {
+			return add(items);
+		}
+
+		store.merge(items.getStore(), comparator);
+		return this;
+	}
+
+	/**
+	 * Removes all occurrences of the specified item from this list.
+	 * <p>
+	 * Finds the occurrences with a binary search. When the specified item does not occur
+	 * in this list, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> remove(T item) {
+		final var range = findRange(item);
+		if (!range.isEmpty()) {
+			store.remove(range);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Removes the first, i.e. the smallest, item from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> removeFirst() {
+		guard(0)
+			.ifPresent(store::remove);
+
+		return this;
+	}
+
+	/**
+	 * Removes the last, i.e. the largest, item from this list.
+	 * <p>
+	 * When this list is empty, does nothing.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> removeLast() {
+		guard(store.itemCount - 1)
+			.ifPresent(store::remove);
+
+		return this;
+	}
+
+	/**
+	 * Removes item at the specified index in this list.
+	 *
+	 * @return itself
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this list
+	 */
+	public MutableSortedList<T> remove(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		store.remove(index);
+		return this;
+	}
+
+	/**
+	 * Removes items at the specified index range in this list.
+	 *
+	 * @return itself
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this list
+	 */
+	public MutableSortedList<T> remove(IndexRange range) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(range)) {
+			throw new IndexRangeNotInRangeException(range, validRange);
+		}
+
+		store.remove(range);
+		return this;
+	}
+
+	/**
+	 * Removes all items from this list.
+	 *
+	 * @return itself
+	 */
+	public MutableSortedList<T> clear() {
+		store = new ContiguousArrayStore(0);
+		return this;
+	}
+
+	@Override
+	public MutableSortedList<T> matchAll(Predicate<T> condition) {
+		final var matches = super.matchAll(condition);
+		return new MutableSortedList<>(matches.store, comparator);
+	}
+
+	@Override
+	public MutableSortedList<T> getDistinct() {
+		final var distinct = super.getDistinct();
+		return new MutableSortedList<>(distinct.store, comparator);
+	}
+
+	/**
+	 * Returns immutable copy of this list.
+	 */
+	public SortedList<T> toImmutable() {
+		final var items = store.get(store.itemCount, 0, store.itemCount);
+		return new SortedList<>(items, comparator);
+	}
+}
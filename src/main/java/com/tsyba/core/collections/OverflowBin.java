@@ -0,0 +1,306 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.RobinHoodHashStore.Entry;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * An array of hash store entries, which did not fit into the probe window of their bucket
+ * because too many entries share their hash code.
+ * <p>
+ * Entries are kept in a few consecutive sorted runs, each ordered by hash code, then by
+ * class name, and then by natural order when items are {@link Comparable}. Inserting an
+ * entry appends a run of a single entry, and merges trailing runs while the previous
+ * run is at most twice as large as the last one; this keeps the number of runs
+ * logarithmic, and makes insertion take amortized logarithmic time. Lookups search each
+ * run in logarithmic time, unless many entries share both the hash code and the class,
+ * but are not {@link Comparable}; then, they are scanned for an equal item one by one.
+ *
+ * <pre>
+ * Sources:
+ * 1. J. Bentley, J. Saxe. "Decomposable searching problems I: static-to-dynamic
+ *    transformation". Journal of Algorithms, 1(4), 1980, pp. 301–358.
+ * </pre>
+ */
+class OverflowBin<E> {
+	Entry<E>[] entries;
+	int entryCount;
+	private int[] runEnds;
+	private int runCount;
+
+	@SuppressWarnings("unchecked")
+	OverflowBin() {
+		this.entries = new Entry[8];
+		this.entryCount = 0;
+		this.runEnds = new int[4];
+		this.runCount = 0;
+	}
+
+	OverflowBin(OverflowBin<E> bin) {
+		this.entries = bin.entries.clone();
+		this.entryCount = bin.entryCount;
+		this.runEnds = bin.runEnds.clone();
+		this.runCount = bin.runCount;
+	}
+
+	/**
+	 * Returns index of the entry with an item equal to the specified one.
+	 * <p>
+	 * When this bin contains no such entry, returns -1.
+	 */
+	int find(Object item) {
+		final var hashCode = item.hashCode();
+		var start = 0;
+
+		for (var run = 0; run < runCount; run += 1) {
+			final var end = runEnds[run];
+			for (var index = findLowerBound(item, hashCode, start, end); index < end; index += 1) {
+				final var storedEntry = entries[index];
+				if (compare(item, hashCode, storedEntry) != 0) {
+					break;
+				}
+				if (storedEntry.item.equals(item)) {
+					return index;
+				}
+			}
+
+			start = end;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns index of an entry with the specified hash code.
+	 * <p>
+	 * When this bin contains no such entry, returns -1.
+	 */
+	int findHashCode(int hashCode) {
+		var start = 0;
+		for (var run = 0; run < runCount; run += 1) {
+			final var end = runEnds[run];
+
+			// note: a null item is ordered before any item with the same hash
+			// code, which makes the lower bound the first entry with it
+			final var index = findLowerBound(null, hashCode, start, end);
+			if (index < end && entries[index].hashCode == hashCode) {
+				return index;
+			}
+
+			start = end;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Inserts the specified entry into this bin, or replaces an entry with an equal item.
+	 * <p>
+	 * Returns {@code true} when the specified entry was inserted; returns {@code false}
+	 * when it replaced an equal one.
+	 */
+	boolean insert(Entry<E> entry) {
+		final var index = find(entry.item);
+		if (index >= 0) {
+			entries[index] = entry;
+			return false;
+		}
+
+		if (entryCount == entries.length) {
+			entries = Arrays.copyOf(entries, 2 * entries.length);
+		}
+		if (runCount == runEnds.length) {
+			runEnds = Arrays.copyOf(runEnds, 2 * runCount);
+		}
+
+		entries[entryCount] = entry;
+		entryCount += 1;
+
+		runEnds[runCount] = entryCount;
+		runCount += 1;
+
+		mergeRuns();
+		return true;
+	}
+
+	/**
+	 * Merges the last two runs of this bin while the previous one is at most twice as
+	 * large as the last one.
+	 */
+	private void mergeRuns() {
+		while (runCount > 1) {
+			final var start = runCount > 2
+				? runEnds[runCount - 3]
+				: 0;
+			final var middle = runEnds[runCount - 2];
+			final var end = runEnds[runCount - 1];
+
+			if (middle - start > 2 * (end - middle)) {
+				break;
+			}
+
+			merge(start, middle, end);
+			runCount -= 1;
+			runEnds[runCount - 1] = end;
+		}
+	}
+
+	/**
+	 * Merges the sorted runs of entries between the specified start and middle, and
+	 * middle and end indexes into a single sorted run.
+	 */
+	private void merge(int start, int middle, int end) {
+		final var left = Arrays.copyOfRange(entries, start, middle);
+		var leftIndex = 0;
+		var rightIndex = middle;
+		var index = start;
+
+		while (leftIndex < left.length && rightIndex < end) {
+			final var leftEntry = left[leftIndex];
+			final var rightEntry = entries[rightIndex];
+
+			if (compare(rightEntry.item, rightEntry.hashCode, leftEntry) < 0) {
+				entries[index] = rightEntry;
+				rightIndex += 1;
+			} else {
+				entries[index] = leftEntry;
+				leftIndex += 1;
+			}
+
+			index += 1;
+		}
+
+		// note: remaining entries of the right run are already in place
+		arraycopy(left, leftIndex, entries, index, left.length - leftIndex);
+	}
+
+	/**
+	 * Deletes the entry at the specified index from this bin.
+	 */
+	void delete(int index) {
+		arraycopy(entries, index + 1, entries, index, entryCount - index - 1);
+		entryCount -= 1;
+		entries[entryCount] = null;
+
+		var keptRunCount = 0;
+		for (var run = 0; run < runCount; run += 1) {
+			var end = runEnds[run];
+			if (end > index) {
+				end -= 1;
+			}
+
+			// note: drop a run, which the deleted entry was the last one of
+			final var start = keptRunCount > 0
+				? runEnds[keptRunCount - 1]
+				: 0;
+			if (end > start) {
+				runEnds[keptRunCount] = end;
+				keptRunCount += 1;
+			}
+		}
+
+		runCount = keptRunCount;
+	}
+
+	/**
+	 * Deletes all entries, which satisfy the specified {@link Predicate}, from this bin,
+	 * keeping the order of remaining ones.
+	 * <p>
+	 * Returns the number of deleted entries.
+	 */
+	int deleteAll(Predicate<Entry<E>> condition) {
+		var keptCount = 0;
+		var keptRunCount = 0;
+		var index = 0;
+
+		for (var run = 0; run < runCount; run += 1) {
+			for (; index < runEnds[run]; index += 1) {
+				final var storedEntry = entries[index];
+				if (!condition.test(storedEntry)) {
+					entries[keptCount] = storedEntry;
+					keptCount += 1;
+				}
+			}
+
+			final var start = keptRunCount > 0
+				? runEnds[keptRunCount - 1]
+				: 0;
+			if (keptCount > start) {
+				runEnds[keptRunCount] = keptCount;
+				keptRunCount += 1;
+			}
+		}
+
+		final var deletedCount = entryCount - keptCount;
+		Arrays.fill(entries, keptCount, entryCount, null);
+
+		entryCount = keptCount;
+		runCount = keptRunCount;
+
+		return deletedCount;
+	}
+
+	/**
+	 * Returns index of the first entry between the specified start and end indexes, which
+	 * is not ordered before the specified item with the specified hash code.
+	 */
+	private int findLowerBound(Object item, int hashCode, int start, int end) {
+		var lowIndex = start;
+		var highIndex = end;
+
+		while (lowIndex < highIndex) {
+			final var index = (lowIndex + highIndex) >>> 1;
+			if (compare(item, hashCode, entries[index]) > 0) {
+				lowIndex = index + 1;
+			} else {
+				highIndex = index;
+			}
+		}
+
+		return lowIndex;
+	}
+
+	private static int compare(Object item, int hashCode, Entry<?> entry) {
+		final var order = Integer.compare(hashCode, entry.hashCode);
+		if (order != 0) {
+			return order;
+		}
+
+		// note: map entries are looked up by their keys, and thus must be
+		// ordered by them
+		final var key1 = getKey(item);
+		final var key2 = getKey(entry.item);
+
+		if (key1 == key2) {
+			return 0;
+		} else if (key1 == null) {
+			return -1;
+		} else if (key2 == null) {
+			return 1;
+		}
+
+		final var class1 = key1.getClass();
+		final var class2 = key2.getClass();
+		if (class1 != class2) {
+			return class1.getName()
+				.compareTo(class2.getName());
+		}
+
+		if (key1 instanceof Comparable) {
+			@SuppressWarnings("unchecked")
+			final var comparable = (Comparable<Object>) key1;
+			return comparable.compareTo(key2);
+		}
+
+		return 0;
+	}
+
+	private static Object getKey(Object item) {
+		return item instanceof Map.Entry
+			? ((Map.Entry<?, ?>) item).key
+			: item;
+	}
+}
@@ -0,0 +1,170 @@
+package com.tsyba.core.collections;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, lazy {@link Collection} view of a cartesian product (A×B) of two sets.
+ * <p>
+ * A product set does not store its pairs. Instead, it answers queries from its component
+ * sets and produces pairs on demand during iteration. Since it has no storage, it is not
+ * a {@link Set} itself; use {@link #materialize()} to obtain a {@link Set}, which stores
+ * all pairs of this product.
+ */
+public class ProductSet<T, R> implements Collection<Pair<T, R>> {
+	private final Set<T> items1;
+	private final Set<R> items2;
+
+	/**
+	 * Creates a cartesian product of the specified sets.
+	 */
+	public ProductSet(Set<T> items1, Set<R> items2) {
+		this.items1 = items1;
+		this.items2 = items2;
+	}
+
+	/**
+	 * Returns the number of pairs in this product.
+	 *
+	 * @throws ArithmeticException when the number of pairs exceeds {@code int} range
+	 */
+	@Override
+	public int getCount() {
+		return Math.multiplyExact(items1.getCount(), items2.getCount());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return items1.isEmpty() || items2.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} when the first item of the specified pair is present in the
+	 * first set and the second item is present in the second set of this product;
+	 * returns {@code false} otherwise.
+	 */
+	@Override
+	public boolean contains(Pair<T, R> pair) {
+		return pair != null
+			&& items1.contains(pair.item1)
+			&& items2.contains(pair.item2);
+	}
+
+	@Override
+	public Set<Pair<T, R>> matchAll(Predicate<Pair<T, R>> condition) {
+		// note: unlike a set, a product may be much larger than any of
+		// its matching subsets; avoid presizing the store to its full size
+		final var capacity = Math.max(items1.getCount(), items2.getCount());
+		final var store = new RobinHoodHashStore<Pair<T, R>>(capacity);
+
+		for (var pair : this) {
+			if (condition.test(pair)) {
+				store.insert(pair);
+			}
+		}
+
+		return new Set<>(store);
+	}
+
+	/**
+	 * Returns itself, since pairs of a cartesian product of two sets are distinct.
+	 */
+	@Override
+	public ProductSet<T, R> getDistinct() {
+		return this;
+	}
+
+	/**
+	 * Returns difference of this product from the specified set, i.e. pairs of this
+	 * product, which are not present in the specified set.
+	 */
+	public Set<Pair<T, R>> subtract(Set<Pair<T, R>> set) {
+		return matchAll((pair) -> !set.contains(pair));
+	}
+
+	@Override
+	public ProductSet<T, R> iterate(Consumer<Pair<T, R>> operation) {
+		return (ProductSet<T, R>) Collection.super.iterate(operation);
+	}
+
+	/**
+	 * Applies the specified {@link BiConsumer} to items of each pair in this product,
+	 * without creating any {@link Pair}.
+	 *
+	 * @return itself
+	 */
+	public ProductSet<T, R> iterate(BiConsumer<T, R> operation) {
+		for (var item1 : items1) {
+			for (var item2 : items2) {
+				operation.accept(item1, item2);
+			}
+		}
+
+		return this;
+	}
+
+	@Override
+	public <V> Set<V> convert(Function<Pair<T, R>, V> converter) {
+		final var store = new RobinHoodHashStore<V>(0);
+		for (var pair : this) {
+			final var item = converter.apply(pair);
+			if (item != null) {
+				store.insert(item);
+			}
+		}
+
+		return new Set<>(store);
+	}
+
+	/**
+	 * Returns a {@link Set}, which stores all pairs of this product.
+	 */
+	public Set<Pair<T, R>> materialize() {
+		return new Set<>(this);
+	}
+
+	@Override
+	public Iterator<Pair<T, R>> iterator() {
+		return new Iterator<>() {
+			private final Iterator<T> iterator1 = items1.iterator();
+			private Iterator<R> iterator2 = items2.iterator();
+			private T item1 = iterator1.hasNext() && iterator2.hasNext()
+				? iterator1.next()
+				: null;
+
+			@Override
+			public boolean hasNext() {
+				if (item1 == null) {
+					return false;
+				}
+				if (!iterator2.hasNext() && iterator1.hasNext()) {
+					// restart iteration of the second set for the next
+					// item of the first set
+					item1 = iterator1.next();
+					iterator2 = items2.iterator();
+				}
+
+				return iterator2.hasNext();
+			}
+
+			@Override
+			public Pair<T, R> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				final var item2 = iterator2.next();
+				return new Pair<>(item1, item2);
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "{" + join(", ") + "}";
+	}
+}
@@ -0,0 +1,152 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+
+/**
+ * A stable least significant digit radix sort of {@code int} and {@code long} keys,
+ * which orders indexes of the keys rather than the keys themselves.
+ * <p>
+ * Keys are sorted one byte at a time, starting from the lowest one, by counting keys
+ * with each byte value and moving keys and their indexes to the positions, which the
+ * counts give. Each pass is stable, so that keys sorted by lower bytes stay in order
+ * among keys with the same higher byte. Passes, in which all keys have the same byte,
+ * are skipped. Thus, sorting takes linear time in the number of keys, and does not
+ * compare any of them.
+ */
+class RadixSort {
+	private static final int radixBits = 8;
+	private static final int radix = 1 << radixBits;
+	private static final int mask = radix - 1;
+
+	private RadixSort() {
+	}
+
+	/**
+	 * Returns indexes of the specified keys in ascending order of the keys, keeping
+	 * indexes of equal keys in ascending order.
+	 */
+	static int[] sort(int[] keys) {
+		final var count = keys.length;
+		var keys1 = new int[count];
+		var indexes1 = new int[count];
+
+		// note: flipping the sign bit orders negative keys before positive ones
+		// when comparing them as unsigned
+		for (var index = 0; index < count; ++index) {
+			keys1[index] = keys[index] ^ Integer.MIN_VALUE;
+			indexes1[index] = index;
+		}
+
+		var keys2 = new int[count];
+		var indexes2 = new int[count];
+		final var counts = new int[radix + 1];
+
+		for (var shift = 0; shift < Integer.SIZE; shift += radixBits) {
+			if (!count(keys1, shift, counts)) {
+				continue;
+			}
+
+			for (var index = 0; index < count; ++index) {
+				final var digit = (keys1[index] >>> shift) & mask;
+				final var position = counts[digit]++;
+
+				keys2[position] = keys1[index];
+				indexes2[position] = indexes1[index];
+			}
+
+			final var sortedKeys = keys2;
+			keys2 = keys1;
+			keys1 = sortedKeys;
+
+			final var sortedIndexes = indexes2;
+			indexes2 = indexes1;
+			indexes1 = sortedIndexes;
+		}
+
+		return indexes1;
+	}
+
+	/**
+	 * Returns indexes of the specified keys in ascending order of the keys, keeping
+	 * indexes of equal keys in ascending order.
+	 */
+	static int[] sort(long[] keys) {
+		final var count = keys.length;
+		var keys1 = new long[count];
+		var indexes1 = new int[count];
+
+		for (var index = 0; index < count; ++index) {
+			keys1[index] = keys[index] ^ Long.MIN_VALUE;
+			indexes1[index] = index;
+		}
+
+		var keys2 = new long[count];
+		var indexes2 = new int[count];
+		final var counts = new int[radix + 1];
+
+		for (var shift = 0; shift < Long.SIZE; shift += radixBits) {
+			if (!count(keys1, shift, counts)) {
+				continue;
+			}
+
+			for (var index = 0; index < count; ++index) {
+				final var digit = (int) (keys1[index] >>> shift) & mask;
+				final var position = counts[digit]++;
+
+				keys2[position] = keys1[index];
+				indexes2[position] = indexes1[index];
+			}
+
+			final var sortedKeys = keys2;
+			keys2 = keys1;
+			keys1 = sortedKeys;
+
+			final var sortedIndexes = indexes2;
+			indexes2 = indexes1;
+			indexes1 = sortedIndexes;
+		}
+
+		return indexes1;
+	}
+
+	/**
+	 * Sets the specified counts to the start positions of keys with each value of the
+	 * byte at the specified shift.
+	 * <p>
+	 * Returns {@code false} when all keys have the same byte value, and so there is no
+	 * need to move them; returns {@code true} otherwise.
+	 */
+	private static boolean count(int[] keys, int shift, int[] counts) {
+		Arrays.fill(counts, 0);
+		for (var key : keys) {
+			++counts[((key >>> shift) & mask) + 1];
+		}
+
+		return accumulate(counts, keys.length);
+	}
+
+	private static boolean count(long[] keys, int shift, int[] counts) {
+		Arrays.fill(counts, 0);
+		for (var key : keys) {
+			++counts[((int) (key >>> shift) & mask) + 1];
+		}
+
+		return accumulate(counts, keys.length);
+	}
+
+	/**
+	 * Turns the specified counts of keys with each byte value, offset by one, into start
+	 * positions of these keys.
+	 */
+	private static boolean accumulate(int[] counts, int count) {
+		for (var digit = 1; digit <= radix; ++digit) {
+			if (counts[digit] == count) {
+				return false;
+			}
+
+			counts[digit] += counts[digit - 1];
+		}
+
+		return true;
+	}
+}
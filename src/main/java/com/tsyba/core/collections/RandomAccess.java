@@ -0,0 +1,18 @@
+package com.tsyba.core.collections;
+
+/**
+ * A marker of {@link Sequence}s, which access an item at any index in constant, or
+ * nearly constant, time.
+ * <p>
+ * Default methods of {@link Sequence} and {@link Collection} check for this marker, and
+ * go through items of such sequences with indexed loops over {@link Sequence#get(int)},
+ * instead of iterating or skipping items one by one. Therefore, a {@link Sequence} with
+ * this marker must override {@link Collection#getCount()} and
+ * {@link Sequence#get(int)}; its {@link Iterable#iterator()} may then simply return
+ * {@link Sequence#iterator(int)} at index 0.
+ * <p>
+ * The marker is ignored on {@link Collection}s, which are not {@link Sequence}s; their
+ * items are iterated as usual.
+ */
+public interface RandomAccess {
+}
@@ -0,0 +1,241 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * A circular array store, which keeps items starting at a head offset and wrapping
+ * around the end of its array.
+ * <p>
+ * Capacity is always a power of two, so that item positions wrap with a bit mask.
+ * Items are added and removed at either end without moving other items; items are
+ * inserted and removed elsewhere by moving the shorter side of the store.
+ */
+class RingBufferStore extends SequenceStore {
+	Object[] items;
+	int head;
+	int itemCount;
+
+	/**
+	 * Creates a new ring buffer store with at least the specified capacity.
+	 */
+	RingBufferStore(int capacity) {
+		this.items = new Object[roundCapacity(capacity)];
+		this.head = 0;
+		this.itemCount = 0;
+	}
+
+	/**
+	 * Creates a new ring buffer store with the specified items, starting at index 0.
+	 * Length of the specified array must be a power of two.
+	 */
+	RingBufferStore(Object[] items, int itemCount) {
+		this.items = items;
+		this.head = 0;
+		this.itemCount = itemCount;
+	}
+
+	/**
+	 * Returns the smallest power of two, which is not less than the specified capacity.
+	 */
+	static int roundCapacity(int capacity) {
+		return capacity <= 1
+			? 1
+			: Integer.highestOneBit(capacity - 1) << 1;
+	}
+
+	/**
+	 * Returns position in storage array of item at the specified index.
+	 */
+	private int locate(int index) {
+		return (head + index) & (items.length - 1);
+	}
+
+	@Override
+	int getCount() {
+		return itemCount;
+	}
+
+	@Override
+	Object get(int index) {
+		return items[locate(index)];
+	}
+
+	@Override
+	void set(int index, Object item) {
+		items[locate(index)] = item;
+	}
+
+	@Override
+	void prepend(Object item) {
+		ensureExcessCapacity(1);
+
+		head = (head - 1) & (items.length - 1);
+		items[head] = item;
+		itemCount += 1;
+	}
+
+	@Override
+	void append(Object item) {
+		ensureExcessCapacity(1);
+
+		items[locate(itemCount)] = item;
+		itemCount += 1;
+	}
+
+	/**
+	 * Inserts the specified item at the specified index, moving items before it one
+	 * position backward or items after it one position forward, whichever are fewer.
+	 */
+	@Override
+	void insert(int index, Object item) {
+		ensureExcessCapacity(1);
+
+		if (index < itemCount - index) {
+			head = (head - 1) & (items.length - 1);
+			moveItems(1, 0, index);
+		} else {
+			moveItems(index, index + 1, itemCount - index);
+		}
+
+		items[locate(index)] = item;
+		itemCount += 1;
+	}
+
+	@Override
+	void removeFirst() {
+		items[head] = null;
+		head = (head + 1) & (items.length - 1);
+		itemCount -= 1;
+	}
+
+	@Override
+	void removeLast() {
+		itemCount -= 1;
+		items[locate(itemCount)] = null;
+	}
+
+	/**
+	 * Removes item at the specified index, moving items before it one position forward
+	 * or items after it one position backward, whichever are fewer.
+	 */
+	@Override
+	void remove(int index) {
+		if (index < itemCount - index - 1) {
+			moveItems(0, 1, index);
+			removeFirst();
+		} else {
+			moveItems(index + 1, index, itemCount - index - 1);
+			removeLast();
+		}
+	}
+
+	/**
+	 * Removes items between the specified start and end indexes, moving items before
+	 * them forward or items after them backward, whichever are fewer.
+	 */
+	@Override
+	void remove(int startIndex, int endIndex) {
+		final var count = endIndex - startIndex;
+		if (startIndex < itemCount - endIndex) {
+			moveItems(0, count, startIndex);
+			fill(0, count);
+			head = (head + count) & (items.length - 1);
+		} else {
+			moveItems(endIndex, startIndex, itemCount - endIndex);
+			fill(itemCount - count, itemCount);
+		}
+
+		itemCount -= count;
+	}
+
+	@Override
+	void removeAll() {
+		fill(0, itemCount);
+		head = 0;
+		itemCount = 0;
+	}
+
+	/**
+	 * Moves the specified number of items from the specified index to the other
+	 * specified index, in the order, which does not overwrite items before they are
+	 * moved.
+	 */
+	private void moveItems(int fromIndex, int toIndex, int count) {
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
+		if (fromIndex > toIndex) {
+			for (var index = 0; index < count; index += 1) {
+				items[locate(toIndex + index)] = items[locate(fromIndex + index)];
+			}
+		} else {
+			for (var index = count - 1; index >= 0; index -= 1) {
+				items[locate(toIndex + index)] = items[locate(fromIndex + index)];
+			}
+		}
+
+		event.commit("moveItems", count, items.length, items.length);
+	}
+
+	private void fill(int fromIndex, int toIndex) {
+		final var start = locate(fromIndex);
+		final var count = toIndex - fromIndex;
+
+		if (start + count <= items.length) {
+			Arrays.fill(items, start, start + count, null);
+		} else {
+			Arrays.fill(items, start, items.length, null);
+			Arrays.fill(items, 0, start + count - items.length, null);
+		}
+	}
+
+	void ensureExcessCapacity(int extra) {
+		if (itemCount + extra > items.length) {
+			final var event = new ArrayCopyEvent();
+			event.begin();
+
+			final var capacity = roundCapacity(itemCount + extra) << 1;
+			final var expanded = copyItems(0, itemCount, capacity);
+
+			event.commit("ensureExcessCapacity", itemCount, items.length, capacity);
+			items = expanded;
+			head = 0;
+		}
+	}
+
+	/**
+	 * Returns an array of the specified length with items between the specified start
+	 * and end indexes of this store, in their order.
+	 */
+	@Override
+	Object[] copyItems(int startIndex, int endIndex, int length) {
+		final var copy = new Object[length];
+		final var start = locate(startIndex);
+		final var count = endIndex - startIndex;
+
+		if (start + count <= items.length) {
+			arraycopy(items, start, copy, 0, count);
+		} else {
+			final var headCount = items.length - start;
+			arraycopy(items, start, copy, 0, headCount);
+			arraycopy(items, 0, copy, headCount, count - headCount);
+		}
+
+		return copy;
+	}
+
+	@Override
+	RingBufferStore copy(int startIndex, int endIndex) {
+		final var count = endIndex - startIndex;
+		final var items = copyItems(startIndex, endIndex, roundCapacity(count));
+
+		return new RingBufferStore(items, count);
+	}
+
+	@Override
+	RingBufferStore create(int capacity) {
+		return new RingBufferStore(capacity);
+	}
+}
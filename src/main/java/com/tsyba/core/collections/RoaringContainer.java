@@ -0,0 +1,707 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An immutable set of 16-bit values, which stores a single chunk of a
+ * {@link BitmapIntSet}.
+ * <p>
+ * Each container picks the most compact of three representations: a sorted array of
+ * values for sparse chunks, a bitmap of all 2^16 values for dense chunks, or a sorted
+ * list of value runs for chunks with long sequences of consecutive values.
+ *
+ * <pre>
+ * Sources:
+ * 1. S. Chambi, D. Lemire, O. Kaser, R. Godin. "Better bitmap performance with Roaring
+ *    bitmaps". Software: Practice and Experience, vol. 46, 2016, pp. 709–719.
+ * 2. D. Lemire, O. Kaser, N. Kurz et al. "Roaring bitmaps: Implementation of an
+ *    optimized software library". Software: Practice and Experience, vol. 48, 2018,
+ *    pp. 867–895.
+ * </pre>
+ */
+abstract class RoaringContainer {
+	/**
+	 * Maximum number of values an array container stores; an array of more values
+	 * takes more memory, than a bitmap.
+	 */
+	static final int arrayCountLimit = 4096;
+	static final int bitmapLength = 1024;
+
+	/**
+	 * Creates a container with the specified sorted, distinct values.
+	 */
+	static RoaringContainer of(char[] values, int count) {
+		if (count > arrayCountLimit) {
+			final var words = new long[bitmapLength];
+			for (var index = 0; index < count; ++index) {
+				final var value = values[index];
+				words[value >>> 6] |= 1L << value;
+			}
+
+			return new Bitmap(words, count)
+				.optimize();
+		} else {
+			final var values2 = Arrays.copyOf(values, count);
+			return new Array(values2)
+				.optimize();
+		}
+	}
+
+	/**
+	 * Returns the number of values in this container.
+	 */
+	abstract int getCount();
+
+	/**
+	 * Returns {@code true} when this container contains the specified value; returns
+	 * {@code false} otherwise.
+	 */
+	abstract boolean contains(int value);
+
+	/**
+	 * Returns the number of values in this container smaller than the specified one.
+	 */
+	abstract int rank(int value);
+
+	/**
+	 * Returns value at the specified index in ascending order of values in this
+	 * container.
+	 */
+	abstract int select(int index);
+
+	/**
+	 * Returns an iterator over values of this container in ascending order.
+	 */
+	abstract PrimitiveIterator.OfInt iterator();
+
+	/**
+	 * Returns words of a bitmap with values of this container. The returned words may be
+	 * modified.
+	 */
+	abstract long[] toWords();
+
+	/**
+	 * Returns the most compact container with values of this container.
+	 */
+	abstract RoaringContainer optimize();
+
+	/**
+	 * Returns intersection of this container and the specified one.
+	 */
+	RoaringContainer and(RoaringContainer container) {
+		if (this instanceof Array) {
+			return ((Array) this).filter(container, true);
+		}
+		if (container instanceof Array) {
+			return ((Array) container).filter(this, true);
+		}
+
+		final var words1 = toWords();
+		final var words2 = container.toWords();
+		for (var index = 0; index < bitmapLength; ++index) {
+			words1[index] &= words2[index];
+		}
+
+		return Bitmap.of(words1);
+	}
+
+	/**
+	 * Returns union of this container and the specified one.
+	 */
+	RoaringContainer or(RoaringContainer container) {
+		if (this instanceof Array && container instanceof Array
+			&& getCount() + container.getCount() <= arrayCountLimit) {
+			return Array.merge((Array) this, (Array) container, true, true, true);
+		}
+
+		final var words1 = toWords();
+		final var words2 = container.toWords();
+		for (var index = 0; index < bitmapLength; ++index) {
+			words1[index] |= words2[index];
+		}
+
+		return Bitmap.of(words1);
+	}
+
+	/**
+	 * Returns difference of this container from the specified one.
+	 */
+	RoaringContainer andNot(RoaringContainer container) {
+		if (this instanceof Array) {
+			return ((Array) this).filter(container, false);
+		}
+
+		final var words1 = toWords();
+		final var words2 = container.toWords();
+		for (var index = 0; index < bitmapLength; ++index) {
+			words1[index] &= ~words2[index];
+		}
+
+		return Bitmap.of(words1);
+	}
+
+	/**
+	 * Returns symmetric difference between this container and the specified one.
+	 */
+	RoaringContainer xor(RoaringContainer container) {
+		if (this instanceof Array && container instanceof Array
+			&& getCount() + container.getCount() <= arrayCountLimit) {
+			return Array.merge((Array) this, (Array) container, true, false, true);
+		}
+
+		final var words1 = toWords();
+		final var words2 = container.toWords();
+		for (var index = 0; index < bitmapLength; ++index) {
+			words1[index] ^= words2[index];
+		}
+
+		return Bitmap.of(words1);
+	}
+
+	/**
+	 * Returns {@code true} when this container and the specified one have at least one
+	 * common value; returns {@code false} otherwise.
+	 */
+	boolean intersects(RoaringContainer container) {
+		if (container instanceof Array) {
+			final var values = ((Array) container).values;
+			for (var value : values) {
+				if (contains(value)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+		if (this instanceof Array) {
+			return container.intersects(this);
+		}
+
+		final var words1 = toWords();
+		final var words2 = container.toWords();
+		for (var index = 0; index < bitmapLength; ++index) {
+			if ((words1[index] & words2[index]) != 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof RoaringContainer)) {
+			return false;
+		}
+
+		final var container = (RoaringContainer) object;
+		return getCount() == container.getCount()
+			&& Arrays.equals(toWords(), container.toWords());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(toWords());
+	}
+
+	/**
+	 * A container, which stores its values in a sorted array.
+	 */
+	static final class Array extends RoaringContainer {
+		final char[] values;
+
+		Array(char[] values) {
+			this.values = values;
+		}
+
+		/**
+		 * Returns a container with values present in either (when {@code keep1} is set),
+		 * both (when {@code keepBoth} is set) or only the second (when {@code keep2} is
+		 * set) of the specified array containers.
+		 */
+		static RoaringContainer merge(Array array1, Array array2, boolean keep1,
+			boolean keepBoth, boolean keep2) {
+
+			final var values1 = array1.values;
+			final var values2 = array2.values;
+			final var merged = new char[values1.length + values2.length];
+
+			var count = 0;
+			var index1 = 0;
+			var index2 = 0;
+
+			while (index1 < values1.length && index2 < values2.length) {
+				final var value1 = values1[index1];
+				final var value2 = values2[index2];
+
+				if (value1 < value2) {
+					if (keep1) {
+						merged[count++] = value1;
+					}
+					++index1;
+				} else if (value1 > value2) {
+					if (keep2) {
+						merged[count++] = value2;
+					}
+					++index2;
+				} else {
+					if (keepBoth) {
+						merged[count++] = value1;
+					}
+					++index1;
+					++index2;
+				}
+			}
+			if (keep1) {
+				while (index1 < values1.length) {
+					merged[count++] = values1[index1++];
+				}
+			}
+			if (keep2) {
+				while (index2 < values2.length) {
+					merged[count++] = values2[index2++];
+				}
+			}
+
+			return new Array(Arrays.copyOf(merged, count));
+		}
+
+		/**
+		 * Returns a container with values of this one, which are either present in the
+		 * specified container (when {@code present} is set), or absent from it.
+		 */
+		RoaringContainer filter(RoaringContainer container, boolean present) {
+			final var filtered = new char[values.length];
+			var count = 0;
+
+			for (var value : values) {
+				if (container.contains(value) == present) {
+					filtered[count++] = value;
+				}
+			}
+
+			return new Array(Arrays.copyOf(filtered, count));
+		}
+
+		@Override
+		int getCount() {
+			return values.length;
+		}
+
+		@Override
+		boolean contains(int value) {
+			return Arrays.binarySearch(values, (char) value) > -1;
+		}
+
+		@Override
+		int rank(int value) {
+			final var index = Arrays.binarySearch(values, (char) value);
+			return index < 0
+				? -index - 1
+				: index;
+		}
+
+		@Override
+		int select(int index) {
+			return values[index];
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator() {
+			return new PrimitiveIterator.OfInt() {
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < values.length;
+				}
+
+				@Override
+				public int nextInt() {
+					if (index >= values.length) {
+						throw new NoSuchElementException();
+					}
+
+					return values[index++];
+				}
+			};
+		}
+
+		@Override
+		long[] toWords() {
+			final var words = new long[bitmapLength];
+			for (var value : values) {
+				words[value >>> 6] |= 1L << value;
+			}
+
+			return words;
+		}
+
+		@Override
+		RoaringContainer optimize() {
+			// a run container stores 2 values per run, while array container
+			// stores 1 value per item
+			var runCount = values.length == 0 ? 0 : 1;
+			for (var index = 1; index < values.length; ++index) {
+				if (values[index] != values[index - 1] + 1) {
+					++runCount;
+				}
+			}
+
+			return 2 * runCount < values.length
+				? Run.of(toWords())
+				: this;
+		}
+	}
+
+	/**
+	 * A container, which stores its values as bits of a bitmap.
+	 */
+	static final class Bitmap extends RoaringContainer {
+		final long[] words;
+		private final int count;
+
+		Bitmap(long[] words, int count) {
+			this.words = words;
+			this.count = count;
+		}
+
+		/**
+		 * Returns the most compact container with values in the specified bitmap words.
+		 */
+		static RoaringContainer of(long[] words) {
+			var count = 0;
+			for (var word : words) {
+				count += Long.bitCount(word);
+			}
+
+			return new Bitmap(words, count)
+				.optimize();
+		}
+
+		@Override
+		int getCount() {
+			return count;
+		}
+
+		@Override
+		boolean contains(int value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		int rank(int value) {
+			final var wordIndex = value >>> 6;
+			var rank = 0;
+
+			for (var index = 0; index < wordIndex; ++index) {
+				rank += Long.bitCount(words[index]);
+			}
+
+			// count bits below the specified value in its word
+			final var mask = (1L << value) - 1;
+			return rank + Long.bitCount(words[wordIndex] & mask);
+		}
+
+		@Override
+		int select(int index) {
+			var remaining = index;
+			for (var wordIndex = 0; wordIndex < bitmapLength; ++wordIndex) {
+				var word = words[wordIndex];
+				final var wordCount = Long.bitCount(word);
+
+				if (remaining < wordCount) {
+					// clear lowest set bits until the selected one is lowest
+					for (; remaining > 0; --remaining) {
+						word &= word - 1;
+					}
+
+					return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+				}
+
+				remaining -= wordCount;
+			}
+
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator() {
+			return new PrimitiveIterator.OfInt() {
+				private int wordIndex = 0;
+				private long word = words[0];
+
+				@Override
+				public boolean hasNext() {
+					while (word == 0 && wordIndex < bitmapLength - 1) {
+						++wordIndex;
+						word = words[wordIndex];
+					}
+
+					return word != 0;
+				}
+
+				@Override
+				public int nextInt() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					final var bit = Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+
+					return wordIndex * 64 + bit;
+				}
+			};
+		}
+
+		@Override
+		long[] toWords() {
+			return words.clone();
+		}
+
+		@Override
+		RoaringContainer optimize() {
+			if (count <= arrayCountLimit) {
+				final var values = new char[count];
+				final var iterator = iterator();
+
+				for (var index = 0; index < count; ++index) {
+					values[index] = (char) iterator.nextInt();
+				}
+
+				return new Array(values)
+					.optimize();
+			}
+
+			// a run container takes 4 bytes per run, while a bitmap container
+			// always takes 8 kilobytes
+			final var runCount = Run.countRuns(words);
+			return 4 * runCount < 8 * bitmapLength
+				? Run.of(words)
+				: this;
+		}
+	}
+
+	/**
+	 * A container, which stores its values as sorted runs of consecutive values.
+	 */
+	static final class Run extends RoaringContainer {
+		final char[] starts;
+		final char[] ends;
+		private final int count;
+
+		Run(char[] starts, char[] ends) {
+			var count = 0;
+			for (var index = 0; index < starts.length; ++index) {
+				count += ends[index] - starts[index] + 1;
+			}
+
+			this.starts = starts;
+			this.ends = ends;
+			this.count = count;
+		}
+
+		/**
+		 * Returns the number of runs of set bits in the specified bitmap words.
+		 */
+		static int countRuns(long[] words) {
+			var runCount = 0;
+			var carry = 0L;
+
+			for (var word : words) {
+				// count bits, which start a run, i.e. set bits with a clear
+				// preceding bit
+				runCount += Long.bitCount(word & ~((word << 1) | carry));
+				carry = word >>> 63;
+			}
+
+			return runCount;
+		}
+
+		/**
+		 * Returns a run container with values in the specified bitmap words.
+		 */
+		static Run of(long[] words) {
+			final var runCount = countRuns(words);
+			final var starts = new char[runCount];
+			final var ends = new char[runCount];
+
+			var runIndex = 0;
+			var value = 0;
+
+			while (runIndex < runCount) {
+				value = nextBit(words, value, true);
+				starts[runIndex] = (char) value;
+
+				value = nextBit(words, value, false);
+				ends[runIndex] = (char) (value - 1);
+
+				++runIndex;
+			}
+
+			return new Run(starts, ends);
+		}
+
+		/**
+		 * Returns position of the next set or clear bit at or after the specified
+		 * position in the specified bitmap words.
+		 */
+		private static int nextBit(long[] words, int position, boolean set) {
+			var wordIndex = position >>> 6;
+			if (wordIndex >= bitmapLength) {
+				return bitmapLength * 64;
+			}
+
+			var word = (set ? words[wordIndex] : ~words[wordIndex]) & (-1L << position);
+			while (word == 0) {
+				++wordIndex;
+				if (wordIndex == bitmapLength) {
+					return bitmapLength * 64;
+				}
+
+				word = set ? words[wordIndex] : ~words[wordIndex];
+			}
+
+			return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+		}
+
+		/**
+		 * Returns index of the run, which may contain the specified value, or -1, when
+		 * the value is before the first run.
+		 */
+		private int findRun(int value) {
+			var index = Arrays.binarySearch(starts, (char) value);
+			return index < 0
+				? -index - 2
+				: index;
+		}
+
+		@Override
+		int getCount() {
+			return count;
+		}
+
+		@Override
+		boolean contains(int value) {
+			final var index = findRun(value);
+			return index > -1
+				&& value <= ends[index];
+		}
+
+		@Override
+		int rank(int value) {
+			var rank = 0;
+			for (var index = 0; index < starts.length && starts[index] < value; ++index) {
+				rank += Math.min(ends[index] + 1, value) - starts[index];
+			}
+
+			return rank;
+		}
+
+		@Override
+		int select(int index) {
+			var remaining = index;
+			for (var runIndex = 0; runIndex < starts.length; ++runIndex) {
+				final var runLength = ends[runIndex] - starts[runIndex] + 1;
+				if (remaining < runLength) {
+					return starts[runIndex] + remaining;
+				}
+
+				remaining -= runLength;
+			}
+
+			throw new IndexOutOfBoundsException(index);
+		}
+
+		@Override
+		PrimitiveIterator.OfInt iterator() {
+			return new PrimitiveIterator.OfInt() {
+				private int runIndex = 0;
+				private int value = starts.length > 0 ? starts[0] : 0;
+
+				@Override
+				public boolean hasNext() {
+					return runIndex < starts.length;
+				}
+
+				@Override
+				public int nextInt() {
+					if (runIndex >= starts.length) {
+						throw new NoSuchElementException();
+					}
+
+					final var next = value;
+					if (value < ends[runIndex]) {
+						++value;
+					} else {
+						++runIndex;
+						if (runIndex < starts.length) {
+							value = starts[runIndex];
+						}
+					}
+
+					return next;
+				}
+			};
+		}
+
+		@Override
+		long[] toWords() {
+			final var words = new long[bitmapLength];
+			for (var index = 0; index < starts.length; ++index) {
+				setRange(words, starts[index], ends[index] + 1);
+			}
+
+			return words;
+		}
+
+		/**
+		 * Sets bits in the specified range of bitmap words a word at a time.
+		 */
+		private static void setRange(long[] words, int start, int end) {
+			final var startWord = start >>> 6;
+			final var endWord = (end - 1) >>> 6;
+
+			final var startMask = -1L << start;
+			final var endMask = -1L >>> -end;
+
+			if (startWord == endWord) {
+				words[startWord] |= startMask & endMask;
+			} else {
+				words[startWord] |= startMask;
+				for (var index = startWord + 1; index < endWord; ++index) {
+					words[index] = -1L;
+				}
+				words[endWord] |= endMask;
+			}
+		}
+
+		@Override
+		RoaringContainer optimize() {
+			// a run container takes 4 bytes per run, while an array container
+			// takes 2 bytes per value and a bitmap container takes 8 kilobytes
+			final var size = 4 * starts.length;
+			if (count <= arrayCountLimit && 2 * count <= size) {
+				final var values = new char[count];
+				final var iterator = iterator();
+
+				for (var index = 0; index < count; ++index) {
+					values[index] = (char) iterator.nextInt();
+				}
+
+				return new Array(values);
+			}
+			if (count > arrayCountLimit && 8 * bitmapLength <= size) {
+				return new Bitmap(toWords(), count);
+			}
+
+			return this;
+		}
+	}
+}
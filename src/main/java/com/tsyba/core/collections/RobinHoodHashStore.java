@@ -1,24 +1,36 @@
 package com.tsyba.core.collections;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 /*
  * Created by Serge Tsyba <tsyba@me.com> on Dec 21, 2018.
  */
 class RobinHoodHashStore<E> implements Iterable<E> {
+	/**
+	 * The largest number of entries, which a store keeps packed at the start of its
+	 * storage and scans one by one, before it distributes them into buckets.
+	 */
+	static final int packedEntryLimit = 8;
+
+	@SuppressWarnings("rawtypes")
+	private static final Entry[] emptyStorage = new Entry[0];
+
 	Entry<E>[] storage;
 	int entryCount;
 
 	private int capacity;
 	private final int probeDistanceLimit;
+	private int seed;
+	OverflowBin<E> overflow;
+	BloomFilter filter;
+	HashStoreStatistics statistics;
 
 	RobinHoodHashStore(int capacity, int probeDistanceLimit) {
-		// note: keeping an extra slot in storage allows avoiding index
-		// boundary checks during probe iterations; since probing an empty slot
-		// stops probe iteration anyway, a trailing extra empty slot will thus
-		// break probe iteration
-		this.storage = new Entry[capacity + probeDistanceLimit + 1];
+		this.storage = createStorage(capacity, probeDistanceLimit);
 		this.capacity = capacity;
 		this.entryCount = 0;
 		this.probeDistanceLimit = probeDistanceLimit;
@@ -33,16 +45,33 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 			throw new IllegalArgumentException("Cannot create hash store with load factor limit "
 				+ maximumLoadFactor + ": value must be in range (0.0, 1.0).");
 		}
-		if (capacity == 0) {
-			// todo:
-			capacity = 64;
+		if (capacity <= packedEntryLimit) {
+			// note: small stores keep their entries packed until they grow
+			// past the limit; storage is not allocated until the first entry
+			// is inserted
+			capacity = 0;
 		}
 
 		this.probeDistanceLimit = estimateProbeDistance(maximumLoadFactor);
-		this.storage = new Entry[capacity + probeDistanceLimit + 1];
+		this.storage = createStorage(capacity, probeDistanceLimit);
 		this.capacity = capacity;
 	}
 
+	/**
+	 * Returns empty storage for the specified number of buckets and probe distance
+	 * limit. When the number of buckets is 0, returns a shared empty array.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> Entry<E>[] createStorage(int capacity, int probeDistanceLimit) {
+		// note: keeping an extra slot in storage allows avoiding index
+		// boundary checks during probe iterations; since probing an empty slot
+		// stops probe iteration anyway, a trailing extra empty slot will thus
+		// break probe iteration
+		return capacity == 0
+			? emptyStorage
+			: new Entry[capacity + probeDistanceLimit + 1];
+	}
+
 	/**
 	 * <pre>
 	 * Sources:
@@ -62,9 +91,165 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 	}
 
 	public RobinHoodHashStore(RobinHoodHashStore<E> store) {
-		this(store.capacity, store.probeDistanceLimit);
-		System.arraycopy(store.storage, 0, storage, 0, store.storage.length);
+		this.storage = store.storage.length == 0
+			? createStorage(0, 0)
+			: store.storage.clone();
+		this.capacity = store.capacity;
+		this.probeDistanceLimit = store.probeDistanceLimit;
 		this.entryCount = store.entryCount;
+		this.seed = store.seed;
+
+		// note: the overflow bin must be copied before the filter is built,
+		// so that the filter includes overflowed entries
+		if (store.overflow != null) {
+			this.overflow = new OverflowBin<>(store.overflow);
+		}
+
+		copyFilter(store);
+
+		if (store.statistics != null) {
+			attachStatistics(new HashStoreStatistics());
+		}
+	}
+
+	/**
+	 * Returns the number of buckets in storage of this store; when entries of this store
+	 * are packed, returns the number of slots in storage instead.
+	 */
+	int getCapacity() {
+		return isPacked()
+			? storage.length
+			: capacity;
+	}
+
+	/**
+	 * Returns {@code true} when entries of this store are packed at the start of its
+	 * storage in their insertion order, rather than distributed into buckets; returns
+	 * {@code false} otherwise.
+	 */
+	boolean isPacked() {
+		return capacity == 0;
+	}
+
+	/**
+	 * Returns the number of entries, which did not fit into storage because of hash code
+	 * collisions, and are kept in an overflow bin instead.
+	 */
+	int getOverflowCount() {
+		return overflow == null
+			? 0
+			: overflow.entryCount;
+	}
+
+	/**
+	 * Returns the item at the specified index, as returned by {@link #find(Object)}.
+	 */
+	E get(int index) {
+		return index < storage.length
+			? storage[index].item
+			: overflow.entries[index - storage.length].item;
+	}
+
+	/**
+	 * Attaches a bloom filter with the specified false positive rate to this store, which
+	 * answers lookups of absent items without probing storage.
+	 */
+	void attachFilter(double falsePositiveRate) {
+		final var capacity = Math.max(2 * entryCount, 64);
+		filter = new BloomFilter(capacity, falsePositiveRate);
+
+		final var iterator = entryIterator();
+		while (iterator.hasNext()) {
+			filter.add(iterator.next().hashCode);
+		}
+	}
+
+	/**
+	 * Attaches a bloom filter with the same false positive rate as that of the specified
+	 * store to this store. When the specified store has no filter, does nothing.
+	 */
+	void copyFilter(RobinHoodHashStore<?> store) {
+		if (store.filter != null) {
+			attachFilter(store.filter.falsePositiveRate);
+		}
+	}
+
+	/**
+	 * Replaces the bloom filter and statistics of this store with those of the specified
+	 * store: rebuilds a filter with the same false positive rate for entries of this
+	 * store, and moves statistics over. Removes either of them from this store, when the
+	 * specified store has none.
+	 */
+	void adoptSettings(RobinHoodHashStore<?> store) {
+		removeSettings();
+		copyFilter(store);
+		attachStatistics(store.statistics);
+	}
+
+	/**
+	 * Removes the bloom filter and statistics from this store.
+	 */
+	void removeSettings() {
+		filter = null;
+		statistics = null;
+	}
+
+	/**
+	 * Rebuilds the bloom filter of this store for its current entries, preserving its
+	 * lookup counts.
+	 */
+	private void rebuildFilter() {
+		final var capacity = Math.max(2 * entryCount, 64);
+		filter.reset(capacity);
+
+		final var iterator = entryIterator();
+		while (iterator.hasNext()) {
+			filter.add(iterator.next().hashCode);
+		}
+	}
+
+	/**
+	 * Attaches the specified statistics to this store, which start collecting its
+	 * lookups and resizes. When the specified statistics is {@code null}, does nothing.
+	 */
+	void attachStatistics(HashStoreStatistics statistics) {
+		if (statistics != null) {
+			statistics.store = this;
+			this.statistics = statistics;
+		}
+	}
+
+	/**
+	 * Returns the number of stored entries by their probe distance, indexed by probe
+	 * distance up to the largest one.
+	 */
+	int[] countProbeDistances() {
+		if (isPacked()) {
+			// note: packed entries are scanned from the start of storage, and
+			// are thus probed as far as their index
+			final var histogram = new int[entryCount];
+			Arrays.fill(histogram, 1);
+
+			return histogram;
+		}
+
+		var histogram = new int[probeDistanceLimit + 1];
+		var maxProbeDistance = -1;
+
+		for (var index = 0; index < storage.length; index += 1) {
+			final var storedEntry = storage[index];
+			if (storedEntry != null) {
+				final var probeDistance = index - estimateIndex(storedEntry);
+				if (probeDistance >= histogram.length) {
+					histogram = Arrays.copyOf(histogram, probeDistance + 1);
+				}
+
+				histogram[probeDistance] += 1;
+				maxProbeDistance = Math.max(maxProbeDistance, probeDistance);
+			}
+		}
+
+		return Arrays.copyOf(histogram, maxProbeDistance + 1);
 	}
 
 	private int prepareInsertionSlot(Entry entry) {
@@ -87,8 +272,11 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 					// new entry (i.e. an entry with lower probe distance, than
 					// that of the new entry); shift the remainder of the entry
 					// cluster one position to the right and place the entry into
-					// the freed slot
-					shiftEntriesRight(probeIndex);
+					// the freed slot; when the cluster cannot be shifted without
+					// filling the trailing empty slot, storage must be expanded
+					if (!shiftEntriesRight(probeIndex)) {
+						return -1;
+					}
 
 					// clear insertion slot to indicate a new entry being inserted
 					storage[probeIndex] = null;
@@ -102,28 +290,125 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 	}
 
 	private int estimateIndex(Object entry) {
-		final var hashCode = entry.hashCode();
+		var hashCode = entry.hashCode();
+		if (seed != 0) {
+			hashCode = mix(hashCode ^ seed);
+		}
+
 		return Math.floorMod(hashCode, capacity);
 	}
 
-	private void shiftEntriesRight(int index) {
-		var storedEntry = storage[index];
+	/**
+	 * Returns the specified hash code with its bits mixed, so that hash codes which
+	 * differ in a few high bits only end up in different buckets.
+	 *
+	 * <pre>
+	 * Implements the 32-bit finalization step of MurmurHash3.
+	 *
+	 * Sources:
+	 * 1. A. Appleby. "MurmurHash3". 2011.
+	 * </pre>
+	 */
+	private static int mix(int hashCode) {
+		hashCode ^= hashCode >>> 16;
+		hashCode *= 0x85ebca6b;
+		hashCode ^= hashCode >>> 13;
+		hashCode *= 0xc2b2ae35;
+		hashCode ^= hashCode >>> 16;
+
+		return hashCode;
+	}
 
-		for (; storedEntry != null; index += 1) {
-			final var swapEntry = storage[index + 1];
-			storage[index + 1] = storedEntry;
-			storedEntry = swapEntry;
+	/**
+	 * Returns {@code true} when storage holds enough entries for a failed insertion to be
+	 * caused by its load, rather than by hash code collisions; returns {@code false}
+	 * otherwise.
+	 */
+	private boolean isCrowded(int storedEntryCount) {
+		return storedEntryCount >= capacity / 8;
+	}
+
+	/**
+	 * Returns {@code true} when all entries in the probe window of the specified entry
+	 * share its hash code, so that no re-distribution of entries tells them apart;
+	 * returns {@code false} otherwise.
+	 */
+	private boolean isWindowColliding(Entry<E> entry) {
+		final var entryIndex = estimateIndex(entry);
+		for (var index = entryIndex; index < entryIndex + probeDistanceLimit; index += 1) {
+			if (storage[index].hashCode != entry.hashCode) {
+				return false;
+			}
 		}
+
+		return true;
+	}
+
+	private boolean shiftEntriesRight(int index) {
+		var endIndex = index;
+		while (storage[endIndex] != null) {
+			endIndex += 1;
+		}
+		if (endIndex >= storage.length - 1) {
+			return false;
+		}
+
+		System.arraycopy(storage, index, storage, index + 1, endIndex - index);
+		return true;
 	}
 
 	public void insert(E item) {
 		final var insertedEntry = new Entry<>(item);
+		if (isPacked()) {
+			if (insertPacked(insertedEntry)) {
+				return;
+			}
+
+			// packed storage is full; distribute entries into buckets
+			resize(2 * packedEntryLimit);
+		}
+
+		// an equal item may have overflowed before slots in its bucket
+		// were freed; replace it there to avoid storing it twice
+		final var overflowedIndex = findOverflowed(item);
+		if (overflowedIndex >= 0) {
+			overflow.entries[overflowedIndex - storage.length] = insertedEntry;
+			return;
+		}
 
-		// keep expanding storage capacity until bucket for the new entry
-		// is not full
 		var entryIndex = prepareInsertionSlot(insertedEntry);
+		if (entryIndex < 0) {
+			// the probe window of the new entry is full, but an equal item
+			// may still be stored further along its cluster, where entries
+			// shifted it; replace it there to avoid storing it twice
+			final var storedIndex = probe(item);
+			if (storedIndex >= 0) {
+				storage[storedIndex] = insertedEntry;
+				return;
+			}
+		}
+
+		// keep expanding storage capacity until bucket for the new entry
+		// is not full; when storage is mostly empty, the bucket is full
+		// because of colliding hash codes, which expanding does not fix
 		for (; entryIndex < 0; entryIndex = prepareInsertionSlot(insertedEntry)) {
-			resizeStorage(capacity * 2);
+			if (isCrowded(entryCount - getOverflowCount())) {
+				resize(capacity * 2);
+			} else if (seed == 0 && !isWindowColliding(insertedEntry)) {
+				// hash codes may differ in bits, which do not affect their
+				// bucket index; re-distribute entries with mixed hash codes,
+				// seeded per store to keep collisions unpredictable
+				seed = ThreadLocalRandom.current().nextInt() | 1;
+				resize(capacity);
+			} else {
+				if (overflow == null) {
+					overflow = new OverflowBin<>();
+				}
+
+				overflow.insert(insertedEntry);
+				countInsertion(insertedEntry);
+				return;
+			}
 		}
 
 		final var replacedEntry = storage[entryIndex];
@@ -132,64 +417,291 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 		// increment entry count when insertion slot was empty, i.e. inserted
 		// new entry
 		if (replacedEntry == null) {
-			entryCount += 1;
+			countInsertion(insertedEntry);
+		}
+	}
+
+	/**
+	 * Inserts the specified entry into packed storage of this store, or replaces an entry
+	 * with an equal item.
+	 * <p>
+	 * Returns {@code false} when packed storage already holds as many entries as it can;
+	 * returns {@code true} otherwise.
+	 */
+	private boolean insertPacked(Entry<E> insertedEntry) {
+		final var index = findPacked(insertedEntry.item);
+		if (index >= 0) {
+			storage[index] = insertedEntry;
+			return true;
+		}
+		if (entryCount == packedEntryLimit) {
+			return false;
+		}
+
+		if (entryCount == storage.length) {
+			final var length = Math.min(Math.max(2 * entryCount, 2), packedEntryLimit);
+			storage = Arrays.copyOf(storage, length);
+		}
+
+		storage[entryCount] = insertedEntry;
+		countInsertion(insertedEntry);
+
+		return true;
+	}
+
+	private void countInsertion(Entry<E> insertedEntry) {
+		entryCount += 1;
+
+		if (filter != null) {
+			if (filter.insertionCount < filter.capacity) {
+				filter.add(insertedEntry.hashCode);
+			} else {
+				// filter has reached the number of items it was sized
+				// for; rebuild it to keep its false positive rate
+				rebuildFilter();
+			}
+		}
+	}
+
+	/**
+	 * Expands capacity of this store to the specified one, unless it already is larger.
+	 */
+	void ensureCapacity(int capacity) {
+		// note: packed stores stay packed until they exceed the packed entry
+		// limit
+		if (capacity > this.capacity && (!isPacked() || capacity > packedEntryLimit)) {
+			resize(capacity);
+		}
+	}
+
+	private void resize(int capacity) {
+		final var previousCapacity = this.capacity;
+		final var event = new HashStoreResizeEvent();
+		event.begin();
+
+		if (statistics == null) {
+			resizeStorage(capacity);
+		} else {
+			final var startTime = System.nanoTime();
+
+			resizeStorage(capacity);
+			statistics.countResize(previousCapacity, this.capacity,
+				System.nanoTime() - startTime);
+		}
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.capacity = previousCapacity;
+			event.resizedCapacity = this.capacity;
+			event.entryCount = entryCount;
+			event.commit();
 		}
 	}
 
 	private void resizeStorage(int capacity) {
 		final var resizedStore = new RobinHoodHashStore<E>(capacity, probeDistanceLimit);
-
-		for (var storedEntry : storage) {
-			if (storedEntry != null) {
-				final var entryIndex = resizedStore.prepareInsertionSlot(storedEntry);
-				if (entryIndex < 0) {
-					// cannot find insertion index for a stored entry in
-					// resized store; expand capacity of resized store and
-					// re-insert all entries into expanded store
-					resizeStorage(capacity * 2);
-					return;
-				} else {
-					resizedStore.storage[entryIndex] = storedEntry;
+		resizedStore.seed = seed;
+
+		// note: overflowed entries are re-inserted as well, since they may
+		// fit into resized storage
+		final var iterator = entryIterator();
+		while (iterator.hasNext()) {
+			final var storedEntry = iterator.next();
+			final var entryIndex = resizedStore.prepareInsertionSlot(storedEntry);
+
+			if (entryIndex >= 0) {
+				resizedStore.storage[entryIndex] = storedEntry;
+				resizedStore.entryCount += 1;
+			} else if (resizedStore.isCrowded(resizedStore.entryCount)) {
+				// cannot find insertion index for a stored entry in
+				// resized store; expand capacity of resized store and
+				// re-insert all entries into expanded store
+				resizeStorage(capacity * 2);
+				return;
+			} else {
+				if (resizedStore.overflow == null) {
+					resizedStore.overflow = new OverflowBin<>();
 				}
+
+				resizedStore.overflow.insert(storedEntry);
 			}
 		}
 
 		this.storage = resizedStore.storage;
 		this.capacity = resizedStore.capacity;
+		this.overflow = resizedStore.overflow;
 	}
 
 	public int find(Object entry) {
-		if (capacity == 0) {
+		if (filter == null && statistics == null) {
+			return probe(entry);
+		}
+		if (filter != null && !filter.mayContain(entry.hashCode())) {
+			if (statistics != null) {
+				statistics.countLookup(0);
+			}
+
 			return -1;
 		}
 
+		final var index = statistics == null
+			? probe(entry)
+			: countProbe(entry);
+
+		if (index < 0 && filter != null) {
+			filter.countFalsePositive();
+		}
+
+		return index;
+	}
+
+	/**
+	 * Probes storage for the specified entry as {@link #probe(Object)} does, and records
+	 * the lookup with the number of equality checks it made in statistics of this store.
+	 */
+	private int countProbe(Object entry) {
+		var equalsCallCount = 0;
+		var index = -1;
+
+		if (isPacked()) {
+			final var hashCode = entry.hashCode();
+			for (var index2 = 0; index2 < entryCount; index2 += 1) {
+				final var storedEntry = storage[index2];
+				if (storedEntry.hashCode == hashCode) {
+					equalsCallCount += 1;
+					if (storedEntry.item.equals(entry)) {
+						index = index2;
+						break;
+					}
+				}
+			}
+		} else {
+			final var entryIndex = estimateIndex(entry);
+			var probeIndex = entryIndex;
+
+			for (; ; probeIndex += 1) {
+				final var storedEntry = storage[probeIndex];
+				if (storedEntry == null) {
+					break;
+				}
+
+				equalsCallCount += 1;
+				if (storedEntry.item.equals(entry)) {
+					index = probeIndex;
+					break;
+				}
+				if (estimateIndex(storedEntry) > entryIndex) {
+					break;
+				}
+			}
+
+			LongProbeEvent.commit(probeIndex - entryIndex, capacity, entryCount);
+		}
+
+		statistics.countLookup(equalsCallCount);
+		return index < 0
+			? findOverflowed(entry)
+			: index;
+	}
+
+	private int probe(Object entry) {
+		if (isPacked()) {
+			return findPacked(entry);
+		}
+
 		final var entryIndex = estimateIndex(entry);
-		for (var probeIndex = entryIndex; ; probeIndex += 1) {
+		var probeIndex = entryIndex;
+		var index = -1;
+
+		for (; ; probeIndex += 1) {
 			final var storedEntry = storage[probeIndex];
 
 			if (storedEntry == null) {
 				// probed an empty slot, store contains no such item
-				return -1;
+				break;
 			} else if (storedEntry.item.equals(entry)) {
 				// found the equal item
-				return probeIndex;
+				index = probeIndex;
+				break;
 			} else {
-				final var storedEntryIndex = estimateIndex(entry);
+				final var storedEntryIndex = estimateIndex(storedEntry);
 				if (storedEntryIndex > entryIndex) {
 					// probed an entry with bucket index higher than that
 					// of the new entry; store contains no such item
-					return -1;
+					break;
 				}
 			}
 		}
+
+		LongProbeEvent.commit(probeIndex - entryIndex, capacity, entryCount);
+		return index < 0
+			? findOverflowed(entry)
+			: index;
+	}
+
+	/**
+	 * Returns index of the specified entry in packed storage of this store, comparing it
+	 * with stored entries one by one.
+	 * <p>
+	 * When this store contains no such entry, returns -1.
+	 */
+	private int findPacked(Object entry) {
+		final var hashCode = entry.hashCode();
+		for (var index = 0; index < entryCount; index += 1) {
+			final var storedEntry = storage[index];
+			if (storedEntry.hashCode == hashCode && storedEntry.item.equals(entry)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns index of the specified entry in the overflow bin of this store, offset by
+	 * storage length, so that it tells apart from storage indexes.
+	 * <p>
+	 * When this store has no such overflowed entry, returns -1.
+	 */
+	private int findOverflowed(Object entry) {
+		if (overflow == null) {
+			return -1;
+		}
+
+		final var index = overflow.find(entry);
+		return index < 0
+			? -1
+			: storage.length + index;
 	}
 
 	public boolean delete(Object entry) {
 		var index = find(entry);
 		if (index < 0) {
 			return false;
+		} else if (index >= storage.length) {
+			overflow.delete(index - storage.length);
+			if (overflow.entryCount == 0) {
+				overflow = null;
+			}
+
+			entryCount -= 1;
+			if (filter != null && entryCount < filter.insertionCount / 2) {
+				rebuildFilter();
+			}
+
+			return true;
+		} else if (isPacked()) {
+			System.arraycopy(storage, index + 1, storage, index, entryCount - index - 1);
+			entryCount -= 1;
+			storage[entryCount] = null;
+
+			if (filter != null && entryCount < filter.insertionCount / 2) {
+				rebuildFilter();
+			}
+
+			return true;
 		} else {
-			// todo:
+			final var deletedEntry = storage[index];
 			++index;
 
 			while (storage[index] != null) {
@@ -204,13 +716,131 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 			storage[index - 1] = null;
 			entryCount -= 1;
 
+			if (overflow != null) {
+				restoreOverflowed(deletedEntry.hashCode);
+			}
+
+			// deleted items cannot be cleared from a bloom filter; rebuild it
+			// once deleted items make up more than a half of its items
+			if (filter != null && entryCount < filter.insertionCount / 2) {
+				rebuildFilter();
+			}
+
 			return true;
 		}
 	}
 
+	/**
+	 * Moves an overflowed entry with the specified hash code back into storage, when its
+	 * probe window has a free slot again.
+	 */
+	private void restoreOverflowed(int hashCode) {
+		final var index = overflow.findHashCode(hashCode);
+		if (index < 0) {
+			return;
+		}
+
+		final var overflowedEntry = overflow.entries[index];
+		final var entryIndex = prepareInsertionSlot(overflowedEntry);
+
+		if (entryIndex >= 0) {
+			storage[entryIndex] = overflowedEntry;
+			overflow.delete(index);
+
+			if (overflow.entryCount == 0) {
+				overflow = null;
+			}
+		}
+	}
+
+	/**
+	 * Deletes all entries from this store, releasing its storage.
+	 */
 	void deleteAll() {
-		storage = new Entry[capacity + probeDistanceLimit + 1];
+		storage = createStorage(0, 0);
+		capacity = 0;
+		overflow = null;
 		entryCount = 0;
+
+		if (filter != null) {
+			rebuildFilter();
+		}
+	}
+
+	/**
+	 * Deletes all items, which satisfy the specified {@link Predicate}, from this store
+	 * in a single sweep over its storage.
+	 * <p>
+	 * Returns the number of deleted items.
+	 */
+	int deleteAll(Predicate<E> condition) {
+		final var entryCount = this.entryCount;
+		if (isPacked()) {
+			var keptCount = 0;
+			for (var index = 0; index < entryCount; index += 1) {
+				final var storedEntry = storage[index];
+				storage[index] = null;
+
+				if (!condition.test(storedEntry.item)) {
+					storage[keptCount] = storedEntry;
+					keptCount += 1;
+				}
+			}
+
+			this.entryCount = keptCount;
+			if (filter != null && keptCount < filter.insertionCount / 2) {
+				rebuildFilter();
+			}
+
+			return entryCount - keptCount;
+		}
+
+		// note: entries within a cluster are ordered by their bucket index;
+		// re-placing each kept entry at its bucket index or right after the
+		// previously kept entry, whichever is further, thus closes any gaps
+		// left by deleted entries without breaking probe sequences
+		var insertionIndex = 0;
+		for (var index = 0; index < storage.length; index += 1) {
+			final var storedEntry = storage[index];
+			if (storedEntry == null) {
+				continue;
+			}
+
+			storage[index] = null;
+			if (condition.test(storedEntry.item)) {
+				this.entryCount -= 1;
+			} else {
+				final var entryIndex = Math.max(estimateIndex(storedEntry), insertionIndex);
+				storage[entryIndex] = storedEntry;
+				insertionIndex = entryIndex + 1;
+			}
+		}
+
+		if (overflow != null) {
+			this.entryCount -= overflow.deleteAll((entry) -> condition.test(entry.item));
+
+			// note: moves overflowed entries back into storage, when slots
+			// in their probe windows were freed
+			overflow.deleteAll((entry) -> {
+				final var entryIndex = prepareInsertionSlot(entry);
+				if (entryIndex < 0) {
+					return false;
+				}
+
+				storage[entryIndex] = entry;
+				return true;
+			});
+
+			if (overflow.entryCount == 0) {
+				overflow = null;
+			}
+		}
+
+		if (filter != null && this.entryCount < filter.insertionCount / 2) {
+			rebuildFilter();
+		}
+
+		return entryCount - this.entryCount;
 	}
 
 	private void shiftEntriesLeft(int index) {
@@ -260,7 +890,26 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 
 	@Override
 	public Iterator<E> iterator() {
+		final var iterator = entryIterator();
 		return new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iterator.next().item;
+			}
+		};
+	}
+
+	/**
+	 * Returns an iterator over entries in storage of this store, followed by entries
+	 * in its overflow bin.
+	 */
+	private Iterator<Entry<E>> entryIterator() {
+		return new Iterator<>() {
 			private int index = 0;
 
 			@Override
@@ -273,15 +922,17 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 					index += 1;
 				}
 
-				return false;
+				return index - storage.length < getOverflowCount();
 			}
 
 			@Override
-			public E next() {
-				final var item = storage[index].item;
-				index += 1;
+			public Entry<E> next() {
+				final var entry = index < storage.length
+					? storage[index]
+					: overflow.entries[index - storage.length];
 
-				return item;
+				index += 1;
+				return entry;
 			}
 		};
 	}
@@ -289,10 +940,10 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 	@Override
 	public int hashCode() {
 		var hashCode = 1;
-		for (var entry : storage) {
-			if (entry != null) {
-				hashCode = 31 * hashCode + entry.hashCode;
-			}
+		final var iterator = entryIterator();
+
+		while (iterator.hasNext()) {
+			hashCode = 31 * hashCode + iterator.next().hashCode;
 		}
 
 		return hashCode;
@@ -315,11 +966,8 @@ class RobinHoodHashStore<E> implements Iterable<E> {
 		}
 
 		// ensure each entry from this store is present in the specified one
-		for (var entry : storage) {
-			if (entry == null) {
-				continue;
-			}
-			if (store.find(entry.item) < 0) {
+		for (var item : this) {
+			if (store.find(item) < 0) {
 				return false;
 			}
 		}
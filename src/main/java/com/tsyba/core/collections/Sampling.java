@@ -0,0 +1,233 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Random sampling of items without replacement, which takes time proportional to the
+ * sample size for {@link RandomAccess} sequences, and a single pass otherwise.
+ *
+ * <pre>
+ * Sources:
+ * 1. K.-H. Li. "Reservoir-sampling algorithms of time complexity O(n(1 + log(N/n)))".
+ *    ACM Transactions on Mathematical Software, vol. 20, 1994, pp. 481–493,
+ *    algorithm L.
+ * 2. P. Efraimidis, P. Spirakis. "Weighted random sampling with a reservoir".
+ *    Information Processing Letters, vol. 97, 2006, pp. 181–185.
+ * </pre>
+ */
+class Sampling {
+	/**
+	 * Capacity, which a reservoir starts with, and then doubles until it reaches the
+	 * sample size, so that a sample size much larger than the number of items does not
+	 * allocate storage for all of it.
+	 */
+	private static final int initialCapacity = 16;
+
+	private Sampling() {
+	}
+
+	/**
+	 * Returns the specified number of items, chosen randomly from the specified
+	 * sequence, in random order.
+	 * <p>
+	 * Runs a Fisher-Yates shuffle of the first items only, and keeps positions it swaps
+	 * in a map, rather than copying items of the sequence into an array to swap them.
+	 */
+	static <T> Object[] sample(Sequence<T> items, int count, Random random) {
+		final var itemCount = items.getCount();
+		final var sample = new Object[Math.min(count, itemCount)];
+		final var swapped = new MutableMap<Integer, Integer>();
+
+		for (var index = 0; index < sample.length; ++index) {
+			final var randomIndex = index + random.nextInt(itemCount - index);
+			final var position = swapped.get(randomIndex, randomIndex);
+
+			swapped.set(randomIndex, swapped.get(index, index));
+			sample[index] = items.get(position);
+		}
+
+		return sample;
+	}
+
+	/**
+	 * Returns the specified number of items, chosen randomly from the specified
+	 * {@link Iterator} in a single pass, in random order.
+	 * <p>
+	 * Keeps a reservoir of sampled items, and skips a geometrically distributed number
+	 * of items between replacements, so that random numbers are generated only for
+	 * items, which enter the reservoir. The reservoir grows with the number of items,
+	 * which fill it.
+	 */
+	static <T> Object[] sample(Iterator<T> items, int count, Random random) {
+		var reservoir = new Object[Math.min(count, initialCapacity)];
+		var reservoirCount = 0;
+
+		while (reservoirCount < count && items.hasNext()) {
+			if (reservoirCount == reservoir.length) {
+				reservoir = Arrays.copyOf(reservoir, grow(reservoirCount, count));
+			}
+
+			reservoir[reservoirCount] = items.next();
+			++reservoirCount;
+		}
+
+		if (reservoirCount < count) {
+			final var sample = Arrays.copyOf(reservoir, reservoirCount);
+			shuffle(sample, random);
+
+			return sample;
+		}
+
+		if (count > 0) {
+			var weight = Math.exp(Math.log(nextOpen(random)) / count);
+			while (true) {
+				final var skip = (long) Math.floor(
+					Math.log(nextOpen(random)) / Math.log1p(-weight));
+
+				for (var index = 0L; index < skip && items.hasNext(); ++index) {
+					items.next();
+				}
+				if (!items.hasNext()) {
+					break;
+				}
+
+				reservoir[random.nextInt(count)] = items.next();
+				weight *= Math.exp(Math.log(nextOpen(random)) / count);
+			}
+		}
+
+		// note: replacements keep the reservoir a random subset, but not in
+		// random order
+		shuffle(reservoir, random);
+		return reservoir;
+	}
+
+	/**
+	 * Returns the specified number of items, chosen randomly from the specified
+	 * {@link Iterator} in a single pass, with probabilities proportional to their
+	 * weights, which the specified {@link ToDoubleFunction} returns.
+	 * <p>
+	 * Gives each item a random key {@code log(u) / weight}, and keeps items with the
+	 * largest keys in a bounded heap. Returns items in descending order of their keys,
+	 * which is the order of drawing them one by one. Items with weights, which are not
+	 * positive, are never chosen. The heap grows with the number of items, which fill
+	 * it.
+	 */
+	static <T> Object[] sample(Iterator<T> items, int count,
+		ToDoubleFunction<T> weight, Random random) {
+
+		var heapItems = new Object[Math.min(count, initialCapacity)];
+		var heapKeys = new double[heapItems.length];
+		var heapCount = 0;
+
+		while (items.hasNext()) {
+			final var item = items.next();
+			final var itemWeight = weight.applyAsDouble(item);
+			if (!(itemWeight > 0)) {
+				continue;
+			}
+
+			final var key = Math.log(nextOpen(random)) / itemWeight;
+			if (heapCount < count) {
+				if (heapCount == heapItems.length) {
+					final var capacity = grow(heapCount, count);
+					heapItems = Arrays.copyOf(heapItems, capacity);
+					heapKeys = Arrays.copyOf(heapKeys, capacity);
+				}
+
+				heapItems[heapCount] = item;
+				heapKeys[heapCount] = key;
+				siftUp(heapItems, heapKeys, heapCount);
+				++heapCount;
+			} else if (count > 0 && key > heapKeys[0]) {
+				heapItems[0] = item;
+				heapKeys[0] = key;
+				siftDown(heapItems, heapKeys, 0, heapCount);
+			}
+		}
+
+		// note: removing the smallest key of the heap one by one fills the sample
+		// from its end
+		final var sample = new Object[heapCount];
+		for (var index = heapCount - 1; index >= 0; --index) {
+			sample[index] = heapItems[0];
+
+			heapItems[0] = heapItems[index];
+			heapKeys[0] = heapKeys[index];
+			siftDown(heapItems, heapKeys, 0, index);
+		}
+
+		return sample;
+	}
+
+	/**
+	 * Returns the capacity to grow a full reservoir with the specified capacity to,
+	 * which is twice as large, but not larger than the specified sample size.
+	 */
+	private static int grow(int capacity, int count) {
+		return (int) Math.min(2L * capacity, count);
+	}
+
+	/**
+	 * Returns a random number in range (0, 1].
+	 */
+	private static double nextOpen(Random random) {
+		return 1.0 - random.nextDouble();
+	}
+
+	private static void shuffle(Object[] items, Random random) {
+		for (var index = items.length - 1; index > 0; --index) {
+			final var randomIndex = random.nextInt(index + 1);
+
+			final var item = items[index];
+			items[index] = items[randomIndex];
+			items[randomIndex] = item;
+		}
+	}
+
+	private static void siftUp(Object[] items, double[] keys, int index) {
+		while (index > 0) {
+			final var parent = (index - 1) >>> 1;
+			if (keys[parent] <= keys[index]) {
+				break;
+			}
+
+			swap(items, keys, index, parent);
+			index = parent;
+		}
+	}
+
+	private static void siftDown(Object[] items, double[] keys, int index, int count) {
+		while (true) {
+			final var left = 2 * index + 1;
+			if (left >= count) {
+				break;
+			}
+
+			final var right = left + 1;
+			final var child = right < count && keys[right] < keys[left]
+				? right
+				: left;
+
+			if (keys[index] <= keys[child]) {
+				break;
+			}
+
+			swap(items, keys, index, child);
+			index = child;
+		}
+	}
+
+	private static void swap(Object[] items, double[] keys, int index1, int index2) {
+		final var item = items[index1];
+		items[index1] = items[index2];
+		items[index2] = item;
+
+		final var key = keys[index1];
+		keys[index1] = keys[index2];
+		keys[index2] = key;
+	}
+}
@@ -0,0 +1,384 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * An array store, which keeps its items in fixed-size chunks behind a directory, rather
+ * than in a single array.
+ * <p>
+ * Growing the store allocates a new chunk, and never copies existing ones; only the
+ * directory, which takes a reference per chunk, is ever copied. Each chunk is a circular
+ * buffer, and all chunks but the last one are full, so that an item is found at its
+ * index in constant time. Inserting or removing an item shifts items within its chunk
+ * only, towards the nearer end of the chunk, and rebalances the following chunks by
+ * moving a single item between neighbors, which takes constant time per chunk.
+ *
+ * <pre>
+ * Sources:
+ * 1. M. Goodrich, J. Kloss. "Tiered vectors: efficient dynamic arrays for rank-based
+ *    sequences". Workshop on Algorithms and Data Structures, 1999, pp. 205–216.
+ * </pre>
+ */
+class SegmentedArrayStore extends SequenceStore {
+	/**
+	 * The default number of bits of an index, which address an item within a chunk,
+	 * i.e. chunks of 4096 items.
+	 */
+	static final int defaultChunkBits = 12;
+
+	final int chunkBits;
+	final int chunkMask;
+	Object[][] chunks;
+	int[] heads;
+	int chunkCount;
+	int itemCount;
+
+	/**
+	 * Creates a new empty store with chunks of {@code 2^chunkBits} items.
+	 */
+	SegmentedArrayStore(int chunkBits) {
+		this.chunkBits = chunkBits;
+		this.chunkMask = (1 << chunkBits) - 1;
+		this.chunks = new Object[4][];
+		this.heads = new int[4];
+	}
+
+	SegmentedArrayStore() {
+		this(defaultChunkBits);
+	}
+
+	@Override
+	int getCount() {
+		return itemCount;
+	}
+
+	@Override
+	Object get(int index) {
+		final var chunk = index >>> chunkBits;
+		return chunks[chunk][(heads[chunk] + index) & chunkMask];
+	}
+
+	@Override
+	void set(int index, Object item) {
+		final var chunk = index >>> chunkBits;
+		chunks[chunk][(heads[chunk] + index) & chunkMask] = item;
+	}
+
+	/**
+	 * Appends the specified item to the end of this store.
+	 */
+	@Override
+	void append(Object item) {
+		ensureCapacity();
+
+		set(itemCount, item);
+		++itemCount;
+	}
+
+	/**
+	 * Inserts the specified item into this store at the specified index.
+	 * <p>
+	 * Inserts the item into its chunk; when the chunk is full, its last item moves to
+	 * the beginning of the next chunk, and so on until a chunk with free capacity.
+	 */
+	@Override
+	void insert(int index, Object item) {
+		if (index == itemCount) {
+			append(item);
+			return;
+		}
+
+		ensureCapacity();
+
+		final var chunk = index >>> chunkBits;
+		final var lastChunk = itemCount >>> chunkBits;
+
+		if (chunk == lastChunk) {
+			final var count = itemCount - (chunk << chunkBits);
+			insert(chunk, index & chunkMask, count, item);
+		} else {
+			var carried = insertFull(chunk, index & chunkMask, item);
+
+			// note: prepending to a full circular chunk takes the slot of its last
+			// item, which moves on to the next chunk
+			for (var chunk2 = chunk + 1; chunk2 < lastChunk; ++chunk2) {
+				final var head = (heads[chunk2] - 1) & chunkMask;
+				final var last = chunks[chunk2][head];
+
+				chunks[chunk2][head] = carried;
+				heads[chunk2] = head;
+				carried = last;
+			}
+
+			heads[lastChunk] = (heads[lastChunk] - 1) & chunkMask;
+			chunks[lastChunk][heads[lastChunk]] = carried;
+		}
+
+		++itemCount;
+	}
+
+	/**
+	 * Inserts the specified item at the specified offset into the specified chunk with
+	 * the specified number of items, which is not full.
+	 */
+	private void insert(int chunk, int offset, int count, Object item) {
+		final var items = chunks[chunk];
+		if (offset < count - offset) {
+			final var head = (heads[chunk] - 1) & chunkMask;
+			moveLeft(items, head, offset);
+
+			heads[chunk] = head;
+		} else {
+			moveRight(items, heads[chunk], offset, count);
+		}
+
+		items[(heads[chunk] + offset) & chunkMask] = item;
+	}
+
+	/**
+	 * Inserts the specified item at the specified offset into the specified full chunk,
+	 * and returns its last item, which no longer fits into it.
+	 */
+	private Object insertFull(int chunk, int offset, Object item) {
+		final var items = chunks[chunk];
+		final var head = heads[chunk];
+		final var last = items[(head + chunkMask) & chunkMask];
+
+		if (offset < chunkMask - offset) {
+			// note: moving the head back turns the last slot into the first one
+			final var head2 = (head - 1) & chunkMask;
+			moveLeft(items, head2, offset);
+			heads[chunk] = head2;
+		} else {
+			moveRight(items, head, offset, chunkMask);
+		}
+
+		items[(heads[chunk] + offset) & chunkMask] = item;
+		return last;
+	}
+
+	/**
+	 * Removes item at the specified index from this store.
+	 * <p>
+	 * Removes the item from its chunk; when the chunk is not the last one, the first
+	 * item of the next chunk moves to its end, and so on until the last chunk.
+	 */
+	@Override
+	void remove(int index) {
+		final var chunk = index >>> chunkBits;
+		final var lastChunk = (itemCount - 1) >>> chunkBits;
+		final var items = chunks[chunk];
+		final var offset = index & chunkMask;
+		final var count = chunk == lastChunk
+			? itemCount - (chunk << chunkBits)
+			: chunkMask + 1;
+
+		// note: either way, the free slot follows the last item of the chunk
+		var freeSlot = 0;
+		if (offset < count - 1 - offset) {
+			final var head = heads[chunk];
+			moveRight(items, head, 0, offset);
+
+			freeSlot = head;
+			heads[chunk] = (head + 1) & chunkMask;
+		} else {
+			moveLeft(items, (heads[chunk] + offset) & chunkMask, count - 1 - offset);
+			freeSlot = (heads[chunk] + count - 1) & chunkMask;
+		}
+
+		// note: taking the first item of the next chunk frees the slot before its new
+		// head, which is the slot after its last item when the chunk is full
+		var freeChunk = chunk;
+		for (var chunk2 = chunk + 1; chunk2 <= lastChunk; ++chunk2) {
+			final var head = heads[chunk2];
+			chunks[freeChunk][freeSlot] = chunks[chunk2][head];
+
+			heads[chunk2] = (head + 1) & chunkMask;
+			freeChunk = chunk2;
+			freeSlot = head;
+		}
+
+		chunks[freeChunk][freeSlot] = null;
+		--itemCount;
+
+		releaseChunks();
+	}
+
+	/**
+	 * Removes items between the specified start and end indexes from this store, moving
+	 * items after the end index to the start index.
+	 * <p>
+	 * Moves items in runs, which are contiguous in both their source and target chunks,
+	 * with a single array copy per run.
+	 */
+	@Override
+	void remove(int start, int end) {
+		final var count = end - start;
+		final var movedCount = itemCount - end;
+
+		final var event = new ArrayCopyEvent();
+		event.begin();
+
+		var to = start;
+		for (var from = end; from < itemCount; ) {
+			final var fromChunk = from >>> chunkBits;
+			final var fromSlot = (heads[fromChunk] + from) & chunkMask;
+			final var toChunk = to >>> chunkBits;
+			final var toSlot = (heads[toChunk] + to) & chunkMask;
+
+			// note: a run ends at the end of either chunk, or where either
+			// chunk wraps around the end of its array
+			var runCount = Math.min(itemCount - from, getRunLimit(from, fromSlot));
+			runCount = Math.min(runCount, getRunLimit(to, toSlot));
+
+			arraycopy(chunks[fromChunk], fromSlot, chunks[toChunk], toSlot, runCount);
+			from += runCount;
+			to += runCount;
+		}
+
+		for (var index = itemCount - count; index < itemCount; ) {
+			final var chunk = index >>> chunkBits;
+			final var slot = (heads[chunk] + index) & chunkMask;
+			final var runCount = Math.min(itemCount - index, getRunLimit(index, slot));
+
+			Arrays.fill(chunks[chunk], slot, slot + runCount, null);
+			index += runCount;
+		}
+
+		itemCount -= count;
+		releaseChunks();
+
+		event.commit("remove", movedCount, itemCount + count, itemCount);
+	}
+
+	/**
+	 * Returns the number of items from the specified index at the specified slot of its
+	 * chunk, which are stored contiguously, i.e. before either the end of the chunk, or
+	 * the end of its array.
+	 */
+	private int getRunLimit(int index, int slot) {
+		return Math.min(chunkMask + 1 - (index & chunkMask), chunkMask + 1 - slot);
+	}
+
+	/**
+	 * Removes all items from this store, releasing all of its chunks.
+	 */
+	@Override
+	void removeAll() {
+		chunks = new Object[4][];
+		heads = new int[4];
+		chunkCount = 0;
+		itemCount = 0;
+	}
+
+	/**
+	 * Returns an array of the specified length with items between the specified start
+	 * and end indexes of this store, in their order.
+	 */
+	@Override
+	Object[] copyItems(int start, int end, int length) {
+		final var copy = new Object[length];
+		var copyIndex = 0;
+
+		// note: a chunk keeps its items in up to two runs, before and after the
+		// end of its array
+		for (var index = start; index < end; ) {
+			final var chunk = index >>> chunkBits;
+			final var slot = (heads[chunk] + index) & chunkMask;
+			final var chunkEnd = Math.min(end, (chunk + 1) << chunkBits);
+			final var count = Math.min(chunkEnd - index, chunkMask + 1 - slot);
+
+			arraycopy(chunks[chunk], slot, copy, copyIndex, count);
+			copyIndex += count;
+			index += count;
+		}
+
+		return copy;
+	}
+
+	/**
+	 * Returns a new store with items between the specified start and end indexes of
+	 * this store, copying them a chunk at a time.
+	 */
+	@Override
+	SegmentedArrayStore copy(int start, int end) {
+		final var copy = new SegmentedArrayStore(chunkBits);
+		final var count = end - start;
+
+		for (var offset = 0; offset < count; offset += chunkMask + 1) {
+			final var chunkEnd = Math.min(count, offset + chunkMask + 1);
+			copy.addChunk(
+				copyItems(start + offset, start + chunkEnd, chunkMask + 1));
+
+			copy.itemCount = chunkEnd;
+		}
+
+		return copy;
+	}
+
+	@Override
+	SegmentedArrayStore create(int capacity) {
+		return new SegmentedArrayStore(chunkBits);
+	}
+
+	/**
+	 * Adds a chunk to this store, when all of its chunks are full.
+	 */
+	private void ensureCapacity() {
+		if (itemCount < (long) chunkCount << chunkBits) {
+			return;
+		}
+
+		addChunk(new Object[chunkMask + 1]);
+	}
+
+	/**
+	 * Adds the specified chunk after the last chunk of this store.
+	 */
+	private void addChunk(Object[] chunk) {
+		if (chunkCount == chunks.length) {
+			chunks = Arrays.copyOf(chunks, 2 * chunkCount);
+			heads = Arrays.copyOf(heads, 2 * chunkCount);
+		}
+
+		chunks[chunkCount] = chunk;
+		heads[chunkCount] = 0;
+		++chunkCount;
+	}
+
+	/**
+	 * Releases empty chunks at the end of this store, keeping a single one, so that
+	 * alternating appends and removals at a chunk boundary do not allocate a chunk
+	 * each time.
+	 */
+	private void releaseChunks() {
+		final var usedCount = (itemCount + chunkMask) >>> chunkBits;
+		while (chunkCount > usedCount + 1) {
+			--chunkCount;
+			chunks[chunkCount] = null;
+		}
+	}
+
+	/**
+	 * Moves the specified number of items after the specified slot of a circular chunk
+	 * one slot back.
+	 */
+	private void moveLeft(Object[] items, int slot, int count) {
+		for (var index = 0; index < count; ++index) {
+			final var slot2 = (slot + index) & chunkMask;
+			items[slot2] = items[(slot2 + 1) & chunkMask];
+		}
+	}
+
+	/**
+	 * Moves items of a circular chunk with the specified head between the specified
+	 * start and end offsets one slot forward.
+	 */
+	private void moveRight(Object[] items, int head, int start, int end) {
+		for (var offset = end; offset > start; --offset) {
+			items[(head + offset) & chunkMask] = items[(head + offset - 1) & chunkMask];
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.tsyba.core.collections;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -129,6 +130,18 @@ public interface Sequence<T> extends Collection<T> {
 	 * sequence is empty, returns and empty {@link Optional}.
 	 */
 	default Optional<T> matchFirst(Predicate<T> condition) {
+		if (this instanceof RandomAccess) {
+			final var count = getCount();
+			for (var index = 0; index < count; ++index) {
+				final var item = get(index);
+				if (condition.test(item)) {
+					return Optional.of(item);
+				}
+			}
+
+			return Optional.empty();
+		}
+
 		for (var item : this) {
 			if (condition.test(item)) {
 				return Optional.of(item);
@@ -160,6 +173,17 @@ public interface Sequence<T> extends Collection<T> {
 	 * sequence is empty, returns first valid index of this sequence.
 	 */
 	default Optional<Integer> findFirst(Predicate<T> condition) {
+		if (this instanceof RandomAccess) {
+			final var count = getCount();
+			for (var index = 0; index < count; ++index) {
+				if (condition.test(get(index))) {
+					return Optional.of(index);
+				}
+			}
+
+			return Optional.empty();
+		}
+
 		var index = 0;
 		for (var item : this) {
 			if (condition.test(item)) {
@@ -181,29 +205,12 @@ public interface Sequence<T> extends Collection<T> {
 	 * sequence, unless this sequence is empty as well.
 	 */
 	default Optional<Integer> findFirst(Sequence<T> items) {
-		if (isEmpty()) {
-			return Optional.empty();
-		}
-
-		final var range = getIndexRange();
-		search:
-		for (var index : range) {
-			final var iterator1 = items.iterator();
-			final var iterator2 = iterator(index);
-
-			while (iterator1.hasNext() && iterator2.hasNext()) {
-				final var item1 = iterator1.next();
-				final var item2 = iterator2.next();
-
-				if (!item1.equals(item2)) {
-					continue search;
-				}
-			}
+		final var search = new SubsequenceSearch(items);
+		final var index = search.findFirst(iterator());
 
-			return Optional.of(index);
-		}
-
-		return Optional.empty();
+		return index < 0
+			? Optional.empty()
+			: Optional.of(index);
 	}
 
 	/**
@@ -233,6 +240,15 @@ public interface Sequence<T> extends Collection<T> {
 	 * itself.
 	 */
 	default Sequence<T> enumerate(BiConsumer<Integer, T> consumer) {
+		if (this instanceof RandomAccess) {
+			final var count = getCount();
+			for (var index = 0; index < count; ++index) {
+				consumer.accept(index, get(index));
+			}
+
+			return this;
+		}
+
 		var index = 0;
 		for (var item : this) {
 			consumer.accept(index, item);
@@ -247,12 +263,41 @@ public interface Sequence<T> extends Collection<T> {
 
 	/**
 	 * Returns {@link Iterator}, which starts with item at the specified index.
+	 * <p>
+	 * When this sequence is {@link RandomAccess}, the returned {@link Iterator} gets
+	 * items by their indexes, and the index after the last item is valid as well, so
+	 * that {@link #iterator()} can return this {@link Iterator} at index 0. Otherwise,
+	 * the returned {@link Iterator} skips items before the specified index one by one.
 	 *
 	 * @throws IndexNotInRangeException when the specified index is out of valid range of
 	 * this sequence
 	 */
 	default Iterator<T> iterator(int index) {
 		final var range = getIndexRange();
+		if (this instanceof RandomAccess) {
+			if (index != range.end && !range.contains(index)) {
+				throw new IndexNotInRangeException(index, range);
+			}
+
+			return new Iterator<>() {
+				private int next = index;
+
+				@Override
+				public boolean hasNext() {
+					return next < range.end;
+				}
+
+				@Override
+				public T next() {
+					if (next >= range.end) {
+						throw new NoSuchElementException();
+					}
+
+					return get(next++);
+				}
+			};
+		}
+
 		if (!range.contains(index)) {
 			throw new IndexNotInRangeException(index, range);
 		}
@@ -0,0 +1,86 @@
+package com.tsyba.core.collections;
+
+/**
+ * A store of items of a mutable sequence, which keeps them in a layout of its own, and
+ * provides access to and editing of them by their index.
+ * <p>
+ * Stores do not validate indexes; sequences backed by them do. Each store overrides
+ * edits, which its layout makes more efficient than the default ones.
+ */
+abstract class SequenceStore {
+	abstract int getCount();
+
+	abstract Object get(int index);
+
+	abstract void set(int index, Object item);
+
+	/**
+	 * Inserts the specified item into this store at the specified index.
+	 */
+	abstract void insert(int index, Object item);
+
+	void prepend(Object item) {
+		insert(0, item);
+	}
+
+	void append(Object item) {
+		insert(getCount(), item);
+	}
+
+	/**
+	 * Removes item at the specified index from this store.
+	 */
+	abstract void remove(int index);
+
+	/**
+	 * Removes items between the specified start and end indexes from this store.
+	 */
+	abstract void remove(int start, int end);
+
+	void removeFirst() {
+		remove(0);
+	}
+
+	void removeLast() {
+		remove(getCount() - 1);
+	}
+
+	/**
+	 * Removes all items from this store.
+	 */
+	abstract void removeAll();
+
+	/**
+	 * Returns index of the first item equal to the specified one.
+	 * <p>
+	 * When there is no such item, returns -1.
+	 */
+	int find(Object item) {
+		final var count = getCount();
+		for (var index = 0; index < count; index += 1) {
+			if (get(index).equals(item)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns an array of the specified length with items between the specified start
+	 * and end indexes of this store, in their order.
+	 */
+	abstract Object[] copyItems(int start, int end, int length);
+
+	/**
+	 * Returns a new store of the same kind with items between the specified start and
+	 * end indexes of this store.
+	 */
+	abstract SequenceStore copy(int start, int end);
+
+	/**
+	 * Returns a new empty store of the same kind with capacity for the specified number
+	 * of items.
+	 */
+	abstract SequenceStore create(int capacity);
+}
@@ -2,6 +2,7 @@ package com.tsyba.core.collections;
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -53,7 +54,7 @@ public class Set<T> implements Collection<T> {
 	 * Ignores any {@code null} values among the specified items.
 	 */
 	public Set(Iterable<T> items) {
-		this.store = new RobinHoodHashStore<>(64);
+		this.store = new RobinHoodHashStore<>(0);
 
 		for (var item : items) {
 			if (item != null) {
@@ -67,6 +68,64 @@ public class Set<T> implements Collection<T> {
 		return store.entryCount;
 	}
 
+	@Override
+	public boolean contains(T item) {
+		return item != null
+			&& store.find(item) > -1;
+	}
+
+	/**
+	 * Returns a copy of this set, guarded by a bloom filter with the specified false
+	 * positive rate. This set stays unchanged.
+	 * <p>
+	 * A bloom filter answers most lookups of absent items without hashing into storage
+	 * of the set or comparing any of its items. This benefits sets, which are queried
+	 * mostly for absent items, at the cost of slightly slower lookups of present items.
+	 *
+	 * @throws IllegalArgumentException when the specified false positive rate is not in
+	 * range (0.0, 1.0)
+	 */
+	public Set<T> withBloomFilter(double falsePositiveRate) {
+		final var store = new RobinHoodHashStore<>(this.store);
+		store.attachFilter(falsePositiveRate);
+
+		return new Set<>(store);
+	}
+
+	/**
+	 * Returns the bloom filter attached to this set.
+	 * <p>
+	 * When this set has no bloom filter attached, returns an empty {@link Optional}.
+	 */
+	public Optional<BloomFilter> getBloomFilter() {
+		return Optional.ofNullable(store.filter);
+	}
+
+	/**
+	 * Returns a copy of this set with statistics attached, which collect its lookups and
+	 * storage resizes. This set stays unchanged.
+	 * <p>
+	 * Until statistics are attached, lookups and insertions do not pay for collecting
+	 * them. When this set already has statistics attached, the copy starts with new ones.
+	 */
+	public Set<T> withStatistics() {
+		final var store = new RobinHoodHashStore<>(this.store);
+		if (store.statistics == null) {
+			store.attachStatistics(new HashStoreStatistics());
+		}
+
+		return new Set<>(store);
+	}
+
+	/**
+	 * Returns statistics attached to this set.
+	 * <p>
+	 * When this set has no statistics attached, returns an empty {@link Optional}.
+	 */
+	public Optional<HashStoreStatistics> getStatistics() {
+		return Optional.ofNullable(store.statistics);
+	}
+
 	@Override
 	public Set<T> getDistinct() {
 		return this;
@@ -82,7 +141,9 @@ public class Set<T> implements Collection<T> {
 	 * is disjoint from all other sets, including itself.
 	 */
 	public boolean isDisjoint(Set<T> set) {
-		return noneMatches(set::contains);
+		return getCount() < set.getCount()
+			? noneMatches(set::contains)
+			: set.noneMatches(this::contains);
 	}
 
 	/**
@@ -95,7 +156,9 @@ public class Set<T> implements Collection<T> {
 	 * never intersects another set, including itself.
 	 */
 	public boolean intersects(Set<T> set) {
-		return anyMatches(set::contains);
+		return getCount() < set.getCount()
+			? anyMatches(set::contains)
+			: set.anyMatches(this::contains);
 	}
 
 	/**
@@ -124,11 +187,16 @@ public class Set<T> implements Collection<T> {
 	 * An intersection of two sets contains all of their common items.
 	 */
 	public Set<T> intersect(Set<T> set) {
-		final var capacity = getCount() + set.getCount();
+		// iterate the smaller set and look its items up in the larger one;
+		// an intersection is never larger than the smaller set
+		final var items1 = getCount() < set.getCount() ? this : set;
+		final var items2 = items1 == this ? set : this;
+
+		final var capacity = items1.getCount();
 		final var store = new RobinHoodHashStore<T>(capacity);
 
-		for (var item : this) {
-			if (set.contains(item)) {
+		for (var item : items1) {
+			if (items2.contains(item)) {
 				store.insert(item);
 			}
 		}
@@ -144,7 +212,21 @@ public class Set<T> implements Collection<T> {
 	 * except those, which are common with the other set.
 	 */
 	public Set<T> subtract(Set<T> set) {
-		final var capacity = getCount() + set.getCount();
+		if (set.getCount() < getCount()) {
+			// copy storage of this set and delete items of the smaller
+			// specified set from it; like other set operations, the difference
+			// has no bloom filter or statistics
+			final var store = new RobinHoodHashStore<>(this.store);
+			store.removeSettings();
+
+			for (var item : set) {
+				store.delete(item);
+			}
+
+			return new Set<>(store);
+		}
+
+		final var capacity = getCount();
 		final var store = new RobinHoodHashStore<T>(capacity);
 
 		for (var item : this) {
@@ -165,16 +247,21 @@ public class Set<T> implements Collection<T> {
 	 * both sets, except those, which are common between them.
 	 */
 	public Set<T> symmetricSubtract(Set<T> set) {
+		// insert all items of the larger set, then either delete or insert
+		// each item of the smaller one, depending on whether it is common
+		final var items1 = getCount() < set.getCount() ? this : set;
+		final var items2 = items1 == this ? set : this;
+
 		final var capacity = getCount() + set.getCount();
 		final var store = new RobinHoodHashStore<T>(capacity);
 
-		for (var item : this) {
-			if (!set.contains(item)) {
-				store.insert(item);
-			}
+		for (var item : items2) {
+			store.insert(item);
 		}
-		for (var item : set) {
-			if (!contains(item)) {
+		for (var item : items1) {
+			if (items2.contains(item)) {
+				store.delete(item);
+			} else {
 				store.insert(item);
 			}
 		}
@@ -188,20 +275,11 @@ public class Set<T> implements Collection<T> {
 	 * <p>
 	 * A cartesian product contains all possible (distinct) pairs of items from both
 	 * sets.
+	 * <p>
+	 * The returned product is a lazy view of both sets, which does not store its pairs.
 	 */
-	public <R> Set<Pair<T, R>> multiply(Set<R> set) {
-		final var capacity = getCount() * set.getCount();
-		final var store = new RobinHoodHashStore<Pair<T, R>>(capacity);
-
-		for (var item1 : this) {
-			for (var item2 : set) {
-				final var pair = new Pair<>(item1, item2);
-				store.insert(pair);
-			}
-		}
-
-		store.removeExcessCapacity();
-		return new Set<>(store);
+	public <R> ProductSet<T, R> multiply(Set<R> set) {
+		return new ProductSet<>(this, set);
 	}
 
 	@Override
@@ -261,13 +339,22 @@ public class Set<T> implements Collection<T> {
 			return false;
 		}
 
-		final var set = (Set<?>) object;
-		return store.equals(set.store);
+		@SuppressWarnings("unchecked")
+		final var set = (Set<T>) object;
+		return getCount() == set.getCount()
+			&& set.allMatch(this::contains);
 	}
 
 	@Override
 	public int hashCode() {
-		return store.hashCode();
+		// note: hash code must not depend on item order, which differs between
+		// equal sets with different storage capacity
+		var hashCode = 0;
+		for (var item : this) {
+			hashCode += item.hashCode();
+		}
+
+		return hashCode;
 	}
 
 	@Override
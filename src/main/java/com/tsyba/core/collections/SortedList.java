@@ -0,0 +1,162 @@
+package com.tsyba.core.collections;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * An immutable {@link List}, which keeps its items sorted according to a
+ * {@link Comparator}.
+ * <p>
+ * Finding items takes {@code O(log n)} time with a binary search, rather than comparing
+ * every item. Items, which the {@link Comparator} considers equal, are kept next to each
+ * other, so that all occurrences of an item take a contiguous {@link IndexRange}. Items
+ * are found according to the {@link Comparator} rather than {@link Object#equals}, which
+ * gives the same results, as long as the {@link Comparator} is consistent with it.
+ */
+public class SortedList<T> extends List<T> {
+	final Comparator<T> comparator;
+
+	/**
+	 * Creates a list with items of the specified store, which are already sorted
+	 * according to the specified {@link Comparator}.
+	 */
+	SortedList(ContiguousArrayStore store, Comparator<T> comparator) {
+		super(store);
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Creates a list with the specified items, sorted according to the specified
+	 * {@link Comparator}.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public SortedList(Comparator<T> comparator, T... items) {
+		this(ContiguousArrayStore.compact(items), comparator);
+		store.sort(comparator);
+	}
+
+	/**
+	 * Creates a list with items of the specified {@link Collection}, sorted according to
+	 * the specified {@link Comparator}.
+	 */
+	public SortedList(Comparator<T> comparator, Collection<T> items) {
+		this(new ContiguousArrayStore(items.toArray()), comparator);
+		store.sort(comparator);
+	}
+
+	/**
+	 * Returns the {@link Comparator}, which orders items of this list.
+	 */
+	public Comparator<T> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public boolean contains(T item) {
+		return findFirst(item)
+			.isPresent();
+	}
+
+	/**
+	 * Returns index of the first occurrence of the specified item in this list. When
+	 * this item does not occur in this list, returns an empty {@link Optional}.
+	 * <p>
+	 * Finds the item with a binary search in {@code O(log n)} time.
+	 */
+	@Override
+	public Optional<Integer> findFirst(T item) {
+		if (item == null) {
+			return Optional.empty();
+		}
+
+		final var index = store.findLowerBound(item, comparator);
+		if (index == store.itemCount) {
+			return Optional.empty();
+		}
+
+		@SuppressWarnings("unchecked")
+		final var item2 = (T) store.items[index];
+		return comparator.compare(item2, item) == 0
+			? Optional.of(index)
+			: Optional.empty();
+	}
+
+	@Override
+	public IndexList findAll(T item) {
+		final var range = findRange(item);
+		final var indexes = new IndexList.Builder(range.getCount());
+
+		for (var index = range.start; index < range.end; ++index) {
+			indexes.add(index);
+		}
+
+		return indexes.build();
+	}
+
+	/**
+	 * Returns the range of indexes of all occurrences of the specified item in this
+	 * list. When the item does not occur in this list, returns an empty range.
+	 * <p>
+	 * Finds both ends of the range with a binary search in {@code O(log n)} time.
+	 */
+	public IndexRange findRange(T item) {
+		if (item == null) {
+			return new IndexRange();
+		}
+
+		final var start = store.findLowerBound(item, comparator);
+		final var end = store.findUpperBound(item, comparator);
+
+		return new IndexRange(start, end);
+	}
+
+	/**
+	 * Returns the range of indexes of items in this list, which are not smaller than the
+	 * first specified item, and are smaller than the second one. When there are no such
+	 * items, or either item is {@code null}, returns an empty range.
+	 * <p>
+	 * Finds both ends of the range with a binary search in {@code O(log n)} time.
+	 */
+	public IndexRange findRange(T from, T to) {
+		if (from == null || to == null) {
+			return new IndexRange();
+		}
+
+		final var start = store.findLowerBound(from, comparator);
+		final var end = store.findLowerBound(to, comparator);
+
+		return start < end
+			? new IndexRange(start, end)
+			: new IndexRange();
+	}
+
+	/**
+	 * Returns items of this list, which are not smaller than the first specified item,
+	 * and are smaller than the second one. When either item is {@code null}, returns an
+	 * empty list.
+	 * <p>
+	 * Finds the items with a binary search, and copies them only.
+	 */
+	public SortedList<T> getRange(T from, T to) {
+		final var range = findRange(from, to);
+		final var count = range.getCount();
+		final var items = store.get(count, range.start, range.end);
+
+		return new SortedList<>(items, comparator);
+	}
+
+	@Override
+	public SortedList<T> matchAll(Predicate<T> condition) {
+		final var matches = super.matchAll(condition);
+		return new SortedList<>(matches.store, comparator);
+	}
+
+	@Override
+	public SortedList<T> getDistinct() {
+		final var distinct = super.getDistinct();
+		return new SortedList<>(distinct.store, comparator);
+	}
+}
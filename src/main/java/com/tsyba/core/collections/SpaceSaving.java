@@ -0,0 +1,366 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A Space-Saving sketch, which finds the most frequent items among items added to it in
+ * a bounded amount of memory.
+ * <p>
+ * A sketch with capacity {@code k} tracks at most {@code k} items with their estimated
+ * counts. An estimated count never underestimates the actual count of an item, and
+ * overestimates it by at most the error bound of its estimate, which never exceeds
+ * {@code N / k}, where {@code N} is the total count of added items. Therefore, any item
+ * which occurs more than {@code N / k} times is guaranteed to be tracked.
+ * <p>
+ * Sketches can be merged, which allows to find the most frequent items across
+ * partitions of data.
+ *
+ * <pre>
+ * Sources:
+ * 1. A. Metwally, D. Agrawal, A. El Abbadi. "Efficient computation of frequent and
+ *    top-k elements in data streams". International Conference on Database Theory,
+ *    2005, pp. 398–412.
+ * 2. P. Agarwal, G. Cormode, Z. Huang, J. Phillips, Z. Wei, K. Yi. "Mergeable
+ *    summaries". ACM Transactions on Database Systems, vol. 38, 2013, pp. 1–28.
+ * 3. M. Cafaro, M. Pulimeno, P. Tempesta. "A parallel space saving algorithm for
+ *    frequent items and the Hurwitz zeta distribution". Information Sciences,
+ *    vol. 329, 2016, pp. 1–19.
+ * </pre>
+ */
+public class SpaceSaving<T> {
+	private final int capacity;
+	private long totalCount;
+
+	// note: counters are kept in a binary min-heap by their counts, so that a
+	// counter with the smallest count is replaced, when a new item is added to
+	// a full sketch
+	private final MutableMap<T, Counter<T>> counters;
+	private final Counter<T>[] heap;
+	private int counterCount;
+
+	/**
+	 * Creates an empty sketch, which tracks at most the specified number of items.
+	 *
+	 * @throws IllegalArgumentException when the specified capacity is not positive
+	 */
+	@SuppressWarnings("unchecked")
+	public SpaceSaving(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Cannot create Space-Saving sketch with capacity "
+				+ capacity + ": value must be positive.");
+		}
+
+		this.capacity = capacity;
+		this.counters = new MutableMap<>();
+		this.heap = new Counter[capacity];
+	}
+
+	/**
+	 * Returns the maximum number of items this sketch tracks.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the total count of items added to this sketch.
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Adds the specified item to this sketch. Ignores {@code null} items.
+	 *
+	 * @return itself
+	 */
+	public SpaceSaving<T> add(T item) {
+		return add(item, 1);
+	}
+
+	/**
+	 * Adds the specified item to this sketch the specified number of times. Ignores
+	 * {@code null} items.
+	 *
+	 * @return itself
+	 * @throws IllegalArgumentException when the specified count is negative
+	 */
+	public SpaceSaving<T> add(T item, long count) {
+		if (count < 0) {
+			throw new IllegalArgumentException("Cannot add item " + item + " with count "
+				+ count + ": value must not be negative.");
+		}
+		if (item == null || count == 0) {
+			return this;
+		}
+
+		totalCount += count;
+		final var index = counters.store.find(item);
+
+		if (index > -1) {
+			final var counter = counters.store.get(index).value;
+			counter.count += count;
+			siftDown(counter.heapIndex);
+		} else if (counterCount < capacity) {
+			final var counter = new Counter<>(item, count, 0);
+			counter.heapIndex = counterCount;
+
+			heap[counterCount] = counter;
+			++counterCount;
+
+			counters.set(item, counter);
+			siftUp(counter.heapIndex);
+		} else {
+			// replace an item with the smallest count; the new item may have
+			// occurred as many times before, which bounds error of its count
+			final var counter = heap[0];
+			counters.remove(counter.item);
+
+			counter.item = item;
+			counter.error = counter.count;
+			counter.count += count;
+
+			counters.set(item, counter);
+			siftDown(0);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds all items of the specified {@link Collection} to this sketch. Ignores
+	 * {@code null} items.
+	 *
+	 * @return itself
+	 */
+	public SpaceSaving<T> add(Collection<T> items) {
+		for (var item : items) {
+			add(item, 1);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Merges the specified sketch into this one. After merging, this sketch tracks the
+	 * most frequent items added to either of the sketches, with its own capacity.
+	 *
+	 * @return itself
+	 */
+	public SpaceSaving<T> merge(SpaceSaving<T> sketch) {
+		// an item, which is not tracked by a full sketch, may have occurred there as
+		// many times as the smallest count of that sketch
+		final var minCount1 = getMinCount();
+		final var minCount2 = sketch.getMinCount();
+
+		final var merged = new MutableMap<T, Counter<T>>();
+		for (var index = 0; index < counterCount; ++index) {
+			final var counter = heap[index];
+			final var counter2 = sketch.counters.get(counter.item)
+				.orElse(null);
+
+			final var merged2 = counter2 == null
+				? new Counter<>(counter.item, counter.count + minCount2, counter.error + minCount2)
+				: new Counter<>(counter.item, counter.count + counter2.count, counter.error + counter2.error);
+			merged.set(counter.item, merged2);
+		}
+		for (var index = 0; index < sketch.counterCount; ++index) {
+			final var counter = sketch.heap[index];
+			if (!merged.get(counter.item).isPresent()) {
+				final var merged2 = new Counter<>(counter.item,
+					counter.count + minCount1, counter.error + minCount1);
+				merged.set(counter.item, merged2);
+			}
+		}
+
+		// keep counters with the largest counts
+		final var mergedCounters = merged.getValues()
+			.toArray();
+		Arrays.sort(mergedCounters, (counter1, counter2) -> {
+			return Long.compare(((Counter<?>) counter2).count, ((Counter<?>) counter1).count);
+		});
+
+		totalCount += sketch.totalCount;
+		counters.clear();
+		counterCount = 0;
+
+		final var count = Math.min(capacity, mergedCounters.length);
+		for (var index = count - 1; index >= 0; --index) {
+			@SuppressWarnings("unchecked")
+			final var counter = (Counter<T>) mergedCounters[index];
+			counter.heapIndex = counterCount;
+
+			// counters are added in ascending order of their counts, which
+			// already satisfies heap order
+			heap[counterCount] = counter;
+			++counterCount;
+			counters.set(counter.item, counter);
+		}
+		Arrays.fill(heap, counterCount, capacity, null);
+
+		return this;
+	}
+
+	private long getMinCount() {
+		return counterCount < capacity
+			? 0
+			: heap[0].count;
+	}
+
+	/**
+	 * Returns estimated count of the specified item.
+	 * <p>
+	 * When this sketch does not track the specified item, returns an upper bound of its
+	 * count.
+	 */
+	public Estimate<T> getEstimate(T item) {
+		final var counter = counters.get(item)
+			.orElse(null);
+
+		if (counter == null) {
+			final var count = getMinCount();
+			return new Estimate<>(item, count, count);
+		} else {
+			return new Estimate<>(counter.item, counter.count, counter.error);
+		}
+	}
+
+	/**
+	 * Returns estimated counts of all items this sketch tracks, in descending order of
+	 * their counts.
+	 */
+	public List<Estimate<T>> getMostFrequent() {
+		return getMostFrequent(counterCount);
+	}
+
+	/**
+	 * Returns estimated counts of at most the specified number of items, which this
+	 * sketch tracks, in descending order of their counts.
+	 * <p>
+	 * Items with equal counts are ordered by ascending errors of their counts.
+	 */
+	public List<Estimate<T>> getMostFrequent(int count) {
+		final var counters = Arrays.copyOf(heap, counterCount);
+		Arrays.sort(counters, (counter1, counter2) -> {
+			final var order = Long.compare(counter2.count, counter1.count);
+			return order != 0
+				? order
+				: Long.compare(counter1.error, counter2.error);
+		});
+
+		final var estimateCount = Math.max(0, Math.min(count, counterCount));
+		final var estimates = new Object[estimateCount];
+
+		for (var index = 0; index < estimateCount; ++index) {
+			final var counter = counters[index];
+			estimates[index] = new Estimate<>(counter.item, counter.count, counter.error);
+		}
+
+		final var store = new ContiguousArrayStore(estimates, estimateCount);
+		return new List<>(store);
+	}
+
+	private void siftUp(int index) {
+		final var counter = heap[index];
+		while (index > 0) {
+			final var parentIndex = (index - 1) / 2;
+			final var parent = heap[parentIndex];
+
+			if (parent.count <= counter.count) {
+				break;
+			}
+
+			heap[index] = parent;
+			parent.heapIndex = index;
+			index = parentIndex;
+		}
+
+		heap[index] = counter;
+		counter.heapIndex = index;
+	}
+
+	private void siftDown(int index) {
+		final var counter = heap[index];
+		while (2 * index + 1 < counterCount) {
+			var childIndex = 2 * index + 1;
+			if (childIndex + 1 < counterCount
+				&& heap[childIndex + 1].count < heap[childIndex].count) {
+				++childIndex;
+			}
+
+			final var child = heap[childIndex];
+			if (counter.count <= child.count) {
+				break;
+			}
+
+			heap[index] = child;
+			child.heapIndex = index;
+			index = childIndex;
+		}
+
+		heap[index] = counter;
+		counter.heapIndex = index;
+	}
+
+	@Override
+	public String toString() {
+		return "SpaceSaving(capacity: " + capacity
+			+ ", total count: " + totalCount + ")";
+	}
+
+	private static class Counter<T> {
+		private T item;
+		private long count;
+		private long error;
+		private int heapIndex;
+
+		private Counter(T item, long count, long error) {
+			this.item = item;
+			this.count = count;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * An estimated count of an item.
+	 * <p>
+	 * The actual count of the item is in range {@code [count - error, count]}.
+	 */
+	public static class Estimate<T> {
+		public final T item;
+		public final long count;
+		public final long error;
+
+		public Estimate(T item, long count, long error) {
+			this.item = item;
+			this.count = count;
+			this.error = error;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(item, count, error);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Estimate)) {
+				return false;
+			}
+
+			final var estimate = (Estimate<?>) object;
+			return item.equals(estimate.item)
+				&& count == estimate.count
+				&& error == estimate.error;
+		}
+
+		@Override
+		public String toString() {
+			return "(" + item + ", count: " + count + ", error: " + error + ")";
+		}
+	}
+}
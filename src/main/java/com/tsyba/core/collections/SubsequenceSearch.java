@@ -0,0 +1,294 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * A search for occurrences of a sequence of items, i.e. a pattern, in other sequences.
+ * <p>
+ * Patterns are searched for with the Knuth-Morris-Pratt algorithm, which never moves
+ * back in a searched sequence, and so runs in linear time and works over iterators. Long
+ * patterns are searched for in arrays with the Boyer-Moore-Horspool algorithm instead,
+ * which skips items, whose hash codes do not occur in the pattern.
+ *
+ * <pre>
+ * Sources:
+ * 1. D. Knuth, J. Morris, V. Pratt. "Fast pattern matching in strings". SIAM Journal on
+ *    Computing, vol. 6, 1977, pp. 323–350.
+ * 2. R. N. Horspool. "Practical fast searching in strings". Software: Practice and
+ *    Experience, vol. 10, 1980, pp. 501–506.
+ * </pre>
+ */
+class SubsequenceSearch {
+	/**
+	 * The shortest pattern, which is searched for in arrays with the Boyer-Moore-Horspool
+	 * algorithm.
+	 */
+	static final int horspoolPatternLength = 8;
+
+	private final Object[] pattern;
+	private int[] failures;
+	private int[] shifts;
+	private SubsequenceSearch reversed;
+
+	SubsequenceSearch(Object[] pattern) {
+		this.pattern = pattern;
+	}
+
+	SubsequenceSearch(Sequence<?> pattern) {
+		this(pattern.toArray());
+	}
+
+	/**
+	 * Returns index of the first occurrence of the pattern among items between the
+	 * specified start and end indexes of the specified array.
+	 * <p>
+	 * When the pattern does not occur there, returns -1. When the pattern is empty,
+	 * returns the start index, unless there are no items to search.
+	 */
+	int findAfter(Object[] items, int start, int end) {
+		if (pattern.length == 0) {
+			return start < end
+				? start
+				: -1;
+		}
+		if (end - start < pattern.length) {
+			return -1;
+		}
+		if (pattern.length >= horspoolPatternLength) {
+			return findHorspool(items, start, end);
+		}
+
+		final var index = scan(items, start, end, 1);
+		return index < 0
+			? -1
+			: index - pattern.length + 1;
+	}
+
+	/**
+	 * Returns index of the last occurrence of the pattern among items between the
+	 * specified start and end indexes of the specified array.
+	 * <p>
+	 * When the pattern does not occur there, returns -1. When the pattern is empty,
+	 * returns the index before the end index, unless there are no items to search.
+	 */
+	int findBefore(Object[] items, int start, int end) {
+		if (pattern.length == 0) {
+			return start < end
+				? end - 1
+				: -1;
+		}
+		if (end - start < pattern.length) {
+			return -1;
+		}
+
+		// note: scanning items backward for the reversed pattern ends each
+		// match at the first item of an occurrence
+		return getReversed()
+			.scan(items, end - 1, start - 1, -1);
+	}
+
+	/**
+	 * Returns indexes of all occurrences of the pattern among items between the
+	 * specified start and end indexes of the specified array, relative to the start
+	 * index.
+	 * <p>
+	 * When the pattern is empty, returns all indexes of items there.
+	 */
+	IndexList findAll(Object[] items, int start, int end) {
+		if (pattern.length < horspoolPatternLength) {
+			return findAll(new ArrayIterator<>(items, start, end));
+		}
+
+		final var indexes = new IndexList.Builder(end - start);
+		for (var index = findHorspool(items, start, end); index >= 0;
+			index = findHorspool(items, index + 1, end)) {
+
+			indexes.add(index - start);
+		}
+
+		return indexes.build();
+	}
+
+	/**
+	 * Returns index of the first occurrence of the pattern among items of the specified
+	 * {@link Iterator}.
+	 * <p>
+	 * When the pattern does not occur there, returns -1. When the pattern is empty,
+	 * returns 0, unless the {@link Iterator} has no items.
+	 */
+	int findFirst(Iterator<?> items) {
+		if (pattern.length == 0) {
+			return items.hasNext()
+				? 0
+				: -1;
+		}
+
+		final var failures = getFailures();
+		var matchedCount = 0;
+
+		for (var index = 0; items.hasNext(); ++index) {
+			matchedCount = match(items.next(), matchedCount, failures);
+			if (matchedCount == pattern.length) {
+				return index - pattern.length + 1;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns indexes of all occurrences of the pattern among items of the specified
+	 * {@link Iterator}, including overlapping ones.
+	 * <p>
+	 * When the pattern is empty, returns all indexes of items.
+	 */
+	IndexList findAll(Iterator<?> items) {
+		final var indexes = new IndexList.Builder();
+		if (pattern.length == 0) {
+			for (var index = 0; items.hasNext(); ++index) {
+				items.next();
+				indexes.add(index);
+			}
+
+			return indexes.build();
+		}
+
+		final var failures = getFailures();
+		var matchedCount = 0;
+
+		for (var index = 0; items.hasNext(); ++index) {
+			matchedCount = match(items.next(), matchedCount, failures);
+			if (matchedCount == pattern.length) {
+				indexes.add(index - pattern.length + 1);
+				matchedCount = failures[matchedCount - 1];
+			}
+		}
+
+		return indexes.build();
+	}
+
+	/**
+	 * Returns the number of pattern items matched after the specified item, when the
+	 * specified number of them was matched before it.
+	 */
+	private int match(Object item, int matchedCount, int[] failures) {
+		while (matchedCount > 0 && !item.equals(pattern[matchedCount])) {
+			matchedCount = failures[matchedCount - 1];
+		}
+
+		return item.equals(pattern[matchedCount])
+			? matchedCount + 1
+			: matchedCount;
+	}
+
+	/**
+	 * Scans items of the specified array from the specified index towards the other
+	 * specified index, exclusive, in the specified direction, and returns index of the
+	 * item, which completes the first match of the pattern.
+	 * <p>
+	 * When the pattern does not occur, returns -1.
+	 */
+	private int scan(Object[] items, int from, int to, int step) {
+		final var failures = getFailures();
+		var matchedCount = 0;
+
+		for (var index = from; index != to; index += step) {
+			matchedCount = match(items[index], matchedCount, failures);
+			if (matchedCount == pattern.length) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private int findHorspool(Object[] items, int start, int end) {
+		final var shifts = getShifts();
+		final var mask = shifts.length - 1;
+		final var lastIndex = pattern.length - 1;
+
+		for (var index = start; index + pattern.length <= end; ) {
+			final var lastItem = items[index + lastIndex];
+
+			var index2 = lastIndex;
+			while (index2 >= 0 && items[index + index2].equals(pattern[index2])) {
+				--index2;
+			}
+			if (index2 < 0) {
+				return index;
+			}
+
+			index += shifts[spread(lastItem.hashCode()) & mask];
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the failure function of the pattern, i.e. for each prefix of the pattern,
+	 * the length of its longest proper prefix, which is also its suffix.
+	 */
+	private int[] getFailures() {
+		if (failures == null) {
+			failures = new int[pattern.length];
+			var length = 0;
+
+			for (var index = 1; index < pattern.length; ++index) {
+				while (length > 0 && !pattern[index].equals(pattern[length])) {
+					length = failures[length - 1];
+				}
+				if (pattern[index].equals(pattern[length])) {
+					++length;
+				}
+
+				failures[index] = length;
+			}
+		}
+
+		return failures;
+	}
+
+	/**
+	 * Returns the bad character shift table of the pattern, indexed by spread hash codes
+	 * of items.
+	 * <p>
+	 * Items, which share a slot in the table, share the smallest of their shifts, so
+	 * that hash collisions only make shifts shorter, but never skip an occurrence.
+	 */
+	private int[] getShifts() {
+		if (shifts == null) {
+			final var length = Integer.highestOneBit(pattern.length) << 2;
+			final var mask = length - 1;
+
+			shifts = new int[length];
+			Arrays.fill(shifts, pattern.length);
+
+			// note: later items have shorter shifts, and thus overwrite shifts of
+			// earlier items in the same slot
+			for (var index = 0; index < pattern.length - 1; ++index) {
+				final var slot = spread(pattern[index].hashCode()) & mask;
+				shifts[slot] = pattern.length - 1 - index;
+			}
+		}
+
+		return shifts;
+	}
+
+	private SubsequenceSearch getReversed() {
+		if (reversed == null) {
+			final var items = new Object[pattern.length];
+			for (var index = 0; index < pattern.length; ++index) {
+				items[index] = pattern[pattern.length - 1 - index];
+			}
+
+			reversed = new SubsequenceSearch(items);
+		}
+
+		return reversed;
+	}
+
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+}
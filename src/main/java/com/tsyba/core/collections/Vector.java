@@ -0,0 +1,682 @@
+package com.tsyba.core.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * An immutable {@link Sequence}, which derives new versions of itself without copying
+ * all its items.
+ * <p>
+ * Unlike {@link List}, which copies its items to append an item or to take a
+ * sub-sequence, {@link Vector} keeps its items in a tree of chunks and shares unchanged
+ * chunks between versions. Appending, prepending, updating, inserting or removing an
+ * item, concatenating vectors and taking a sub-sequence take logarithmic time.
+ *
+ * <pre>
+ * Implements a relaxed radix balanced tree, where branches keep cumulative sizes of
+ * their children, so that chunks need not be full. Concatenation joins trees along
+ * their seam and merges adjacent nodes, which fit into a single one.
+ *
+ * Sources:
+ * 1. P. Bagwell, T. Rompf. "RRB-Trees: Efficient Immutable Vectors".
+ *    EPFL-REPORT-169879, 2011.
+ * </pre>
+ */
+public class Vector<T> implements Sequence<T>, RandomAccess {
+	static final int branchingFactor = 32;
+	private static final Leaf emptyLeaf = new Leaf(new Object[0]);
+
+	private final Node root;
+
+	private Vector(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Creates a vector with the specified items.
+	 * <p>
+	 * Ignores any {@code null} values among the specified items.
+	 */
+	@SafeVarargs
+	public Vector(T... items) {
+		this(build(ContiguousArrayStore.compact(items)));
+	}
+
+	/**
+	 * Creates a vector with items of the specified {@link Collection}.
+	 */
+	public Vector(Collection<T> items) {
+		this(build(new ContiguousArrayStore(items.toArray())));
+	}
+
+	/**
+	 * Returns a tree with items of the specified store, packed into full chunks.
+	 */
+	private static Node build(ContiguousArrayStore store) {
+		if (store.itemCount == 0) {
+			return emptyLeaf;
+		}
+
+		var level = new Node[(store.itemCount + branchingFactor - 1) / branchingFactor];
+		for (var index = 0; index < level.length; index += 1) {
+			final var start = index * branchingFactor;
+			final var end = Math.min(start + branchingFactor, store.itemCount);
+			level[index] = new Leaf(Arrays.copyOfRange(store.items, start, end));
+		}
+
+		for (var height = 1; level.length > 1; height += 1) {
+			final var parents = new Node[(level.length + branchingFactor - 1) / branchingFactor];
+			for (var index = 0; index < parents.length; index += 1) {
+				final var start = index * branchingFactor;
+				final var end = Math.min(start + branchingFactor, level.length);
+				parents[index] = new Branch(height, Arrays.copyOfRange(level, start, end));
+			}
+
+			level = parents;
+		}
+
+		return level[0];
+	}
+
+	@Override
+	public int getCount() {
+		return root.size;
+	}
+
+	@Override
+	public T get(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		var node = root;
+		while (node instanceof Branch) {
+			final var branch = (Branch) node;
+			final var childIndex = branch.findChild(index);
+
+			index -= branch.getOffset(childIndex);
+			node = branch.children[childIndex];
+		}
+
+		@SuppressWarnings("unchecked")
+		final var item = (T) ((Leaf) node).items[index];
+		return item;
+	}
+
+	@Override
+	public Vector<T> getPrefix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		return slice(0, index);
+	}
+
+	@Override
+	public Vector<T> getSuffix(int index) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(index)) {
+			throw new IndexNotInRangeException(index, validRange);
+		}
+
+		return slice(index, root.size);
+	}
+
+	/**
+	 * Returns items of this vector at the specified index range.
+	 * <p>
+	 * Shares all chunks, which are entirely in the specified range, with this vector,
+	 * and thus takes logarithmic time.
+	 *
+	 * @throws IndexRangeNotInRangeException when the specified index range is out of
+	 * valid index range of this vector
+	 */
+	@Override
+	public Vector<T> get(IndexRange indexRange) {
+		final var validRange = getIndexRange();
+		if (!validRange.contains(indexRange)) {
+			throw new IndexRangeNotInRangeException(indexRange, validRange);
+		}
+
+		return slice(indexRange.start, indexRange.end);
+	}
+
+	private Vector<T> slice(int start, int end) {
+		if (start == end) {
+			return new Vector<>(emptyLeaf);
+		}
+
+		var node = slice(root, start, end);
+		while (node instanceof Branch && ((Branch) node).children.length == 1) {
+			node = ((Branch) node).children[0];
+		}
+
+		return new Vector<>(node);
+	}
+
+	/**
+	 * Returns a node of the same height as the specified one, with its items between the
+	 * specified start and end indexes.
+	 */
+	private static Node slice(Node node, int start, int end) {
+		if (start == 0 && end == node.size) {
+			return node;
+		}
+		if (node instanceof Leaf) {
+			final var leaf = (Leaf) node;
+			return new Leaf(Arrays.copyOfRange(leaf.items, start, end));
+		}
+
+		final var branch = (Branch) node;
+		final var firstIndex = branch.findChild(start);
+		final var lastIndex = branch.findChild(end - 1);
+		final var children = Arrays.copyOfRange(branch.children, firstIndex, lastIndex + 1);
+
+		// only the first and the last child may be partially in range
+		final var firstOffset = branch.getOffset(firstIndex);
+		final var lastOffset = branch.getOffset(lastIndex);
+
+		if (firstIndex == lastIndex) {
+			children[0] = slice(children[0], start - firstOffset, end - firstOffset);
+		} else {
+			children[0] = slice(children[0], start - firstOffset, children[0].size);
+			children[children.length - 1] = slice(children[children.length - 1],
+				0, end - lastOffset);
+		}
+
+		return new Branch(branch.height, children);
+	}
+
+	/**
+	 * Returns a vector with items of this vector and the specified item at its end.
+	 * <p>
+	 * When the specified item is {@code null}, returns this vector.
+	 */
+	public Vector<T> appended(T item) {
+		if (item == null) {
+			return this;
+		}
+
+		final var leaf = new Leaf(new Object[]{item});
+		return new Vector<>(join(root, leaf));
+	}
+
+	/**
+	 * Returns a vector with the specified item at its beginning, followed by items of
+	 * this vector.
+	 * <p>
+	 * When the specified item is {@code null}, returns this vector.
+	 */
+	public Vector<T> prepended(T item) {
+		if (item == null) {
+			return this;
+		}
+
+		final var leaf = new Leaf(new Object[]{item});
+		return new Vector<>(join(leaf, root));
+	}
+
+	/**
+	 * Returns a vector with items of this vector, followed by items of the specified
+	 * vector.
+	 */
+	public Vector<T> concat(Vector<T> items) {
+		return new Vector<>(join(root, items.root));
+	}
+
+	/**
+	 * Returns a vector with items of this vector, where item at the specified index is
+	 * replaced with the specified item.
+	 * <p>
+	 * When the specified item is {@code null}, returns this vector.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this vector
+	 */
+	public Vector<T> updated(int index, T item) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+		if (item == null) {
+			return this;
+		}
+
+		return new Vector<>(update(root, index, item));
+	}
+
+	private static Node update(Node node, int index, Object item) {
+		if (node instanceof Leaf) {
+			final var items = ((Leaf) node).items.clone();
+			items[index] = item;
+
+			return new Leaf(items);
+		}
+
+		final var branch = (Branch) node;
+		final var childIndex = branch.findChild(index);
+		final var children = branch.children.clone();
+
+		children[childIndex] = update(children[childIndex],
+			index - branch.getOffset(childIndex), item);
+
+		return new Branch(branch.height, children, branch.sizes);
+	}
+
+	/**
+	 * Returns a vector with items of this vector and the specified item inserted at the
+	 * specified index.
+	 * <p>
+	 * When the specified item is {@code null}, returns this vector.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this vector
+	 */
+	public Vector<T> inserted(int index, T item) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+		if (item == null) {
+			return this;
+		}
+
+		return slice(0, index)
+			.appended(item)
+			.concat(slice(index, root.size));
+	}
+
+	/**
+	 * Returns a vector with items of this vector except the one at the specified index.
+	 *
+	 * @throws IndexNotInRangeException when the specified index is out of valid index
+	 * range of this vector
+	 */
+	public Vector<T> removed(int index) {
+		final var range = getIndexRange();
+		if (!range.contains(index)) {
+			throw new IndexNotInRangeException(index, range);
+		}
+
+		return slice(0, index)
+			.concat(slice(index + 1, root.size));
+	}
+
+	/**
+	 * Returns a tree with items of the specified left tree, followed by items of the
+	 * specified right tree.
+	 */
+	private static Node join(Node left, Node right) {
+		if (left.size == 0) {
+			return right;
+		}
+		if (right.size == 0) {
+			return left;
+		}
+
+		final var nodes = joinNodes(left, right);
+		return nodes.length == 1
+			? nodes[0]
+			: new Branch(nodes[0].height + 1, nodes);
+	}
+
+	/**
+	 * Returns one or two nodes with height of the taller of the specified nodes, which
+	 * hold items of the left node, followed by items of the right node.
+	 * <p>
+	 * Descends along the seam between the nodes down to the leaves, and merges adjacent
+	 * nodes at each level, when their children fit into a single node. This keeps
+	 * repeated appends and concatenations from accumulating partially filled nodes.
+	 */
+	private static Node[] joinNodes(Node left, Node right) {
+		if (left.height == right.height && left instanceof Leaf) {
+			final var leftItems = ((Leaf) left).items;
+			final var rightItems = ((Leaf) right).items;
+
+			if (leftItems.length + rightItems.length > branchingFactor) {
+				return new Node[]{left, right};
+			}
+
+			final var items = Arrays.copyOf(leftItems, leftItems.length + rightItems.length);
+			arraycopy(rightItems, 0, items, leftItems.length, rightItems.length);
+
+			return new Node[]{new Leaf(items)};
+		}
+
+		final Node[] leftChildren;
+		final Node[] middle;
+		final Node[] rightChildren;
+
+		if (left.height == right.height) {
+			final var leftBranch = (Branch) left;
+			final var rightBranch = (Branch) right;
+			final var leftCount = leftBranch.children.length;
+
+			leftChildren = Arrays.copyOf(leftBranch.children, leftCount - 1);
+			middle = joinNodes(leftBranch.children[leftCount - 1], rightBranch.children[0]);
+			rightChildren = Arrays.copyOfRange(rightBranch.children, 1,
+				rightBranch.children.length);
+		} else if (left.height > right.height) {
+			final var leftBranch = (Branch) left;
+			final var leftCount = leftBranch.children.length;
+
+			leftChildren = Arrays.copyOf(leftBranch.children, leftCount - 1);
+			middle = joinNodes(leftBranch.children[leftCount - 1], right);
+			rightChildren = new Node[0];
+		} else {
+			final var rightBranch = (Branch) right;
+
+			leftChildren = new Node[0];
+			middle = joinNodes(left, rightBranch.children[0]);
+			rightChildren = Arrays.copyOfRange(rightBranch.children, 1,
+				rightBranch.children.length);
+		}
+
+		final var height = Math.max(left.height, right.height);
+		final var children = new Node[leftChildren.length + middle.length + rightChildren.length];
+		arraycopy(leftChildren, 0, children, 0, leftChildren.length);
+		arraycopy(middle, 0, children, leftChildren.length, middle.length);
+		arraycopy(rightChildren, 0, children, leftChildren.length + middle.length,
+			rightChildren.length);
+
+		if (children.length <= branchingFactor) {
+			return new Node[]{new Branch(height, children)};
+		}
+
+		final var half = children.length / 2;
+		return new Node[]{
+			new Branch(height, Arrays.copyOf(children, half)),
+			new Branch(height, Arrays.copyOfRange(children, half, children.length))
+		};
+	}
+
+	@Override
+	public Vector<T> matchAll(Predicate<T> condition) {
+		final var matches = new MutableList<T>();
+		for (var item : this) {
+			if (condition.test(item)) {
+				matches.append(item);
+			}
+		}
+
+		return new Vector<>(build(matches.store));
+	}
+
+	@Override
+	public IndexList findAll(T item) {
+		final var count = getCount();
+		final var indexes = new IndexList.Builder(count);
+
+		for (var index = 0; index < count; ++index) {
+			if (get(index).equals(item)) {
+				indexes.add(index);
+			}
+		}
+
+		return indexes.build();
+	}
+
+	@Override
+	public IndexList findAll(Sequence<T> items) {
+		final var search = new SubsequenceSearch(items);
+		return search.findAll(iterator());
+	}
+
+	@Override
+	public Vector<T> getDistinct() {
+		final var distinct = new MutableSet<T>();
+		final var items = new MutableList<T>();
+
+		for (var item : this) {
+			if (!distinct.contains(item)) {
+				distinct.add(item);
+				items.append(item);
+			}
+		}
+
+		return new Vector<>(build(items.store));
+	}
+
+	@Override
+	public Vector<T> reverse() {
+		final var items = toArray();
+		for (var index = 0; index < items.length / 2; index += 1) {
+			final var item = items[index];
+			items[index] = items[items.length - index - 1];
+			items[items.length - index - 1] = item;
+		}
+
+		return new Vector<>(build(new ContiguousArrayStore(items, items.length)));
+	}
+
+	@Override
+	public Vector<T> iterate(Consumer<T> operation) {
+		Sequence.super.iterate(operation);
+		return this;
+	}
+
+	@Override
+	public Vector<T> enumerate(BiConsumer<Integer, T> operation) {
+		Sequence.super.enumerate(operation);
+		return this;
+	}
+
+	@Override
+	public <R> Vector<R> convert(Function<T, R> converter) {
+		final var converted = new MutableList<R>();
+		for (var item : this) {
+			converted.append(
+				converter.apply(item));
+		}
+
+		return new Vector<>(build(converted.store));
+	}
+
+	@Override
+	public Object[] toArray() {
+		final var items = new Object[root.size];
+		copyItems(root, items, 0);
+
+		return items;
+	}
+
+	@Override
+	public T[] toArray(Class<? extends T[]> klass) {
+		final var items = toArray();
+		return Arrays.copyOf(items, items.length, klass);
+	}
+
+	private static void copyItems(Node node, Object[] items, int start) {
+		if (node instanceof Leaf) {
+			final var leafItems = ((Leaf) node).items;
+			arraycopy(leafItems, 0, items, start, leafItems.length);
+		} else {
+			final var branch = (Branch) node;
+			for (var index = 0; index < branch.children.length; index += 1) {
+				copyItems(branch.children[index], items, start + branch.getOffset(index));
+			}
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator(int start) {
+		final var range = getIndexRange();
+		if (start != root.size && !range.contains(start)) {
+			throw new IndexNotInRangeException(start, range);
+		}
+
+		// iterates items chunk by chunk, locating the next chunk from the root once
+		// the current one is exhausted
+		return new Iterator<>() {
+			private int index = start;
+			private Object[] chunk = new Object[0];
+			private int chunkStart = start;
+
+			@Override
+			public boolean hasNext() {
+				return index < root.size;
+			}
+
+			@Override
+			public T next() {
+				if (index - chunkStart >= chunk.length) {
+					var node = root;
+					var offset = 0;
+
+					while (node instanceof Branch) {
+						final var branch = (Branch) node;
+						final var childIndex = branch.findChild(index - offset);
+
+						offset += branch.getOffset(childIndex);
+						node = branch.children[childIndex];
+					}
+
+					chunk = ((Leaf) node).items;
+					chunkStart = offset;
+				}
+
+				@SuppressWarnings("unchecked")
+				final var item = (T) chunk[index - chunkStart];
+				index += 1;
+
+				return item;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(0);
+	}
+
+	@Override
+	public int hashCode() {
+		var hashCode = 1;
+		for (var item : this) {
+			hashCode = 31 * hashCode + item.hashCode();
+		}
+
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		if (!(object instanceof Vector)) {
+			return false;
+		}
+
+		final var vector = (Vector<?>) object;
+		if (root.size != vector.root.size) {
+			return false;
+		}
+
+		final var iterator = vector.iterator();
+		for (var item : this) {
+			if (!item.equals(iterator.next())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + join(", ") + "]";
+	}
+
+	/**
+	 * Returns the height of the tree of this vector, where a vector with a single chunk
+	 * has height 0.
+	 */
+	int getHeight() {
+		return root.height;
+	}
+
+	private abstract static class Node {
+		final int height;
+		final int size;
+
+		Node(int height, int size) {
+			this.height = height;
+			this.size = size;
+		}
+	}
+
+	private static class Leaf extends Node {
+		final Object[] items;
+
+		Leaf(Object[] items) {
+			super(0, items.length);
+			this.items = items;
+		}
+	}
+
+	private static class Branch extends Node {
+		final Node[] children;
+		// cumulative sizes of children, i.e. sizes[i] is the number of items in
+		// children 0 to i
+		final int[] sizes;
+
+		Branch(int height, Node[] children) {
+			this(height, children, accumulateSizes(children));
+		}
+
+		Branch(int height, Node[] children, int[] sizes) {
+			super(height, sizes[sizes.length - 1]);
+			this.children = children;
+			this.sizes = sizes;
+		}
+
+		private static int[] accumulateSizes(Node[] children) {
+			final var sizes = new int[children.length];
+			var size = 0;
+
+			for (var index = 0; index < children.length; index += 1) {
+				size += children[index].size;
+				sizes[index] = size;
+			}
+
+			return sizes;
+		}
+
+		/**
+		 * Returns index of the child, which holds item at the specified index.
+		 */
+		int findChild(int index) {
+			var lowIndex = 0;
+			var highIndex = sizes.length - 1;
+
+			while (lowIndex < highIndex) {
+				final var childIndex = (lowIndex + highIndex) >>> 1;
+				if (sizes[childIndex] > index) {
+					highIndex = childIndex;
+				} else {
+					lowIndex = childIndex + 1;
+				}
+			}
+
+			return lowIndex;
+		}
+
+		/**
+		 * Returns index of the first item of the child at the specified index.
+		 */
+		int getOffset(int childIndex) {
+			return childIndex == 0
+				? 0
+				: sizes[childIndex - 1];
+		}
+	}
+}
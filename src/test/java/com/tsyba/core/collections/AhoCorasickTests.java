@@ -0,0 +1,119 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AhoCorasickTests {
+	private static final AhoCorasick<String> automaton = new AhoCorasick<>(
+		new List<>("h", "e"),
+		new List<>("s", "h", "e"),
+		new List<>("h", "i", "s"),
+		new List<>("h", "e", "r", "s"),
+		new List<>(),
+		new List<>("h", "e"));
+
+	@DisplayName(".findAll(Iterable<T>)")
+	@Nested
+	class FindAllTests {
+		@DisplayName("\uD83E\uDEA2")
+		@Tests({
+			"when patterns overlap, returns all occurrences;" +
+				"[u, s, h, e, r, s];" +
+				"[(1, 1), (2, 0), (2, 3)]",
+			"when pattern suffix starts another pattern, returns both occurrences;" +
+				"[h, i, s, h, e];" +
+				"[(0, 2), (2, 1), (3, 0)]",
+			"when no pattern occurs, returns empty list;" +
+				"[h, i, h, a, s];" +
+				"[]",
+			"when items are empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringList List<String> items, String expected) {
+			final var matches = automaton.findAll(items);
+			assertEquals(expected, matches.toString(),
+				format("automaton.findAll(%s)", items));
+		}
+	}
+
+	@DisplayName(".findFirst(Iterable<T>)")
+	@Nested
+	class FindFirstTests {
+		@DisplayName("\uD83E\uDD47")
+		@Tests({
+			"when patterns occur, returns occurrence, which ends first;" +
+				"[u, s, h, e, r, s];" +
+				"(1, 1)",
+			"when no pattern occurs, returns empty optional;" +
+				"[h, i, h, a, s];" +
+				"null"
+		})
+		void test(@StringList List<String> items, String expected) {
+			final var match = automaton.findFirst(items)
+				.map(Pair::toString)
+				.orElse(null);
+
+			assertEquals(expected, match,
+				format("automaton.findFirst(%s)", items));
+		}
+	}
+
+	@DisplayName("when patterns and items are random")
+	@Nested
+	class RandomTests {
+		@DisplayName("finds the same occurrences as searching for each pattern")
+		@Tests({
+			"\uD83C\uDFB2;" +
+				"50"
+		})
+		void test(int patternCount) {
+			final var random = new Random(patternCount);
+			@SuppressWarnings("unchecked")
+			final Sequence<Integer>[] patterns = new Sequence[patternCount];
+			for (var index = 0; index < patternCount; ++index) {
+				final var pattern = new MutableList<Integer>();
+				for (var length = 1 + random.nextInt(4); length > 0; --length) {
+					pattern.append(random.nextInt(3));
+				}
+
+				patterns[index] = pattern.toImmutable();
+			}
+
+			final var automaton = new AhoCorasick<>(patterns);
+			final var items = new MutableList<Integer>();
+			for (var index = 0; index < 500; ++index) {
+				items.append(random.nextInt(3));
+			}
+
+			// count occurrences of distinct patterns only, since repeated patterns
+			// are reported once
+			var expected = 0;
+			final var counted = new MutableSet<Sequence<Integer>>();
+			for (var pattern : patterns) {
+				if (!counted.contains(pattern)) {
+					counted.add(pattern);
+					expected += items.findAll(pattern).getCount();
+				}
+			}
+
+			final var matches = automaton.findAll(items);
+			assertEquals(expected, matches.getCount(),
+				format("automaton.findAll(%s)", items));
+			for (var match : matches) {
+				final var pattern = patterns[match.item2];
+				assertEquals(Optional.of(0),
+					items.get(new IndexRange(match.item1, match.item1 + pattern.getCount()))
+						.findFirst(pattern),
+					format("%s at %d", pattern, match.item1));
+			}
+		}
+	}
+}
@@ -0,0 +1,243 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BitmapIntSetTests {
+	@DisplayName("BitmapIntSet(Collection<Integer>)")
+	@Nested
+	class NewWithCollectionTests {
+		@DisplayName("\uD83E\uDEA3")
+		@Tests({
+			"when items are not sorted, creates set with sorted items;" +
+				"[7, -3, 65536, 12, 0, -70000];" +
+				"[-70000, -3, 0, 7, 12, 65536]",
+			"when items are repeated, creates set with distinct items;" +
+				"[7, 7, 1, 7, 1];" +
+				"[1, 7]",
+			"when items are empty, creates empty set;" +
+				"[];" +
+				"[]"
+		})
+		void test(@IntList List<Integer> items, @IntList List<Integer> expected) {
+			final var set = new BitmapIntSet(items);
+			assertEquals(expected, new List<>(set),
+				format("new BitmapIntSet(%s)", items));
+		}
+	}
+
+	@DisplayName(".getCount()")
+	@Nested
+	class GetCountTests {
+		@DisplayName("\uD83E\uDDEE")
+		@Tests({
+			"when items are sparse, returns item count;" +
+				"0; 3000",
+			"when items are dense, returns item count;" +
+				"0; 100000",
+			"when items span negative and positive values, returns item count;" +
+				"-70000; 70000"
+		})
+		void test(int start, int end) {
+			final var set = new BitmapIntSet(range(start, end));
+			assertEquals(end - start, set.getCount(),
+				format("%s.getCount()", set));
+		}
+	}
+
+	@DisplayName(".contains(int)")
+	@Nested
+	class ContainsTests {
+		@DisplayName("\uD83D\uDD26")
+		@Tests({
+			"when value is present, returns true;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 65536;" +
+				"true",
+			"when value is absent in present chunk, returns false;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 65537;" +
+				"false",
+			"when value is absent in absent chunk, returns false;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 1000000;" +
+				"false",
+			"when set is empty, returns false;" +
+				"[]; 0;" +
+				"false"
+		})
+		void test(@IntList List<Integer> items, int value, boolean expected) {
+			final var set = new BitmapIntSet(items);
+			assertEquals(expected, set.contains(value),
+				format("%s.contains(%d)", set, value));
+		}
+	}
+
+	@DisplayName(".rank(int)")
+	@Nested
+	class RankTests {
+		@DisplayName("\uD83E\uDE9C")
+		@Tests({
+			"when value is present, returns number of smaller values;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 7;" +
+				"3",
+			"when value is absent, returns number of smaller values;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 100;" +
+				"5",
+			"when value is smaller than all values, returns 0;" +
+				"[-70000, -3, 0, 7, 12, 65536]; -100000;" +
+				"0",
+			"when value is larger than all values, returns item count;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 100000000;" +
+				"6",
+			"when value is absent between chunks, returns number of smaller values;" +
+				"[-70000, -3, 0, 7, 12, 200000]; 70000;" +
+				"5"
+		})
+		void test(@IntList List<Integer> items, int value, int expected) {
+			final var set = new BitmapIntSet(items);
+			assertEquals(expected, set.rank(value),
+				format("%s.rank(%d)", set, value));
+		}
+
+		@DisplayName("when set has many chunks, returns number of smaller values")
+		@Tests({
+			"\uD83E\uDE9C;" +
+				"3000"
+		})
+		void testManyChunks(int count) {
+			// note: three values in each chunk of 2^16 values, across negative
+			// and positive chunks
+			final var values = new int[count];
+			for (var index = 0; index < count; ++index) {
+				values[index] = (index / 3 - count / 6) * 65536 + (index % 3) * 1000;
+			}
+
+			final var set = new BitmapIntSet(values);
+			for (var index = 0; index < count; ++index) {
+				assertEquals(index, set.rank(values[index]),
+					format("<%d values>.rank(%d)", count, values[index]));
+				assertEquals(values[index], set.select(index),
+					format("<%d values>.select(%d)", count, index));
+			}
+		}
+	}
+
+	@DisplayName(".select(int)")
+	@Nested
+	class SelectTests {
+		@DisplayName("\uD83C\uDFAF")
+		@Tests({
+			"when index is first, returns smallest value;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 0;" +
+				"-70000",
+			"when index is last, returns largest value;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 5;" +
+				"65536",
+			"when index is in the middle, returns value at index;" +
+				"[-70000, -3, 0, 7, 12, 65536]; 3;" +
+				"7"
+		})
+		void test(@IntList List<Integer> items, int index, int expected) {
+			final var set = new BitmapIntSet(items);
+			assertEquals(expected, set.select(index),
+				format("%s.select(%d)", set, index));
+		}
+
+		@DisplayName("when index is out of range, throws IndexNotInRangeException")
+		@Tests({
+			"when index is negative;" +
+				"[1, 2, 3]; -1",
+			"when index equals item count;" +
+				"[1, 2, 3]; 3"
+		})
+		void testOutOfRange(@IntList List<Integer> items, int index) {
+			final var set = new BitmapIntSet(items);
+			assertThrows(IndexNotInRangeException.class,
+				() -> set.select(index),
+				format("%s.select(%d)", set, index));
+		}
+	}
+
+	@DisplayName(".intersects(BitmapIntSet)")
+	@Nested
+	class IntersectsTests {
+		@DisplayName("\uD83E\uDD1D")
+		@Tests({
+			"when sets share sparse values, returns true;" +
+				"0; 3000; 2999; 5000;" +
+				"true",
+			"when sets share dense values, returns true;" +
+				"0; 100000; 99999; 200000;" +
+				"true",
+			"when sets are adjacent, returns false;" +
+				"0; 100000; 100000; 200000;" +
+				"false"
+		})
+		void test(int start1, int end1, int start2, int end2, boolean expected) {
+			final var set1 = new BitmapIntSet(range(start1, end1));
+			final var set2 = new BitmapIntSet(range(start2, end2));
+
+			assertEquals(expected, set1.intersects(set2),
+				format("%s.intersects(%s)", set1, set2));
+			assertEquals(!expected, set1.isDisjoint(set2),
+				format("%s.isDisjoint(%s)", set1, set2));
+		}
+	}
+
+	@DisplayName("set algebra")
+	@Nested
+	class AlgebraTests {
+		@DisplayName("\uD83E\uDDEC")
+		@Tests({
+			"when sets are sparse, returns same results as Set;" +
+				"[-70000, -3, 0, 7, 12, 65536]; [-3, 12, 13, 65537, 900000]",
+			"when one set is empty, returns same results as Set;" +
+				"[-70000, -3, 0, 7, 12, 65536]; []"
+		})
+		void testSparse(@IntList List<Integer> items1, @IntList List<Integer> items2) {
+			test(new BitmapIntSet(items1), new BitmapIntSet(items2));
+		}
+
+		@DisplayName("\uD83E\uDDEC")
+		@Tests({
+			"when sets are dense and overlap, returns same results as Set;" +
+				"0; 100000; 50000; 150000",
+			"when sets are dense and nested, returns same results as Set;" +
+				"0; 200000; 65000; 66000",
+			"when dense set overlaps sparse set, returns same results as Set;" +
+				"0; 100000; 99000; 101000"
+		})
+		void testDense(int start1, int end1, int start2, int end2) {
+			final var set1 = new BitmapIntSet(range(start1, end1));
+			final var set2 = new BitmapIntSet(range(start2, end2)
+				.matchAll((item) -> item % 3 != 0));
+
+			test(set1, set2);
+		}
+
+		private void test(BitmapIntSet set1, BitmapIntSet set2) {
+			final var items1 = new Set<>(set1);
+			final var items2 = new Set<>(set2);
+
+			assertEquals(items1.unite(items2), new Set<>(set1.unite(set2)),
+				format("%s.unite(%s)", set1, set2));
+			assertEquals(items1.intersect(items2), new Set<>(set1.intersect(set2)),
+				format("%s.intersect(%s)", set1, set2));
+			assertEquals(items1.subtract(items2), new Set<>(set1.subtract(set2)),
+				format("%s.subtract(%s)", set1, set2));
+			assertEquals(items1.symmetricSubtract(items2),
+				new Set<>(set1.symmetricSubtract(set2)),
+				format("%s.symmetricSubtract(%s)", set1, set2));
+		}
+	}
+
+	private static Collection<Integer> range(int start, int end) {
+		// index ranges cannot start with a negative index; shift values to
+		// cover negative ranges
+		return new IndexRange(0, end - start)
+			.convert((index) -> index + start);
+	}
+}
@@ -0,0 +1,109 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTests {
+	@DisplayName("BloomFilter(int, double)")
+	@Nested
+	class NewTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when false positive rate is 0, throws IllegalArgumentException;" +
+				"0.0",
+			"when false positive rate is 1, throws IllegalArgumentException;" +
+				"1.0",
+			"when false positive rate is negative, throws IllegalArgumentException;" +
+				"-0.01"
+		})
+		void test(double falsePositiveRate) {
+			assertThrows(IllegalArgumentException.class,
+				() -> new BloomFilter(64, falsePositiveRate),
+				format("new BloomFilter(64, %f)", falsePositiveRate));
+		}
+	}
+
+	@DisplayName(".mayContain(int)")
+	@Nested
+	class MayContainTests {
+		@DisplayName("\uD83E\uDDEB")
+		@Tests({
+			"when items were added, returns true for each of them;" +
+				"1000; 0.01",
+			"when items were added with high false positive rate, returns true for each of them;" +
+				"1000; 0.5"
+		})
+		void testAdded(int count, double falsePositiveRate) {
+			final var filter = new BloomFilter(count, falsePositiveRate);
+			for (var hashCode = 0; hashCode < count; ++hashCode) {
+				filter.add(hashCode * 31);
+			}
+
+			for (var hashCode = 0; hashCode < count; ++hashCode) {
+				assertTrue(filter.mayContain(hashCode * 31),
+					format("%s.mayContain(%d)", filter, hashCode * 31));
+			}
+		}
+
+		@DisplayName("when items are absent")
+		@Tests({
+			"when false positive rate is 1%, rejects most items;" +
+				"10000; 0.01",
+			"when false positive rate is 10%, rejects most items;" +
+				"10000; 0.1"
+		})
+		void testAbsent(int count, double falsePositiveRate) {
+			final var filter = new BloomFilter(count, falsePositiveRate);
+			for (var hashCode = 0; hashCode < count; ++hashCode) {
+				filter.add(hashCode);
+			}
+
+			var passed = 0;
+			for (var hashCode = count; hashCode < 11 * count; ++hashCode) {
+				if (filter.mayContain(hashCode)) {
+					++passed;
+				}
+			}
+
+			// blocked filters trade some accuracy for locality; allow
+			// observed rate to exceed the configured one twice
+			final var rate = (double) passed / (10 * count);
+			assertTrue(rate < 2 * falsePositiveRate,
+				format("%s false positive rate %f", filter, rate));
+		}
+	}
+
+	@DisplayName(".getRejectionCount()")
+	@Nested
+	class GetRejectionCountTests {
+		@DisplayName("\uD83E\uDDEE")
+		@Tests({
+			"when items were looked up, returns number of rejected lookups;" +
+				"[Y, e, k, 2]; [Y, r, t, 2, A]"
+		})
+		void test(@StringSet Set<String> items,
+			@StringArray String[] lookups) {
+
+			final var filter = new BloomFilter(64, 0.001);
+			items.iterate((item) -> filter.add(item.hashCode()));
+
+			var rejected = 0;
+			for (var lookup : lookups) {
+				if (!filter.mayContain(lookup.hashCode())) {
+					++rejected;
+				}
+			}
+
+			assertEquals(lookups.length, filter.getLookupCount());
+			assertEquals(rejected, filter.getRejectionCount(),
+				format("%s.getRejectionCount()", filter));
+		}
+	}
+}
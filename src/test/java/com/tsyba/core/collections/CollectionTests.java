@@ -374,6 +374,62 @@ public class CollectionTests {
 		}
 	}
 
+	@DisplayName(".countDistinctApproximately(int)")
+	@Nested
+	class CountDistinctApproximatelyTests {
+		@DisplayName("\uD83D\uDD22")
+		@Tests({
+			"when items are repeated, returns distinct item count;" +
+				"[a, B, a, c, B, a, D];" +
+				"4",
+			"when collection is empty, returns 0;" +
+				"[];" +
+				"0"
+		})
+		void test(@StringCollection Collection<String> items, int expected) {
+			final var count = items.countDistinctApproximately(14);
+			assertEquals(expected, count,
+				format("%s.countDistinctApproximately(14)", items));
+		}
+
+		@DisplayName("when precision is out of range, throws IllegalArgumentException")
+		@Tests({
+			"when precision is too small;" +
+				"[a, B]; 3",
+			"when precision is too large;" +
+				"[a, B]; 19"
+		})
+		void testInvalidPrecision(@StringCollection Collection<String> items, int precision) {
+			assertThrows(IllegalArgumentException.class,
+				() -> items.countDistinctApproximately(precision),
+				format("%s.countDistinctApproximately(%d)", items, precision));
+		}
+	}
+
+	@DisplayName(".getMostFrequentApproximately(int)")
+	@Nested
+	class GetMostFrequentApproximatelyTests {
+		@DisplayName("\uD83E\uDD47")
+		@Tests({
+			"when capacity exceeds distinct item count, returns exact counts;" +
+				"[a, B, a, c, B, a]; 4;" +
+				"[a, B, c]",
+			"when capacity is less than distinct item count, returns frequent items;" +
+				"[a, B, a, c, a, D, a]; 2;" +
+				"[a, D]",
+			"when collection is empty, returns empty list;" +
+				"[]; 4;" +
+				"[]"
+		})
+		void test(@StringCollection Collection<String> items, int capacity,
+			@StringList List<String> expected) {
+
+			final var estimates = items.getMostFrequentApproximately(capacity);
+			assertEquals(expected, estimates.convert((estimate) -> estimate.item),
+				format("%s.getMostFrequentApproximately(%d)", items, capacity));
+		}
+	}
+
 	@DisplayName(".sort(Comparator<T>)")
 	@Nested
 	class SortComparatorTests {
@@ -462,6 +518,514 @@ public class CollectionTests {
 		}
 	}
 
+	@DisplayName(".sample(int, Random)")
+	@Nested
+	class SampleRandomTests {
+		@DisplayName("\uD83C\uDFB2")
+		@Tests({
+			"when count is less than item count, returns count items;" +
+				"[r, E, V, s, x, w, O, 8]; 3;" +
+				"3",
+			"when count is 0, returns empty sequence;" +
+				"[r, E, V, s]; 0;" +
+				"0",
+			"when count equals item count, returns all items;" +
+				"[r, E, V, s]; 4;" +
+				"4",
+			"when count exceeds item count, returns all items;" +
+				"[r, E, V, s]; 9;" +
+				"4",
+			"when count is far larger than item count, returns all items;" +
+				"[r, E, V, s]; 2147483647;" +
+				"4",
+			"when count is less than item count, but larger than initial reservoir, returns count items;" +
+				"[a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p, q, r, s, t, u, v, w, x, y, z]; 20;" +
+				"20",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"0"
+		})
+		void test(@StringCollection Collection<String> items, int count, int expected) {
+			test2(items, count, expected);
+		}
+
+		@DisplayName("when collection is random access")
+		@Tests({
+			"when count is less than item count, returns count items;" +
+				"[r, E, V, s, x, w, O, 8]; 3;" +
+				"3",
+			"when count is 0, returns empty sequence;" +
+				"[r, E, V, s]; 0;" +
+				"0",
+			"when count exceeds item count, returns all items;" +
+				"[r, E, V, s]; 9;" +
+				"4",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"0"
+		})
+		void testRandomAccess(@StringRandomAccessSequence Sequence<String> items,
+			int count, int expected) {
+			test2(items, count, expected);
+		}
+
+		@DisplayName("when collection is not sequence, but is marked random access")
+		@Tests({
+			"when count is less than item count, returns count items;" +
+				"[r, E, V, s, x, w, O, 8]; 3;" +
+				"3",
+			"when count exceeds item count, returns all items;" +
+				"[r, E, V, s]; 9;" +
+				"4"
+		})
+		void testRandomAccessCollection(@StringRandomAccessCollection Collection<String> items,
+			int count, int expected) {
+			test2(items, count, expected);
+		}
+
+		private void test2(Collection<String> items, int count, int expected) {
+			final var random = new Random(17);
+			final var sample = items.sample(count, random);
+			final var message = format("%s.sample(%d, Random)", items, count);
+
+			assertEquals(expected, sample.getCount(), message);
+			assertEquals(expected, sample.getDistinct().getCount(), message);
+			assertTrue(items.contains(sample), message);
+		}
+
+		@DisplayName("when count is negative, throws IllegalArgumentException")
+		@Tests({
+			"when collection is not empty;" +
+				"[r, E, V, s]",
+			"when collection is empty;" +
+				"[]"
+		})
+		void testNegativeCount(@StringCollection Collection<String> items) {
+			assertThrows(IllegalArgumentException.class,
+				() -> items.sample(-1, new Random(17)),
+				format("%s.sample(-1, Random)", items));
+		}
+
+		@DisplayName("chooses each item at each position equally likely")
+		@Test
+		void testUniform() {
+			final var items = new Integer[]{0, 1, 2, 3, 4};
+			final var collection = new Set<>(items);
+			final var list = new List<>(items);
+
+			assertUniform(collection);
+			assertUniform(list);
+		}
+
+		private void assertUniform(Collection<Integer> items) {
+			final var random = new Random(17);
+			final var roundCount = 20000;
+			final var counts = new int[5][2];
+
+			for (var round = 0; round < roundCount; ++round) {
+				final var sample = items.sample(2, random)
+					.toArray();
+
+				++counts[(Integer) sample[0]][0];
+				++counts[(Integer) sample[1]][1];
+			}
+
+			// note: each item is expected at each position in 1 of 5 rounds, give
+			// or take about 5 standard deviations
+			for (var item = 0; item < 5; ++item) {
+				for (var position = 0; position < 2; ++position) {
+					final var count = counts[item][position];
+					assertTrue(Math.abs(count - roundCount / 5) < 300,
+						format("%s.sample(2, Random) chose %d at %d in %d of %d rounds",
+							items, item, position, count, roundCount));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".sample(int, ToDoubleFunction<T>, Random)")
+	@Nested
+	class SampleWeightedTests {
+		@DisplayName("⚖")
+		@Tests({
+			"when count is less than weighted item count, returns count items;" +
+				"[r, E, V, s, x, w, O, 8]; 3;" +
+				"3",
+			"when count exceeds weighted item count, returns weighted items;" +
+				"[r, E, V, s, x, w, O, 8]; 9;" +
+				"8",
+			"when items have no weight, skips them;" +
+				"[r, E, -, s, -, w, O, -]; 9;" +
+				"5",
+			"when count is far larger than weighted item count, returns weighted items;" +
+				"[r, E, V, s]; 2147483647;" +
+				"4",
+			"when count is less than weighted item count, but larger than initial heap, returns count items;" +
+				"[a, b, c, d, e, f, g, h, i, j, k, l, m, n, o, p, q, r, s, t, u, v, w, x, y, z]; 20;" +
+				"20",
+			"when count is 0, returns empty sequence;" +
+				"[r, E, V, s]; 0;" +
+				"0",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"0"
+		})
+		void test(@StringCollection Collection<String> items, int count, int expected) {
+			final var random = new Random(17);
+			final var sample = items.sample(count, (item) -> {
+				return item.equals("-")
+					? 0
+					: 1;
+			}, random);
+
+			final var message = format("%s.sample(%d, ToDoubleFunction<T>, Random)",
+				items, count);
+
+			assertEquals(expected, sample.getCount(), message);
+			assertEquals(expected, sample.getDistinct().getCount(), message);
+			assertTrue(items.contains(sample), message);
+			assertFalse(sample.contains("-"), message);
+		}
+
+		@DisplayName("when count is negative, throws IllegalArgumentException")
+		@Tests({
+			"when collection is not empty;" +
+				"[r, E, V, s]",
+			"when collection is empty;" +
+				"[]"
+		})
+		void testNegativeCount(@StringCollection Collection<String> items) {
+			assertThrows(IllegalArgumentException.class,
+				() -> items.sample(-1, (item) -> 1, new Random(17)),
+				format("%s.sample(-1, ToDoubleFunction<T>, Random)", items));
+		}
+
+		@DisplayName("chooses items with probabilities proportional to their weights")
+		@Test
+		void testProportional() {
+			final var items = new List<>(1, 2, 3, 4);
+			final var random = new Random(17);
+			final var roundCount = 20000;
+			final var counts = new int[5];
+
+			for (var round = 0; round < roundCount; ++round) {
+				final var sample = items.sample(1, (item) -> item, random);
+				++counts[sample.get(0)];
+			}
+
+			// note: an item is expected in weight / 10 of rounds, give or take about
+			// 5 standard deviations
+			for (var item = 1; item <= 4; ++item) {
+				final var count = counts[item];
+				assertTrue(Math.abs(count - roundCount * item / 10) < 350,
+					format("%s.sample(1, ToDoubleFunction<T>, Random) chose %d in %d of %d rounds",
+						items, item, count, roundCount));
+			}
+		}
+	}
+
+	@DisplayName(".getSmallest(int, Comparator<T>)")
+	@Nested
+	class GetSmallestComparatorTests {
+		@DisplayName("\uD83E\uDD49")
+		@Tests({
+			"when count is less than item count, returns smallest items;" +
+				"[k, M, s, A, 8, d, q]; 3;" +
+				"[s, q, k]",
+			"when items are repeated, returns repeated items;" +
+				"[k, s, M, s, A, q, s]; 3;" +
+				"[s, s, s]",
+			"when count exceeds item count, returns all items;" +
+				"[k, M, s]; 5;" +
+				"[s, k, M]",
+			"when count is 0, returns empty sequence;" +
+				"[k, M, s]; 0;" +
+				"[]",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"[]"
+		})
+		void test(@StringCollection Collection<String> items, int count,
+			@StringList List<String> expected) {
+
+			final var smallest = items.getSmallest(count, Comparator.reverseOrder());
+			assertEquals(expected, smallest,
+				format("%s.getSmallest(%d, Comparator<T>)", items, count));
+		}
+
+		@DisplayName("when count is negative, throws IllegalArgumentException")
+		@Tests({
+			"when collection is not empty;" +
+				"[k, M, s]",
+			"when collection is empty;" +
+				"[]"
+		})
+		void testNegativeCount(@StringCollection Collection<String> items) {
+			assertThrows(IllegalArgumentException.class,
+				() -> items.getSmallest(-1, Comparator.reverseOrder()),
+				format("%s.getSmallest(-1, Comparator<T>)", items));
+		}
+
+		@DisplayName("when collection is large, returns prefix of sorted items")
+		@Test
+		void testLarge() {
+			final var random = new Random(3);
+			final var items = new MutableList<Integer>();
+			for (var index = 0; index < 100000; ++index) {
+				items.append(random.nextInt(1000));
+			}
+
+			final var sorted = items.sort(Integer::compareTo);
+			final var smallest = items.getSmallest(100, Integer::compareTo);
+
+			assertEquals(sorted.getPrefix(100), smallest,
+				"<100000 items>.getSmallest(100, Comparator<T>)");
+		}
+	}
+
+	@DisplayName(".getSmallest(int)")
+	@Nested
+	class GetSmallestTests {
+		@DisplayName("when items are comparable")
+		@Tests({
+			"when count is less than item count, returns smallest items;" +
+				"[k, M, s, A, 8, d, q]; 3;" +
+				"[8, A, M]",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"[]"
+		})
+		void testComparable(@StringCollection Collection<String> items, int count,
+			@StringList List<String> expected) {
+
+			final var smallest = items.getSmallest(count);
+			assertEquals(expected, smallest,
+				format("%s.getSmallest(%d)", items, count));
+		}
+
+		@DisplayName("when items are not comparable, fails")
+		@Test
+		void testNotComparable() {
+			assertThrows(RuntimeException.class,
+				() -> {
+					new NonComparableCollection()
+						.getSmallest(2);
+				});
+		}
+	}
+
+	@DisplayName(".getLargest(int, Comparator<T>)")
+	@Nested
+	class GetLargestComparatorTests {
+		@DisplayName("\uD83E\uDD47")
+		@Tests({
+			"when count is less than item count, returns largest items;" +
+				"[k, M, s, A, 8, d, q]; 3;" +
+				"[8, A, M]",
+			"when count exceeds item count, returns all items;" +
+				"[k, M, s]; 5;" +
+				"[M, k, s]",
+			"when count is 0, returns empty sequence;" +
+				"[k, M, s]; 0;" +
+				"[]",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"[]"
+		})
+		void test(@StringCollection Collection<String> items, int count,
+			@StringList List<String> expected) {
+
+			final var largest = items.getLargest(count, Comparator.reverseOrder());
+			assertEquals(expected, largest,
+				format("%s.getLargest(%d, Comparator<T>)", items, count));
+		}
+
+		@DisplayName("when count is negative, throws IllegalArgumentException")
+		@Tests({
+			"when collection is not empty;" +
+				"[k, M, s]",
+			"when collection is empty;" +
+				"[]"
+		})
+		void testNegativeCount(@StringCollection Collection<String> items) {
+			assertThrows(IllegalArgumentException.class,
+				() -> items.getLargest(-1, Comparator.reverseOrder()),
+				format("%s.getLargest(-1, Comparator<T>)", items));
+		}
+	}
+
+	@DisplayName(".getLargest(int)")
+	@Nested
+	class GetLargestTests {
+		@DisplayName("when items are comparable")
+		@Tests({
+			"when count is less than item count, returns largest items;" +
+				"[k, M, s, A, 8, d, q]; 3;" +
+				"[s, q, k]",
+			"when collection is empty, returns empty sequence;" +
+				"[]; 3;" +
+				"[]"
+		})
+		void testComparable(@StringCollection Collection<String> items, int count,
+			@StringList List<String> expected) {
+
+			final var largest = items.getLargest(count);
+			assertEquals(expected, largest,
+				format("%s.getLargest(%d)", items, count));
+		}
+	}
+
+	@DisplayName(".getNth(int, Comparator<T>)")
+	@Nested
+	class GetNthComparatorTests {
+		@DisplayName("\uD83D\uDD22")
+		@Tests({
+			"when index is 0, returns smallest item;" +
+				"[k, M, s, A, 8, d, q]; 0;" +
+				"s",
+			"when index is in range, returns item at index in sorted order;" +
+				"[k, M, s, A, 8, d, q]; 4;" +
+				"M",
+			"when index is last, returns largest item;" +
+				"[k, M, s, A, 8, d, q]; 6;" +
+				"8",
+			"when items are repeated, returns item at index in sorted order;" +
+				"[k, s, M, s, A, q, s]; 2;" +
+				"s"
+		})
+		void test(@StringCollection Collection<String> items, int index,
+			String expected) {
+
+			final var item = items.getNth(index, Comparator.reverseOrder());
+			assertEquals(expected, item,
+				format("%s.getNth(%d, Comparator<T>)", items, index));
+		}
+
+		@DisplayName("when index is out of range, throws IndexNotInRangeException")
+		@Tests({
+			"when index is negative;" +
+				"[k, M, s]; -1",
+			"when index equals item count;" +
+				"[k, M, s]; 3",
+			"when collection is empty;" +
+				"[]; 0"
+		})
+		void testOutOfRange(@StringCollection Collection<String> items, int index) {
+			final var exception = assertThrows(IndexNotInRangeException.class,
+				() -> items.getNth(index, Comparator.reverseOrder()),
+				format("%s.getNth(%d, Comparator<T>)", items, index));
+
+			final var expected = new IndexNotInRangeException(index,
+				new IndexRange(0, items.getCount()));
+
+			assertEquals(expected, exception,
+				format("%s.getNth(%d, Comparator<T>)", items, index));
+		}
+
+		@DisplayName("when collection is large, returns item at index in sorted order")
+		@Test
+		void testLarge() {
+			final var random = new Random(3);
+			final var items = new MutableList<Integer>();
+			for (var index = 0; index < 100000; ++index) {
+				items.append(random.nextInt(1000));
+			}
+
+			final var sorted = items.sort(Integer::compareTo);
+			for (var index : new int[]{0, 17, 49999, 50000, 99999}) {
+				assertEquals(sorted.get(index), items.getNth(index, Integer::compareTo),
+					format("<100000 items>.getNth(%d, Comparator<T>)", index));
+			}
+		}
+
+		@DisplayName("when items are sorted, returns item at index in sorted order")
+		@Test
+		void testSorted() {
+			final var items = new MutableList<Integer>();
+			for (var index = 0; index < 100000; ++index) {
+				items.append(index);
+			}
+
+			for (var index : new int[]{0, 17, 50000, 99999}) {
+				assertEquals(index, items.getNth(index, Integer::compareTo),
+					format("<100000 sorted items>.getNth(%d, Comparator<T>)", index));
+				assertEquals(99999 - index, items.getNth(index, Comparator.reverseOrder()),
+					format("<100000 sorted items>.getNth(%d, Comparator<T>)", index));
+			}
+		}
+	}
+
+	@DisplayName(".getNth(int)")
+	@Nested
+	class GetNthTests {
+		@DisplayName("when items are comparable")
+		@Tests({
+			"when index is in range, returns item at index in sorted order;" +
+				"[k, M, s, A, 8, d, q]; 2;" +
+				"M"
+		})
+		void testComparable(@StringCollection Collection<String> items, int index,
+			String expected) {
+
+			final var item = items.getNth(index);
+			assertEquals(expected, item,
+				format("%s.getNth(%d)", items, index));
+		}
+	}
+
+	@DisplayName(".getMedian(Comparator<T>)")
+	@Nested
+	@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+	class GetMedianComparatorTests {
+		@DisplayName("\uD83D\uDCCF")
+		@Tests({
+			"when item count is odd, returns middle item;" +
+				"[k, M, s, A, 8, d, q];" +
+				"d",
+			"when item count is even, returns lower middle item;" +
+				"[k, M, s, A, 8, q];" +
+				"k",
+			"when collection has single item, returns it;" +
+				"[k];" +
+				"k",
+			"when collection is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		void test(@StringCollection Collection<String> items,
+			@StringOptional Optional<String> expected) {
+
+			final var median = items.getMedian(Comparator.reverseOrder());
+			assertEquals(expected, median,
+				format("%s.getMedian(Comparator<T>)", items));
+		}
+	}
+
+	@DisplayName(".getMedian()")
+	@Nested
+	@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+	class GetMedianTests {
+		@DisplayName("when items are comparable")
+		@Tests({
+			"when item count is odd, returns middle item;" +
+				"[k, M, s, A, 8, d, q];" +
+				"d",
+			"when item count is even, returns lower middle item;" +
+				"[k, M, s, A, 8, d];" +
+				"M",
+			"when collection is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		void testComparable(@StringCollection Collection<String> items,
+			@StringOptional Optional<String> expected) {
+
+			final var median = items.getMedian();
+			assertEquals(expected, median,
+				format("%s.getMedian()", items));
+		}
+	}
+
 	static void assertShuffled(Collection<String> shuffled,
 		Collection<String> unshuffled, String message) {
 
@@ -571,6 +1135,20 @@ public class CollectionTests {
 			assertArrayEquals(expected, array,
 				format("%s.toArray(Class<? extends T[]>)", items));
 		}
+
+		@DisplayName("when collection is not sequence, but is marked random access")
+		@Tests({
+			"returns items array;" +
+				"[V, b, Q, r];" +
+				"[V, b, Q, r]"
+		})
+		void testRandomAccessCollection(@StringRandomAccessCollection Collection<String> items,
+			@StringArray String[] expected) {
+
+			final var array = items.toArray(String[].class);
+			assertArrayEquals(expected, array,
+				format("%s.toArray(Class<? extends T[]>)", items));
+		}
 	}
 
 	@DisplayName(".toArray()")
@@ -592,6 +1170,20 @@ public class CollectionTests {
 			assertArrayEquals(expected, array,
 				format("%s.toArray()", items));
 		}
+
+		@DisplayName("when collection is not sequence, but is marked random access")
+		@Tests({
+			"returns items array;" +
+				"[V, b, Q, r];" +
+				"[V, b, Q, r]"
+		})
+		void testRandomAccessCollection(@StringRandomAccessCollection Collection<String> items,
+			@StringArray String[] expected) {
+
+			final var array = items.toArray();
+			assertArrayEquals(expected, array,
+				format("%s.toArray()", items));
+		}
 	}
 }
 
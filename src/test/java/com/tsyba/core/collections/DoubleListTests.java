@@ -0,0 +1,313 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.DoubleArray;
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleListTests {
+	@DisplayName("DoubleList(Collection<Double>)")
+	@Nested
+	class ConstructorCollectionTests {
+		@DisplayName("\uD83C\uDF4F")
+		@Tests({
+			"when collection is not empty, creates list with its values;" +
+				"[4, -1, 7, 7, 0]",
+			"when collection is empty, creates empty list;" +
+				"[]"
+		})
+		void test(@DoubleArray double[] values) {
+			final var items = new DoubleList(values).toList();
+			final var list = new DoubleList(items);
+
+			assertArrayEquals(values, list.toArray(),
+				format("DoubleList(%s)", items));
+			assertEquals(items, list.toList(),
+				format("DoubleList(%s).toList()", items));
+		}
+	}
+
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("\uD83C\uDF52")
+		@Tests({
+			"when index is within valid range, returns value at index;" +
+				"[5, 2, -8, 1]; 2;" +
+				"-8; null",
+			"when index is before valid range, fails;" +
+				"[5, 2, -8, 1]; -1;" +
+				"null; -1 ∉ [0, 4)",
+			"when index is after valid range, fails;" +
+				"[5, 2, -8, 1]; 4;" +
+				"null; 4 ∉ [0, 4)",
+			"when list is empty, fails;" +
+				"[]; 0;" +
+				"null; 0 ∉ [0, 0)"
+		})
+		void test(@DoubleArray double[] values, int index, Double expected1,
+			@IndexRangeException Exception expected2) {
+
+			final var list = new DoubleList(values);
+			try {
+				final var value = list.get(index);
+				assertEquals(expected1, value,
+					format("%s.get(%d)", list, index));
+			} catch (IndexNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.get(%d)", list, index));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".get(IndexRange)")
+	@Nested
+	class GetIndexRangeTests {
+		@DisplayName("\uD83C\uDF4B")
+		@Tests({
+			"when index range is within valid range, returns values in range;" +
+				"[5, 2, -8, 1, 9]; [1, 4);" +
+				"[2, -8, 1]; null",
+			"when index range is empty, returns empty list;" +
+				"[5, 2, -8, 1, 9]; [3, 3);" +
+				"[]; null",
+			"when index range is out of valid range, fails;" +
+				"[5, 2, -8, 1, 9]; [3, 7);" +
+				"null; [3, 7) ⊈ [0, 5)"
+		})
+		void test(@DoubleArray double[] values, @IntRange IndexRange range,
+			@DoubleArray double[] expected1, @IndexRangeException Exception expected2) {
+
+			final var list = new DoubleList(values);
+			try {
+				final var sub = list.get(range);
+				assertEquals(new DoubleList(expected1), sub,
+					format("%s.get(%s)", list, range));
+			} catch (IndexRangeNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.get(%s)", list, range));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".getMin()")
+	@Nested
+	class GetMinTests {
+		@DisplayName("\uD83C\uDF51")
+		@Tests({
+			"when list is not empty, returns smallest value;" +
+				"[5, 2, -8, 1, -8, 9];" +
+				"-8",
+			"when list is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		void test(@DoubleArray double[] values, Double expected) {
+			final var list = new DoubleList(values);
+			final var min = list.getMin();
+
+			assertEquals(toOptional(expected), min,
+				format("%s.getMin()", list));
+		}
+	}
+
+	@DisplayName(".getMax()")
+	@Nested
+	class GetMaxTests {
+		@DisplayName("\uD83C\uDF50")
+		@Tests({
+			"when list is not empty, returns largest value;" +
+				"[5, 2, -8, 9, 1, 9];" +
+				"9",
+			"when list is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		void test(@DoubleArray double[] values, Double expected) {
+			final var list = new DoubleList(values);
+			final var max = list.getMax();
+
+			assertEquals(toOptional(expected), max,
+				format("%s.getMax()", list));
+		}
+	}
+
+	@DisplayName(".findFirst(double)")
+	@Nested
+	class FindFirstTests {
+		@DisplayName("\uD83C\uDF4A")
+		@Tests({
+			"when value is present, returns its first index;" +
+				"[5, 2, -8, 2, 1]; 2;" +
+				"1",
+			"when value is absent, returns empty optional;" +
+				"[5, 2, -8, 2, 1]; 3;" +
+				"null",
+			"when list is empty, returns empty optional;" +
+				"[]; 3;" +
+				"null"
+		})
+		void test(@DoubleArray double[] values, double value, Integer expected) {
+			final var list = new DoubleList(values);
+			final var index = list.findFirst(value);
+
+			assertEquals(toIndex(expected), index,
+				format("%s.findFirst(%s)", list, value));
+		}
+	}
+
+	@DisplayName(".findFirst(DoublePredicate)")
+	@Nested
+	class FindFirstPredicateTests {
+		@DisplayName("\uD83C\uDF48")
+		@Tests({
+			"when some value matches, returns index of the first one;" +
+				"[5, 2, -8, -3, 1];" +
+				"2",
+			"when no value matches, returns empty optional;" +
+				"[5, 2, 8, 3, 1];" +
+				"null",
+			"when list is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		void test(@DoubleArray double[] values, Integer expected) {
+			final var list = new DoubleList(values);
+			final var index = list.findFirst((value) -> value < 0);
+
+			assertEquals(toIndex(expected), index,
+				format("%s.findFirst(<is negative>)", list));
+		}
+	}
+
+	@DisplayName(".matchAll(DoublePredicate)")
+	@Nested
+	class MatchAllTests {
+		@DisplayName("\uD83C\uDF49")
+		@Tests({
+			"when some values match, returns them in order;" +
+				"[5, -2, 8, -3, 1, -2];" +
+				"[-2, -3, -2]",
+			"when no value matches, returns empty list;" +
+				"[5, 2, 8, 3, 1];" +
+				"[]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@DoubleArray double[] values, @DoubleArray double[] expected) {
+			final var list = new DoubleList(values);
+			final var matches = list.matchAll((value) -> value < 0);
+
+			assertEquals(new DoubleList(expected), matches,
+				format("%s.matchAll(<is negative>)", list));
+		}
+	}
+
+	@DisplayName(".sort()")
+	@Nested
+	class SortTests {
+		@DisplayName("\uD83C\uDF47")
+		@Tests({
+			"when list is not empty, returns values in ascending order;" +
+				"[5, -2, 8, -3, 1, -2];" +
+				"[-3, -2, -2, 1, 5, 8]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@DoubleArray double[] values, @DoubleArray double[] expected) {
+			final var list = new DoubleList(values);
+			final var sorted = list.sort();
+
+			assertEquals(new DoubleList(expected), sorted,
+				format("%s.sort()", list));
+			assertArrayEquals(values, list.toArray(),
+				format("%s.sort()", list));
+		}
+	}
+
+	@DisplayName(".toList()")
+	@Nested
+	class ToListTests {
+		@DisplayName("\uD83C\uDF46")
+		@Tests({
+			"when list is not empty, returns boxed values;" +
+				"[5, -2, 8];" +
+				"[5, -2, 8]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@DoubleArray double[] values, @StringArray String[] expected) {
+			final var list = new DoubleList(values);
+			final var items = list.toList();
+
+			final var expected2 = new List<>(expected)
+				.convert(Double::valueOf);
+
+			assertEquals(expected2, items,
+				format("%s.toList()", list));
+		}
+	}
+
+	@DisplayName(".equals(Object)")
+	@Nested
+	class EqualsTests {
+		@DisplayName("\uD83C\uDF45")
+		@Tests({
+			"when lists have equal values, returns true;" +
+				"[5, -2, 8]; [5, -2, 8];" +
+				"true",
+			"when lists have different values, returns false;" +
+				"[5, -2, 8]; [5, 2, 8];" +
+				"false",
+			"when one list is a prefix of the other, returns false;" +
+				"[5, -2, 8]; [5, -2];" +
+				"false",
+			"when lists are empty, returns true;" +
+				"[]; [];" +
+				"true"
+		})
+		void test(@DoubleArray double[] values1, @DoubleArray double[] values2, boolean expected) {
+			final var list1 = new DoubleList(values1);
+			final var list2 = new MutableDoubleList(values2);
+			list2.append((double) 4)
+				.removeLast();
+
+			assertEquals(expected, list1.equals(list2),
+				format("%s.equals(%s)", list1, list2));
+			if (expected) {
+				assertEquals(list1.hashCode(), list2.hashCode(),
+					format("%s.hashCode()", list1));
+			}
+		}
+	}
+
+	private static OptionalDouble toOptional(Double value) {
+		return value == null
+			? OptionalDouble.empty()
+			: OptionalDouble.of(value);
+	}
+
+	private static OptionalInt toIndex(Integer index) {
+		return index == null
+			? OptionalInt.empty()
+			: OptionalInt.of(index);
+	}
+}
@@ -0,0 +1,95 @@
+package com.tsyba.core.collections;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightRecorderEventsTests {
+	@DisplayName("HashStoreResize")
+	@Nested
+	class HashStoreResizeTests {
+		@DisplayName("\uD83D\uDCF9")
+		@Tests({
+			"when event is enabled, records every resize;" +
+				"com.tsyba.core.collections.HashStoreResize; 1000; true",
+			"when event is not enabled, records no resizes;" +
+				"jdk.ThreadSleep; 1000; false"
+		})
+		void test(String enabled, int count, boolean expected) throws IOException {
+			final var events = record(enabled, () -> {
+				final var items = new MutableSet<Integer>();
+				for (var item = 0; item < count; ++item) {
+					items.add(item);
+				}
+			});
+
+			final var resizes = events.matchAll((event) -> event.getEventType()
+				.getName()
+				.equals("com.tsyba.core.collections.HashStoreResize"));
+
+			assertEquals(expected, !resizes.isEmpty(),
+				format("recorded %s", resizes));
+			for (var resize : resizes) {
+				assertTrue(resize.getInt("resizedCapacity") > resize.getInt("capacity"),
+					format("recorded %s", resize));
+			}
+		}
+	}
+
+	@DisplayName("ArrayCopy")
+	@Nested
+	class ArrayCopyTests {
+		@DisplayName("\uD83D\uDCF9")
+		@Tests({
+			"when copy exceeds threshold, records it;" +
+				"100000; true",
+			"when copy does not exceed threshold, does not record it;" +
+				"100; false"
+		})
+		void test(int count, boolean expected) throws IOException {
+			final var items = new MutableList<Integer>();
+			for (var item = 0; item < count; ++item) {
+				items.append(item);
+			}
+
+			final var events = record("com.tsyba.core.collections.ArrayCopy",
+				() -> items.insert(0, -1));
+
+			final var copies = events.matchAll((event) -> event.getEventType()
+				.getName()
+				.equals("com.tsyba.core.collections.ArrayCopy"));
+
+			assertEquals(expected, !copies.isEmpty(),
+				format("recorded %s", copies));
+		}
+	}
+
+	private static List<RecordedEvent> record(String event, Runnable operation)
+		throws IOException {
+
+		final var file = Files.createTempFile("events", ".jfr");
+		try (final var recording = new Recording()) {
+			recording.enable(event);
+			recording.start();
+			operation.run();
+			recording.stop();
+			recording.dump(file);
+
+			final var events = RecordingFile.readAllEvents(file)
+				.toArray(new RecordedEvent[0]);
+
+			return new List<>(events);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
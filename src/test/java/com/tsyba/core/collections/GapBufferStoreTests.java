@@ -0,0 +1,200 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GapBufferStoreTests {
+	/**
+	 * Returns a store with the specified items, where the gap is moved to the specified
+	 * index.
+	 */
+	private static GapBufferStore store(String[] items, int gapIndex) {
+		final var store = new GapBufferStore(items.length);
+		for (var item : items) {
+			store.append(item);
+		}
+		if (gapIndex < items.length) {
+			store.insert(gapIndex, "_");
+			store.remove(gapIndex);
+		}
+
+		return store;
+	}
+
+	private static Object[] toArray(GapBufferStore store) {
+		final var count = store.getCount();
+		return store.copyItems(0, count, count);
+	}
+
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("\uD83E\uDDED")
+		@Tests({
+			"when index is before gap, returns item at index;" +
+				"[g, e, Q, s, A]; 3; 1;" +
+				"e",
+			"when index is after gap, returns item at index;" +
+				"[g, e, Q, s, A]; 1; 3;" +
+				"s",
+			"when index is at gap, returns item at index;" +
+				"[g, e, Q, s, A]; 2; 2;" +
+				"Q"
+		})
+		void test(@StringArray String[] items, int gapIndex, int index, String expected) {
+			final var store = store(items, gapIndex);
+			assertEquals(expected, store.get(index),
+				format("%s.get(%d)", Arrays.toString(toArray(store)), index));
+		}
+	}
+
+	@DisplayName(".insert(int, Object)")
+	@Nested
+	class InsertTests {
+		@DisplayName("\uD83D\uDCE5")
+		@Tests({
+			"when index is at gap, inserts item;" +
+				"[g, e, Q, s, A]; 2; 2; P;" +
+				"[g, e, P, Q, s, A]",
+			"when index is before gap, inserts item;" +
+				"[g, e, Q, s, A]; 4; 1; P;" +
+				"[g, P, e, Q, s, A]",
+			"when index is after gap, inserts item;" +
+				"[g, e, Q, s, A]; 0; 4; P;" +
+				"[g, e, Q, s, P, A]"
+		})
+		void test(@StringArray String[] items, int gapIndex, int index, String item,
+			@StringArray String[] expected) {
+
+			final var store = store(items, gapIndex);
+			store.insert(index, item);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.insert(%d, %s)", Arrays.toString(items), index, item));
+		}
+
+		@DisplayName("when store is full, expands storage around gap")
+		@Tests({
+			"\uD83D\uDCE6;" +
+				"200; 50"
+		})
+		void testExpand(int count, int index) {
+			final var store = new GapBufferStore(0);
+			final var expected = new ArrayList<Integer>();
+
+			for (var item = 0; item < count; ++item) {
+				store.append(item);
+				expected.add(item);
+			}
+			for (var item = 0; item < count; ++item) {
+				store.insert(index + item, -item);
+				expected.add(index + item, -item);
+			}
+
+			assertArrayEquals(expected.toArray(), toArray(store));
+		}
+	}
+
+	@DisplayName(".remove(int)")
+	@Nested
+	class RemoveTests {
+		@DisplayName("\uD83D\uDCE4")
+		@Tests({
+			"when index is at gap, removes item;" +
+				"[g, e, Q, s, A]; 2; 2;" +
+				"[g, e, s, A]",
+			"when index is before gap, removes item;" +
+				"[g, e, Q, s, A]; 4; 0;" +
+				"[e, Q, s, A]",
+			"when index is after gap, removes item;" +
+				"[g, e, Q, s, A]; 1; 4;" +
+				"[g, e, Q, s]"
+		})
+		void test(@StringArray String[] items, int gapIndex, int index,
+			@StringArray String[] expected) {
+
+			final var store = store(items, gapIndex);
+			store.remove(index);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.remove(%d)", Arrays.toString(items), index));
+		}
+	}
+
+	@DisplayName(".remove(int, int)")
+	@Nested
+	class RemoveIndexRangeTests {
+		@DisplayName("✂️")
+		@Tests({
+			"when range is after gap, removes items;" +
+				"[g, e, Q, s, A, m]; 1; 2; 5;" +
+				"[g, e, m]",
+			"when range is before gap, removes items;" +
+				"[g, e, Q, s, A, m]; 5; 0; 2;" +
+				"[Q, s, A, m]",
+			"when range is empty, does nothing;" +
+				"[g, e, Q, s, A, m]; 3; 2; 2;" +
+				"[g, e, Q, s, A, m]"
+		})
+		void test(@StringArray String[] items, int gapIndex, int start, int end,
+			@StringArray String[] expected) {
+
+			final var store = store(items, gapIndex);
+			store.remove(start, end);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.remove(%d, %d)", Arrays.toString(items), start, end));
+		}
+	}
+
+	@DisplayName(".find(Object)")
+	@Nested
+	class FindTests {
+		@DisplayName("\uD83D\uDD0E")
+		@Tests({
+			"when item is before gap, returns its index;" +
+				"[g, e, Q, e, A]; 4; e;" +
+				"1",
+			"when item is after gap, returns its index;" +
+				"[g, Q, s, e, A]; 1; e;" +
+				"3",
+			"when item is absent, returns -1;" +
+				"[g, e, Q, e, A]; 2; P;" +
+				"-1"
+		})
+		void test(@StringArray String[] items, int gapIndex, String item, int expected) {
+			final var store = store(items, gapIndex);
+			assertEquals(expected, store.find(item),
+				format("%s.find(%s)", Arrays.toString(items), item));
+		}
+	}
+
+	@DisplayName(".copy(int, int)")
+	@Nested
+	class CopyTests {
+		@DisplayName("\uD83E\uDE9F")
+		@Tests({
+			"when range spans gap, returns items in range;" +
+				"[g, e, Q, s, A, m]; 3; 1; 5;" +
+				"[e, Q, s, A]",
+			"when range is after gap, returns items in range;" +
+				"[g, e, Q, s, A, m]; 1; 3; 6;" +
+				"[s, A, m]"
+		})
+		void test(@StringArray String[] items, int gapIndex, int start, int end,
+			@StringArray String[] expected) {
+
+			final var store = store(items, gapIndex);
+			assertArrayEquals(expected, toArray(store.copy(start, end)),
+				format("%s.copy(%d, %d)", Arrays.toString(items), start, end));
+		}
+	}
+}
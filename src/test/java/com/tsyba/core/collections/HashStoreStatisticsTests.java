@@ -0,0 +1,177 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.data.IntegerValue;
+import com.tsyba.core.collections.data.IntegerValueHash42;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashStoreStatisticsTests {
+	@DisplayName(".getEqualsCallsPerLookup()")
+	@Nested
+	class GetEqualsCallsPerLookupTests {
+		@DisplayName("when hash codes are distinct, makes a single check per lookup")
+		@Tests({
+			"when items are few;" +
+				"8",
+			"when items are many;" +
+				"4000"
+		})
+		void testDistinct(int count) {
+			final var items = new MutableSet<IntegerValue>();
+			for (var value = 0; value < count; ++value) {
+				items.add(new IntegerValue(value));
+			}
+
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+			for (var value = 0; value < count; ++value) {
+				items.contains(new IntegerValue(value));
+			}
+
+			assertEquals(count, statistics.getLookupCount(),
+				format("%s.getLookupCount()", statistics));
+			assertTrue(statistics.getEqualsCallsPerLookup() < 2.0,
+				format("%s.getEqualsCallsPerLookup()", statistics));
+		}
+
+		@DisplayName("when hash codes are equal, makes a check per colliding item")
+		@Tests({
+			"\uD83E\uDD4A;" +
+				"8"
+		})
+		void testColliding(int count) {
+			// note: default probe distance limit does not fit colliding items
+			final var items = new MutableSet<>(new RobinHoodHashStore<IntegerValueHash42>(64, 8));
+			for (var value = 0; value < count; ++value) {
+				items.add(new IntegerValueHash42(value));
+			}
+
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+			for (var value = 0; value < count; ++value) {
+				items.contains(new IntegerValueHash42(value));
+			}
+
+			// looking up i-th item of a cluster compares it to i + 1 items
+			assertEquals((count + 1) / 2.0, statistics.getEqualsCallsPerLookup(),
+				format("%s.getEqualsCallsPerLookup()", statistics));
+			assertEquals(count - 1, statistics.getMaxProbeDistance(),
+				format("%s.getMaxProbeDistance()", statistics));
+		}
+	}
+
+	@DisplayName(".getProbeDistanceHistogram()")
+	@Nested
+	class GetProbeDistanceHistogramTests {
+		@DisplayName("\uD83E\uDDEE")
+		@Tests({
+			"when items do not collide, counts all items at distance 0;" +
+				"[0, 1, 2, 3];" +
+				"[4]",
+			"when items collide, counts items at each distance;" +
+				"[0, 64, 128, 1];" +
+				"[1, 1, 2]",
+			"when set is empty, returns empty histogram;" +
+				"[];" +
+				"[]"
+		})
+		void test(@IntList List<Integer> values, @IntList List<Integer> expected) {
+			final var items = new MutableSet<>(new RobinHoodHashStore<Integer>(64, 8));
+			values.iterate(items::add);
+
+			final var histogram = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow()
+				.getProbeDistanceHistogram();
+
+			final var expected2 = new int[expected.getCount()];
+			for (var index = 0; index < expected2.length; ++index) {
+				expected2[index] = expected.get(index);
+			}
+
+			assertArrayEquals(expected2, histogram,
+				format("%s statistics.getProbeDistanceHistogram()", items));
+		}
+	}
+
+	@DisplayName(".getResizeCount()")
+	@Nested
+	class GetResizeCountTests {
+		@DisplayName("\uD83E\uDE9C")
+		@Tests({
+			"when items exceed capacity, counts resizes and notifies listener;" +
+				"1000",
+			"when items fit capacity, counts no resizes;" +
+				"10"
+		})
+		void test(int count) {
+			final var items = new MutableMap<Integer, Integer>();
+			final var resizes = new MutableList<Integer>();
+
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow()
+				.setListener(new HashStoreStatistics.Listener() {
+					@Override
+					public void onResize(int capacity, int resizedCapacity, long time) {
+						resizes.append(resizedCapacity);
+					}
+				});
+
+			final var capacity = statistics.getCapacity();
+			for (var key = 0; key < count; ++key) {
+				items.set(key, key);
+			}
+
+			assertEquals(resizes.getCount(), statistics.getResizeCount(),
+				format("%s.getResizeCount()", statistics));
+			assertEquals(capacity < count, statistics.getResizeCount() > 0,
+				format("%s.getResizeCount()", statistics));
+			assertEquals(count, statistics.getEntryCount(),
+				format("%s.getEntryCount()", statistics));
+			assertEquals(resizes.getLast().orElse(capacity), statistics.getCapacity(),
+				format("%s.getCapacity()", statistics));
+		}
+	}
+
+	@DisplayName(".report(Listener)")
+	@Nested
+	class ReportTests {
+		@DisplayName("\uD83D\uDCE4")
+		@Tests({
+			"when set is not empty, reports every statistic;" +
+				"[0, 64, 128, 1]"
+		})
+		void test(@IntList List<Integer> values) {
+			final var items = new MutableSet<>(new RobinHoodHashStore<Integer>(64, 8));
+			values.iterate(items::add);
+
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+			items.contains(128);
+
+			final var reported = new MutableMap<String, Double>();
+			statistics.report(new HashStoreStatistics.Listener() {
+				@Override
+				public void onStatistic(String name, double value) {
+					reported.set(name, value);
+				}
+			});
+
+			assertEquals(4.0, reported.get("entryCount").orElseThrow());
+			assertEquals(2.0, reported.get("maxProbeDistance").orElseThrow());
+			assertEquals(2.0, reported.get("probeDistance.2").orElseThrow());
+			assertEquals(1.0, reported.get("lookupCount").orElseThrow());
+			assertEquals(3.0, reported.get("equalsCallsPerLookup").orElseThrow());
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTests {
+	@DisplayName("HyperLogLog(int)")
+	@Nested
+	class NewTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when precision is too small, throws IllegalArgumentException;" +
+				"3",
+			"when precision is too large, throws IllegalArgumentException;" +
+				"19"
+		})
+		void test(int precision) {
+			assertThrows(IllegalArgumentException.class,
+				() -> new HyperLogLog<>(precision),
+				format("new HyperLogLog(%d)", precision));
+		}
+	}
+
+	@DisplayName(".estimate()")
+	@Nested
+	class EstimateTests {
+		@DisplayName("when few items are added")
+		@Tests({
+			"when items are repeated, returns distinct item count;" +
+				"[a, B, a, c, B, a, D];" +
+				"4",
+			"when no items are added, returns 0;" +
+				"[];" +
+				"0"
+		})
+		void testSparse(@StringArray String[] items, long expected) {
+			final var sketch = new HyperLogLog<String>();
+			for (var item : items) {
+				sketch.add(item);
+			}
+
+			assertEquals(expected, sketch.estimate(),
+				format("%s.estimate()", sketch));
+		}
+
+		@DisplayName("when many items are added")
+		@Tests({
+			"when precision is small, returns estimate within error;" +
+				"8; 200000",
+			"when precision is default, returns estimate within error;" +
+				"14; 200000",
+			"when precision is large, returns estimate within error;" +
+				"18; 200000"
+		})
+		void testDense(int precision, int count) {
+			final var sketch = new HyperLogLog<Integer>(precision);
+			final var random = new Random(precision);
+
+			for (var index = 0; index < count; ++index) {
+				final var item = random.nextInt();
+				sketch.add(item)
+					.add(item);
+			}
+
+			// allow estimate to exceed standard error 4 times
+			final var error = 4 * 1.04 / Math.sqrt(1 << precision);
+			final var estimate = sketch.estimate();
+
+			assertTrue(Math.abs(estimate - count) < error * count,
+				format("%s.estimate() is %d, expected %d", sketch, estimate, count));
+		}
+	}
+
+	@DisplayName(".merge(HyperLogLog<T>)")
+	@Nested
+	class MergeTests {
+		@DisplayName("\uD83E\uDD1D")
+		@Tests({
+			"when both sketches are sparse, estimates union;" +
+				"100; 150",
+			"when one sketch is sparse and another is dense, estimates union;" +
+				"100; 50000",
+			"when both sketches are dense, estimates union;" +
+				"50000; 80000"
+		})
+		void test(int count1, int count2) {
+			final var sketch = new HyperLogLog<Integer>();
+			final var sketch1 = new HyperLogLog<Integer>();
+			final var sketch2 = new HyperLogLog<Integer>();
+
+			// items of sketches overlap in range [0, count1 / 2)
+			for (var item = 0; item < count1; ++item) {
+				sketch.add(item);
+				sketch1.add(item);
+			}
+			for (var item = count1 / 2; item < count1 / 2 + count2; ++item) {
+				sketch.add(item);
+				sketch2.add(item);
+			}
+
+			sketch1.merge(sketch2);
+			assertEquals(sketch.estimate(), sketch1.estimate(),
+				format("%s.merge(%s)", sketch1, sketch2));
+		}
+
+		@DisplayName("when precisions differ, throws IllegalArgumentException")
+		@Tests({
+			"when precision of merged sketch is smaller;" +
+				"14; 12",
+			"when precision of merged sketch is larger;" +
+				"14; 16"
+		})
+		void testPrecisionMismatch(int precision1, int precision2) {
+			final var sketch1 = new HyperLogLog<String>(precision1);
+			final var sketch2 = new HyperLogLog<String>(precision2);
+
+			assertThrows(IllegalArgumentException.class,
+				() -> sketch1.merge(sketch2),
+				format("%s.merge(%s)", sketch1, sketch2));
+		}
+	}
+
+	@DisplayName(".toBytes()")
+	@Nested
+	class ToBytesTests {
+		@DisplayName("\uD83D\uDCE6")
+		@Tests({
+			"when sketch is empty, restores equal sketch;" +
+				"10; 0",
+			"when sketch is sparse, restores equal sketch;" +
+				"14; 500",
+			"when sketch is dense, restores equal sketch;" +
+				"10; 100000"
+		})
+		void test(int precision, int count) {
+			final var sketch = new HyperLogLog<Integer>(precision);
+			for (var item = 0; item < count; ++item) {
+				sketch.add(item);
+			}
+
+			final var bytes = sketch.toBytes();
+			final var restored = HyperLogLog.<Integer>fromBytes(bytes);
+
+			assertEquals(sketch.estimate(), restored.estimate(),
+				format("HyperLogLog.fromBytes(%s.toBytes())", sketch));
+			assertArrayEquals(bytes, restored.toBytes(),
+				format("HyperLogLog.fromBytes(%s.toBytes())", sketch));
+		}
+
+		@DisplayName("when sketch is dense, takes 6 bits per register")
+		@Tests({
+			"when precision is small;" +
+				"4",
+			"when precision is default;" +
+				"14"
+		})
+		void testDenseSize(int precision) {
+			final var sketch = new HyperLogLog<Integer>(precision);
+			for (var item = 0; item < 100000; ++item) {
+				sketch.add(item);
+			}
+
+			final var registerCount = 1 << precision;
+			assertEquals(2 + (6 * registerCount + 7) / 8, sketch.toBytes().length,
+				format("%s.toBytes()", sketch));
+		}
+	}
+
+	@DisplayName(".fromBytes(byte[])")
+	@Nested
+	class FromBytesTests {
+		@DisplayName("when bytes are malformed, throws IllegalArgumentException")
+		@Tests({
+			"when bytes are empty;" +
+				"[]",
+			"when format is not supported;" +
+				"[7, 14]",
+			"when precision is out of range;" +
+				"[2, 30]",
+			"when dense registers are truncated;" +
+				"[2, 4, 0, 0]",
+			"when sparse entries are truncated;" +
+				"[1, 14, 2, 65]",
+			"when sparse entries are not increasing;" +
+				"[1, 14, 2, 65, 1]"
+		})
+		void test(@IntList List<Integer> values) {
+			final var bytes = new byte[values.getCount()];
+			for (var index = 0; index < bytes.length; ++index) {
+				bytes[index] = values.get(index)
+					.byteValue();
+			}
+
+			assertThrows(IllegalArgumentException.class,
+				() -> HyperLogLog.fromBytes(bytes),
+				format("HyperLogLog.fromBytes(%s)", values));
+		}
+	}
+}
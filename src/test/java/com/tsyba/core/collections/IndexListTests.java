@@ -0,0 +1,159 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntArray;
+import com.tsyba.core.collections.converter.IntOptional;
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndexListTests {
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("\uD83E\uDD5D")
+		@Tests({
+			"when indexes are sparse, returns index at position;" +
+				"[3, 70, 200, 1000]; 2;" +
+				"200",
+			"when indexes are dense, returns index at position;" +
+				"[64, 65, 66, 67, 130, 131, 132, 133, 190]; 5;" +
+				"131",
+			"when indexes are dense, returns last index;" +
+				"[64, 65, 66, 67, 130, 131, 132, 133, 190]; 8;" +
+				"190"
+		})
+		void test(@IntArray int[] indexes, int position, int expected) {
+			final var list = build(indexes);
+			final var index = list.get(position);
+
+			assertEquals(expected, index,
+				format("%s.get(%d)", list, position));
+		}
+	}
+
+	@DisplayName(".iterator(int)")
+	@Nested
+	class IteratorTests {
+		@DisplayName("\uD83E\uDD65")
+		@Tests({
+			"when indexes are sparse, iterates indexes from position;" +
+				"[3, 70, 200, 1000]; 1;" +
+				"[70, 200, 1000]",
+			"when indexes are dense, iterates indexes from position;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; 3;" +
+				"[4, 63, 64, 65, 100]",
+			"when position is after the last index, iterates no indexes;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; 8;" +
+				"[]"
+		})
+		void test(@IntArray int[] indexes, int position, @IntArray int[] expected) {
+			final var list = build(indexes);
+			final var iterator = list.iterator(position);
+			final var iterated = new MutableIntList();
+
+			iterator.forEachRemaining((int index) -> iterated.append(index));
+			assertArrayEquals(expected, iterated.toArray(),
+				format("%s.iterator(%d)", list, position));
+		}
+	}
+
+	@DisplayName(".findFirst(Integer)")
+	@Nested
+	@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+	class FindFirstTests {
+		@DisplayName("\uD83E\uDD51")
+		@Tests({
+			"when indexes are sparse and index is present, returns its position;" +
+				"[3, 70, 200, 1000]; 200;" +
+				"2",
+			"when indexes are sparse and index is absent, returns empty optional;" +
+				"[3, 70, 200, 1000]; 201;" +
+				"null",
+			"when indexes are dense and index is present, returns its position;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; 65;" +
+				"6",
+			"when indexes are dense and index is absent, returns empty optional;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; 66;" +
+				"null",
+			"when indexes are dense and index is before them, returns empty optional;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; 0;" +
+				"null"
+		})
+		void test(@IntArray int[] indexes, int index,
+			@IntOptional Optional<Integer> expected) {
+
+			final var list = build(indexes);
+			final var position = list.findFirst(index);
+
+			assertEquals(expected, position,
+				format("%s.findFirst(%d)", list, index));
+		}
+	}
+
+	@DisplayName(".get(IndexRange)")
+	@Nested
+	class GetIndexRangeTests {
+		@DisplayName("\uD83E\uDD55")
+		@Tests({
+			"when indexes are sparse, returns indexes in range;" +
+				"[3, 70, 200, 1000]; [1, 3);" +
+				"[70, 200]",
+			"when indexes are dense, returns indexes in range;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]; [2, 7);" +
+				"[3, 4, 63, 64, 65]"
+		})
+		void test(@IntArray int[] indexes, @IntRange IndexRange range,
+			@IntArray int[] expected) {
+
+			final var list = build(indexes);
+			final var sub = list.get(range);
+
+			assertEquals(build(expected), sub,
+				format("%s.get(%s)", list, range));
+		}
+	}
+
+	@DisplayName(".equals(Object)")
+	@Nested
+	class EqualsTests {
+		@DisplayName("\uD83E\uDD52")
+		@Tests({
+			"when indexes are sparse, equals list of the same indexes;" +
+				"[3, 70, 200, 1000];" +
+				"[3, 70, 200, 1000]",
+			"when indexes are dense, equals list of the same indexes;" +
+				"[1, 2, 3, 4, 63, 64, 65, 100];" +
+				"[1, 2, 3, 4, 63, 64, 65, 100]",
+			"when list is empty, equals empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@IntArray int[] indexes, @StringArray String[] expected) {
+			final var list = build(indexes);
+			final var expected2 = new List<>(expected)
+				.convert(Integer::valueOf);
+
+			assertEquals(expected2, list,
+				format("%s.equals(%s)", list, expected2));
+			assertEquals(expected2.hashCode(), list.hashCode(),
+				format("%s.hashCode()", list));
+			assertArrayEquals(indexes, list.toIntList().toArray(),
+				format("%s.toIntList()", list));
+		}
+	}
+
+	private static IndexList build(int[] indexes) {
+		final var builder = new IndexList.Builder();
+		for (var index : indexes) {
+			builder.add(index);
+		}
+
+		return builder.build();
+	}
+}
@@ -616,6 +616,15 @@ class IndexRangeTests {
 			"when argument sequence is larger, returns empty sequence;" +
 				"[3, 5); [3, 4, 5, 6, 7];" +
 				"[]",
+			"when sequence starts before range, returns empty sequence;" +
+				"[3, 9); [2, 3, 4];" +
+				"[]",
+			"when sequence ends after range, returns empty sequence;" +
+				"[3, 9); [7, 8, 9, 10];" +
+				"[]",
+			"when sequence is not consecutive, returns empty sequence;" +
+				"[3, 9); [4, 5, 7];" +
+				"[]",
 			"when argument sequence is empty, returns all indexes;" +
 				"[3, 9); [];" +
 				"[0, 1, 2, 3, 4, 5]"
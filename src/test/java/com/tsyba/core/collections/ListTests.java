@@ -8,10 +8,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
 
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class ListTests {
 	@DisplayName("List(T...)")
@@ -425,6 +428,12 @@ public class ListTests {
 			"when argument sequence is larger, returns empty sequence;" +
 				"[r, e, Q]; [r, e, Q, s, c];" +
 				"[]",
+			"when argument sequence is long and present multiple times, returns its indexes;" +
+				"[a, b, c, d, e, f, g, h, a, b, c, d, e, f, g, h, a, b, c]; [a, b, c, d, e, f, g, h];" +
+				"[0, 8]",
+			"when argument sequence is long and overlaps itself, returns all its indexes;" +
+				"[a, a, a, a, a, a, a, a, a, a]; [a, a, a, a, a, a, a, a];" +
+				"[0, 1, 2]",
 			"when argument sequence is empty, returns all indexes;" +
 				"[r, e, Q, s, c, d, e, Q, q, e, Q, f]; [];" +
 				"[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]"
@@ -464,10 +473,10 @@ public class ListTests {
 		@Tests({
 			"when some items are duplicates, returns distinct items;" +
 				"[t, e, r, t, t, r, R, r];" +
-				"[r, R, t, e]",
+				"[t, e, r, R]",
 			"when no items are duplicates, returns distinct items;" +
 				"[t, m, j, E, d, S, s];" +
-				"[j, d, s, t, m, E, S]",
+				"[t, m, j, E, d, S, s]",
 			"when all items are duplicates, returns list with a single distinct item;" +
 				"[g, g, g, g, g, g, g];" +
 				"[g]",
@@ -501,6 +510,78 @@ public class ListTests {
 		}
 	}
 
+	@DisplayName(".sortByInt(ToIntFunction<T>)")
+	@Nested
+	class SortByIntTests {
+		@DisplayName("when keys are item values")
+		@Tests({
+			"when list is not empty, returns items ordered by keys;" +
+				"[5, -3, 700, -70000, 0, 5, 16777216, -1];" +
+				"[-70000, -3, -1, 0, 5, 5, 700, 16777216]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void testValues(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = items.sortByInt(Integer::parseInt);
+			assertEquals(expected, sorted,
+				format("%s.sortByInt(<value>)", items));
+		}
+
+		@DisplayName("when keys are item lengths")
+		@Tests({
+			"when some keys are equal, keeps order of their items;" +
+				"[bbb, a, cc, d, ee, fff, g];" +
+				"[a, d, g, cc, ee, bbb, fff]"
+		})
+		void testLengths(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = items.sortByInt(String::length);
+			assertEquals(expected, sorted,
+				format("%s.sortByInt(<length>)", items));
+		}
+
+		@DisplayName("when keys are random")
+		@Tests({
+			"returns items in the same order as a stable sort;" +
+				"100000"
+		})
+		void testRandom(int count) {
+			final var random = new Random(17);
+			final var items = new MutableList<Integer>();
+
+			for (var index = 0; index < count; ++index) {
+				items.append(random.nextInt());
+			}
+
+			// note: keys with equal higher bytes check stability of sorted passes
+			final var sorted = items.sortByInt((item) -> item & 0xFFFF00FF);
+			final var expected = items.sort(
+				Comparator.comparingInt((Integer item) -> item & 0xFFFF00FF));
+
+			assertEquals(expected, sorted,
+				format("<%d random items>.sortByInt(<masked value>)", count));
+		}
+	}
+
+	@DisplayName(".sortByLong(ToLongFunction<T>)")
+	@Nested
+	class SortByLongTests {
+		@DisplayName("\uD83D\uDC5F")
+		@Tests({
+			"when list is not empty, returns items ordered by keys;" +
+				"[5, -3, 7000000000, -70000, 0, 5, -9223372036854775808, 9223372036854775807];" +
+				"[-9223372036854775808, -70000, -3, 0, 5, 5, 7000000000, 9223372036854775807]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = items.sortByLong(Long::parseLong);
+			assertEquals(expected, sorted,
+				format("%s.sortByLong(<value>)", items));
+		}
+	}
+
 	@DisplayName(".convert(Function<T, R>)")
 	@Nested
 	class ConvertTests {
@@ -589,6 +670,127 @@ public class ListTests {
 		}
 	}
 
+	@DisplayName("when list is a view")
+	@Nested
+	class ViewTests {
+		@DisplayName("returns items of the view")
+		@Tests({
+			"when view is a sub-list;" +
+				"[f, y, R, e, l, k, g, S]; [2, 7); false;" +
+				"[R, e, l, k, g]",
+			"when view is a reversed list;" +
+				"[f, y, R, e, l, k, g, S]; [0, 8); true;" +
+				"[S, g, k, l, e, R, y, f]",
+			"when view is a reversed sub-list;" +
+				"[f, y, R, e, l, k, g, S]; [2, 7); true;" +
+				"[g, k, l, e, R]",
+			"when view is empty;" +
+				"[f, y, R, e, l, k, g, S]; [3, 3); true;" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @IntRange IndexRange range,
+			boolean reversed, @StringList List<String> expected) {
+
+			final var view = reversed
+				? items.get(range).reverse()
+				: items.get(range);
+
+			assertSame(items.store.items, view.store.items,
+				format("%s.get(%s) copied items", items, range));
+			assertEquals(expected, view,
+				format("%s.get(%s)", items, range));
+			assertEquals(view, expected,
+				format("%s.get(%s)", items, range));
+			assertEquals(expected.hashCode(), view.hashCode(),
+				format("%s.get(%s).hashCode()", items, range));
+			assertArrayEquals(expected.toArray(), view.toArray(),
+				format("%s.get(%s).toArray()", items, range));
+			assertEquals(expected.bridge(), view.bridge(),
+				format("%s.get(%s).bridge()", items, range));
+		}
+
+		@DisplayName("when view is sliced, returns items of the slice")
+		@Tests({
+			"when view is a sub-list;" +
+				"[f, y, R, e, l, k, g, S]; [1, 7); false; [2, 5);" +
+				"[e, l, k]",
+			"when view is a reversed list;" +
+				"[f, y, R, e, l, k, g, S]; [1, 7); true; [2, 5);" +
+				"[l, e, R]",
+			"when view is a reversed list, and slice is at its end;" +
+				"[f, y, R, e, l, k, g, S]; [1, 7); true; [4, 6);" +
+				"[R, y]"
+		})
+		void testSlice(@StringList List<String> items, @IntRange IndexRange range1,
+			boolean reversed, @IntRange IndexRange range2,
+			@StringList List<String> expected) {
+
+			final var view = reversed
+				? items.get(range1).reverse()
+				: items.get(range1);
+
+			assertEquals(expected, view.get(range2),
+				format("%s.get(%s)", view, range2));
+			assertEquals(expected.reverse(), view.get(range2).reverse(),
+				format("%s.get(%s).reverse()", view, range2));
+		}
+
+		@DisplayName("when sequence is found in a view, returns indexes in the view")
+		@Tests({
+			"when view is a sub-list;" +
+				"[r, e, Q, s, c, d, e, Q, q, e, Q, f]; [1, 10); false; [e, Q];" +
+				"[0, 5]",
+			"when view is a reversed list;" +
+				"[r, e, Q, s, c, d, e, Q, q, e, Q, f]; [1, 10); true; [Q, e];" +
+				"[2, 7]"
+		})
+		void testFindAll(@StringList List<String> items, @IntRange IndexRange range,
+			boolean reversed, @StringList List<String> sequence,
+			@IntList List<Integer> expected) {
+
+			final var view = reversed
+				? items.get(range).reverse()
+				: items.get(range);
+
+			assertEquals(expected, view.findAll(sequence),
+				format("%s.findAll(%s)", view, sequence));
+		}
+	}
+
+	@DisplayName(".compact()")
+	@Nested
+	class CompactTests {
+		@DisplayName("\uD83D\uDDDC")
+		@Tests({
+			"when list is a view, returns a copy of its items;" +
+				"[f, y, R, e, l, k, g, S]; [2, 6);" +
+				"[R, e, l, k]",
+			"when list is an empty view, returns empty list;" +
+				"[f, y, R, e, l, k, g, S]; [2, 2);" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @IntRange IndexRange range,
+			@StringList List<String> expected) {
+
+			final var compacted = items.get(range)
+				.compact();
+
+			assertEquals(expected, compacted,
+				format("%s.get(%s).compact()", items, range));
+			assertEquals(expected.getCount(), compacted.store.items.length,
+				format("%s.get(%s).compact() kept items", items, range));
+		}
+
+		@DisplayName("when list is not a view, returns itself")
+		@Tests({
+			"\uD83E\uDE9E;" +
+				"[f, y, R, e]"
+		})
+		void testNotView(@StringList List<String> items) {
+			assertSame(items, items.compact());
+		}
+	}
+
 	@DisplayName(".toString()")
 	@Nested
 	class ToStringTests {
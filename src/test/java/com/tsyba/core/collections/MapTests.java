@@ -382,6 +382,77 @@ class MapTests {
 		}
 	}
 
+	@DisplayName(".withBloomFilter(double)")
+	@Nested
+	@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+	class WithBloomFilterTests {
+		@DisplayName("\uD83E\uDDF1")
+		@Tests({
+			"when key is present, returns value;" +
+				"[J:n, R:s, O:n, v:Y, p:L]; O;" +
+				"n",
+			"when key is absent, returns empty optional;" +
+				"[J:n, R:s, O:n, v:Y, p:L]; o;" +
+				"null",
+			"when map is empty, returns empty optional;" +
+				"[]; o;" +
+				"null"
+		})
+		void test(@StringMap Map<String, String> entries, String key,
+			@StringOptional Optional<String> expected) {
+
+			final var filtered = entries.withBloomFilter(0.01);
+			assertNotSame(entries, filtered,
+				format("%s.withBloomFilter(0.01)", entries));
+			assertEquals(Optional.empty(), entries.getBloomFilter(),
+				format("%s.getBloomFilter()", entries));
+
+			final var value = filtered.get(key);
+			assertEquals(expected, value,
+				format("%s.get(%s)", filtered, key));
+
+			final var filter = filtered.getBloomFilter()
+				.orElseThrow();
+			assertEquals(1, filter.getLookupCount(),
+				format("%s.getBloomFilter()", filtered));
+		}
+	}
+
+	@DisplayName(".withStatistics()")
+	@Nested
+	class WithStatisticsTests {
+		@DisplayName("\uD83D\uDCCA")
+		@Tests({
+			"when key is present, counts lookup;" +
+				"[J:n, R:s, O:n, v:Y, p:L]; O;" +
+				"n",
+			"when key is absent, counts lookup;" +
+				"[J:n, R:s, O:n, v:Y, p:L]; o;" +
+				"null",
+			"when map is empty, counts lookup;" +
+				"[]; o;" +
+				"null"
+		})
+		void test(@StringMap Map<String, String> entries, String key,
+			@StringOptional Optional<String> expected) {
+
+			final var measured = entries.withStatistics();
+			assertNotSame(entries, measured,
+				format("%s.withStatistics()", entries));
+			assertTrue(entries.getStatistics().isEmpty(),
+				format("%s.getStatistics()", entries));
+
+			final var value = measured.get(key);
+			assertEquals(expected, value,
+				format("%s.get(%s)", measured, key));
+
+			final var statistics = measured.getStatistics()
+				.orElseThrow();
+			assertEquals(1, statistics.getLookupCount(),
+				format("%s.getStatistics()", measured));
+		}
+	}
+
 	@DisplayName(".get(K...)")
 	@Nested
 	class GetVarargsTests {
@@ -707,7 +778,7 @@ class MapTests {
 	@Tests({
 		"when map is not empty, returns combined value;" +
 			"[R:e, g:K, d:E, l:L]; O;" +
-			"OdElLRegK",
+			"ORegKdElL",
 		"when map is empty, returns initial value;" +
 			"[]; O;" +
 			"O"
@@ -728,7 +799,7 @@ class MapTests {
 	@Tests({
 		"when map is not empty, returns joined string;" +
 			"[R:g, G:h, j:W, o:P]; :; ,;" +
-			"R:g,j:W,G:h,o:P",
+			"R:g,G:h,j:W,o:P",
 		"when map is empty, returns empty string;" +
 			"[]; :; ,;" +
 			"null"
@@ -766,7 +837,7 @@ class MapTests {
 	@Tests({
 		"when map is not empty, returns string;" +
 			"[T:R, e:q, O:l, j:c];" +
-			"{T:R, e:q, j:c, O:l}",
+			"{T:R, e:q, O:l, j:c}",
 		"when map is empty, returns {};" +
 			"[];" +
 			"{}"
@@ -0,0 +1,482 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MutableDequeTests {
+	/**
+	 * Returns a deque with the specified items; when wrapped, prepends them so that they
+	 * wrap around the end of storage array.
+	 */
+	private static MutableDeque<String> deque(String[] items, boolean wrapped) {
+		final var deque = new MutableDeque<String>();
+		if (wrapped) {
+			for (var index = items.length - 1; index >= 0; --index) {
+				deque.prepend(items[index]);
+			}
+		} else {
+			for (var item : items) {
+				deque.append(item);
+			}
+		}
+
+		return deque;
+	}
+
+	@DisplayName("MutableDeque(T...)")
+	@Nested
+	class NewTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when items are not null, creates deque with items;" +
+				"[g, e, Q, s];" +
+				"[g, e, Q, s]",
+			"when some items are null, ignores them;" +
+				"[g, null, Q, null];" +
+				"[g, Q]",
+			"when there are no items, creates empty deque;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringArray String[] items, @StringList List<String> expected) {
+			final var deque = new MutableDeque<>(items);
+			assertEquals(expected, deque.toImmutable(),
+				format("new MutableDeque(%s)", String.join(", ", items)));
+		}
+	}
+
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("\uD83E\uDDED")
+		@Tests({
+			"when items do not wrap, returns item at index;" +
+				"[g, e, Q, s]; false; 2;" +
+				"Q",
+			"when items wrap, returns item at index;" +
+				"[g, e, Q, s]; true; 2;" +
+				"Q",
+			"when index is last, returns last item;" +
+				"[g, e, Q, s]; true; 3;" +
+				"s"
+		})
+		void test(@StringArray String[] items, boolean wrapped, int index, String expected) {
+			final var deque = deque(items, wrapped);
+			assertEquals(expected, deque.get(index),
+				format("%s.get(%d)", deque, index));
+		}
+
+		@DisplayName("when index is out of range, throws IndexNotInRangeException")
+		@Tests({
+			"when index is negative;" +
+				"[g, e, Q, s]; -1",
+			"when index equals item count;" +
+				"[g, e, Q, s]; 4",
+			"when deque is empty;" +
+				"[]; 0"
+		})
+		void testOutOfRange(@StringArray String[] items, int index) {
+			final var deque = new MutableDeque<>(items);
+			assertThrows(IndexNotInRangeException.class,
+				() -> deque.get(index),
+				format("%s.get(%d)", deque, index));
+		}
+	}
+
+	@DisplayName(".prepend(T)")
+	@Nested
+	class PrependTests {
+		@DisplayName("⏪")
+		@Tests({
+			"when deque is not empty, prepends item;" +
+				"[g, e, Q]; false; s;" +
+				"[s, g, e, Q]",
+			"when items wrap, prepends item;" +
+				"[g, e, Q]; true; s;" +
+				"[s, g, e, Q]",
+			"when deque is empty, prepends item;" +
+				"[]; false; s;" +
+				"[s]",
+			"when item is null, does nothing;" +
+				"[g, e, Q]; false; null;" +
+				"[g, e, Q]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, String item,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.prepend(item);
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.prepend(%s)", deque, item));
+		}
+	}
+
+	@DisplayName(".append(T)")
+	@Nested
+	class AppendTests {
+		@DisplayName("⏩")
+		@Tests({
+			"when deque is not empty, appends item;" +
+				"[g, e, Q]; false; s;" +
+				"[g, e, Q, s]",
+			"when items wrap, appends item;" +
+				"[g, e, Q]; true; s;" +
+				"[g, e, Q, s]",
+			"when deque is empty, appends item;" +
+				"[]; false; s;" +
+				"[s]",
+			"when item is null, does nothing;" +
+				"[g, e, Q]; true; null;" +
+				"[g, e, Q]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, String item,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.append(item);
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.append(%s)", deque, item));
+		}
+	}
+
+	@DisplayName(".insert(int, T)")
+	@Nested
+	class InsertTests {
+		@DisplayName("\uD83D\uDCE5")
+		@Tests({
+			"when index is near the beginning, inserts item;" +
+				"[g, e, Q, s, A, m]; false; 1; P;" +
+				"[g, P, e, Q, s, A, m]",
+			"when index is near the end, inserts item;" +
+				"[g, e, Q, s, A, m]; false; 4; P;" +
+				"[g, e, Q, s, P, A, m]",
+			"when items wrap and index is near the beginning, inserts item;" +
+				"[g, e, Q, s, A, m]; true; 2; P;" +
+				"[g, e, P, Q, s, A, m]",
+			"when items wrap and index is near the end, inserts item;" +
+				"[g, e, Q, s, A, m]; true; 5; P;" +
+				"[g, e, Q, s, A, P, m]",
+			"when index is 0, inserts item first;" +
+				"[g, e, Q]; true; 0; P;" +
+				"[P, g, e, Q]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, int index, String item,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.insert(index, item);
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.insert(%d, %s)", deque, index, item));
+		}
+
+		@DisplayName("when index is out of range, throws IndexNotInRangeException")
+		@Tests({
+			"\uD83E\uDDE8;" +
+				"[g, e, Q]; 3"
+		})
+		void testOutOfRange(@StringArray String[] items, int index) {
+			final var deque = new MutableDeque<>(items);
+			assertThrows(IndexNotInRangeException.class,
+				() -> deque.insert(index, "P"),
+				format("%s.insert(%d, P)", deque, index));
+		}
+	}
+
+	@DisplayName(".remove(int)")
+	@Nested
+	class RemoveTests {
+		@DisplayName("\uD83D\uDCE4")
+		@Tests({
+			"when index is near the beginning, removes item;" +
+				"[g, e, Q, s, A, m]; false; 1;" +
+				"[g, Q, s, A, m]",
+			"when index is near the end, removes item;" +
+				"[g, e, Q, s, A, m]; false; 4;" +
+				"[g, e, Q, s, m]",
+			"when items wrap and index is near the beginning, removes item;" +
+				"[g, e, Q, s, A, m]; true; 2;" +
+				"[g, e, s, A, m]",
+			"when items wrap and index is near the end, removes item;" +
+				"[g, e, Q, s, A, m]; true; 5;" +
+				"[g, e, Q, s, A]",
+			"when deque has a single item, removes it;" +
+				"[g]; true; 0;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, int index,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.remove(index);
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.remove(%d)", deque, index));
+		}
+	}
+
+	@DisplayName(".remove(IndexRange)")
+	@Nested
+	class RemoveIndexRangeTests {
+		@DisplayName("✂️")
+		@Tests({
+			"when range is near the beginning, removes items;" +
+				"[g, e, Q, s, A, m, d]; false; 1; 3;" +
+				"[g, s, A, m, d]",
+			"when range is near the end, removes items;" +
+				"[g, e, Q, s, A, m, d]; false; 3; 6;" +
+				"[g, e, Q, d]",
+			"when items wrap and range is near the beginning, removes items;" +
+				"[g, e, Q, s, A, m, d]; true; 0; 2;" +
+				"[Q, s, A, m, d]",
+			"when items wrap and range is near the end, removes items;" +
+				"[g, e, Q, s, A, m, d]; true; 4; 7;" +
+				"[g, e, Q, s]",
+			"when range is empty, does nothing;" +
+				"[g, e, Q, s, A, m, d]; true; 2; 2;" +
+				"[g, e, Q, s, A, m, d]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, int start, int end,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var range = new IndexRange(start, end);
+			final var returned = deque.remove(range);
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.remove(%s)", deque, range));
+		}
+
+		@DisplayName("when index range is out of range, throws IndexRangeNotInRangeException")
+		@Tests({
+			"when range ends after item count;" +
+				"[g, e, Q, s, A]; 3; 6"
+		})
+		void testOutOfRange(@StringArray String[] items, int start, int end) {
+			final var deque = deque(items, false);
+			final var range = new IndexRange(start, end);
+
+			assertThrows(IndexRangeNotInRangeException.class,
+				() -> deque.remove(range),
+				format("%s.remove(%s)", deque, range));
+		}
+	}
+
+	@DisplayName(".removeFirst()")
+	@Nested
+	class RemoveFirstTests {
+		@DisplayName("⏮")
+		@Tests({
+			"when deque is not empty, removes first item;" +
+				"[g, e, Q]; false;" +
+				"[e, Q]",
+			"when items wrap, removes first item;" +
+				"[g, e, Q]; true;" +
+				"[e, Q]",
+			"when deque is empty, does nothing;" +
+				"[]; false;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.removeFirst();
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.removeFirst()", deque));
+		}
+	}
+
+	@DisplayName(".removeLast()")
+	@Nested
+	class RemoveLastTests {
+		@DisplayName("⏭")
+		@Tests({
+			"when deque is not empty, removes last item;" +
+				"[g, e, Q]; false;" +
+				"[g, e]",
+			"when items wrap, removes last item;" +
+				"[g, e, Q]; true;" +
+				"[g, e]",
+			"when deque is empty, does nothing;" +
+				"[]; false;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var returned = deque.removeLast();
+
+			assertSame(deque, returned);
+			assertEquals(expected, deque.toImmutable(),
+				format("%s.removeLast()", deque));
+		}
+	}
+
+	@DisplayName(".get(IndexRange)")
+	@Nested
+	class GetIndexRangeTests {
+		@DisplayName("✂️")
+		@Tests({
+			"when items do not wrap, returns items in range;" +
+				"[g, e, Q, s, A, m]; false; 1; 4;" +
+				"[e, Q, s]",
+			"when items wrap, returns items in range;" +
+				"[g, e, Q, s, A, m]; true; 2; 6;" +
+				"[Q, s, A, m]",
+			"when range is empty, returns empty deque;" +
+				"[g, e, Q, s, A, m]; true; 2; 2;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped, int start, int end,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			final var range = new IndexRange(start, end);
+
+			assertEquals(expected, deque.get(range).toImmutable(),
+				format("%s.get(%s)", deque, range));
+		}
+	}
+
+	@DisplayName(".findAll(Sequence<T>)")
+	@Nested
+	class FindAllSequenceTests {
+		@DisplayName("\uD83D\uDD0E")
+		@Tests({
+			"when items occur, returns their indexes;" +
+				"[g, e, g, e, g, A]; true; [g, e];" +
+				"[0, 2]",
+			"when items do not occur, returns empty list;" +
+				"[g, e, g, e, g, A]; false; [e, A];" +
+				"[]",
+			"when items are longer than deque, returns empty list;" +
+				"[g, e]; false; [g, e, g];" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped,
+			@StringList List<String> sequence, @IntList List<Integer> expected) {
+
+			final var deque = deque(items, wrapped);
+			assertEquals(expected, deque.findAll(sequence),
+				format("%s.findAll(%s)", deque, sequence));
+		}
+	}
+
+	@DisplayName(".reverse()")
+	@Nested
+	class ReverseTests {
+		@DisplayName("\uD83D\uDD03")
+		@Tests({
+			"when deque is not empty, returns items in reverse order;" +
+				"[g, e, Q, s]; true;" +
+				"[s, Q, e, g]",
+			"when deque is empty, returns empty deque;" +
+				"[]; false;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, boolean wrapped,
+			@StringList List<String> expected) {
+
+			final var deque = deque(items, wrapped);
+			assertEquals(expected, deque.reverse().toImmutable(),
+				format("%s.reverse()", deque));
+		}
+	}
+
+	@DisplayName(".equals(Object)")
+	@Nested
+	class EqualsTests {
+		@DisplayName("⚖️")
+		@Tests({
+			"when items are equal and wrap differently, returns true;" +
+				"[g, e, Q]; [g, e, Q];" +
+				"true",
+			"when items differ, returns false;" +
+				"[g, e, Q]; [g, Q, e];" +
+				"false",
+			"when item counts differ, returns false;" +
+				"[g, e, Q]; [g, e];" +
+				"false"
+		})
+		void test(@StringArray String[] items1, @StringArray String[] items2,
+			boolean expected) {
+
+			final var deque1 = deque(items1, false);
+			final var deque2 = deque(items2, true);
+
+			assertEquals(expected, deque1.equals(deque2),
+				format("%s.equals(%s)", deque1, deque2));
+			if (expected) {
+				assertEquals(deque1.hashCode(), deque2.hashCode(),
+					format("%s.hashCode()", deque1));
+			}
+		}
+	}
+
+	@DisplayName("when used as a queue")
+	@Nested
+	class QueueTests {
+		@DisplayName("\uD83C\uDFB2")
+		@Tests({
+			"when operations are random, keeps the same items as java.util.ArrayDeque;" +
+				"20000"
+		})
+		void test(int count) {
+			final var deque = new MutableDeque<Integer>();
+			final var expected = new ArrayDeque<Integer>();
+			final var random = new Random(count);
+
+			for (var item = 0; item < count; ++item) {
+				switch (random.nextInt(4)) {
+					case 0:
+						deque.prepend(item);
+						expected.addFirst(item);
+						break;
+					case 1:
+						deque.append(item);
+						expected.addLast(item);
+						break;
+					case 2:
+						deque.removeFirst();
+						expected.pollFirst();
+						break;
+					default:
+						if (!expected.isEmpty()) {
+							final var index = random.nextInt(expected.size());
+							final var items = new java.util.ArrayList<>(expected);
+							items.add(index, item);
+
+							deque.insert(index, item);
+							expected.clear();
+							expected.addAll(items);
+						}
+				}
+			}
+
+			assertEquals(expected.size(), deque.getCount());
+			assertEquals(java.util.List.copyOf(expected), deque.toImmutable().bridge());
+		}
+	}
+}
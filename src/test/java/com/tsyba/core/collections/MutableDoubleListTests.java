@@ -0,0 +1,207 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.DoubleArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MutableDoubleListTests {
+	@DisplayName(".append(double...)")
+	@Nested
+	class AppendTests {
+		@DisplayName("\uD83D\uDEB2")
+		@Tests({
+			"when list is not empty, appends values;" +
+				"[5, -2, 8]; [3, 0];" +
+				"[5, -2, 8, 3, 0]",
+			"when list is empty, appends values;" +
+				"[]; [3, 0];" +
+				"[3, 0]",
+			"when argument array is empty, does nothing;" +
+				"[5, -2, 8]; [];" +
+				"[5, -2, 8]"
+		})
+		void test(@DoubleArray double[] values1, @DoubleArray double[] values2,
+			@DoubleArray double[] expected) {
+
+			final var list = new MutableDoubleList(values1);
+			final var returned = list.append(values2);
+
+			assertSame(list, returned,
+				format("%s.append(%s)", list, new DoubleList(values2)));
+			assertEquals(new DoubleList(expected), list,
+				format("%s.append(%s)", list, new DoubleList(values2)));
+		}
+	}
+
+	@DisplayName(".insert(int, double)")
+	@Nested
+	class InsertTests {
+		@DisplayName("\uD83D\uDE9C")
+		@Tests({
+			"when index is within valid range, inserts value at index;" +
+				"[5, -2, 8]; 1; 7;" +
+				"[5, 7, -2, 8]; null",
+			"when index is 0, inserts value at the beginning;" +
+				"[5, -2, 8]; 0; 7;" +
+				"[7, 5, -2, 8]; null",
+			"when index is out of valid range, fails;" +
+				"[5, -2, 8]; 4; 7;" +
+				"null; 4 ∉ [0, 3)"
+		})
+		void test(@DoubleArray double[] values, int index, double value,
+			@DoubleArray double[] expected1, @IndexRangeException Exception expected2) {
+
+			final var list = new MutableDoubleList(values);
+			try {
+				list.insert(index, value);
+				assertEquals(new DoubleList(expected1), list,
+					format("%s.insert(%d, %s)", new DoubleList(values), index, value));
+			} catch (IndexNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.insert(%d, %s)", list, index, value));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".replace(IndexRange, double...)")
+	@Nested
+	class ReplaceTests {
+		@DisplayName("\uD83D\uDE82")
+		@Tests({
+			"when replacing with more values, replaces and expands;" +
+				"[5, -2, 8, 1]; [1, 3); [0, 0, 0];" +
+				"[5, 0, 0, 0, 1]; null",
+			"when replacing with fewer values, replaces and shrinks;" +
+				"[5, -2, 8, 1]; [0, 3); [6];" +
+				"[6, 1]; null",
+			"when argument array is empty, removes values in range;" +
+				"[5, -2, 8, 1]; [1, 3); [];" +
+				"[5, 1]; null",
+			"when index range is out of valid range, fails;" +
+				"[5, -2, 8, 1]; [2, 6); [6];" +
+				"null; [2, 6) ⊈ [0, 4)"
+		})
+		void test(@DoubleArray double[] values1, @IntRange IndexRange range,
+			@DoubleArray double[] values2, @DoubleArray double[] expected1,
+			@IndexRangeException Exception expected2) {
+
+			final var list = new MutableDoubleList(values1);
+			try {
+				list.replace(range, values2);
+				assertEquals(new DoubleList(expected1), list,
+					format("%s.replace(%s, %s)", new DoubleList(values1), range,
+						new DoubleList(values2)));
+			} catch (IndexRangeNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.replace(%s, %s)", list, range, new DoubleList(values2)));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".remove(IndexRange)")
+	@Nested
+	class RemoveIndexRangeTests {
+		@DisplayName("\uD83D\uDE81")
+		@Tests({
+			"when index range is within valid range, removes values in range;" +
+				"[5, -2, 8, 1, 9]; [1, 3);" +
+				"[5, 1, 9]; null",
+			"when index range covers all values, removes all values;" +
+				"[5, -2, 8, 1, 9]; [0, 5);" +
+				"[]; null",
+			"when index range is out of valid range, fails;" +
+				"[5, -2, 8, 1, 9]; [4, 6);" +
+				"null; [4, 6) ⊈ [0, 5)"
+		})
+		void test(@DoubleArray double[] values, @IntRange IndexRange range,
+			@DoubleArray double[] expected1, @IndexRangeException Exception expected2) {
+
+			final var list = new MutableDoubleList(values);
+			try {
+				list.remove(range);
+				assertEquals(new DoubleList(expected1), list,
+					format("%s.remove(%s)", new DoubleList(values), range));
+			} catch (IndexRangeNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.remove(%s)", list, range));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".removeFirst()")
+	@Nested
+	class RemoveFirstTests {
+		@DisplayName("\uD83D\uDE80")
+		@Tests({
+			"when list is not empty, removes first value;" +
+				"[5, -2, 8];" +
+				"[-2, 8]",
+			"when list is empty, does nothing;" +
+				"[];" +
+				"[]"
+		})
+		void test(@DoubleArray double[] values, @DoubleArray double[] expected) {
+			final var list = new MutableDoubleList(values);
+			list.removeFirst();
+
+			assertEquals(new DoubleList(expected), list,
+				format("%s.removeFirst()", new DoubleList(values)));
+		}
+	}
+
+	@DisplayName(".matchAll(DoublePredicate)")
+	@Nested
+	class MatchAllTests {
+		@DisplayName("\uD83D\uDE84")
+		@Tests({
+			"returns mutable list of matching values;" +
+				"[5, -2, 8, -3];" +
+				"[-2, -3]"
+		})
+		void test(@DoubleArray double[] values, @DoubleArray double[] expected) {
+			final var list = new MutableDoubleList(values);
+			final var matches = list.matchAll((value) -> value < 0);
+
+			matches.append((double) 1);
+			assertEquals(new DoubleList(expected).getCount() + 1, matches.getCount(),
+				format("%s.matchAll(<is negative>)", list));
+			assertEquals(new DoubleList(values), list,
+				format("%s.matchAll(<is negative>)", list));
+		}
+	}
+
+	@DisplayName(".clear()")
+	@Nested
+	class ClearTests {
+		@DisplayName("\uD83D\uDE92")
+		@Tests({
+			"removes all values;" +
+				"[5, -2, 8]"
+		})
+		void test(@DoubleArray double[] values) {
+			final var list = new MutableDoubleList(values);
+			list.clear();
+
+			assertEquals(new DoubleList(), list,
+				format("%s.clear()", new DoubleList(values)));
+			assertEquals(0, list.store.items.length,
+				format("%s.clear()", new DoubleList(values)));
+		}
+	}
+}
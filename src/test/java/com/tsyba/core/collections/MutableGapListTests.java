@@ -0,0 +1,73 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MutableGapListTests {
+	@DisplayName("MutableGapList(T...)")
+	@Nested
+	class ConstructorTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when items are given, allocates storage for them only;" +
+				"[g, e, Q];" +
+				"3",
+			"when no items are given, does not allocate storage;" +
+				"[];" +
+				"0"
+		})
+		void test(@StringArray String[] items, int capacity) {
+			final var list = new MutableGapList<>(items);
+			final var store = (GapBufferStore) list.store;
+
+			assertEquals(capacity, store.items.length,
+				format("%s.store.items.length", list));
+		}
+	}
+
+	@DisplayName("when edited around a moving cursor")
+	@Nested
+	class EditTests {
+		@DisplayName("\uD83C\uDFB2")
+		@Tests({
+			"when edits are random, keeps the same items as java.util.ArrayList;" +
+				"20000"
+		})
+		void test(int count) {
+			final var list = new MutableGapList<Integer>();
+			final var expected = new ArrayList<Integer>();
+			final var random = new Random(count);
+			var cursor = 0;
+
+			for (var item = 0; item < count; ++item) {
+				// cursor mostly moves by a few positions, and sometimes jumps
+				cursor += random.nextInt(10) == 0
+					? random.nextInt(expected.size() + 1) - cursor
+					: random.nextInt(5) - 2;
+				cursor = Math.max(0, Math.min(cursor, expected.size()));
+
+				if (random.nextInt(3) > 0 || cursor == expected.size()) {
+					if (cursor == expected.size()) {
+						list.append(item);
+					} else {
+						list.insert(cursor, item);
+					}
+
+					expected.add(cursor, item);
+				} else {
+					list.remove(cursor);
+					expected.remove(cursor);
+				}
+			}
+
+			assertEquals(expected, list.toImmutable().bridge());
+		}
+	}
+}
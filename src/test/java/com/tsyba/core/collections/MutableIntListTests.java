@@ -0,0 +1,207 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MutableIntListTests {
+	@DisplayName(".append(int...)")
+	@Nested
+	class AppendTests {
+		@DisplayName("\uD83D\uDEB2")
+		@Tests({
+			"when list is not empty, appends values;" +
+				"[5, -2, 8]; [3, 0];" +
+				"[5, -2, 8, 3, 0]",
+			"when list is empty, appends values;" +
+				"[]; [3, 0];" +
+				"[3, 0]",
+			"when argument array is empty, does nothing;" +
+				"[5, -2, 8]; [];" +
+				"[5, -2, 8]"
+		})
+		void test(@IntArray int[] values1, @IntArray int[] values2,
+			@IntArray int[] expected) {
+
+			final var list = new MutableIntList(values1);
+			final var returned = list.append(values2);
+
+			assertSame(list, returned,
+				format("%s.append(%s)", list, new IntList(values2)));
+			assertEquals(new IntList(expected), list,
+				format("%s.append(%s)", list, new IntList(values2)));
+		}
+	}
+
+	@DisplayName(".insert(int, int)")
+	@Nested
+	class InsertTests {
+		@DisplayName("\uD83D\uDE9C")
+		@Tests({
+			"when index is within valid range, inserts value at index;" +
+				"[5, -2, 8]; 1; 7;" +
+				"[5, 7, -2, 8]; null",
+			"when index is 0, inserts value at the beginning;" +
+				"[5, -2, 8]; 0; 7;" +
+				"[7, 5, -2, 8]; null",
+			"when index is out of valid range, fails;" +
+				"[5, -2, 8]; 4; 7;" +
+				"null; 4 ∉ [0, 3)"
+		})
+		void test(@IntArray int[] values, int index, int value,
+			@IntArray int[] expected1, @IndexRangeException Exception expected2) {
+
+			final var list = new MutableIntList(values);
+			try {
+				list.insert(index, value);
+				assertEquals(new IntList(expected1), list,
+					format("%s.insert(%d, %s)", new IntList(values), index, value));
+			} catch (IndexNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.insert(%d, %s)", list, index, value));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".replace(IndexRange, int...)")
+	@Nested
+	class ReplaceTests {
+		@DisplayName("\uD83D\uDE82")
+		@Tests({
+			"when replacing with more values, replaces and expands;" +
+				"[5, -2, 8, 1]; [1, 3); [0, 0, 0];" +
+				"[5, 0, 0, 0, 1]; null",
+			"when replacing with fewer values, replaces and shrinks;" +
+				"[5, -2, 8, 1]; [0, 3); [6];" +
+				"[6, 1]; null",
+			"when argument array is empty, removes values in range;" +
+				"[5, -2, 8, 1]; [1, 3); [];" +
+				"[5, 1]; null",
+			"when index range is out of valid range, fails;" +
+				"[5, -2, 8, 1]; [2, 6); [6];" +
+				"null; [2, 6) ⊈ [0, 4)"
+		})
+		void test(@IntArray int[] values1, @IntRange IndexRange range,
+			@IntArray int[] values2, @IntArray int[] expected1,
+			@IndexRangeException Exception expected2) {
+
+			final var list = new MutableIntList(values1);
+			try {
+				list.replace(range, values2);
+				assertEquals(new IntList(expected1), list,
+					format("%s.replace(%s, %s)", new IntList(values1), range,
+						new IntList(values2)));
+			} catch (IndexRangeNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.replace(%s, %s)", list, range, new IntList(values2)));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".remove(IndexRange)")
+	@Nested
+	class RemoveIndexRangeTests {
+		@DisplayName("\uD83D\uDE81")
+		@Tests({
+			"when index range is within valid range, removes values in range;" +
+				"[5, -2, 8, 1, 9]; [1, 3);" +
+				"[5, 1, 9]; null",
+			"when index range covers all values, removes all values;" +
+				"[5, -2, 8, 1, 9]; [0, 5);" +
+				"[]; null",
+			"when index range is out of valid range, fails;" +
+				"[5, -2, 8, 1, 9]; [4, 6);" +
+				"null; [4, 6) ⊈ [0, 5)"
+		})
+		void test(@IntArray int[] values, @IntRange IndexRange range,
+			@IntArray int[] expected1, @IndexRangeException Exception expected2) {
+
+			final var list = new MutableIntList(values);
+			try {
+				list.remove(range);
+				assertEquals(new IntList(expected1), list,
+					format("%s.remove(%s)", new IntList(values), range));
+			} catch (IndexRangeNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.remove(%s)", list, range));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".removeFirst()")
+	@Nested
+	class RemoveFirstTests {
+		@DisplayName("\uD83D\uDE80")
+		@Tests({
+			"when list is not empty, removes first value;" +
+				"[5, -2, 8];" +
+				"[-2, 8]",
+			"when list is empty, does nothing;" +
+				"[];" +
+				"[]"
+		})
+		void test(@IntArray int[] values, @IntArray int[] expected) {
+			final var list = new MutableIntList(values);
+			list.removeFirst();
+
+			assertEquals(new IntList(expected), list,
+				format("%s.removeFirst()", new IntList(values)));
+		}
+	}
+
+	@DisplayName(".matchAll(IntPredicate)")
+	@Nested
+	class MatchAllTests {
+		@DisplayName("\uD83D\uDE84")
+		@Tests({
+			"returns mutable list of matching values;" +
+				"[5, -2, 8, -3];" +
+				"[-2, -3]"
+		})
+		void test(@IntArray int[] values, @IntArray int[] expected) {
+			final var list = new MutableIntList(values);
+			final var matches = list.matchAll((value) -> value < 0);
+
+			matches.append((int) 1);
+			assertEquals(new IntList(expected).getCount() + 1, matches.getCount(),
+				format("%s.matchAll(<is negative>)", list));
+			assertEquals(new IntList(values), list,
+				format("%s.matchAll(<is negative>)", list));
+		}
+	}
+
+	@DisplayName(".clear()")
+	@Nested
+	class ClearTests {
+		@DisplayName("\uD83D\uDE92")
+		@Tests({
+			"removes all values;" +
+				"[5, -2, 8]"
+		})
+		void test(@IntArray int[] values) {
+			final var list = new MutableIntList(values);
+			list.clear();
+
+			assertEquals(new IntList(), list,
+				format("%s.clear()", new IntList(values)));
+			assertEquals(0, list.store.items.length,
+				format("%s.clear()", new IntList(values)));
+		}
+	}
+}
@@ -4,8 +4,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+import java.util.Random;
+
 import static com.tsyba.core.collections.Assertions.*;
-import static com.tsyba.core.collections.MutableList.minimumCapacity;
 
 class MutableListTests {
 	@Nested
@@ -16,7 +18,7 @@ class MutableListTests {
 		void createsList() {
 			final var items = new MutableList<>("b", "d", "Q", "P", "G");
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 5);
 			assertEquals(items,
 				new String[]{
 					"b", "d", "Q", "P", "G"
@@ -28,7 +30,7 @@ class MutableListTests {
 		void createsListWithoutNullsWhenSomeItemsNull() {
 			final var items = new MutableList<>(null, "B", null, null, "G", null);
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 2);
 			assertEquals(items,
 				new String[]{
 					"B", "G"
@@ -40,7 +42,7 @@ class MutableListTests {
 		void createsEmptyListWhenAllItemsNull() {
 			final var items = new MutableList<String>(null, null, null);
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 0);
 			assertEquals(items,
 				new String[]{
 				});
@@ -51,7 +53,7 @@ class MutableListTests {
 		void createsEmptyListWhenArgArrayEmpty() {
 			final var items = new MutableList<String>();
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 0);
 			assertEquals(items,
 				new String[]{
 				});
@@ -67,7 +69,7 @@ class MutableListTests {
 			final var items = new MutableList<>(
 				new List<>("p", "g", "F", "q", "F"));
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 5);
 			assertEquals(items,
 				new String[]{
 					"p", "g", "F", "q", "F"
@@ -80,7 +82,7 @@ class MutableListTests {
 			final var items = new MutableList<>(
 				new List<String>());
 
-			assertCapacity(items, minimumCapacity);
+			assertCapacity(items, 0);
 			assertEquals(items,
 				new String[]{
 				});
@@ -1494,6 +1496,464 @@ class MutableListTests {
 		}
 	}
 
+	@Nested
+	@DisplayName(".sortInPlace(Comparator<T>)")
+	class SortInPlaceTests {
+		@Test
+		@DisplayName("sorts items")
+		void sortsItems() {
+			final var items = new MutableList<>("v", "m", "K", "l", "b");
+			final var store = items.store;
+			final var returned = items.sortInPlace(String::compareTo);
+
+			assertIs(returned, items);
+			assertIs(items.store, store);
+			assertEquals(items,
+				new String[]{
+					"K", "b", "l", "m", "v"
+				});
+		}
+
+		@Test
+		@DisplayName("when list has spare capacity, sorts only items")
+		void sortsOnlyItemsWhenListHasSpareCapacity() {
+			final var items = new MutableList<>("v", "m", "K")
+				.append("a");
+
+			items.sortInPlace(String::compareTo);
+			assertEquals(items,
+				new String[]{
+					"K", "a", "m", "v"
+				});
+		}
+
+		@Test
+		@DisplayName("when list is large, sorts items in parallel")
+		void sortsItemsWhenListLarge() {
+			final var random = new Random(41);
+			final var items = new MutableList<Integer>();
+
+			for (var index = 0; index < 3 * ContiguousArrayStore.parallelThreshold; ++index) {
+				items.append(random.nextInt(1000));
+			}
+
+			final var expected = items.sort(Integer::compareTo);
+			items.sortInPlace(Integer::compareTo);
+
+			assertEquals(items, expected,
+				"List items are not sorted.");
+		}
+	}
+
+	@Nested
+	@DisplayName(".sortByIntInPlace(ToIntFunction<T>)")
+	class SortByIntInPlaceTests {
+		@Test
+		@DisplayName("sorts items by keys")
+		void sortsItems() {
+			final var items = new MutableList<>("bbb", "a", "cc", "d", "ee", "fff", "g");
+			final var store = items.store;
+			final var returned = items.sortByIntInPlace(String::length);
+
+			assertIs(returned, items);
+			assertIs(items.store, store);
+			assertEquals(items,
+				new String[]{
+					"a", "d", "g", "cc", "ee", "bbb", "fff"
+				});
+		}
+
+		@Test
+		@DisplayName("when list has spare capacity, sorts only items")
+		void sortsOnlyItemsWhenListHasSpareCapacity() {
+			final var items = new MutableList<>("5", "-3", "700")
+				.append("0");
+
+			items.sortByIntInPlace(Integer::parseInt);
+			assertEquals(items,
+				new String[]{
+					"-3", "0", "5", "700"
+				});
+		}
+
+		@Test
+		@DisplayName("when keys are random, sorts items in the same order as a stable sort")
+		void sortsItemsWhenKeysRandom() {
+			final var random = new Random(17);
+			final var items = new MutableList<Integer>();
+
+			for (var index = 0; index < 100_000; ++index) {
+				items.append(random.nextInt());
+			}
+
+			final var expected = items.sort((first, second) -> Integer.compare(
+				first & 0xFFFF00FF, second & 0xFFFF00FF));
+			items.sortByIntInPlace((item) -> item & 0xFFFF00FF);
+
+			assertEquals(items, expected,
+				"List items are not sorted.");
+		}
+	}
+
+	@Nested
+	@DisplayName(".sortByLongInPlace(ToLongFunction<T>)")
+	class SortByLongInPlaceTests {
+		@Test
+		@DisplayName("sorts items by keys")
+		void sortsItems() {
+			final var items = new MutableList<>("5", "-3", "7000000000", "-70000", "0", "5");
+			final var store = items.store;
+			final var returned = items.sortByLongInPlace(Long::parseLong);
+
+			assertIs(returned, items);
+			assertIs(items.store, store);
+			assertEquals(items,
+				new String[]{
+					"-70000", "-3", "0", "5", "5", "7000000000"
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName(".shuffleInPlace(Random)")
+	class ShuffleInPlaceTests {
+		@Test
+		@DisplayName("shuffles items")
+		void shufflesItems() {
+			final var items = new MutableList<>("v", "m", "K", "l", "b", "Q", "d");
+			final var store = items.store;
+			final var returned = items.shuffleInPlace(new Random(7));
+
+			assertIs(returned, items);
+			assertIs(items.store, store);
+			assertEquals(items.sort(String::compareTo),
+				new String[]{
+					"K", "Q", "b", "d", "l", "m", "v"
+				});
+		}
+
+		@Test
+		@DisplayName("when list is large, shuffles items in parallel")
+		void shufflesItemsWhenListLarge() {
+			final var count = 3 * ContiguousArrayStore.parallelThreshold + 5;
+			final var items1 = new MutableList<Integer>();
+			for (var index = 0; index < count; ++index) {
+				items1.append(index);
+			}
+
+			final var items2 = new MutableList<>(items1);
+			items1.shuffleInPlace(new Random(11));
+			items2.shuffleInPlace(new Random(11));
+
+			assertEquals(items1, items2,
+				"Shuffles with the same seed differ.");
+			assertEquals(items1.findFirst(0).equals(Optional.of(0)), false,
+				"List items are not shuffled.");
+
+			final var sorted = items1.sort(Integer::compareTo);
+			for (var index = 0; index < count; ++index) {
+				assertEquals((int) sorted.get(index), index,
+					"Shuffled list items differ from original ones.");
+			}
+		}
+
+		@Test
+		@DisplayName("shuffles items uniformly")
+		void shufflesItemsUniformly() {
+			// note: each of 6 permutations of 3 items is expected 1000 times
+			final var counts = new MutableMap<List<String>, Integer>();
+			final var random = new Random(5);
+
+			for (var index = 0; index < 6000; ++index) {
+				final var items = new MutableList<>("a", "b", "c")
+					.shuffleInPlace(random)
+					.toImmutable();
+
+				counts.set(items, counts.get(items).orElse(0) + 1);
+			}
+
+			assertEquals(counts.getCount(), 6, "Not all permutations occur.");
+			counts.iterate((items, count) -> {
+				assertEquals(Math.abs(count - 1000) < 150, true,
+					"Permutation " + items + " occurs " + count + " times.");
+			});
+		}
+	}
+
+	@Nested
+	@DisplayName(".partitionInPlace(Predicate<T>)")
+	class PartitionInPlaceTests {
+		@Test
+		@DisplayName("moves matching items before others")
+		void movesMatchingItemsBeforeOthers() {
+			final var items = new MutableList<>("v", "M", "K", "l", "b", "Q", "d");
+			final var store = items.store;
+			final var count = items.partitionInPlace((item) -> {
+				return item.toUpperCase()
+					.equals(item);
+			});
+
+			assertEquals(count, 3);
+			assertIs(items.store, store);
+			assertEquals(items.getPrefix(3).sort(String::compareTo),
+				new String[]{
+					"K", "M", "Q"
+				});
+			assertEquals(items.getSuffix(3).sort(String::compareTo),
+				new String[]{
+					"b", "d", "l", "v"
+				});
+		}
+
+		@Test
+		@DisplayName("tests each item once")
+		void testsEachItemOnce() {
+			final var items = new MutableList<>(4, 1, 8, 3, 6, 7, 2, 5);
+			final var tested = new MutableList<Integer>();
+			final var count = items.partitionInPlace((item) -> {
+				tested.append(item);
+				return item % 2 == 0;
+			});
+
+			assertEquals(count, 4);
+			assertEquals(tested.sort(Integer::compareTo),
+				new Integer[]{
+					1, 2, 3, 4, 5, 6, 7, 8
+				});
+			assertEquals(items.getPrefix(4).allMatch((item) -> item % 2 == 0), true,
+				"List items are not partitioned.");
+		}
+
+		@Test
+		@DisplayName("when no items match, returns 0")
+		void returns0WhenNoItemsMatch() {
+			final var items = new MutableList<>("v", "m", "k");
+			final var count = items.partitionInPlace((item) -> {
+				return item.toUpperCase()
+					.equals(item);
+			});
+
+			assertEquals(count, 0);
+			assertEquals(items,
+				new String[]{
+					"v", "m", "k"
+				});
+		}
+
+		@Test
+		@DisplayName("when all items match, returns item count")
+		void returnsItemCountWhenAllItemsMatch() {
+			final var items = new MutableList<>("V", "M", "K");
+			final var count = items.partitionInPlace((item) -> {
+				return item.toUpperCase()
+					.equals(item);
+			});
+
+			assertEquals(count, 3);
+			assertEquals(items,
+				new String[]{
+					"V", "M", "K"
+				});
+		}
+
+		@Test
+		@DisplayName("when list is empty, returns 0")
+		void returns0WhenListEmpty() {
+			final var items = new MutableList<String>();
+			final var count = items.partitionInPlace((item) -> true);
+
+			assertEquals(count, 0);
+		}
+	}
+
+	@Nested
+	@DisplayName(".remove(IndexRange...)")
+	class RemoveIndexRangesTests {
+		@Test
+		@DisplayName("removes items in ranges")
+		void removesItemsInRanges() {
+			final var items = new MutableList<>("v", "M", "K", "l", "b", "Q", "d", "e");
+			final var count = items.remove(new IndexRange(5, 7), new IndexRange(1, 3));
+
+			assertEquals(count, 4);
+			assertEquals(items.store,
+				new String[]{
+					"v", "l", "b", "e", null, null, null, null
+				});
+		}
+
+		@Test
+		@DisplayName("when ranges overlap, removes items in them once")
+		void removesItemsOnceWhenRangesOverlap() {
+			final var items = new MutableList<>("v", "M", "K", "l", "b", "Q", "d", "e");
+			final var count = items.remove(new IndexRange(1, 4), new IndexRange(2, 6),
+				new IndexRange(3, 4));
+
+			assertEquals(count, 5);
+			assertEquals(items.store,
+				new String[]{
+					"v", "d", "e", null, null, null, null, null
+				});
+		}
+
+		@Test
+		@DisplayName("when ranges are empty, returns 0")
+		void returns0WhenRangesEmpty() {
+			final var items = new MutableList<>("v", "M", "K");
+			final var count = items.remove(new IndexRange(), new IndexRange(2, 2));
+
+			assertEquals(count, 0);
+			assertEquals(items.store,
+				new String[]{
+					"v", "M", "K"
+				});
+		}
+
+		@Test
+		@DisplayName("when any range is out of valid range, fails")
+		void failsWhenAnyRangeOutOfValidRange() {
+			final var items = new MutableList<>("v", "M", "K", "l");
+			final var range = new IndexRange(2, 7);
+			final var expected = new IndexRangeNotInRangeException(range,
+				new IndexRange(0, 4));
+
+			assertThrows(() -> {
+				items.remove(new IndexRange(0, 1), range);
+			}, expected);
+			assertEquals(items,
+				new String[]{
+					"v", "M", "K", "l"
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName(".removeAll(Predicate<T>)")
+	class RemoveAllPredicateTests {
+		@Test
+		@DisplayName("removes matching items, keeping order of others")
+		void removesMatchingItems() {
+			final var items = new MutableList<>("v", "M", "K", "l", "b", "Q", "d");
+			final var count = items.removeAll((item) -> {
+				return item.toUpperCase()
+					.equals(item);
+			});
+
+			assertEquals(count, 3);
+			assertEquals(items.store,
+				new String[]{
+					"v", "l", "b", "d", null, null, null
+				});
+		}
+
+		@Test
+		@DisplayName("tests each item once")
+		void testsEachItemOnce() {
+			final var items = new MutableList<>(4, 1, 8, 3, 6, 7, 2, 5);
+			final var tested = new MutableList<Integer>();
+			final var count = items.removeAll((item) -> {
+				tested.append(item);
+				return item % 2 == 0;
+			});
+
+			assertEquals(count, 4);
+			assertEquals(tested,
+				new Integer[]{
+					4, 1, 8, 3, 6, 7, 2, 5
+				});
+			assertEquals(items,
+				new Integer[]{
+					1, 3, 7, 5
+				});
+		}
+
+		@Test
+		@DisplayName("when no items match, returns 0")
+		void returns0WhenNoItemsMatch() {
+			final var items = new MutableList<>("v", "m", "k");
+			final var count = items.removeAll((item) -> false);
+
+			assertEquals(count, 0);
+			assertEquals(items.store,
+				new String[]{
+					"v", "m", "k"
+				});
+		}
+
+		@Test
+		@DisplayName("when all items match, removes all items")
+		void removesAllItemsWhenAllItemsMatch() {
+			final var items = new MutableList<>("V", "M", "K");
+			final var count = items.removeAll((item) -> true);
+
+			assertEquals(count, 3);
+			assertEquals(items.getCount(), 0);
+			assertEquals(items.store,
+				new String[]{
+					null, null, null
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName(".removeAll(Collection<T>)")
+	class RemoveAllCollectionTests {
+		@Test
+		@DisplayName("removes items, which occur in collection")
+		void removesItemsInCollection() {
+			final var items = new MutableList<>("v", "M", "K", "l", "M", "Q", "d");
+			final var count = items.removeAll(new Set<>("M", "d", "z"));
+
+			assertEquals(count, 3);
+			assertEquals(items.store,
+				new String[]{
+					"v", "K", "l", "Q", null, null, null
+				});
+		}
+
+		@Test
+		@DisplayName("when collection is empty, returns 0")
+		void returns0WhenCollectionEmpty() {
+			final var items = new MutableList<>("v", "M", "K");
+			final var count = items.removeAll(new List<String>());
+
+			assertEquals(count, 0);
+			assertEquals(items,
+				new String[]{
+					"v", "M", "K"
+				});
+		}
+	}
+
+	@Nested
+	@DisplayName(".retainAll(Predicate<T>)")
+	class RetainAllTests {
+		@Test
+		@DisplayName("removes items, which do not match")
+		void removesItemsNotMatching() {
+			final var items = new MutableList<>("v", "M", "K", "l", "b", "Q", "d");
+			final var count = items.retainAll((item) -> {
+				return item.toUpperCase()
+					.equals(item);
+			});
+
+			assertEquals(count, 4);
+			assertEquals(items.store,
+				new String[]{
+					"M", "K", "Q", null, null, null, null
+				});
+		}
+
+		@Test
+		@DisplayName("when list is empty, returns 0")
+		void returns0WhenListEmpty() {
+			final var items = new MutableList<String>();
+			final var count = items.retainAll((item) -> true);
+
+			assertEquals(count, 0);
+		}
+	}
+
 	@Nested
 	@DisplayName(".toImmutable()")
 	class ToImmutableTests {
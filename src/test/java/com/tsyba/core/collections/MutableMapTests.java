@@ -132,6 +132,51 @@ class MutableMapTests {
 		}
 	}
 
+	@DisplayName(".set(K, V) when hash codes collide")
+	@Nested
+	class SetCollidingTests {
+		@DisplayName("when string keys share hash code, keeps entries without expanding storage")
+		@Tests({
+			"\uD83D\uDCA5;" +
+				"12"
+		})
+		void test(int length) {
+			// note: "Aa" and "BB" have equal hash codes, and so do all strings
+			// made of them with equal length
+			final var keys = new String[1 << length];
+			for (var index = 0; index < keys.length; ++index) {
+				final var builder = new StringBuilder();
+				for (var bit = 0; bit < length; ++bit) {
+					builder.append((index >> bit & 1) == 0 ? "Aa" : "BB");
+				}
+
+				keys[index] = builder.toString();
+			}
+
+			final var entries = new MutableMap<String, Integer>();
+			final var statistics = entries.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+
+			for (var index = 0; index < keys.length; ++index) {
+				entries.set(keys[index], index);
+			}
+			for (var index = 0; index < keys.length; ++index) {
+				entries.set(keys[index], -index);
+			}
+
+			assertEquals(keys.length, entries.getCount(),
+				format("%s.getCount()", statistics));
+			for (var index = 0; index < keys.length; ++index) {
+				assertEquals(-index, entries.get(keys[index]).orElseThrow(),
+					format("%s.get(%s)", statistics, keys[index]));
+			}
+
+			assertTrue(statistics.getCapacity() <= 64,
+				format("%s.getCapacity()", statistics));
+		}
+	}
+
 	@DisplayName(".add(Map<K, V>)")
 	@Nested
 	class TestAddMap {
@@ -419,6 +464,8 @@ class MutableMapTests {
 			format("%s.clear()", entries));
 		assertEquals(expected, entries,
 			format("%s.clear()", entries));
+		assertEquals(0, entries.store.storage.length,
+			format("%s.clear() kept storage", entries));
 	}
 
 	@DisplayName(".iterate(BiConsumer<K, V>)")
@@ -0,0 +1,56 @@
+package com.tsyba.core.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MutableSegmentedListTests {
+	@DisplayName("when edited at random indexes")
+	@Nested
+	class EditTests {
+		@DisplayName("\uD83C\uDFB2")
+		@Tests({
+			"when chunks are small, keeps the same items as java.util.ArrayList;" +
+				"20000; 3",
+			"when chunks are default, keeps the same items as java.util.ArrayList;" +
+				"20000; 12"
+		})
+		void test(int count, int chunkBits) {
+			final var list = new MutableSegmentedList<Integer>(
+				new SegmentedArrayStore(chunkBits));
+			final var expected = new ArrayList<Integer>();
+			final var random = new Random(count);
+
+			for (var item = 0; item < count; ++item) {
+				final var index = random.nextInt(expected.size() + 1);
+				if (random.nextInt(3) > 0 || index == expected.size()) {
+					if (index == expected.size()) {
+						list.append(item);
+					} else {
+						list.insert(index, item);
+					}
+
+					expected.add(index, item);
+				} else {
+					list.remove(index);
+					expected.remove(index);
+				}
+
+				if (random.nextInt(1000) == 0) {
+					final var start = random.nextInt(expected.size() + 1);
+					final var end = start + random.nextInt(expected.size() - start + 1);
+
+					list.remove(new IndexRange(start, end));
+					expected.subList(start, end)
+						.clear();
+				}
+			}
+
+			assertEquals(expected, list.toImmutable().bridge());
+		}
+	}
+}
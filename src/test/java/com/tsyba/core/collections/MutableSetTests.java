@@ -1,8 +1,13 @@
 package com.tsyba.core.collections;
 
+import com.tsyba.core.collections.converter.IntArray;
 import com.tsyba.core.collections.converter.StringArray;
 import com.tsyba.core.collections.converter.StringCollection;
 import com.tsyba.core.collections.converter.StringSet;
+import com.tsyba.core.collections.data.ComparableIntegerValueHash42;
+import com.tsyba.core.collections.data.IntegerValue;
+import com.tsyba.core.collections.data.IntegerValueHash42;
+import com.tsyba.core.collections.data.IntegerValueHashMod3;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,6 +19,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.function.IntFunction;
 
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +42,32 @@ public class MutableSetTests {
 			assertNotSame(items, distinct,
 				format("%s.getDistinct()", items));
 		}
+
+		@DisplayName("when set has bloom filter and overflowed items, copies filter for all items")
+		@Tests({
+			"\uD83E\uDDF1;" +
+				"18"
+		})
+		void testBloomFilter(int count) {
+			final var items = new MutableSet<IntegerValueHash42>()
+				.withBloomFilter(0.05);
+
+			for (var value = 0; value < count; ++value) {
+				items.add(new IntegerValueHash42(value));
+			}
+
+			final var distinct = items.getDistinct();
+			assertTrue(distinct.store.getOverflowCount() > 0,
+				format("%s.store.getOverflowCount()", distinct));
+			assertEquals(count, distinct.store.filter.insertionCount,
+				format("%s.store.filter.insertionCount", distinct));
+
+			for (var value = 0; value < count; ++value) {
+				final var item = new IntegerValueHash42(value);
+				assertTrue(distinct.contains(item),
+					format("%s.contains(%d)", distinct, value));
+			}
+		}
 	}
 
 	@DisplayName(".unite(Set<T>)")
@@ -95,7 +129,7 @@ public class MutableSetTests {
 	@DisplayName(".multiply(Set<T>)")
 	@ParameterizedTest(name = "{0}")
 	@CsvSource(value = {
-		"returns a mutable set;" +
+		"returns a product set;" +
 			"[f, r, q, e, a]; [t, w, e, s]"
 	}, delimiter = ';')
 	void testMultiply(String name, @StringMutableSet MutableSet<String> items1,
@@ -103,7 +137,317 @@ public class MutableSetTests {
 
 		final var returned = items1.multiply(items2);
 		final var klass = returned.getClass();
-		assertEquals(MutableSet.class, klass);
+		assertEquals(ProductSet.class, klass);
+	}
+
+	@DisplayName(".withBloomFilter(double)")
+	@Nested
+	class WithBloomFilterTests {
+		@DisplayName("\uD83E\uDDF1")
+		@Tests({
+			"when items are added after attaching filter, contains added items;" +
+				"[g, t, w]; [s, A, q]; [];" +
+				"[g, t, w, s, A, q]",
+			"when items are removed after attaching filter, does not contain removed items;" +
+				"[g, t, w, s, A, q]; []; [g, w, s, A];" +
+				"[t, q]"
+		})
+		void test(@StringMutableSet MutableSet<String> items, @StringArray String[] added,
+			@StringArray String[] removed, @StringSet Set<String> expected) {
+
+			final var filtered = items.withBloomFilter(0.01)
+				.add(added)
+				.remove(removed);
+
+			for (var item : expected) {
+				assertTrue(filtered.contains(item),
+					format("%s.contains(%s)", filtered, item));
+			}
+			for (var item : removed) {
+				assertFalse(filtered.contains(item),
+					format("%s.contains(%s)", filtered, item));
+			}
+			assertEquals(expected, filtered);
+			assertTrue(items.getBloomFilter().isEmpty(),
+				format("%s.getBloomFilter()", items));
+		}
+	}
+
+	@DisplayName(".withStatistics()")
+	@Nested
+	class WithStatisticsTests {
+		@DisplayName("\uD83D\uDCCA")
+		@Tests({
+			"when items are added to copy, counts its lookups only;" +
+				"[g, t, w]; [s, A, q]; A"
+		})
+		void test(@StringMutableSet MutableSet<String> items, @StringArray String[] added,
+			String item) {
+
+			final var measured = items.withStatistics()
+				.add(added);
+			assertTrue(measured.contains(item),
+				format("%s.contains(%s)", measured, item));
+
+			final var statistics = measured.getStatistics()
+				.orElseThrow();
+			assertEquals(1, statistics.getLookupCount(),
+				format("%s.getStatistics()", measured));
+			assertTrue(items.getStatistics().isEmpty(),
+				format("%s.getStatistics()", items));
+		}
+	}
+
+	@DisplayName(".attachStatistics()")
+	@Nested
+	class AttachStatisticsTests {
+		@DisplayName("\uD83D\uDCCA")
+		@Tests({
+			"when statistics are attached, counts lookups of this set;" +
+				"[g, t, w, s, A, q]; A"
+		})
+		void test(@StringMutableSet MutableSet<String> items, String item) {
+			final var returned = items.attachStatistics();
+			assertSame(items, returned,
+				format("%s.attachStatistics()", items));
+
+			items.contains(item);
+			final var statistics = items.getStatistics()
+				.orElseThrow();
+			assertEquals(1, statistics.getLookupCount(),
+				format("%s.getStatistics()", items));
+		}
+	}
+
+	@DisplayName(".add(T) when hash codes collide")
+	@Nested
+	class AddCollidingTests {
+		@DisplayName("when hash codes are equal, keeps items without expanding storage")
+		@Tests({
+			"when items are comparable;" +
+				"true; 4000",
+			"when items are not comparable;" +
+				"false; 400"
+		})
+		void testEqual(boolean comparable, int count) {
+			final IntFunction<Object> item = comparable
+				? ComparableIntegerValueHash42::new
+				: IntegerValueHash42::new;
+
+			final var items = new MutableSet<>();
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+
+			for (var value = 0; value < count; ++value) {
+				items.add(item.apply(value));
+			}
+			for (var value = 0; value < count; value += 2) {
+				items.remove(item.apply(value));
+			}
+
+			assertEquals(count / 2, items.getCount(),
+				format("%s.getCount()", statistics));
+			for (var value = 0; value < count; ++value) {
+				assertEquals(value % 2 == 1, items.contains(item.apply(value)),
+					format("%s.contains(%d)", statistics, value));
+			}
+
+			assertTrue(statistics.getOverflowCount() > 0,
+				format("%s.getOverflowCount()", statistics));
+			assertTrue(statistics.getCapacity() <= 64,
+				format("%s.getCapacity()", statistics));
+		}
+
+		@DisplayName("when hash codes differ in high bits only, keeps storage linear in item count")
+		@Tests({
+			"\uD83E\uDDEE;" +
+				"2000"
+		})
+		void testHighBits(int count) {
+			final var items = new MutableSet<IntegerValue>();
+			final var statistics = items.attachStatistics()
+				.getStatistics()
+				.orElseThrow();
+
+			for (var value = 0; value < count; ++value) {
+				items.add(new IntegerValue(value << 20));
+			}
+
+			assertEquals(count, items.getCount(),
+				format("%s.getCount()", statistics));
+			for (var value = 0; value < count; ++value) {
+				assertTrue(items.contains(new IntegerValue(value << 20)),
+					format("%s.contains(%d)", statistics, value << 20));
+			}
+
+			assertTrue(statistics.getCapacity() <= 16 * count,
+				format("%s.getCapacity()", statistics));
+		}
+
+		@DisplayName("when hash codes have low entropy, does not repeat items")
+		@Tests({
+			"when hash codes are remainders of 3;" +
+				"false; [34, 60, 10, 81, 28, 2, 49, 64, 59, 61, 85, 82, 77, 14, 81]; 14",
+			"when hash codes differ in high bits only;" +
+				"true; [34, 60, 10, 81, 28, 2, 49, 64, 59, 61, 85, 82, 77, 14, 81]; 14"
+		})
+		void testLowEntropy(boolean shifted, @IntArray int[] values, int count) {
+			final IntFunction<Object> item = shifted
+				? (value) -> new IntegerValue(value << 20)
+				: IntegerValueHashMod3::new;
+
+			// note: colliding entries are re-distributed with a random seed,
+			// which differs between sets; repeat to cover many seeds
+			for (var repetition = 0; repetition < 1000; ++repetition) {
+				final var items = new MutableSet<>();
+				for (var value : values) {
+					items.add(item.apply(value));
+				}
+
+				assertEquals(count, items.getCount(),
+					format("%s.getCount()", items));
+				for (var value : values) {
+					assertTrue(items.contains(item.apply(value)),
+						format("%s.contains(%d)", items, value));
+				}
+			}
+		}
+
+		@DisplayName("when items are added and removed at random, keeps the same items as java.util.HashSet")
+		@Tests({
+			"when hash codes are remainders of 3;" +
+				"false; 4000; 300; 40",
+			"when hash codes differ in high bits only;" +
+				"true; 4000; 300; 40"
+		})
+		void testLowEntropyEdits(boolean shifted, int count, int range, int repetitionCount) {
+			final IntFunction<Object> item = shifted
+				? (value) -> new IntegerValue(value << 20)
+				: IntegerValueHashMod3::new;
+
+			for (var repetition = 0; repetition < repetitionCount; ++repetition) {
+				final var items = new MutableSet<>();
+				final var expected = new HashSet<>();
+				final var random = new Random(repetition);
+
+				for (var index = 0; index < count; ++index) {
+					final var value = item.apply(random.nextInt(range));
+					if (random.nextInt(3) > 0) {
+						items.add(value);
+						expected.add(value);
+					} else {
+						items.remove(value);
+						expected.remove(value);
+					}
+				}
+
+				assertEquals(expected.size(), items.getCount(),
+					format("%s.getCount()", items));
+				for (var value = 0; value < range; ++value) {
+					assertEquals(expected.contains(item.apply(value)),
+						items.contains(item.apply(value)),
+						format("%s.contains(%d)", items, value));
+				}
+			}
+		}
+
+		@DisplayName("when items are removed, moves overflowed items back into storage")
+		@Tests({
+			"when items are removed one by one;" +
+				"false; 40; 38",
+			"when items are removed in bulk;" +
+				"true; 40; 38"
+		})
+		void testRemove(boolean bulk, int count, int removedCount) {
+			final var items = new MutableSet<IntegerValueHash42>();
+			final var removed = new MutableSet<IntegerValueHash42>();
+			final var kept = new MutableSet<IntegerValueHash42>();
+
+			for (var value = 0; value < count; ++value) {
+				final var item = new IntegerValueHash42(value);
+				items.add(item);
+
+				if (value < removedCount) {
+					removed.add(item);
+				} else {
+					kept.add(item);
+				}
+			}
+
+			// note: retaining items removes the rest in a single sweep
+			if (bulk) {
+				items.retain(kept);
+			} else {
+				items.remove(removed);
+			}
+
+			assertEquals(count - removedCount, items.getCount(),
+				format("%s.getCount()", items));
+			assertEquals(0, items.store.getOverflowCount(),
+				format("%s.store.getOverflowCount()", items));
+		}
+	}
+
+	@DisplayName(".add(T) when set is small")
+	@Nested
+	class AddSmallTests {
+		@DisplayName("keeps items packed until they exceed packed item limit")
+		@Tests({
+			"when set is empty, does not allocate storage;" +
+				"0; true; 0",
+			"when set has a single item, allocates 2 slots;" +
+				"1; true; 2",
+			"when set has as many items as packed item limit, keeps them packed;" +
+				"8; true; 8",
+			"when set has more items than packed item limit, distributes them into buckets;" +
+				"9; false; 16",
+			"when set is large, distributes items into buckets;" +
+				"100; false; 128"
+		})
+		void test(int count, boolean packed, int capacity) {
+			final var items = new MutableSet<Integer>();
+			for (var item = 0; item < count; ++item) {
+				items.add(item);
+			}
+
+			assertEquals(packed, items.store.isPacked(),
+				format("%s.store.isPacked()", items));
+			assertEquals(capacity, items.store.getCapacity(),
+				format("%s.store.getCapacity()", items));
+
+			for (var item = 0; item < count; item += 2) {
+				items.remove(item);
+			}
+			for (var item = -1; item <= count; ++item) {
+				assertEquals(item >= 0 && item < count && item % 2 == 1, items.contains(item),
+					format("%s.contains(%d)", items, item));
+			}
+		}
+
+		@DisplayName("when all items are removed, releases storage")
+		@Tests({
+			"when items are packed;" +
+				"5",
+			"when items are distributed into buckets;" +
+				"100"
+		})
+		void testRemoveAll(int count) {
+			final var items = new MutableSet<Integer>();
+			for (var item = 0; item < count; ++item) {
+				items.add(item);
+			}
+
+			items.removeAll();
+			assertTrue(items.store.isPacked(),
+				format("%s.store.isPacked()", items));
+			assertEquals(0, items.store.storage.length,
+				format("%s.store.storage.length", items));
+
+			items.add(count);
+			assertEquals(new Set<>(count), items,
+				format("%s.add(%d)", items, count));
+		}
 	}
 
 	@DisplayName(".add(T)")
@@ -404,6 +748,160 @@ public class MutableSetTests {
 		assertEquals(expected, items1);
 	}
 
+	@DisplayName(".addAll(Set<T>)")
+	@Nested
+	class AddAllTests {
+		@DisplayName("\uD83E\uDDF2")
+		@Tests({
+			"when set and argument set are disjoint, adds all items;" +
+				"[t, E, q, v, b, 0]; [e, g, 7, T];" +
+				"[t, E, q, v, b, 0, e, g, 7, T]",
+			"when set and argument set intersect, adds absent items;" +
+				"[t, E, q, v, b, 0]; [P, z, E, q];" +
+				"[t, E, q, v, b, 0, P, z]",
+			"when set is smaller than argument set, adds absent items;" +
+				"[E, k]; [t, E, q, v, b, 0];" +
+				"[t, E, q, v, b, 0, k]",
+			"when argument set is empty, does nothing;" +
+				"[t, E, q, v, b, 0]; [];" +
+				"[t, E, q, v, b, 0]",
+			"when set is empty, adds all items;" +
+				"[]; [P, z, E, q];" +
+				"[P, z, E, q]"
+		})
+		void test(@StringMutableSet MutableSet<String> items1, @StringSet Set<String> items2,
+			@StringSet Set<String> expected) {
+			final var description = format("%s.addAll(%s)", items1, items2);
+			final var returned = items1.addAll(items2);
+
+			assertSame(items1, returned, description);
+			assertEquals(expected, items1, description);
+		}
+
+		@DisplayName("when argument set has bloom filter, keeps filter of this set")
+		@Tests({
+			"when set has no filter, does not attach one;" +
+				"[E, k]; [t, E, q, v, b, 0]; false",
+			"when set has filter, keeps it;" +
+				"[E, k]; [t, E, q, v, b, 0]; true"
+		})
+		void testBloomFilter(@StringMutableSet MutableSet<String> items1,
+			@StringSet Set<String> items2, boolean filtered) {
+
+			final var items3 = filtered
+				? items1.withBloomFilter(0.05)
+				: items1;
+			final var items4 = items2.withBloomFilter(0.01);
+			items3.addAll(items4);
+
+			final var description = format("%s.addAll(%s)", items3, items4);
+			final var filter = items3.getBloomFilter();
+			assertEquals(filtered, filter.isPresent(), description);
+
+			if (filtered) {
+				assertEquals(0.05, filter.get().falsePositiveRate, description);
+			}
+			for (var item : items4) {
+				assertTrue(items3.contains(item), description);
+			}
+		}
+	}
+
+	@DisplayName(".retain(Set<T>)")
+	@Nested
+	class RetainTests {
+		@DisplayName("\uD83E\uDDF9")
+		@Tests({
+			"when set and argument set are disjoint, removes all items;" +
+				"[t, E, q, v, b, 0]; [e, g, 7, T];" +
+				"[]",
+			"when set and argument set intersect, removes uncommon items;" +
+				"[t, E, q, v, b, 0]; [P, z, E, q];" +
+				"[E, q]",
+			"when set is smaller than argument set, removes uncommon items;" +
+				"[E, k, 0]; [t, E, q, v, b, 0];" +
+				"[E, 0]",
+			"when set and argument set are equal, does nothing;" +
+				"[t, E, q, v, b, 0]; [t, E, q, v, b, 0];" +
+				"[t, E, q, v, b, 0]",
+			"when argument set is empty, removes all items;" +
+				"[t, E, q, v, b, 0]; [];" +
+				"[]",
+			"when set is empty, does nothing;" +
+				"[]; [P, z, E, q];" +
+				"[]"
+		})
+		void test(@StringMutableSet MutableSet<String> items1, @StringSet Set<String> items2,
+			@StringSet Set<String> expected) {
+			final var description = format("%s.retain(%s)", items1, items2);
+			final var returned = items1.retain(items2);
+
+			assertSame(items1, returned, description);
+			assertEquals(expected, items1, description);
+		}
+
+		@DisplayName("when argument set is smaller, keeps own instances of common items")
+		@Tests({
+			"\uD83E\uDEAA;" +
+				"12; 3"
+		})
+		void testInstances(int count1, int count2) {
+			final var instances = new IntegerValue[count1];
+			final var items1 = new MutableSet<IntegerValue>();
+			for (var value = 0; value < count1; ++value) {
+				instances[value] = new IntegerValue(value);
+				items1.add(instances[value]);
+			}
+
+			final var items2 = new MutableSet<IntegerValue>();
+			for (var value = 0; value < count2; ++value) {
+				items2.add(new IntegerValue(value));
+			}
+
+			items1.retain(items2);
+
+			assertEquals(count2, items1.getCount());
+			for (var item : items1) {
+				assertSame(instances[item.value], item,
+					format("<%d items>.retain(<%d items>)", count1, count2));
+			}
+		}
+	}
+
+	@DisplayName(".removeAll(Set<T>)")
+	@Nested
+	class RemoveAllWithSetTests {
+		@DisplayName("\uD83E\uDDFA")
+		@Tests({
+			"when set and argument set are disjoint, does nothing;" +
+				"[t, E, q, v, b, 0]; [e, g, 7, T];" +
+				"[t, E, q, v, b, 0]",
+			"when set and argument set intersect, removes common items;" +
+				"[t, E, q, v, b, 0]; [P, z, E, q];" +
+				"[t, v, b, 0]",
+			"when set is smaller than argument set, removes common items;" +
+				"[E, k, 0]; [t, E, q, v, b, 0];" +
+				"[k]",
+			"when set and argument set are equal, removes all items;" +
+				"[t, E, q, v, b, 0]; [t, E, q, v, b, 0];" +
+				"[]",
+			"when argument set is empty, does nothing;" +
+				"[t, E, q, v, b, 0]; [];" +
+				"[t, E, q, v, b, 0]",
+			"when set is empty, does nothing;" +
+				"[]; [P, z, E, q];" +
+				"[]"
+		})
+		void test(@StringMutableSet MutableSet<String> items1, @StringSet Set<String> items2,
+			@StringSet Set<String> expected) {
+			final var description = format("%s.removeAll(%s)", items1, items2);
+			final var returned = items1.removeAll(items2);
+
+			assertSame(items1, returned, description);
+			assertEquals(expected, items1, description);
+		}
+	}
+
 	@DisplayName(".removeAll()")
 	@ParameterizedTest(name = "{0}")
 	@CsvSource(value = {
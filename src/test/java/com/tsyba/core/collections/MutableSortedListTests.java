@@ -0,0 +1,398 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringCollection;
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MutableSortedListTests {
+	private static final Comparator<String> comparator = Comparator.naturalOrder();
+
+	@DisplayName(".add(T)")
+	@Nested
+	class AddTests {
+		@DisplayName("➕")
+		@Tests({
+			"when item is in the middle, inserts it in order;" +
+				"[k, M, s, A, 8]; d;" +
+				"[8, A, M, d, k, s]",
+			"when item is smallest, inserts it first;" +
+				"[k, M, s, A, 8]; 0;" +
+				"[0, 8, A, M, k, s]",
+			"when item is largest, inserts it last;" +
+				"[k, M, s, A, 8]; z;" +
+				"[8, A, M, k, s, z]",
+			"when item is present, inserts it after equal items;" +
+				"[k, M, s, A, 8]; k;" +
+				"[8, A, M, k, k, s]",
+			"when item is null, does nothing;" +
+				"[k, M, s, A, 8]; null;" +
+				"[8, A, M, k, s]",
+			"when list is empty, inserts item;" +
+				"[]; d;" +
+				"[d]"
+		})
+		void test(@StringList List<String> items, String item,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			final var returned = sorted.add(item);
+
+			assertEquals(expected, sorted,
+				format("%s.add(%s)", string, item));
+			assertSame(sorted, returned);
+		}
+	}
+
+	@DisplayName(".add(T...)")
+	@Nested
+	class AddVarargsTests {
+		@DisplayName("➕")
+		@Tests({
+			"when items are not sorted, merges them in order;" +
+				"[k, M, s, A, 8]; [z, d, 0, k];" +
+				"[0, 8, A, M, d, k, k, s, z]",
+			"when some items are null, merges non-null items;" +
+				"[k, M, s]; [z, null, d];" +
+				"[M, d, k, s, z]",
+			"when there are no items, does nothing;" +
+				"[k, M, s]; [];" +
+				"[M, k, s]",
+			"when list is empty, inserts sorted items;" +
+				"[]; [z, d, 0];" +
+				"[0, d, z]"
+		})
+		void test(@StringList List<String> items1, @StringArray String[] items2,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items1);
+			final var string = sorted.toString();
+			final var returned = sorted.add(items2);
+
+			assertEquals(expected, sorted,
+				format("%s.add(%s)", string, new List<>(items2)));
+			assertSame(sorted, returned);
+		}
+	}
+
+	@DisplayName(".add(Collection<T>)")
+	@Nested
+	class AddCollectionTests {
+		@DisplayName("➕")
+		@Tests({
+			"when items are not sorted, merges them in order;" +
+				"[k, M, s, A, 8]; [z, d, 0, k];" +
+				"[0, 8, A, M, d, k, k, s, z]",
+			"when collection is empty, does nothing;" +
+				"[k, M, s]; [];" +
+				"[M, k, s]"
+		})
+		void test(@StringList List<String> items1,
+			@StringCollection Collection<String> items2,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items1);
+			final var string = sorted.toString();
+			final var returned = sorted.add(items2);
+
+			assertEquals(expected, sorted,
+				format("%s.add(%s)", string, items2));
+			assertSame(sorted, returned);
+		}
+	}
+
+	@DisplayName(".addAll(SortedList<T>)")
+	@Nested
+	class AddAllTests {
+		@DisplayName("when lists have the same comparator")
+		@Tests({
+			"when items interleave, merges them in order;" +
+				"[k, M, s, A, 8]; [z, d, 0, k];" +
+				"[0, 8, A, M, d, k, k, s, z]",
+			"when items follow all list items, appends them;" +
+				"[k, M, s]; [z, t];" +
+				"[M, k, s, t, z]",
+			"when items precede all list items, prepends them;" +
+				"[k, M, s]; [B, 8];" +
+				"[8, B, M, k, s]",
+			"when list is empty, inserts items;" +
+				"[]; [z, d, 0];" +
+				"[0, d, z]",
+			"when argument list is empty, does nothing;" +
+				"[k, M, s]; [];" +
+				"[M, k, s]"
+		})
+		void testSameComparator(@StringList List<String> items1,
+			@StringList List<String> items2, @StringList List<String> expected) {
+
+			final var sorted1 = new MutableSortedList<>(comparator, items1);
+			final var sorted2 = new SortedList<>(comparator, items2);
+			final var string = sorted1.toString();
+			final var returned = sorted1.addAll(sorted2);
+
+			assertEquals(expected, sorted1,
+				format("%s.addAll(%s)", string, sorted2));
+			assertSame(sorted1, returned);
+		}
+
+		@DisplayName("when lists have different comparators")
+		@Tests({
+			"when items interleave, merges them in order;" +
+				"[k, M, s, A, 8]; [z, d, 0, k];" +
+				"[0, 8, A, M, d, k, k, s, z]"
+		})
+		void testDifferentComparator(@StringList List<String> items1,
+			@StringList List<String> items2, @StringList List<String> expected) {
+
+			final var sorted1 = new MutableSortedList<>(comparator, items1);
+			final var sorted2 = new SortedList<>(Comparator.<String>reverseOrder(), items2);
+			final var string = sorted1.toString();
+			sorted1.addAll(sorted2);
+
+			assertEquals(expected, sorted1,
+				format("%s.addAll(%s)", string, sorted2));
+		}
+
+		@DisplayName("when list is added to itself, duplicates its items")
+		@Test
+		void testSelf() {
+			final var sorted = new MutableSortedList<>(comparator, "k", "M", "s");
+			sorted.addAll(sorted);
+
+			assertEquals(new List<>("M", "M", "k", "k", "s", "s"), sorted);
+		}
+
+		@DisplayName("when lists are large, merges them like sorting")
+		@Test
+		void testLarge() {
+			final var random = new Random(19);
+			final var items1 = new Integer[5000];
+			final var items2 = new Integer[7000];
+			final var items3 = new MutableList<Integer>();
+
+			for (var index = 0; index < items1.length; ++index) {
+				items1[index] = random.nextInt(3000);
+				items3.append(items1[index]);
+			}
+			for (var index = 0; index < items2.length; ++index) {
+				items2[index] = random.nextInt(3000);
+				items3.append(items2[index]);
+			}
+
+			final Comparator<Integer> comparator = Integer::compareTo;
+			final var sorted = new MutableSortedList<>(comparator, items1)
+				.addAll(new SortedList<>(comparator, items2));
+
+			assertEquals(items3.sortInPlace(comparator), sorted);
+		}
+	}
+
+	@DisplayName(".remove(T)")
+	@Nested
+	class RemoveTests {
+		@DisplayName("➖")
+		@Tests({
+			"when item occurs many times, removes all of them;" +
+				"[k, M, k, A, d, k, q]; k;" +
+				"[A, M, d, q]",
+			"when item occurs once, removes it;" +
+				"[k, M, k, A, d, k, q]; A;" +
+				"[M, d, k, k, k, q]",
+			"when item is absent, does nothing;" +
+				"[k, M, k, A, d, k, q]; e;" +
+				"[A, M, d, k, k, k, q]",
+			"when item is null, does nothing;" +
+				"[k, M, k, A, d, k, q]; null;" +
+				"[A, M, d, k, k, k, q]",
+			"when list is empty, does nothing;" +
+				"[]; e;" +
+				"[]"
+		})
+		void test(@StringList List<String> items, String item,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			final var returned = sorted.remove(item);
+
+			assertEquals(expected, sorted,
+				format("%s.remove(%s)", string, item));
+			assertSame(sorted, returned);
+		}
+	}
+
+	@DisplayName(".removeFirst()")
+	@Nested
+	class RemoveFirstTests {
+		@DisplayName("➖")
+		@Tests({
+			"when list is not empty, removes smallest item;" +
+				"[k, M, s];" +
+				"[k, s]",
+			"when list is empty, does nothing;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			sorted.removeFirst();
+
+			assertEquals(expected, sorted,
+				format("%s.removeFirst()", string));
+		}
+	}
+
+	@DisplayName(".removeLast()")
+	@Nested
+	class RemoveLastTests {
+		@DisplayName("➖")
+		@Tests({
+			"when list is not empty, removes largest item;" +
+				"[k, M, s];" +
+				"[M, k]",
+			"when list is empty, does nothing;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			sorted.removeLast();
+
+			assertEquals(expected, sorted,
+				format("%s.removeLast()", string));
+		}
+	}
+
+	@DisplayName(".remove(int)")
+	@Nested
+	class RemoveIndexTests {
+		@DisplayName("➖")
+		@Tests({
+			"when index is in range, removes item at it;" +
+				"[k, M, s]; 1;" +
+				"[M, s]"
+		})
+		void test(@StringList List<String> items, int index,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			sorted.remove(index);
+
+			assertEquals(expected, sorted,
+				format("%s.remove(%d)", string, index));
+		}
+
+		@DisplayName("when index is out of range, fails")
+		@Tests({
+			"when index is negative;" +
+				"[k, M, s]; -1",
+			"when index equals item count;" +
+				"[k, M, s]; 3"
+		})
+		void testOutOfRange(@StringList List<String> items, int index) {
+			final var sorted = new MutableSortedList<>(comparator, items);
+			assertThrows(IndexNotInRangeException.class,
+				() -> sorted.remove(index),
+				format("%s.remove(%d)", sorted, index));
+		}
+	}
+
+	@DisplayName(".remove(IndexRange)")
+	@Nested
+	class RemoveRangeTests {
+		@DisplayName("➖")
+		@Tests({
+			"when range is in valid range, removes items at it;" +
+				"[k, M, s, A, 8]; [1, 3];" +
+				"[8, k, s]"
+		})
+		void test(@StringList List<String> items, @IntRange IndexRange range,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			sorted.remove(range);
+
+			assertEquals(expected, sorted,
+				format("%s.remove(%s)", string, range));
+		}
+	}
+
+	@DisplayName(".clear()")
+	@Nested
+	class ClearTests {
+		@DisplayName("➖")
+		@Tests({
+			"when list is not empty, removes all items;" +
+				"[k, M, s]",
+			"when list is empty, does nothing;" +
+				"[]"
+		})
+		void test(@StringList List<String> items) {
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var string = sorted.toString();
+			sorted.clear();
+
+			assertEquals(new List<>(), sorted,
+				format("%s.clear()", string));
+		}
+	}
+
+	@DisplayName(".getRange(T, T)")
+	@Nested
+	class GetRangeTests {
+		@DisplayName("\uD83D\uDCD0")
+		@Tests({
+			"returns mutable copy of items between bounds;" +
+				"[k, M, s, A, 8, d, q]; b; m;" +
+				"[d, k]"
+		})
+		void test(@StringList List<String> items, String from, String to,
+			@StringList List<String> expected) {
+
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var range = sorted.getRange(from, to);
+			range.add("e");
+
+			assertEquals(expected, sorted.getRange(from, to),
+				format("%s.getRange(%s, %s)", sorted, from, to));
+			assertEquals(MutableSortedList.class, range.getClass());
+		}
+	}
+
+	@DisplayName(".toImmutable()")
+	@Nested
+	class ToImmutableTests {
+		@DisplayName("\uD83D\uDCF8")
+		@Tests({
+			"when list is not empty, returns immutable copy;" +
+				"[k, M, s]",
+			"when list is empty, returns empty immutable copy;" +
+				"[]"
+		})
+		void test(@StringList List<String> items) {
+			final var sorted = new MutableSortedList<>(comparator, items);
+			final var immutable = sorted.toImmutable();
+			sorted.add("e");
+
+			assertEquals(new SortedList<>(comparator, items), immutable,
+				format("%s.toImmutable()", sorted));
+			assertEquals(SortedList.class, immutable.getClass());
+			assertSame(comparator, immutable.getComparator());
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringPairSet;
+import com.tsyba.core.collections.converter.StringSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ProductSetTests {
+	@DisplayName(".getCount()")
+	@Nested
+	class GetCountTests {
+		@DisplayName("\uD83E\uDDEE")
+		@Tests({
+			"when both sets are not empty, returns product of item counts;" +
+				"[t, E, q]; [e, g];" +
+				"6",
+			"when second set is empty, returns 0;" +
+				"[t, E, q]; [];" +
+				"0",
+			"when first set is empty, returns 0;" +
+				"[]; [e, g];" +
+				"0"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2, int expected) {
+			final var product = new ProductSet<>(items1, items2);
+			final var count = product.getCount();
+
+			assertEquals(expected, count,
+				format("%s.getCount()", product));
+		}
+	}
+
+	@DisplayName(".contains(Pair<T, R>)")
+	@Nested
+	class ContainsTests {
+		@DisplayName("\uD83E\uDDE9")
+		@Tests({
+			"when both pair items are present, returns true;" +
+				"[t, E, q]; [e, g]; E; g;" +
+				"true",
+			"when first pair item is absent, returns false;" +
+				"[t, E, q]; [e, g]; e; g;" +
+				"false",
+			"when second pair item is absent, returns false;" +
+				"[t, E, q]; [e, g]; E; q;" +
+				"false",
+			"when second set is empty, returns false;" +
+				"[t, E, q]; []; t; e;" +
+				"false"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			String item1, String item2, boolean expected) {
+
+			final var product = new ProductSet<>(items1, items2);
+			final var pair = new Pair<>(item1, item2);
+			final var contains = product.contains(pair);
+
+			assertEquals(expected, contains,
+				format("%s.contains(%s)", product, pair));
+		}
+	}
+
+	@DisplayName(".iterate(BiConsumer<T, R>)")
+	@Nested
+	class IterateTests {
+		@DisplayName("\uD83E\uDDF5")
+		@Tests({
+			"when both sets are not empty, iterates all pairs;" +
+				"[t, E, q]; [e, g];" +
+				"[t:e, t:g, E:e, E:g, q:e, q:g]",
+			"when second set is empty, iterates nothing;" +
+				"[t, E, q]; [];" +
+				"[]"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			@StringPairSet Set<Pair<String, String>> expected) {
+
+			final var product = new ProductSet<>(items1, items2);
+			final var pairs = new MutableSet<Pair<String, String>>();
+			final var returned = product.iterate((item1, item2) -> {
+				pairs.add(new Pair<>(item1, item2));
+			});
+
+			assertSame(product, returned);
+			assertEquals(expected, pairs,
+				format("%s.iterate(<collect pairs>)", product));
+		}
+	}
+
+	@DisplayName(".materialize()")
+	@Nested
+	class MaterializeTests {
+		@DisplayName("\uD83E\uDDF1")
+		@Tests({
+			"when both sets are not empty, returns set with all pairs;" +
+				"[t, E, q]; [q, E];" +
+				"[t:q, t:E, E:q, E:E, q:q, q:E]",
+			"when first set is empty, returns empty set;" +
+				"[]; [q, E];" +
+				"[]"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			@StringPairSet Set<Pair<String, String>> expected) {
+
+			final var product = new ProductSet<>(items1, items2);
+			final var materialized = product.materialize();
+
+			assertEquals(Set.class, materialized.getClass());
+			assertEquals(expected, materialized,
+				format("%s.materialize()", product));
+		}
+	}
+
+	@DisplayName(".subtract(Set<T>)")
+	@Nested
+	class SubtractTests {
+		@DisplayName("\uD83E\uDDFD")
+		@Tests({
+			"when argument set intersects product, returns remaining pairs;" +
+				"[t, E]; [q, E]; [t:q, E:E, q:q];" +
+				"[t:E, E:q]",
+			"when argument set is empty, returns all pairs;" +
+				"[t, E]; [q]; [];" +
+				"[t:q, E:q]"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			@StringPairSet Set<Pair<String, String>> items3,
+			@StringPairSet Set<Pair<String, String>> expected) {
+
+			final var product = new ProductSet<>(items1, items2);
+			final var difference = product.subtract(items3);
+
+			assertEquals(expected, difference,
+				format("%s.subtract(%s)", product, items3));
+		}
+	}
+
+	@DisplayName(".getDistinct()")
+	@Nested
+	class GetDistinctTests {
+		@DisplayName("\uD83D\uDC5B")
+		@Tests({
+			"returns itself;" +
+				"[t, E, q]; [e, g]"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2) {
+			final var product = new ProductSet<>(items1, items2);
+			assertSame(product, product.getDistinct(),
+				format("%s.getDistinct()", product));
+		}
+	}
+
+	@DisplayName(".convert(Function<Pair<T, R>, V>)")
+	@Nested
+	class ConvertTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when converted items repeat, returns set of distinct items;" +
+				"[t, E, q]; [e, g];" +
+				"[t, E, q]",
+			"when second set is empty, returns empty set;" +
+				"[t, E, q]; [];" +
+				"[]"
+		})
+		void test(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			@StringSet Set<String> expected) {
+
+			final var product = new ProductSet<>(items1, items2);
+			final var converted = product.convert((pair) -> pair.item1);
+
+			assertEquals(expected, converted,
+				format("%s.convert(<first item>)", product));
+		}
+	}
+}
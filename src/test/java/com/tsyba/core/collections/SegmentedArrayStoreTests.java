@@ -0,0 +1,232 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SegmentedArrayStoreTests {
+	/**
+	 * Returns a store with the specified items, kept in chunks of 4 items; when rotated,
+	 * prepends items, so that they wrap around the end of chunk arrays.
+	 */
+	private static SegmentedArrayStore store(String[] items, boolean rotated) {
+		final var store = new SegmentedArrayStore(2);
+		if (rotated) {
+			for (var index = items.length - 1; index >= 0; --index) {
+				store.insert(0, items[index]);
+			}
+		} else {
+			for (var item : items) {
+				store.append(item);
+			}
+		}
+
+		return store;
+	}
+
+	private static Object[] toArray(SegmentedArrayStore store) {
+		final var count = store.getCount();
+		return store.copyItems(0, count, count);
+	}
+
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("\uD83E\uDDED")
+		@Tests({
+			"when index is in first chunk, returns item at index;" +
+				"[g, e, Q, s, A, m, P]; false; 1;" +
+				"e",
+			"when index is in last chunk, returns item at index;" +
+				"[g, e, Q, s, A, m, P]; false; 5;" +
+				"m",
+			"when chunks are rotated, returns item at index;" +
+				"[g, e, Q, s, A, m, P]; true; 3;" +
+				"s"
+		})
+		void test(@StringArray String[] items, boolean rotated, int index, String expected) {
+			final var store = store(items, rotated);
+			assertEquals(expected, store.get(index),
+				format("%s.get(%d)", Arrays.toString(items), index));
+		}
+	}
+
+	@DisplayName(".insert(int, Object)")
+	@Nested
+	class InsertTests {
+		@DisplayName("\uD83D\uDCE5")
+		@Tests({
+			"when chunk is not full, inserts item;" +
+				"[g, e, Q, s, A]; 4; P;" +
+				"[g, e, Q, s, P, A]",
+			"when index is in first half of full chunk, inserts item;" +
+				"[g, e, Q, s, A]; 1; P;" +
+				"[g, P, e, Q, s, A]",
+			"when index is in second half of full chunk, inserts item;" +
+				"[g, e, Q, s, A]; 3; P;" +
+				"[g, e, Q, P, s, A]",
+			"when following chunks are full, inserts item;" +
+				"[g, e, Q, s, A, m, d, k]; 2; P;" +
+				"[g, e, P, Q, s, A, m, d, k]"
+		})
+		void test(@StringArray String[] items, int index, String item,
+			@StringArray String[] expected) {
+
+			final var store = store(items, false);
+			store.insert(index, item);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.insert(%d, %s)", Arrays.toString(items), index, item));
+		}
+	}
+
+	@DisplayName(".remove(int)")
+	@Nested
+	class RemoveTests {
+		@DisplayName("\uD83D\uDCE4")
+		@Tests({
+			"when index is in last chunk, removes item;" +
+				"[g, e, Q, s, A, m]; 5;" +
+				"[g, e, Q, s, A]",
+			"when index is in first half of full chunk, removes item;" +
+				"[g, e, Q, s, A, m]; 1;" +
+				"[g, Q, s, A, m]",
+			"when index is in second half of full chunk, removes item;" +
+				"[g, e, Q, s, A, m]; 2;" +
+				"[g, e, s, A, m]",
+			"when last chunk has single item, removes item;" +
+				"[g, e, Q, s, A]; 0;" +
+				"[e, Q, s, A]"
+		})
+		void test(@StringArray String[] items, int index, @StringArray String[] expected) {
+			final var store = store(items, false);
+			store.remove(index);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.remove(%d)", Arrays.toString(items), index));
+		}
+	}
+
+	@DisplayName(".remove(int, int)")
+	@Nested
+	class RemoveIndexRangeTests {
+		@DisplayName("✂️")
+		@Tests({
+			"when range spans chunks, removes items;" +
+				"[g, e, Q, s, A, m, d]; false; 2; 5;" +
+				"[g, e, m, d]",
+			"when range spans rotated chunks, removes items;" +
+				"[g, e, Q, s, A, m, d, k, W]; true; 1; 6;" +
+				"[g, d, k, W]",
+			"when range is at end, removes items;" +
+				"[g, e, Q, s, A, m, d]; false; 3; 7;" +
+				"[g, e, Q]",
+			"when range covers all items, removes them;" +
+				"[g, e, Q, s, A, m, d]; true; 0; 7;" +
+				"[]",
+			"when range is empty, does nothing;" +
+				"[g, e, Q, s, A, m, d]; false; 2; 2;" +
+				"[g, e, Q, s, A, m, d]"
+		})
+		void test(@StringArray String[] items, boolean rotated, int start, int end,
+			@StringArray String[] expected) {
+
+			final var store = store(items, rotated);
+			store.remove(start, end);
+
+			assertArrayEquals(expected, toArray(store),
+				format("%s.remove(%d, %d)", Arrays.toString(items), start, end));
+		}
+
+		@DisplayName("when ranges are random, keeps the same items as java.util.ArrayList")
+		@Tests({
+			"when chunks are rotated;" +
+				"true; 2000",
+			"when chunks are not rotated;" +
+				"false; 2000"
+		})
+		void testRandom(boolean rotated, int count) {
+			final var items = new String[count];
+			for (var index = 0; index < count; ++index) {
+				items[index] = String.valueOf(index);
+			}
+
+			final var store = store(items, rotated);
+			final var expected = new ArrayList<>(Arrays.asList(items));
+			final var random = new Random(count);
+
+			while (!expected.isEmpty()) {
+				final var start = random.nextInt(expected.size());
+				final var end = start + random.nextInt(Math.min(expected.size() - start, 50) + 1);
+
+				store.remove(start, end);
+				expected.subList(start, end)
+					.clear();
+
+				assertArrayEquals(expected.toArray(), toArray(store),
+					format("remove(%d, %d)", start, end));
+			}
+		}
+	}
+
+	@DisplayName(".find(Object)")
+	@Nested
+	class FindTests {
+		@DisplayName("\uD83D\uDD0E")
+		@Tests({
+			"when item is in later chunk, returns its index;" +
+				"[g, Q, s, A, e, m]; e;" +
+				"4",
+			"when item occurs many times, returns index of the first one;" +
+				"[g, e, Q, e, A, e]; e;" +
+				"1",
+			"when item is absent, returns -1;" +
+				"[g, e, Q, e, A]; P;" +
+				"-1"
+		})
+		void test(@StringArray String[] items, String item, int expected) {
+			final var store = store(items, false);
+			assertEquals(expected, store.find(item),
+				format("%s.find(%s)", Arrays.toString(items), item));
+		}
+	}
+
+	@DisplayName(".copy(int, int)")
+	@Nested
+	class CopyTests {
+		@DisplayName("\uD83E\uDE9F")
+		@Tests({
+			"when range spans chunks, returns items in range;" +
+				"[g, e, Q, s, A, m]; false; 1; 5;" +
+				"[e, Q, s, A]",
+			"when range spans rotated chunks, returns items in range;" +
+				"[g, e, Q, s, A, m, d, k, W]; true; 2; 9;" +
+				"[Q, s, A, m, d, k, W]",
+			"when range is in last chunk, returns items in range;" +
+				"[g, e, Q, s, A, m]; false; 4; 6;" +
+				"[A, m]"
+		})
+		void test(@StringArray String[] items, boolean rotated, int start, int end,
+			@StringArray String[] expected) {
+
+			final var store = store(items, rotated);
+			final var copy = store.copy(start, end);
+
+			assertArrayEquals(expected, toArray(copy),
+				format("%s.copy(%d, %d)", Arrays.toString(items), start, end));
+
+			// note: the copy must keep growing in chunks of the same size
+			copy.append("P");
+			assertEquals("P", copy.get(end - start),
+				format("%s.copy(%d, %d).append(P)", Arrays.toString(items), start, end));
+		}
+	}
+}
@@ -1,17 +1,22 @@
 package com.tsyba.core.collections;
 
 import com.tsyba.core.collections.converter.IntOptional;
+import com.tsyba.core.collections.converter.StringArray;
 import com.tsyba.core.collections.converter.StringMap;
 import com.tsyba.core.collections.converter.StringOptional;
+import com.tsyba.core.collections.converter.StringRandomAccessSequence;
 import com.tsyba.core.collections.converter.StringSequence;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SequenceTests {
 	@DisplayName(".getIndexRange()")
@@ -239,7 +244,29 @@ public class SequenceTests {
 		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 		void test(@StringSequence Sequence<String> items,
 			@StringOptional Optional<String> expected) {
+			test2(items, expected);
+		}
+
+		@DisplayName("when sequence is random access")
+		@Tests({
+			"when several items match, returns first matching item;" +
+				"[r, t, T, S, a, Q];" +
+				"T",
+			"when no item matches, returns empty optional;" +
+				"[g, m, i, s, d, q];" +
+				"null",
+			"when sequence is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+		void testRandomAccess(@StringRandomAccessSequence Sequence<String> items,
+			@StringOptional Optional<String> expected) {
+			test2(items, expected);
+		}
 
+		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+		private void test2(Sequence<String> items, Optional<String> expected) {
 			final var matched = items.matchFirst((item) -> {
 				return item.toUpperCase()
 					.equals(item);
@@ -299,7 +326,29 @@ public class SequenceTests {
 		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 		void test(@StringSequence Sequence<String> items,
 			@IntOptional Optional<Integer> expected) {
+			test2(items, expected);
+		}
 
+		@DisplayName("when sequence is random access")
+		@Tests({
+			"when item is present multiple times, returns its first index;" +
+				"[o, k, p, D, s, S, N];" +
+				"3",
+			"when item is absent, returns empty optional;" +
+				"[o, k, p, d, s, s, n];" +
+				"null",
+			"when sequence is empty, returns empty optional;" +
+				"[];" +
+				"null"
+		})
+		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+		void testRandomAccess(@StringRandomAccessSequence Sequence<String> items,
+			@IntOptional Optional<Integer> expected) {
+			test2(items, expected);
+		}
+
+		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+		private void test2(Sequence<String> items, Optional<Integer> expected) {
 			final var index = items.findFirst((item) ->
 				item.toUpperCase()
 					.equals(item));
@@ -327,6 +376,12 @@ public class SequenceTests {
 			"when argument sequence is absent, returns empty optional;" +
 				"[u, Y, k, L, m, n, F, s, d]; [L, m, N];" +
 				"null",
+			"when argument sequence is present partially at the end, returns empty optional;" +
+				"[u, Y, k, L, m]; [L, m, n];" +
+				"null",
+			"when argument sequence overlaps its partial occurrence, returns its index;" +
+				"[a, a, b, a, a, a, b, a, a, b]; [a, a, b, a, a, b];" +
+				"4",
 			"when argument sequence is empty, returns first index;" +
 				"[u, Y, k, L, m, n, F, s, d]; [];" +
 				"0"
@@ -375,7 +430,24 @@ public class SequenceTests {
 		})
 		void test(@StringSequence Sequence<String> items,
 			@StringMap Map<String, String> expected) {
+			test2(items, expected);
+		}
+
+		@DisplayName("when sequence is random access")
+		@Tests({
+			"when sequence is not empty, enumerates items;" +
+				"[g, U, m, I, l, M];" +
+				"[0:g, 1:U, 2:m, 3:I, 4:l, 5:M]",
+			"when sequence is empty, does nothing;" +
+				"[];" +
+				"[]"
+		})
+		void testRandomAccess(@StringRandomAccessSequence Sequence<String> items,
+			@StringMap Map<String, String> expected) {
+			test2(items, expected);
+		}
 
+		private void test2(Sequence<String> items, Map<String, String> expected) {
 			final var enumerated = new MutableMap<Integer, String>();
 			final var returned = items.enumerate(enumerated::set);
 
@@ -388,4 +460,90 @@ public class SequenceTests {
 				format("%s.enumerate(BiPredicate<Integer, T>)", items));
 		}
 	}
+
+	@DisplayName(".iterator(int)")
+	@Nested
+	class IteratorTests {
+		@DisplayName("when sequence is not empty")
+		@Tests({
+			"when index is within valid range, iterates items from index;" +
+				"[k, D, s, a, P, q]; 2;" +
+				"[s, a, P, q]; null",
+			"when index is before valid range, fails;" +
+				"[k, D, s, a, P, q]; -1;" +
+				"null; -1 ∉ [0, 6)",
+			"when index is after valid range, fails;" +
+				"[k, D, s, a, P, q]; 6;" +
+				"null; 6 ∉ [0, 6)"
+		})
+		void testNotEmpty(@StringSequence Sequence<String> items, int index,
+			@StringArray String[] expected1, @IndexRangeException Exception expected2) {
+			test(items, index, expected1, expected2);
+		}
+
+		@DisplayName("when sequence is random access")
+		@Tests({
+			"when index is within valid range, iterates items from index;" +
+				"[k, D, s, a, P, q]; 2;" +
+				"[s, a, P, q]; null",
+			"when index is right after valid range, iterates no items;" +
+				"[k, D, s, a, P, q]; 6;" +
+				"[]; null",
+			"when index is after valid range, fails;" +
+				"[k, D, s, a, P, q]; 7;" +
+				"null; 7 ∉ [0, 6)",
+			"when sequence is empty, iterates no items;" +
+				"[]; 0;" +
+				"[]; null"
+		})
+		void testRandomAccess(@StringRandomAccessSequence Sequence<String> items,
+			int index, @StringArray String[] expected1,
+			@IndexRangeException Exception expected2) {
+			test(items, index, expected1, expected2);
+		}
+
+		private void test(Sequence<String> items, int index, String[] expected1,
+			Exception expected2) {
+
+			try {
+				final var iterator = items.iterator(index);
+				final var iterated = new MutableList<String>();
+				iterator.forEachRemaining(iterated::append);
+
+				assertEquals(new List<>(expected1), iterated,
+					format("%s.iterator(%d)", items, index));
+				assertThrows(NoSuchElementException.class, iterator::next,
+					format("%s.iterator(%d)", items, index));
+			} catch (IndexNotInRangeException exception) {
+				if (expected2 == null) {
+					throw exception;
+				} else {
+					assertEquals(expected2, exception,
+						format("%s.iterator(%d)", items, index));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".toArray()")
+	@Nested
+	class ToArrayTests {
+		@DisplayName("when sequence is random access")
+		@Tests({
+			"when sequence is not empty, returns items in order;" +
+				"[t, W, a, m, Q];" +
+				"[t, W, a, m, Q]",
+			"when sequence is empty, returns empty array;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringRandomAccessSequence Sequence<String> items,
+			@StringArray String[] expected) {
+
+			assertArrayEquals(expected, items.toArray(),
+				format("%s.toArray()", items));
+			assertArrayEquals(expected, items.toArray(String[].class),
+				format("%s.toArray(String[].class)", items));
+		}
+	}
 }
@@ -8,10 +8,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SetTests {
 	@DisplayName("Set(Collection<T>)")
@@ -123,6 +127,91 @@ public class SetTests {
 		}
 	}
 
+	@DisplayName(".withBloomFilter(double)")
+	@Nested
+	class WithBloomFilterTests {
+		@DisplayName("\uD83E\uDDF1")
+		@Tests({
+			"when item is present, set contains item;" +
+				"[g, t, w, s, A, q]; w;" +
+				"true",
+			"when item is absent, set does not contain item;" +
+				"[g, t, w, s, A, q]; W;" +
+				"false",
+			"when set is empty, set does not contain item;" +
+				"[]; W;" +
+				"false"
+		})
+		void test(@StringSet Set<String> items, String item, boolean expected) {
+			final var filtered = items.withBloomFilter(0.01);
+			assertNotSame(items, filtered,
+				format("%s.withBloomFilter(0.01)", items));
+			assertEquals(Optional.empty(), items.getBloomFilter(),
+				format("%s.getBloomFilter()", items));
+
+			final var contains = filtered.contains(item);
+			assertEquals(expected, contains,
+				format("%s.contains(%s)", filtered, item));
+
+			final var filter = filtered.getBloomFilter()
+				.orElseThrow();
+			assertEquals(1, filter.getLookupCount(),
+				format("%s.getBloomFilter()", filtered));
+		}
+
+		@DisplayName("when set is shared between threads, counts all lookups")
+		@Tests({
+			"\uD83E\uDDF5;" +
+				"[g, t, w, s, A, q]; 100000"
+		})
+		void testConcurrentLookups(@StringSet Set<String> items, int count) {
+			final var filtered = items.withBloomFilter(0.01);
+			IntStream.range(0, count)
+				.parallel()
+				.forEach((index) -> filtered.contains(String.valueOf(index)));
+
+			final var filter = filtered.getBloomFilter()
+				.orElseThrow();
+			assertEquals(count, filter.getLookupCount(),
+				format("%s.getBloomFilter()", filtered));
+		}
+	}
+
+	@DisplayName(".withStatistics()")
+	@Nested
+	class WithStatisticsTests {
+		@DisplayName("\uD83D\uDCCA")
+		@Tests({
+			"when item is present, counts lookup;" +
+				"[g, t, w, s, A, q]; w;" +
+				"true",
+			"when item is absent, counts lookup;" +
+				"[g, t, w, s, A, q]; W;" +
+				"false",
+			"when set is empty, counts lookup;" +
+				"[]; W;" +
+				"false"
+		})
+		void test(@StringSet Set<String> items, String item, boolean expected) {
+			final var measured = items.withStatistics();
+			assertNotSame(items, measured,
+				format("%s.withStatistics()", items));
+			assertTrue(items.getStatistics().isEmpty(),
+				format("%s.getStatistics()", items));
+
+			final var contains = measured.contains(item);
+			assertEquals(expected, contains,
+				format("%s.contains(%s)", measured, item));
+
+			final var statistics = measured.getStatistics()
+				.orElseThrow();
+			assertEquals(1, statistics.getLookupCount(),
+				format("%s.getStatistics()", measured));
+			assertEquals(items.getCount(), statistics.getEntryCount(),
+				format("%s.getStatistics()", measured));
+		}
+	}
+
 	@DisplayName(".isDisjoint(Set<T>)")
 	@Nested
 	class IsDisjointTests {
@@ -337,6 +426,29 @@ public class SetTests {
 			test(items1, items2, expected);
 		}
 
+		@DisplayName("when set has bloom filter and statistics, returns difference set without them")
+		@Tests({
+			"when argument set is smaller;" +
+				"[t, E, q, v, b, 0]; [P, E];" +
+				"[t, q, v, b, 0]",
+			"when argument set is larger;" +
+				"[t, E, q]; [P, z, E, v, b];" +
+				"[t, q]"
+		})
+		void testSettings(@StringSet Set<String> items1, @StringSet Set<String> items2,
+			@StringSet Set<String> expected) {
+
+			final var items3 = items1.withBloomFilter(0.01)
+				.withStatistics();
+			final var difference = items3.subtract(items2);
+
+			test(items3, items2, expected);
+			assertTrue(difference.getBloomFilter().isEmpty(),
+				format("%s.subtract(%s).getBloomFilter()", items3, items2));
+			assertTrue(difference.getStatistics().isEmpty(),
+				format("%s.subtract(%s).getStatistics()", items3, items2));
+		}
+
 		private void test(Set<String> items1, Set<String> items2, Set<String> expected) {
 			final var difference = items1.subtract(items2);
 			assertEquals(expected, difference,
@@ -427,7 +539,7 @@ public class SetTests {
 
 		private void test(Set<String> items1, Set<String> items2, Set<Pair<String, String>> expected) {
 			final var product = items1.multiply(items2);
-			assertEquals(expected, product,
+			assertEquals(expected, product.materialize(),
 				format("%s.multiply(%s)", items1, items2));
 		}
 	}
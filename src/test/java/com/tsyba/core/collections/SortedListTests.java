@@ -0,0 +1,315 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.IntOptional;
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringCollection;
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SortedListTests {
+	private static final Comparator<String> comparator = Comparator.naturalOrder();
+
+	@DisplayName("SortedList(Comparator<T>, T...)")
+	@Nested
+	class NewWithVarargsTests {
+		@DisplayName("\uD83D\uDCDA")
+		@Tests({
+			"when no items are null, creates sorted list;" +
+				"[k, M, s, A, 8, d, q];" +
+				"[8, A, M, d, k, q, s]",
+			"when some items are null, creates sorted list with non-null items;" +
+				"[k, null, s, A, null, d];" +
+				"[A, d, k, s]",
+			"when there are no items, creates empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringArray String[] items, @StringList List<String> expected) {
+			final var sorted = new SortedList<>(comparator, items);
+			assertEquals(expected, sorted,
+				format("SortedList(Comparator<T>, %s)", new List<>(items)));
+			assertSame(comparator, sorted.getComparator());
+		}
+	}
+
+	@DisplayName("SortedList(Comparator<T>, Collection<T>)")
+	@Nested
+	class NewWithCollectionTests {
+		@DisplayName("\uD83D\uDCDA")
+		@Tests({
+			"when collection is not empty, creates sorted list;" +
+				"[k, M, s, A, 8, d, q];" +
+				"[8, A, M, d, k, q, s]",
+			"when collection is empty, creates empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringCollection Collection<String> items,
+			@StringList List<String> expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			assertEquals(expected, sorted,
+				format("SortedList(Comparator<T>, %s)", items));
+		}
+	}
+
+	@DisplayName(".contains(T)")
+	@Nested
+	class ContainsTests {
+		@DisplayName("\uD83D\uDD0D")
+		@Tests({
+			"when item is present, returns true;" +
+				"[k, M, s, A, 8, d, q]; d;" +
+				"true",
+			"when item is smallest, returns true;" +
+				"[k, M, s, A, 8, d, q]; 8;" +
+				"true",
+			"when item is largest, returns true;" +
+				"[k, M, s, A, 8, d, q]; s;" +
+				"true",
+			"when item is absent, returns false;" +
+				"[k, M, s, A, 8, d, q]; e;" +
+				"false",
+			"when item is greater than all items, returns false;" +
+				"[k, M, s, A, 8, d, q]; z;" +
+				"false",
+			"when item is null, returns false;" +
+				"[k, M, s, A, 8, d, q]; null;" +
+				"false",
+			"when list is empty, returns false;" +
+				"[]; d;" +
+				"false"
+		})
+		void test(@StringList List<String> items, String item, boolean expected) {
+			final var sorted = new SortedList<>(comparator, items);
+			final var contains = sorted.contains(item);
+
+			assertEquals(expected, contains,
+				format("%s.contains(%s)", sorted, item));
+		}
+	}
+
+	@DisplayName(".findFirst(T)")
+	@Nested
+	class FindFirstTests {
+		@DisplayName("\uD83D\uDD26")
+		@Tests({
+			"when item occurs once, returns its index;" +
+				"[k, M, s, A, 8, d, q]; d;" +
+				"3",
+			"when item occurs many times, returns index of the first one;" +
+				"[k, M, k, A, d, k, q]; k;" +
+				"3",
+			"when item is absent, returns empty optional;" +
+				"[k, M, k, A, d, k, q]; e;" +
+				"null",
+			"when item is null, returns empty optional;" +
+				"[k, M, k, A, d, k, q]; null;" +
+				"null",
+			"when list is empty, returns empty optional;" +
+				"[]; d;" +
+				"null"
+		})
+		@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+		void test(@StringList List<String> items, String item,
+			@IntOptional Optional<Integer> expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			final var index = sorted.findFirst(item);
+
+			assertEquals(expected, index,
+				format("%s.findFirst(%s)", sorted, item));
+		}
+	}
+
+	@DisplayName(".findAll(T)")
+	@Nested
+	class FindAllTests {
+		@DisplayName("\uD83D\uDD26")
+		@Tests({
+			"when item occurs many times, returns indexes of all of them;" +
+				"[k, M, k, A, d, k, q]; k;" +
+				"[3, 4, 5]",
+			"when item occurs once, returns its index;" +
+				"[k, M, k, A, d, k, q]; q;" +
+				"[6]",
+			"when item is absent, returns empty list;" +
+				"[k, M, k, A, d, k, q]; e;" +
+				"[]",
+			"when list is empty, returns empty list;" +
+				"[]; d;" +
+				"[]"
+		})
+		void test(@StringList List<String> items, String item,
+			@IntList List<Integer> expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			final var indexes = sorted.findAll(item);
+
+			assertEquals(expected, indexes,
+				format("%s.findAll(%s)", sorted, item));
+		}
+	}
+
+	@DisplayName(".findRange(T)")
+	@Nested
+	class FindRangeTests {
+		@DisplayName("\uD83D\uDCD0")
+		@Tests({
+			"when item occurs many times, returns range of all of them;" +
+				"[k, M, k, A, d, k, q]; k;" +
+				"[3, 6]",
+			"when item occurs once, returns range of it;" +
+				"[k, M, k, A, d, k, q]; A;" +
+				"[0, 1]",
+			"when item is absent, returns empty range;" +
+				"[k, M, k, A, d, k, q]; e;" +
+				"[0, 0]",
+			"when item is null, returns empty range;" +
+				"[k, M, k, A, d, k, q]; null;" +
+				"[0, 0]",
+			"when list is empty, returns empty range;" +
+				"[]; d;" +
+				"[0, 0]"
+		})
+		void test(@StringList List<String> items, String item,
+			@IntRange IndexRange expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			final var range = sorted.findRange(item);
+
+			assertEquals(expected, range,
+				format("%s.findRange(%s)", sorted, item));
+		}
+	}
+
+	@DisplayName(".findRange(T, T)")
+	@Nested
+	class FindRangeBetweenTests {
+		@DisplayName("\uD83D\uDCD0")
+		@Tests({
+			"when items are between bounds, returns their range;" +
+				"[k, M, s, A, 8, d, q]; b; m;" +
+				"[3, 5]",
+			"when bounds are items, includes the lower one only;" +
+				"[k, M, s, A, 8, d, q]; A; k;" +
+				"[1, 4]",
+			"when bounds include all items, returns full range;" +
+				"[k, M, s, A, 8, d, q]; 0; z;" +
+				"[0, 7]",
+			"when no items are between bounds, returns empty range;" +
+				"[k, M, s, A, 8, d, q]; e; h;" +
+				"[0, 0]",
+			"when lower bound is greater than upper one, returns empty range;" +
+				"[k, M, s, A, 8, d, q]; m; b;" +
+				"[0, 0]",
+			"when lower bound is null, returns empty range;" +
+				"[k, M, s, A, 8, d, q]; null; m;" +
+				"[0, 0]",
+			"when upper bound is null, returns empty range;" +
+				"[k, M, s, A, 8, d, q]; b; null;" +
+				"[0, 0]",
+			"when list is empty, returns empty range;" +
+				"[]; b; m;" +
+				"[0, 0]"
+		})
+		void test(@StringList List<String> items, String from, String to,
+			@IntRange IndexRange expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			final var range = sorted.findRange(from, to);
+
+			assertEquals(expected, range,
+				format("%s.findRange(%s, %s)", sorted, from, to));
+		}
+	}
+
+	@DisplayName(".getRange(T, T)")
+	@Nested
+	class GetRangeTests {
+		@DisplayName("\uD83D\uDCD0")
+		@Tests({
+			"when items are between bounds, returns them;" +
+				"[k, M, s, A, 8, d, q]; b; m;" +
+				"[d, k]",
+			"when bounds are items, includes the lower one only;" +
+				"[k, M, s, A, 8, d, q]; A; k;" +
+				"[A, M, d]",
+			"when no items are between bounds, returns empty list;" +
+				"[k, M, s, A, 8, d, q]; e; h;" +
+				"[]",
+			"when either bound is null, returns empty list;" +
+				"[k, M, s, A, 8, d, q]; null; m;" +
+				"[]",
+			"when list is empty, returns empty list;" +
+				"[]; b; m;" +
+				"[]"
+		})
+		void test(@StringList List<String> items, String from, String to,
+			@StringList List<String> expected) {
+
+			final var sorted = new SortedList<>(comparator, items);
+			final var range = sorted.getRange(from, to);
+
+			assertEquals(expected, range,
+				format("%s.getRange(%s, %s)", sorted, from, to));
+			assertSame(comparator, range.getComparator());
+		}
+	}
+
+	@DisplayName(".matchAll(Predicate<T>)")
+	@Nested
+	class MatchAllTests {
+		@DisplayName("\uD83C\uDFAF")
+		@Tests({
+			"when some items match, returns sorted matching items;" +
+				"[k, M, s, A, 8, d, q];" +
+				"[d, k, q, s]",
+			"when list is empty, returns empty list;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringList List<String> items, @StringList List<String> expected) {
+			final var sorted = new SortedList<>(comparator, items);
+			final var matches = sorted.matchAll((item) -> {
+				return item.toLowerCase()
+					.equals(item) && Character.isLetter(item.charAt(0));
+			});
+
+			assertEquals(expected, matches,
+				format("%s.matchAll(Predicate<T>)", sorted));
+			assertSame(comparator, matches.getComparator());
+		}
+	}
+
+	@DisplayName("when list is large, finds items like a linear scan")
+	@Test
+	void testLarge() {
+		final var random = new Random(13);
+		final var items = new Integer[10000];
+		for (var index = 0; index < items.length; ++index) {
+			items[index] = random.nextInt(2000);
+		}
+
+		final var sorted = new SortedList<Integer>(Integer::compareTo, items);
+		final var list = new List<>(sorted);
+
+		for (var item = -1; item <= 2000; ++item) {
+			assertEquals(list.findFirst(item), sorted.findFirst(item),
+				format("<10000 items>.findFirst(%d)", item));
+			assertEquals(list.findAll(item), sorted.findAll(item),
+				format("<10000 items>.findAll(%d)", item));
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingTests {
+	@DisplayName("SpaceSaving(int)")
+	@Nested
+	class NewTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when capacity is 0, throws IllegalArgumentException;" +
+				"0",
+			"when capacity is negative, throws IllegalArgumentException;" +
+				"-4"
+		})
+		void test(int capacity) {
+			assertThrows(IllegalArgumentException.class,
+				() -> new SpaceSaving<>(capacity),
+				format("new SpaceSaving(%d)", capacity));
+		}
+	}
+
+	@DisplayName(".getMostFrequent()")
+	@Nested
+	class GetMostFrequentTests {
+		@DisplayName("when sketch tracks all items")
+		@Tests({
+			"when items are repeated, returns exact counts in descending order;" +
+				"[a, b, a, c, a, b]; 4;" +
+				"[a, b, c]; [3, 2, 1]",
+			"when no items are added, returns empty list;" +
+				"[]; 4;" +
+				"[]; []"
+		})
+		void testExact(@StringArray String[] items, int capacity,
+			@StringList List<String> expectedItems, @IntList List<Integer> expectedCounts) {
+
+			final var sketch = new SpaceSaving<String>(capacity);
+			for (var item : items) {
+				sketch.add(item);
+			}
+
+			final var estimates = sketch.getMostFrequent();
+			assertEquals(expectedItems, estimates.convert((estimate) -> estimate.item),
+				format("%s.getMostFrequent()", sketch));
+			assertEquals(expectedCounts, estimates.convert((estimate) -> (int) estimate.count),
+				format("%s.getMostFrequent()", sketch));
+		}
+
+		@DisplayName("when sketch tracks some items")
+		@Tests({
+			"when capacity is small, returns frequent items within error;" +
+				"10",
+			"when capacity is large, returns frequent items within error;" +
+				"100"
+		})
+		void testApproximate(int capacity) {
+			final var sketch = new SpaceSaving<Integer>(capacity);
+			final var counts = new int[1000];
+			final var random = new Random(capacity);
+
+			// item frequencies follow a skewed distribution, where item i
+			// occurs about 1 / (i + 1) times as often as item 0
+			for (var index = 0; index < 100000; ++index) {
+				final var item = (int) Math.pow(1000, random.nextDouble()) - 1;
+				sketch.add(item);
+				++counts[item];
+			}
+
+			final var bound = sketch.getTotalCount() / capacity;
+			final var estimates = sketch.getMostFrequent();
+
+			for (var estimate : estimates) {
+				final var count = counts[estimate.item];
+				assertTrue(estimate.count - estimate.error <= count && count <= estimate.count,
+					format("%s does not bound actual count %d", estimate, count));
+				assertTrue(estimate.error <= bound,
+					format("%s exceeds error bound %d", estimate, bound));
+			}
+			for (var item = 0; item < counts.length; ++item) {
+				if (counts[item] > bound) {
+					final var item2 = item;
+					assertTrue(estimates.anyMatches((estimate) -> estimate.item == item2),
+						format("%s does not contain item %d with count %d", estimates, item, counts[item]));
+				}
+			}
+		}
+	}
+
+	@DisplayName(".getMostFrequent(int)")
+	@Nested
+	class GetMostFrequentCountTests {
+		@DisplayName("\uD83E\uDD47")
+		@Tests({
+			"when count is less than tracked item count, returns most frequent items;" +
+				"[a, b, a, c, a, b]; 2;" +
+				"[a, b]",
+			"when count exceeds tracked item count, returns all tracked items;" +
+				"[a, b, a, c, a, b]; 10;" +
+				"[a, b, c]",
+			"when count is 0, returns empty list;" +
+				"[a, b, a, c, a, b]; 0;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, int count, @StringList List<String> expected) {
+			final var sketch = new SpaceSaving<String>(4);
+			for (var item : items) {
+				sketch.add(item);
+			}
+
+			final var estimates = sketch.getMostFrequent(count);
+			assertEquals(expected, estimates.convert((estimate) -> estimate.item),
+				format("%s.getMostFrequent(%d)", sketch, count));
+		}
+	}
+
+	@DisplayName(".add(T, long)")
+	@Nested
+	class AddCountTests {
+		@DisplayName("when sketch is full, replaces item with the smallest count")
+		@Tests({
+			"when new item is added once, bounds its error by replaced count;" +
+				"[a, a, a, b, b, c]; d; 1;" +
+				"2; 1",
+			"when new item is added many times, bounds its error by replaced count;" +
+				"[a, a, a, b, b, c]; d; 5;" +
+				"6; 1"
+		})
+		void test(@StringArray String[] items, String item, long count,
+			long expectedCount, long expectedError) {
+
+			final var sketch = new SpaceSaving<String>(3);
+			for (var item2 : items) {
+				sketch.add(item2);
+			}
+
+			sketch.add(item, count);
+			final var estimate = sketch.getEstimate(item);
+
+			assertEquals(expectedCount, estimate.count,
+				format("%s.add(%s, %d)", sketch, item, count));
+			assertEquals(expectedError, estimate.error,
+				format("%s.add(%s, %d)", sketch, item, count));
+		}
+
+		@DisplayName("when count is negative, throws IllegalArgumentException")
+		@Tests({
+			"\uD83E\uDDE8;" +
+				"a; -1"
+		})
+		void testNegative(String item, long count) {
+			final var sketch = new SpaceSaving<String>(3);
+			assertThrows(IllegalArgumentException.class,
+				() -> sketch.add(item, count),
+				format("%s.add(%s, %d)", sketch, item, count));
+		}
+	}
+
+	@DisplayName(".merge(SpaceSaving<T>)")
+	@Nested
+	class MergeTests {
+		@DisplayName("when sketches track all items, returns exact counts")
+		@Tests({
+			"when sketches share items, sums counts;" +
+				"[a, b, a, c]; [a, d, d, c];" +
+				"[a, d, c, b]; [3, 2, 2, 1]",
+			"when one sketch is empty, keeps counts;" +
+				"[a, b, a, c]; [];" +
+				"[a, b, c]; [2, 1, 1]"
+		})
+		void testExact(@StringArray String[] items1, @StringArray String[] items2,
+			@StringList List<String> expectedItems, @IntList List<Integer> expectedCounts) {
+
+			final var sketch1 = new SpaceSaving<String>(8);
+			final var sketch2 = new SpaceSaving<String>(8);
+			for (var item : items1) {
+				sketch1.add(item);
+			}
+			for (var item : items2) {
+				sketch2.add(item);
+			}
+
+			sketch1.merge(sketch2);
+			final var estimates = sketch1.getMostFrequent();
+
+			assertEquals(expectedCounts, estimates.convert((estimate) -> (int) estimate.count),
+				format("%s.merge(%s)", sketch1, sketch2));
+			assertEquals(new Set<>(expectedItems), new Set<>(estimates.convert((estimate) -> estimate.item)),
+				format("%s.merge(%s)", sketch1, sketch2));
+		}
+
+		@DisplayName("when sketches track some items, returns counts within error")
+		@Tests({
+			"when shards are skewed differently;" +
+				"20"
+		})
+		void testApproximate(int capacity) {
+			final var sketch1 = new SpaceSaving<Integer>(capacity);
+			final var sketch2 = new SpaceSaving<Integer>(capacity);
+			final var counts = new int[1000];
+			final var random = new Random(capacity);
+
+			for (var index = 0; index < 50000; ++index) {
+				final var item1 = (int) Math.pow(1000, random.nextDouble()) - 1;
+				final var item2 = 999 - ((int) Math.pow(1000, random.nextDouble()) - 1);
+
+				sketch1.add(item1);
+				sketch2.add(item2);
+				++counts[item1];
+				++counts[item2];
+			}
+
+			sketch1.merge(sketch2);
+			assertEquals(100000, sketch1.getTotalCount());
+
+			final var bound = sketch1.getTotalCount() / capacity;
+			for (var estimate : sketch1.getMostFrequent()) {
+				final var count = counts[estimate.item];
+				assertTrue(estimate.count - estimate.error <= count && count <= estimate.count,
+					format("%s does not bound actual count %d", estimate, count));
+				assertTrue(estimate.error <= bound,
+					format("%s exceeds error bound %d", estimate, bound));
+			}
+		}
+	}
+}
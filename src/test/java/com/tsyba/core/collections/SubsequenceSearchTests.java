@@ -0,0 +1,149 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.StringArray;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SubsequenceSearchTests {
+	@DisplayName(".findAfter(Object[], int, int)")
+	@Nested
+	class FindAfterTests {
+		@DisplayName("\uD83D\uDD1C")
+		@Tests({
+			"when pattern is short and present after start, returns its index;" +
+				"[a, b, a, b, c, a, b, c]; [a, b, c]; 1; 8;" +
+				"2",
+			"when pattern is short and present past end only, returns -1;" +
+				"[a, b, a, b, c, a, b, c]; [a, b, c]; 0; 4;" +
+				"-1",
+			"when pattern is long and present, returns its index;" +
+				"[x, a, b, c, d, e, f, g, h, a, b, c, d, e, f, g, h]; [a, b, c, d, e, f, g, h]; 2; 17;" +
+				"9",
+			"when pattern is long and absent, returns -1;" +
+				"[x, a, b, c, d, e, f, g, h, a, b, c, d, e, f, g]; [a, b, c, d, e, f, g, h]; 2; 16;" +
+				"-1",
+			"when pattern is empty, returns start;" +
+				"[a, b, c]; []; 1; 3;" +
+				"1",
+			"when start is after end, returns -1;" +
+				"[a, b, c]; [b]; 5; 3;" +
+				"-1"
+		})
+		void test(@StringArray String[] items, @StringArray String[] pattern, int start,
+			int end, int expected) {
+
+			final var search = new SubsequenceSearch(pattern);
+			assertEquals(expected, search.findAfter(items, start, end),
+				format("%s.findAfter(%s, %d, %d)", Arrays.toString(pattern),
+					Arrays.toString(items), start, end));
+		}
+	}
+
+	@DisplayName(".findBefore(Object[], int, int)")
+	@Nested
+	class FindBeforeTests {
+		@DisplayName("\uD83D\uDD19")
+		@Tests({
+			"when pattern is present before end, returns index of its last occurrence;" +
+				"[a, b, c, a, b, c, a, b]; [a, b, c]; 0; 8;" +
+				"3",
+			"when pattern is present after start only partially, returns -1;" +
+				"[a, b, c, a, b, c, a, b]; [a, b, c]; 4; 8;" +
+				"-1",
+			"when pattern is long and present, returns index of its last occurrence;" +
+				"[a, b, c, d, e, f, g, h, a, b, c, d, e, f, g, h, x]; [a, b, c, d, e, f, g, h]; 0; 17;" +
+				"8",
+			"when there are fewer items than pattern length, returns -1;" +
+				"[a, b, c]; [a, b, c]; 0; 2;" +
+				"-1"
+		})
+		void test(@StringArray String[] items, @StringArray String[] pattern, int start,
+			int end, int expected) {
+
+			final var search = new SubsequenceSearch(pattern);
+			assertEquals(expected, search.findBefore(items, start, end),
+				format("%s.findBefore(%s, %d, %d)", Arrays.toString(pattern),
+					Arrays.toString(items), start, end));
+		}
+	}
+
+	@DisplayName(".findAll(Object[], int, int)")
+	@Nested
+	class FindAllTests {
+		@DisplayName("\uD83D\uDD0D")
+		@Tests({
+			"when pattern is short and overlaps itself, returns all its indexes;" +
+				"[a, a, a, a, b]; [a, a]; 0; 5;" +
+				"[0, 1, 2]",
+			"when range does not start at 0, returns indexes relative to range start;" +
+				"[b, a, b, a, b]; [a, b]; 1; 5;" +
+				"[0, 2]",
+			"when pattern is empty, returns all indexes in range;" +
+				"[b, a, b, a, b]; []; 2; 5;" +
+				"[0, 1, 2]"
+		})
+		void test(@StringArray String[] items, @StringArray String[] pattern, int start,
+			int end, @IntList List<Integer> expected) {
+
+			final var search = new SubsequenceSearch(pattern);
+			assertEquals(expected, search.findAll(items, start, end),
+				format("%s.findAll(%s, %d, %d)", Arrays.toString(pattern),
+					Arrays.toString(items), start, end));
+		}
+
+		@DisplayName("when items are random, finds the same indexes as a naive search")
+		@Tests({
+			"when pattern is short;" +
+				"3; 2",
+			"when pattern is as long as Horspool pattern length;" +
+				"8; 2",
+			"when pattern is long, and items come from a large alphabet;" +
+				"20; 16"
+		})
+		void testRandom(int patternLength, int alphabetSize) {
+			final var random = new Random(patternLength);
+			for (var round = 0; round < 200; ++round) {
+				final var items = new Integer[random.nextInt(200)];
+				for (var index = 0; index < items.length; ++index) {
+					items[index] = random.nextInt(alphabetSize);
+				}
+
+				final var pattern = new Integer[patternLength];
+				for (var index = 0; index < pattern.length; ++index) {
+					pattern[index] = random.nextInt(alphabetSize);
+				}
+				if (items.length >= patternLength && random.nextBoolean()) {
+					// plant an occurrence
+					final var start = random.nextInt(items.length - patternLength + 1);
+					System.arraycopy(pattern, 0, items, start, patternLength);
+				}
+
+				final var expected = new MutableList<Integer>();
+				for (var index = 0; index + patternLength <= items.length; ++index) {
+					if (Arrays.equals(items, index, index + patternLength,
+						pattern, 0, patternLength)) {
+						expected.append(index);
+					}
+				}
+
+				final var search = new SubsequenceSearch(pattern);
+				final var description = format("%s in %s", Arrays.toString(pattern),
+					Arrays.toString(items));
+
+				assertEquals(expected, search.findAll(items, 0, items.length),
+					description);
+				assertEquals(expected.getFirst().orElse(-1),
+					search.findAfter(items, 0, items.length), description);
+				assertEquals(expected.getLast().orElse(-1),
+					search.findBefore(items, 0, items.length), description);
+			}
+		}
+	}
+}
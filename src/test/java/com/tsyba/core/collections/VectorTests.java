@@ -0,0 +1,385 @@
+package com.tsyba.core.collections;
+
+import com.tsyba.core.collections.converter.IntList;
+import com.tsyba.core.collections.converter.StringArray;
+import com.tsyba.core.collections.converter.StringList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VectorTests {
+	/**
+	 * Returns a vector with the specified number of integers starting from 0, built by
+	 * appending them one by one.
+	 */
+	private static Vector<Integer> range(int count) {
+		var vector = new Vector<Integer>();
+		for (var item = 0; item < count; ++item) {
+			vector = vector.appended(item);
+		}
+
+		return vector;
+	}
+
+	@DisplayName("Vector(T...)")
+	@Nested
+	class NewTests {
+		@DisplayName("\uD83E\uDDEA")
+		@Tests({
+			"when items are not null, creates vector with items;" +
+				"[g, e, Q, s];" +
+				"[g, e, Q, s]",
+			"when some items are null, ignores them;" +
+				"[g, null, Q, null];" +
+				"[g, Q]",
+			"when there are no items, creates empty vector;" +
+				"[];" +
+				"[]"
+		})
+		void test(@StringArray String[] items, @StringList List<String> expected) {
+			final var vector = new Vector<>(items);
+			assertEquals(expected, new List<>(vector),
+				format("new Vector(%s)", String.join(", ", items)));
+		}
+	}
+
+	@DisplayName(".get(int)")
+	@Nested
+	class GetTests {
+		@DisplayName("when index is in range, returns item at index")
+		@Tests({
+			"when vector has a single chunk;" +
+				"20",
+			"when vector has many levels;" +
+				"50000"
+		})
+		void test(int count) {
+			final var vector = range(count);
+			for (var index = 0; index < count; ++index) {
+				assertEquals(index, vector.get(index),
+					format("vector.get(%d)", index));
+			}
+		}
+
+		@DisplayName("when index is out of range, throws IndexNotInRangeException")
+		@Tests({
+			"when index is negative;" +
+				"100; -1",
+			"when index equals item count;" +
+				"100; 100",
+			"when vector is empty;" +
+				"0; 0"
+		})
+		void testOutOfRange(int count, int index) {
+			final var vector = range(count);
+			assertThrows(IndexNotInRangeException.class,
+				() -> vector.get(index),
+				format("%s.get(%d)", vector, index));
+		}
+	}
+
+	@DisplayName(".appended(T)")
+	@Nested
+	class AppendedTests {
+		@DisplayName("\uD83D\uDD1A")
+		@Tests({
+			"when vector is not empty, returns vector with item at the end;" +
+				"[g, e, Q]; s;" +
+				"[g, e, Q, s]",
+			"when vector is empty, returns vector with item;" +
+				"[]; s;" +
+				"[s]"
+		})
+		void test(@StringArray String[] items, String item, @StringList List<String> expected) {
+			final var vector = new Vector<>(items);
+			final var appended = vector.appended(item);
+
+			assertEquals(expected, new List<>(appended),
+				format("%s.appended(%s)", vector, item));
+			assertEquals(items.length, vector.getCount(),
+				format("%s.appended(%s) changed vector", vector, item));
+		}
+
+		@DisplayName("when item is null, returns the same vector")
+		@Tests({
+			"\uD83D\uDEAB;" +
+				"[g, e, Q]"
+		})
+		void testNull(@StringArray String[] items) {
+			final var vector = new Vector<>(items);
+			assertSame(vector, vector.appended(null));
+		}
+	}
+
+	@DisplayName(".prepended(T)")
+	@Nested
+	class PrependedTests {
+		@DisplayName("\uD83D\uDD1D")
+		@Tests({
+			"when vector is not empty, returns vector with item at the beginning;" +
+				"[g, e, Q]; s;" +
+				"[s, g, e, Q]",
+			"when vector is empty, returns vector with item;" +
+				"[]; s;" +
+				"[s]"
+		})
+		void test(@StringArray String[] items, String item, @StringList List<String> expected) {
+			final var vector = new Vector<>(items);
+			assertEquals(expected, new List<>(vector.prepended(item)),
+				format("%s.prepended(%s)", vector, item));
+		}
+
+		@DisplayName("when many items are prepended, keeps their order")
+		@Tests({
+			"\uD83D\uDCDA;" +
+				"5000"
+		})
+		void testMany(int count) {
+			var vector = new Vector<Integer>();
+			for (var item = count - 1; item >= 0; --item) {
+				vector = vector.prepended(item);
+			}
+
+			assertEquals(range(count), vector);
+		}
+	}
+
+	@DisplayName(".concat(Vector<T>)")
+	@Nested
+	class ConcatTests {
+		@DisplayName("\uD83D\uDD17")
+		@Tests({
+			"when both vectors are small;" +
+				"10; 20",
+			"when left vector is taller;" +
+				"40000; 100",
+			"when right vector is taller;" +
+				"100; 40000",
+			"when vectors are of equal height;" +
+				"3000; 5000",
+			"when left vector is empty;" +
+				"0; 100",
+			"when right vector is empty;" +
+				"100; 0"
+		})
+		void test(int count1, int count2) {
+			final var vector1 = range(count1);
+			final var vector2 = range(count2)
+				.convert((item) -> item + count1);
+
+			assertEquals(range(count1 + count2), vector1.concat(vector2));
+		}
+	}
+
+	@DisplayName(".get(IndexRange)")
+	@Nested
+	class GetIndexRangeTests {
+		@DisplayName("when range is valid, returns items in range")
+		@Tests({
+			"when range is within a chunk;" +
+				"10000; 40; 50",
+			"when range spans many chunks;" +
+				"10000; 17; 9001",
+			"when range is empty;" +
+				"10000; 300; 300",
+			"when range is whole vector;" +
+				"10000; 0; 10000"
+		})
+		void test(int count, int start, int end) {
+			final var vector = range(count);
+			final var range = new IndexRange(start, end);
+			final var slice = vector.get(range);
+
+			assertEquals(end - start, slice.getCount(),
+				format("vector.get(%s).getCount()", range));
+			for (var index = 0; index < slice.getCount(); ++index) {
+				assertEquals(start + index, slice.get(index),
+					format("vector.get(%s).get(%d)", range, index));
+			}
+		}
+
+		@DisplayName("when range is out of range, throws IndexRangeNotInRangeException")
+		@Tests({
+			"\uD83E\uDDE8;" +
+				"100; 50; 101"
+		})
+		void testOutOfRange(int count, int start, int end) {
+			final var vector = range(count);
+			final var range = new IndexRange(start, end);
+
+			assertThrows(IndexRangeNotInRangeException.class,
+				() -> vector.get(range),
+				format("vector.get(%s)", range));
+		}
+	}
+
+	@DisplayName(".updated(int, T)")
+	@Nested
+	class UpdatedTests {
+		@DisplayName("✏️")
+		@Tests({
+			"when index is first, replaces first item;" +
+				"[g, e, Q]; 0; s;" +
+				"[s, e, Q]",
+			"when index is last, replaces last item;" +
+				"[g, e, Q]; 2; s;" +
+				"[g, e, s]"
+		})
+		void test(@StringArray String[] items, int index, String item,
+			@StringList List<String> expected) {
+
+			final var vector = new Vector<>(items);
+			final var updated = vector.updated(index, item);
+
+			assertEquals(expected, new List<>(updated),
+				format("%s.updated(%d, %s)", vector, index, item));
+			assertEquals(new List<>(items), new List<>(vector),
+				format("%s.updated(%d, %s) changed vector", vector, index, item));
+		}
+	}
+
+	@DisplayName(".inserted(int, T)")
+	@Nested
+	class InsertedTests {
+		@DisplayName("\uD83D\uDCE5")
+		@Tests({
+			"when index is in the middle, inserts item;" +
+				"[g, e, Q]; 1; s;" +
+				"[g, s, e, Q]",
+			"when index is 0, inserts item first;" +
+				"[g, e, Q]; 0; s;" +
+				"[s, g, e, Q]"
+		})
+		void test(@StringArray String[] items, int index, String item,
+			@StringList List<String> expected) {
+
+			final var vector = new Vector<>(items);
+			assertEquals(expected, new List<>(vector.inserted(index, item)),
+				format("%s.inserted(%d, %s)", vector, index, item));
+		}
+	}
+
+	@DisplayName(".removed(int)")
+	@Nested
+	class RemovedTests {
+		@DisplayName("\uD83D\uDCE4")
+		@Tests({
+			"when index is in the middle, removes item;" +
+				"[g, e, Q]; 1;" +
+				"[g, Q]",
+			"when vector has a single item, returns empty vector;" +
+				"[g]; 0;" +
+				"[]"
+		})
+		void test(@StringArray String[] items, int index, @StringList List<String> expected) {
+			final var vector = new Vector<>(items);
+			assertEquals(expected, new List<>(vector.removed(index)),
+				format("%s.removed(%d)", vector, index));
+		}
+	}
+
+	@DisplayName(".findAll(Sequence<T>)")
+	@Nested
+	class FindAllSequenceTests {
+		@DisplayName("\uD83D\uDD0E")
+		@Tests({
+			"when items occur, returns their indexes;" +
+				"[g, e, g, e, g, A]; [g, e];" +
+				"[0, 2]",
+			"when items do not occur, returns empty list;" +
+				"[g, e, g, e, g, A]; [e, A];" +
+				"[]"
+		})
+		void test(@StringArray String[] items, @StringList List<String> sequence,
+			@IntList List<Integer> expected) {
+
+			final var vector = new Vector<>(items);
+			assertEquals(expected, vector.findAll(sequence),
+				format("%s.findAll(%s)", vector, sequence));
+		}
+	}
+
+	@DisplayName(".reverse()")
+	@Nested
+	class ReverseTests {
+		@DisplayName("\uD83D\uDD03")
+		@Tests({
+			"when vector is not empty, returns items in reverse order;" +
+				"[g, e, Q, s];" +
+				"[s, Q, e, g]"
+		})
+		void test(@StringArray String[] items, @StringList List<String> expected) {
+			final var vector = new Vector<>(items);
+			assertEquals(expected, new List<>(vector.reverse()),
+				format("%s.reverse()", vector));
+		}
+	}
+
+	@DisplayName("when versions are derived")
+	@Nested
+	class VersionsTests {
+		@DisplayName("\uD83C\uDFB2")
+		@Tests({
+			"when derivations are random, keeps the same items as java.util.ArrayList;" +
+				"5000"
+		})
+		void test(int count) {
+			final var random = new Random(count);
+			final var expected = new ArrayList<Integer>();
+			var vector = new Vector<Integer>();
+
+			for (var item = 0; item < count; ++item) {
+				final var size = expected.size();
+				switch (random.nextInt(6)) {
+					case 0:
+						vector = vector.appended(item);
+						expected.add(item);
+						break;
+					case 1:
+						vector = vector.prepended(item);
+						expected.add(0, item);
+						break;
+					case 2:
+						if (size > 0) {
+							final var index = random.nextInt(size);
+							vector = vector.inserted(index, item);
+							expected.add(index, item);
+						}
+						break;
+					case 3:
+						if (size > 0) {
+							final var index = random.nextInt(size);
+							vector = vector.removed(index);
+							expected.remove(index);
+						}
+						break;
+					case 4:
+						if (size > 0) {
+							final var index = random.nextInt(size);
+							vector = vector.updated(index, item);
+							expected.set(index, item);
+						}
+						break;
+					default:
+						// concatenate with a short slice of itself
+						final var start = random.nextInt(size + 1);
+						final var end = start + random.nextInt(Math.min(size - start, 64) + 1);
+						vector = vector.concat(vector.get(new IndexRange(start, end)));
+						expected.addAll(new ArrayList<>(expected.subList(start, end)));
+				}
+			}
+
+			assertEquals(expected, new List<>(vector).bridge());
+			assertTrue(vector.getHeight() <= 8,
+				format("vector.getHeight() is %d", vector.getHeight()));
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.tsyba.core.collections.converter;
+
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.converter.ConvertWith;
+import org.junit.jupiter.params.converter.TypedArgumentConverter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+
+@Retention(RetentionPolicy.RUNTIME)
+@ConvertWith(DoubleArray.Converter.class)
+public @interface DoubleArray {
+	class Converter extends TypedArgumentConverter<String, double[]> {
+		public Converter() {
+			super(String.class, double[].class);
+		}
+
+		@Override
+		public double[] convert(String s) throws ArgumentConversionException {
+			if (s == null) {
+				return null;
+			}
+
+			final var converter = new StringArray.Converter();
+			return Arrays.stream(converter.convert(s))
+				.mapToDouble(Double::parseDouble)
+				.toArray();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.tsyba.core.collections.converter;
+
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.converter.ConvertWith;
+import org.junit.jupiter.params.converter.TypedArgumentConverter;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+
+@Retention(RetentionPolicy.RUNTIME)
+@ConvertWith(IntArray.Converter.class)
+public @interface IntArray {
+	class Converter extends TypedArgumentConverter<String, int[]> {
+		public Converter() {
+			super(String.class, int[].class);
+		}
+
+		@Override
+		public int[] convert(String s) throws ArgumentConversionException {
+			if (s == null) {
+				return null;
+			}
+
+			final var converter = new StringArray.Converter();
+			return Arrays.stream(converter.convert(s))
+				.mapToInt(Integer::parseInt)
+				.toArray();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.tsyba.core.collections.data;
+
+public class ComparableIntegerValueHash42 implements Comparable<ComparableIntegerValueHash42> {
+	public final int value;
+
+	public ComparableIntegerValueHash42(int value) {
+		this.value = value;
+	}
+
+	@Override
+	public int compareTo(ComparableIntegerValueHash42 integerValue) {
+		return Integer.compare(value, integerValue.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return 42;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		else if (object == null) {
+			return false;
+		}
+		else if (object instanceof ComparableIntegerValueHash42) {
+			final var integerValue = (ComparableIntegerValueHash42) object;
+			return value == integerValue.value;
+		}
+		else {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.tsyba.core.collections.data;
+
+public class IntegerValueHashMod3 {
+	public final int value;
+
+	public IntegerValueHashMod3(int value) {
+		this.value = value;
+	}
+
+	@Override
+	public int hashCode() {
+		return value % 3;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (object == this) {
+			return true;
+		}
+		else if (object == null) {
+			return false;
+		}
+		else if (object instanceof IntegerValueHashMod3) {
+			final var integerValue = (IntegerValueHashMod3) object;
+			return value == integerValue.value;
+		}
+		else {
+			return false;
+		}
+	}
+}